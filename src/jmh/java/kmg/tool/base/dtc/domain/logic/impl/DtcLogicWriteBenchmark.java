@@ -0,0 +1,273 @@
+package kmg.tool.base.dtc.domain.logic.impl;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * テンプレートの動的変換ロジックの出力のベンチマーク<br>
+ * <p>
+ * GB単位の中間ファイルに対して、1件ごとの出力と、書き込みバッファサイズごとの出力の処理時間を比較する。<br>
+ * 中間ファイルは1行が約100バイトであり、既定の1,000万行で約1GBになる。行数は「-p rowCount=1000000」のように変更できる。
+ * </p>
+ * <p>
+ * 1回の実行で中間ファイル全体を処理するため、スループットは中間ファイルのサイズを処理時間で割って求める。
+ * </p>
+ * <ul>
+ * <li>writeBatched：1件分の内容を出力バッファに直接作成し、書き込みバッファサイズに達するごとに書き込む。</li>
+ * <li>writePerRow：従来の処理を再現する。1件ごとに出力バッファへの追加、書き込み、クリアを行う。</li>
+ * </ul>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class DtcLogicWriteBenchmark {
+
+    /**
+     * 中間行の列数
+     *
+     * @since 0.2.8
+     */
+    private static final int COLUMN_COUNT = 10;
+
+    /**
+     * 中間ファイルの行数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "10000000",
+    })
+    private int rowCount;
+
+    /**
+     * 作業用のディレクトリ
+     *
+     * @since 0.2.8
+     */
+    private Path workDirectoryPath;
+
+    /**
+     * 中間ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path inputPath;
+
+    /**
+     * テンプレートファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path templatePath;
+
+    /**
+     * 出力ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path outputPath;
+
+    /**
+     * テンプレートの動的変換ロジック
+     *
+     * @since 0.2.8
+     */
+    private DtcLogicImpl dtcLogic;
+
+    /**
+     * 作業用のディレクトリ、中間ファイル、テンプレートファイルを作成する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        this.workDirectoryPath = Files.createTempDirectory("dtc-write-benchmark");
+        this.inputPath = this.workDirectoryPath.resolve("input.txt");
+        this.templatePath = this.workDirectoryPath.resolve("template.yml");
+        this.outputPath = this.workDirectoryPath.resolve("output.txt");
+
+        try (final BufferedWriter writer = Files.newBufferedWriter(this.inputPath)) {
+
+            for (int i = 0; i < this.rowCount; i++) {
+
+                for (int j = 0; j < DtcLogicWriteBenchmark.COLUMN_COUNT; j++) {
+
+                    if (j > 0) {
+
+                        writer.write(',');
+
+                    }
+
+                    writer.write("v" + j + "_" + i);
+
+                }
+
+                writer.newLine();
+
+            }
+
+        }
+
+        final StringBuilder template = new StringBuilder();
+        template.append("intermediatePlaceholders:\n");
+
+        for (int j = 0; j < DtcLogicWriteBenchmark.COLUMN_COUNT; j++) {
+
+            template.append("  - displayName: column").append(j).append('\n');
+            template.append("    replacementPattern: ${C").append(j).append("}\n");
+
+        }
+
+        template.append("templateContent: |-\n  insert into t values (");
+
+        for (int j = 0; j < DtcLogicWriteBenchmark.COLUMN_COUNT; j++) {
+
+            if (j > 0) {
+
+                template.append(", ");
+
+            }
+
+            template.append("'${C").append(j).append("}'");
+
+        }
+
+        template.append(");\n");
+        Files.writeString(this.templatePath, template);
+
+        this.dtcLogic = new DtcLogicImpl();
+
+    }
+
+    /**
+     * 書き込みバッファサイズごとに出力する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Benchmark
+    public void writeBatched(final Blackhole blackhole) throws Exception {
+
+        try {
+
+            this.dtcLogic.initialize(this.inputPath, this.templatePath, this.outputPath);
+            this.dtcLogic.loadTemplate();
+
+            while (this.dtcLogic.readOneLineOfData()) {
+
+                this.dtcLogic.applyTemplateToOutputBuffer();
+
+            }
+
+            this.dtcLogic.flushOutputBuffer();
+
+        } finally {
+
+            this.dtcLogic.close();
+
+        }
+
+        blackhole.consume(Files.size(this.outputPath));
+
+    }
+
+    /**
+     * 従来の1件ごとの出力で出力する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Benchmark
+    public void writePerRow(final Blackhole blackhole) throws Exception {
+
+        try {
+
+            this.dtcLogic.initialize(this.inputPath, this.templatePath, this.outputPath);
+            this.dtcLogic.loadTemplate();
+
+            while (this.dtcLogic.readOneLineOfData()) {
+
+                this.dtcLogic.applyTemplateToInputFile();
+                this.dtcLogic.addOutputBufferContent();
+                this.dtcLogic.writeOutputBuffer();
+                this.dtcLogic.clearOutputBufferContent();
+
+            }
+
+        } finally {
+
+            this.dtcLogic.close();
+
+        }
+
+        blackhole.consume(Files.size(this.outputPath));
+
+    }
+
+    /**
+     * 作業用のディレクトリを削除する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+
+        try (final Stream<Path> stream = Files.walk(this.workDirectoryPath)) {
+
+            for (final Path path : stream.sorted(Comparator.reverseOrder()).toList()) {
+
+                Files.deleteIfExists(path);
+
+            }
+
+        }
+
+    }
+
+}
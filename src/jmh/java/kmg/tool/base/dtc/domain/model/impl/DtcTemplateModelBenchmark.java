@@ -0,0 +1,196 @@
+package kmg.tool.base.dtc.domain.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import kmg.tool.base.dtc.domain.model.DtcTemplateModel;
+
+/**
+ * テンプレートの動的変換コンパイル済みテンプレートモデルのベンチマーク<br>
+ * <p>
+ * 100万行の入力に対して、コンパイル済みテンプレートによる1件分の内容の作成と、従来の置換パターンごとのString#replaceによる作成を比較する。<br>
+ * 入力は、異なる1,000行の中間行の値を繰り返して使用する。
+ * </p>
+ * <p>
+ * 従来の処理は1行ごとの負荷が大きいため、1回の実行で全ての行を処理する時間を計測する。行数は「-p rowCount=10000」のように変更できる。
+ * </p>
+ * <ul>
+ * <li>renderByCompiledTemplate：コンパイル済みテンプレートに値を埋め、再利用する文字列ビルダーで1件分の内容を作成する。</li>
+ * <li>renderByReplace：従来のDtcLogicImplの処理を再現する。テンプレートの内容から、置換パターンごとにString#replaceで置換する。</li>
+ * </ul>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class DtcTemplateModelBenchmark {
+
+    /**
+     * 異なる中間行の値の数
+     *
+     * @since 0.2.8
+     */
+    private static final int DISTINCT_ROW_COUNT = 1_000;
+
+    /**
+     * プレースホルダーの数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "10", "50", "200",
+    })
+    private int placeholderCount;
+
+    /**
+     * 入力の行数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "1000000",
+    })
+    private int rowCount;
+
+    /**
+     * テンプレートの内容
+     *
+     * @since 0.2.8
+     */
+    private String templateContent;
+
+    /**
+     * 置換パターンの配列
+     *
+     * @since 0.2.8
+     */
+    private String[] replacementPatterns;
+
+    /**
+     * 中間行の値の配列
+     *
+     * @since 0.2.8
+     */
+    private String[][] rowValues;
+
+    /**
+     * コンパイル済みテンプレートモデル
+     *
+     * @since 0.2.8
+     */
+    private DtcTemplateModel dtcTemplateModel;
+
+    /**
+     * コンパイル済みテンプレートで1件分の内容を作成する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void renderByCompiledTemplate(final Blackhole blackhole) {
+
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < this.rowCount; i++) {
+
+            sb.setLength(0);
+            this.dtcTemplateModel.render(sb, this.rowValues[i % DtcTemplateModelBenchmark.DISTINCT_ROW_COUNT]);
+            blackhole.consume(sb.toString());
+
+        }
+
+    }
+
+    /**
+     * 従来の置換パターンごとのString#replaceで1件分の内容を作成する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void renderByReplace(final Blackhole blackhole) {
+
+        for (int i = 0; i < this.rowCount; i++) {
+
+            final String[] values = this.rowValues[i % DtcTemplateModelBenchmark.DISTINCT_ROW_COUNT];
+
+            String contentsOfOneItem = this.templateContent;
+
+            for (int j = 0; j < this.replacementPatterns.length; j++) {
+
+                contentsOfOneItem = contentsOfOneItem.replace(this.replacementPatterns[j], values[j]);
+
+            }
+
+            blackhole.consume(contentsOfOneItem);
+
+        }
+
+    }
+
+    /**
+     * テンプレート、置換パターン、中間行の値を生成し、テンプレートをコンパイルする
+     *
+     * @since 0.2.8
+     */
+    @Setup
+    public void setUp() {
+
+        final StringBuilder templateBuilder        = new StringBuilder();
+        final List<String>  replacementPatternList = new ArrayList<>();
+
+        for (int i = 0; i < this.placeholderCount; i++) {
+
+            final String replacementPattern = "{$Column" + i + "}";
+            templateBuilder.append("    private String ").append(replacementPattern).append(";\n");
+            replacementPatternList.add(replacementPattern);
+
+        }
+
+        this.templateContent = templateBuilder.toString();
+        this.replacementPatterns = replacementPatternList.toArray(new String[0]);
+
+        this.rowValues = new String[DtcTemplateModelBenchmark.DISTINCT_ROW_COUNT][this.placeholderCount];
+
+        for (int i = 0; i < DtcTemplateModelBenchmark.DISTINCT_ROW_COUNT; i++) {
+
+            for (int j = 0; j < this.placeholderCount; j++) {
+
+                this.rowValues[i][j] = "value" + i + "_" + j;
+
+            }
+
+        }
+
+        this.dtcTemplateModel = new DtcTemplateModelImpl(this.templateContent, replacementPatternList);
+
+    }
+
+}
@@ -0,0 +1,193 @@
+package kmg.tool.base.dtc.domain.model.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import kmg.tool.base.dtc.domain.model.DtcTransformModel;
+import kmg.tool.base.dtc.domain.model.DtcTransformPipelineModel;
+import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
+
+/**
+ * テンプレートの動的変換変換パイプラインモデルのベンチマーク<br>
+ * <p>
+ * 100万行の入力に対して、スネークケースに変換してからすべて大文字に変換する派生プレースホルダーの値を求める処理時間を比較する。<br>
+ * 入力は、異なる値を繰り返して使用する。異なる値の数がキャッシュの最大件数以下の場合はキャッシュに当たり、超える場合は当たらない。
+ * </p>
+ * <p>
+ * 1回の実行で全ての行を処理する時間を計測する。行数は「-p rowCount=10000」のように変更できる。<br>
+ * メモリ使用量は「-prof gc」を指定し、gc.alloc.rate.normで比較する。
+ * </p>
+ * <ul>
+ * <li>transformByPipeline：作成時に連結した変換パイプラインモデルで変換し、変換結果をキャッシュする。</li>
+ * <li>transformByPipelineWithoutCache：作成時に連結した変換パイプラインモデルで、キャッシュせずに変換する。</li>
+ * <li>transformByTransformModel：従来の処理を再現する。1行ごと、変換処理の種類ごとに変換モデルを作成して変換する。</li>
+ * </ul>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class DtcTransformPipelineBenchmark {
+
+    /**
+     * 変換処理の種類のリスト
+     *
+     * @since 0.2.8
+     */
+    private static final List<DtcTransformTypes> TRANSFORM_TYPES_LIST
+        = List.of(DtcTransformTypes.TO_SNAKE_CASE, DtcTransformTypes.TO_UPPER_CASE);
+
+    /**
+     * 異なる値の数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "100", "100000",
+    })
+    private int distinctValueCount;
+
+    /**
+     * 入力の行数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "1000000",
+    })
+    private int rowCount;
+
+    /**
+     * 値の配列
+     *
+     * @since 0.2.8
+     */
+    private String[] values;
+
+    /**
+     * 変換結果をキャッシュする変換パイプラインモデル
+     *
+     * @since 0.2.8
+     */
+    private DtcTransformPipelineModel cachedPipelineModel;
+
+    /**
+     * 変換結果をキャッシュしない変換パイプラインモデル
+     *
+     * @since 0.2.8
+     */
+    private DtcTransformPipelineModel uncachedPipelineModel;
+
+    /**
+     * 値、変換パイプラインモデルを作成する
+     *
+     * @since 0.2.8
+     */
+    @Setup
+    public void setUp() {
+
+        this.values = new String[this.distinctValueCount];
+
+        for (int i = 0; i < this.distinctValueCount; i++) {
+
+            this.values[i] = "columnNameOfTable" + i;
+
+        }
+
+        this.cachedPipelineModel
+            = new DtcTransformPipelineModelImpl(DtcTransformPipelineBenchmark.TRANSFORM_TYPES_LIST);
+        this.uncachedPipelineModel
+            = new DtcTransformPipelineModelImpl(DtcTransformPipelineBenchmark.TRANSFORM_TYPES_LIST, 0);
+
+    }
+
+    /**
+     * 変換結果をキャッシュする変換パイプラインモデルで変換する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void transformByPipeline(final Blackhole blackhole) {
+
+        for (int i = 0; i < this.rowCount; i++) {
+
+            blackhole.consume(this.cachedPipelineModel.transform(this.values[i % this.distinctValueCount]));
+
+        }
+
+    }
+
+    /**
+     * 変換結果をキャッシュしない変換パイプラインモデルで変換する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void transformByPipelineWithoutCache(final Blackhole blackhole) {
+
+        for (int i = 0; i < this.rowCount; i++) {
+
+            blackhole.consume(this.uncachedPipelineModel.transform(this.values[i % this.distinctValueCount]));
+
+        }
+
+    }
+
+    /**
+     * 従来の1行ごとに変換モデルを作成する処理で変換する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void transformByTransformModel(final Blackhole blackhole) {
+
+        for (int i = 0; i < this.rowCount; i++) {
+
+            String value = this.values[i % this.distinctValueCount];
+
+            for (final DtcTransformTypes transformTypes : DtcTransformPipelineBenchmark.TRANSFORM_TYPES_LIST) {
+
+                final DtcTransformModel dtcTransformModel = new DtcTransformModelImpl(value, transformTypes);
+                dtcTransformModel.apply();
+                value = dtcTransformModel.getTransformedValue();
+
+            }
+
+            blackhole.consume(value);
+
+        }
+
+    }
+
+}
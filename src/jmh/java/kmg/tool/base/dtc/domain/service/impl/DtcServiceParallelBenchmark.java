@@ -0,0 +1,265 @@
+package kmg.tool.base.dtc.domain.service.impl;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.helpers.NOPLogger;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.types.KmgDelimiterTypes;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.dtc.domain.logic.impl.DtcLogicImpl;
+
+/**
+ * テンプレートの動的変換サービスの並列変換のベンチマーク<br>
+ * <p>
+ * GB単位の中間ファイルに対して、スレッド数ごとに中間ファイル全体を変換する処理時間を比較する。<br>
+ * スレッド数が1の場合は、1行ずつ順番に変換する従来の処理である。2以上の場合は、行単位のチャンクに分けて並列に変換し、読み込んだ順番に書き込む。
+ * </p>
+ * <p>
+ * 中間ファイルは1行が約100バイトであり、既定の1,000万行で約1GBになる。行数は「-p rowCount=1000000」のように変更できる。<br>
+ * Springのコンテキストは使用せず、依存するオブジェクトを直接設定する。
+ * </p>
+ * <p>
+ * 1列目は異なる値を繰り返すキャメルケースの値であり、スネークケースに変換してからすべて大文字に変換する派生プレースホルダーのソースキーとする。<br>
+ * 変換パイプラインモデルのキャッシュを各スレッドから同時に参照、更新する場合の処理時間を含めて計測する。
+ * </p>
+ * <ul>
+ * <li>process：指定したスレッド数で中間ファイル全体を変換し、出力ファイルに書き込む。</li>
+ * </ul>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class DtcServiceParallelBenchmark {
+
+    /**
+     * 中間行の列数
+     *
+     * @since 0.2.8
+     */
+    private static final int COLUMN_COUNT = 10;
+
+    /**
+     * 派生プレースホルダーのソースキーの列の異なる値の数
+     *
+     * @since 0.2.8
+     */
+    private static final int DISTINCT_SOURCE_VALUE_COUNT = 1_000;
+
+    /**
+     * 中間ファイルの行数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "10000000",
+    })
+    private int rowCount;
+
+    /**
+     * スレッド数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "1", "4", "16",
+    })
+    private short threadNum;
+
+    /**
+     * 作業用のディレクトリ
+     *
+     * @since 0.2.8
+     */
+    private Path workDirectoryPath;
+
+    /**
+     * 中間ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path inputPath;
+
+    /**
+     * テンプレートファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path templatePath;
+
+    /**
+     * 出力ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path outputPath;
+
+    /**
+     * テンプレートの動的変換サービス
+     *
+     * @since 0.2.8
+     */
+    private DtcServiceImpl dtcService;
+
+    /**
+     * スレッド数ごとに中間ファイル全体を変換する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Benchmark
+    public void process(final Blackhole blackhole) throws Exception {
+
+        this.dtcService.initialize(this.inputPath, this.templatePath, this.outputPath, KmgDelimiterTypes.COMMA,
+            this.threadNum);
+        this.dtcService.process();
+
+        blackhole.consume(Files.size(this.outputPath));
+
+    }
+
+    /**
+     * 作業用のディレクトリ、中間ファイル、テンプレートファイルを作成し、サービスを作成する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        this.workDirectoryPath = Files.createTempDirectory("dtc-parallel-benchmark");
+        this.inputPath = this.workDirectoryPath.resolve("input.txt");
+        this.templatePath = this.workDirectoryPath.resolve("template.yml");
+        this.outputPath = this.workDirectoryPath.resolve("output.txt");
+
+        try (final BufferedWriter writer = Files.newBufferedWriter(this.inputPath)) {
+
+            for (int i = 0; i < this.rowCount; i++) {
+
+                for (int j = 0; j < DtcServiceParallelBenchmark.COLUMN_COUNT; j++) {
+
+                    if (j > 0) {
+
+                        writer.write(',');
+
+                    }
+
+                    // 派生プレースホルダーのソースキーの列か
+                    if (j == 0) {
+                        // ソースキーの列の場合
+
+                        writer.write("columnName" + (i % DtcServiceParallelBenchmark.DISTINCT_SOURCE_VALUE_COUNT));
+                        continue;
+
+                    }
+
+                    writer.write("v" + j + "_" + i);
+
+                }
+
+                writer.newLine();
+
+            }
+
+        }
+
+        final StringBuilder template = new StringBuilder();
+        template.append("intermediatePlaceholders:\n");
+
+        for (int j = 0; j < DtcServiceParallelBenchmark.COLUMN_COUNT; j++) {
+
+            template.append("  - displayName: column").append(j).append('\n');
+            template.append("    replacementPattern: ${C").append(j).append("}\n");
+
+        }
+
+        template.append("derivedPlaceholders:\n");
+        template.append("  - displayName: upperSnakeColumn0\n");
+        template.append("    replacementPattern: ${U0}\n");
+        template.append("    sourceKey: column0\n");
+        template.append("    transformation:\n");
+        template.append("      - toSnakeCase\n");
+        template.append("      - toUpperCase\n");
+        template.append("templateContent: |-\n  insert into t values ('${U0}'");
+
+        for (int j = 0; j < DtcServiceParallelBenchmark.COLUMN_COUNT; j++) {
+
+            template.append(", '${C").append(j).append("}'");
+
+        }
+
+        template.append(");\n");
+        Files.writeString(this.templatePath, template);
+
+        // 呼び出しを記録すると計測中にメモリ使用量が増え続けるため、スタブとして作成する
+        final KmgMessageSource messageSource = Mockito.mock(KmgMessageSource.class,
+            Mockito.withSettings().stubOnly());
+
+        this.dtcService = new DtcServiceImpl(NOPLogger.NOP_LOGGER);
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.dtcService);
+        reflectionModel.set("messageSource", messageSource);
+        reflectionModel.set("dtcLogic", new DtcLogicImpl());
+
+    }
+
+    /**
+     * 作業用のディレクトリを削除する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+
+        try (final Stream<Path> stream = Files.walk(this.workDirectoryPath)) {
+
+            for (final Path path : stream.sorted(Comparator.reverseOrder()).toList()) {
+
+                Files.deleteIfExists(path);
+
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,224 @@
+package kmg.tool.base.jdoc.domain.model.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import kmg.core.infrastructure.type.KmgString;
+import kmg.core.infrastructure.types.KmgDelimiterTypes;
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
+import kmg.tool.base.jdoc.domain.model.JavadocTagModel;
+import kmg.tool.base.jdoc.domain.model.JavadocTagsModel;
+import kmg.tool.base.jdoc.domain.types.JavadocGroupIndexTypes;
+
+/**
+ * Javadocタグ一覧情報のタグの抽出のベンチマーク<br>
+ * <p>
+ * タグが多いJavadocに対して、走査によるタグの抽出と、従来の正規表現によるタグの抽出を比較する。<br>
+ * 従来の方法は、タグごとに一致した文字列を行に分割し、行ごとに正規表現で置換して連結する。
+ * </p>
+ * <p>
+ * タグごとのメモリ使用量は、「-prof gc」で出力される「gc.alloc.rate.norm」で確認する。
+ * </p>
+ * <ul>
+ * <li>extractByRegex：従来のJavadocTagsModelImplのタグの抽出を再現する。</li>
+ * <li>extractByScanner：走査でタグを抽出する。対象文字列は作成しない。</li>
+ * <li>extractByScannerWithTargetStr：走査でタグを抽出し、全てのタグの対象文字列を作成する。</li>
+ * </ul>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class JavadocTagsModelBenchmark {
+
+    /**
+     * 生成するJavadoc数
+     *
+     * @since 0.2.8
+     */
+    private static final int JAVADOC_COUNT = 500;
+
+    /**
+     * Javadocごとのパラメータのタグ数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "1", "10",
+    })
+    private int paramTagCount;
+
+    /**
+     * 対象のJavadocのリスト
+     *
+     * @since 0.2.8
+     */
+    private List<String> javadocs;
+
+    /**
+     * 対象のJavadocを生成する
+     *
+     * @since 0.2.8
+     */
+    @Setup
+    public void setUp() {
+
+        this.javadocs = new ArrayList<>();
+
+        for (int i = 0; i < JavadocTagsModelBenchmark.JAVADOC_COUNT; i++) {
+
+            final StringBuilder sb = new StringBuilder();
+            sb.append("    /**\n     * メソッド").append(i).append("\n     * <p>\n     * 説明\n     * </p>\n     *\n");
+            sb.append("     * @since 0.1.0\n     *\n");
+
+            for (int j = 0; j < this.paramTagCount; j++) {
+
+                sb.append("     * @param arg").append(j).append("\n     *            引数").append(j).append('\n');
+
+            }
+
+            sb.append("     *\n     * @return 結果\n     *\n     * @throws KmgToolBaseMsgException\n");
+            sb.append("     *                                 KMGツールメッセージ例外\n     */");
+
+            this.javadocs.add(sb.toString());
+
+        }
+
+    }
+
+    /**
+     * 従来の正規表現によるタグの抽出でJavadocタグモデルを作成する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void extractByRegex(final Blackhole blackhole) {
+
+        for (final String javadoc : this.javadocs) {
+
+            blackhole.consume(JavadocTagsModelBenchmark.legacyExtract(javadoc));
+
+        }
+
+    }
+
+    /**
+     * 走査によるタグの抽出でJavadocタグモデルを作成する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void extractByScanner(final Blackhole blackhole) {
+
+        for (final String javadoc : this.javadocs) {
+
+            final JavadocTagsModel javadocTagsModel = new JavadocTagsModelImpl(javadoc);
+            blackhole.consume(javadocTagsModel.getJavadocTagModelList());
+
+        }
+
+    }
+
+    /**
+     * 走査によるタグの抽出でJavadocタグモデルを作成し、全てのタグの対象文字列を作成する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void extractByScannerWithTargetStr(final Blackhole blackhole) {
+
+        for (final String javadoc : this.javadocs) {
+
+            final JavadocTagsModel javadocTagsModel = new JavadocTagsModelImpl(javadoc);
+
+            for (final JavadocTagModel javadocTagModel : javadocTagsModel.getJavadocTagModelList()) {
+
+                blackhole.consume(javadocTagModel.getTargetStr());
+
+            }
+
+        }
+
+    }
+
+    /**
+     * 従来のJavadocTagsModelImplのタグの抽出を再現する
+     * <p>
+     * タグごとに一致した文字列を行に分割し、行ごとに正規表現で置換して連結する。説明も正規表現で置換する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param sourceJavadoc
+     *                      Javadoc
+     *
+     * @return Javadocタグモデルのリスト
+     */
+    private static List<JavadocTagModel> legacyExtract(final String sourceJavadoc) {
+
+        final List<JavadocTagModel> result = new ArrayList<>();
+
+        final Matcher compiledTagMatcher = JavadocTagsModel.COMPILED_TAG_PATTERN.matcher(sourceJavadoc);
+
+        while (compiledTagMatcher.find()) {
+
+            final String srcPatternStr = compiledTagMatcher.group(JavadocGroupIndexTypes.WHOLE.get());
+            final String targetStr     = Arrays.stream(KmgDelimiterTypes.REGEX_LINE_SEPARATOR.split(srcPatternStr))
+                .map(line -> line.trim().replaceAll(JavadocTagsModel.PATTERN_LINE_START_ASTERISK_ONLY, KmgString.EMPTY))
+                .filter(KmgString::isNotBlank).collect(Collectors.joining(KmgDelimiterTypes.LINE_SEPARATOR.get()));
+
+            final KmgJavadocTagTypes tag
+                = KmgJavadocTagTypes.getEnum(compiledTagMatcher.group(JavadocGroupIndexTypes.TAG_NAME.get()));
+
+            final String value = compiledTagMatcher.group(JavadocGroupIndexTypes.VALUE.get());
+
+            final String description
+                = Optional.ofNullable(compiledTagMatcher.group(JavadocGroupIndexTypes.DESCRIPTION.get()))
+                    .map(s -> s.trim().replaceFirst(JavadocTagsModel.PATTERN_LINE_START_ASTERISK, KmgString.EMPTY))
+                    .orElse(KmgString.EMPTY).trim();
+
+            result.add(new JavadocTagModelImpl(targetStr, tag, value, description));
+
+        }
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,375 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+
+/**
+ * Javadocタグ設定のベンチマーク用のコーパス<br>
+ * <p>
+ * 結合テストの入力ファイルを決まった順番で連結して、ベンチマーク対象のコードを生成する。<br>
+ * 乱数を使用しないため、同じパラメータからは常に同じコードと構成が生成され、バージョン間で結果を比較できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings("nls")
+public final class JdtsBenchmarkCorpus {
+
+    /**
+     * コーパスの大きさ
+     *
+     * @since 0.2.8
+     */
+    public enum SizeTypes {
+
+        /**
+         * 小さいファイル。入力ファイルを1回連結する（約70KB）。
+         *
+         * @since 0.2.8
+         */
+        SMALL(1),
+
+        /**
+         * 中くらいのファイル。入力ファイルを16回連結する（約1MB）。
+         *
+         * @since 0.2.8
+         */
+        MEDIUM(16),
+
+        /**
+         * 巨大なファイル。入力ファイルを256回連結する（約17MB）。
+         *
+         * @since 0.2.8
+         */
+        HUGE(256),
+
+        ;
+
+        /**
+         * 連結回数
+         *
+         * @since 0.2.8
+         */
+        private final int repeatCount;
+
+        /**
+         * コンストラクタ
+         *
+         * @since 0.2.8
+         *
+         * @param repeatCount
+         *                    連結回数
+         */
+        SizeTypes(final int repeatCount) {
+
+            this.repeatCount = repeatCount;
+
+        }
+
+    }
+
+    /**
+     * Javadocブロックの密度
+     *
+     * @since 0.2.8
+     */
+    public enum DensityTypes {
+
+        /**
+         * Javadocブロックが少ない。10個に1個のみJavadocとして残す。
+         *
+         * @since 0.2.8
+         */
+        FEW(10),
+
+        /**
+         * Javadocブロックが多い。入力ファイルのJavadocをすべて残す。
+         *
+         * @since 0.2.8
+         */
+        MANY(1),
+
+        ;
+
+        /**
+         * Javadocとして残す間隔
+         *
+         * @since 0.2.8
+         */
+        private final int keepInterval;
+
+        /**
+         * コンストラクタ
+         *
+         * @since 0.2.8
+         *
+         * @param keepInterval
+         *                     Javadocとして残す間隔
+         */
+        DensityTypes(final int keepInterval) {
+
+            this.keepInterval = keepInterval;
+
+        }
+
+    }
+
+    /**
+     * コーパスの元にする結合テストの入力ファイルのリソース名
+     *
+     * @since 0.2.8
+     */
+    private static final String[] INPUT_RESOURCE_NAMES = {
+        "kmg/tool/base/jdts/test/it/javadoc_tag_setter_it001l_test/test_main_normal_pt01/TestInput.java",
+        "kmg/tool/base/jdts/test/it/javadoc_tag_setter_it001l_test/test_main_normal_pt02/TestInput.java",
+        "kmg/tool/base/jdts/test/it/javadoc_tag_setter_it001l_test/test_main_normal_pt03/TestInput.java",
+        "kmg/tool/base/jdts/test/it/javadoc_tag_setter_it001l_test/test_main_normal_pt04/TestInput.java",
+        "kmg/tool/base/jdts/test/it/javadoc_tag_setter_it001l_test/test_main_normal_pt05/TestInput.java",
+        "kmg/tool/base/jdts/test/it/javadoc_tag_setter_it001l_test/test_main_normal_pt06/TestInput.java",
+        "kmg/tool/base/jdts/test/it/javadoc_tag_setter_it002l_test/test_main_normal_pt01/TestInput.java",
+    };
+
+    /**
+     * 結合テストの定義ファイルのリソース名
+     *
+     * @since 0.2.8
+     */
+    private static final String DEFINITION_RESOURCE_NAME
+        = "kmg/tool/base/jdts/test/it/javadoc_tag_setter_it001l_test/TestTemplate.yml";
+
+    /**
+     * Javadocの開始
+     *
+     * @since 0.2.8
+     */
+    private static final String JAVADOC_START = "/**";
+
+    /**
+     * Javadocとして扱わないコメントの開始
+     *
+     * @since 0.2.8
+     */
+    private static final String COMMENT_START = "/* ";
+
+    /**
+     * タグ構成の元にするタグ名、タグの指定値、上書き設定、挿入位置の組み合わせ
+     * <p>
+     * タグ構成数が組み合わせの数より多い場合は、先頭から繰り返して使用する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final String[][] TAG_CONFIG_PATTERNS = {
+        {
+            "author", "KenichiroArai", "always", "beginning",
+        },
+        {
+            "since", "0.2.0", "ifLower", "beginning",
+        },
+        {
+            "version", "0.2.8", "always", "end",
+        },
+        {
+            "author", "KenichiroArai", "never", "preserve",
+        },
+        {
+            "since", "0.1.0", "never", "end",
+        },
+        {
+            "version", "0.2.0", "ifLower", "preserve",
+        },
+    };
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.8
+     */
+    private JdtsBenchmarkCorpus() {
+
+        // 処理なし
+    }
+
+    /**
+     * ベンチマーク対象のコードを生成する
+     *
+     * @since 0.2.8
+     *
+     * @param size
+     *                コーパスの大きさ
+     * @param density
+     *                Javadocブロックの密度
+     *
+     * @return ベンチマーク対象のコード
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    public static String createCode(final SizeTypes size, final DensityTypes density) throws IOException {
+
+        final List<String> inputs = JdtsBenchmarkCorpus.readInputs();
+
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < size.repeatCount; i++) {
+
+            for (final String input : inputs) {
+
+                sb.append(input);
+
+            }
+
+        }
+
+        // 密度に合わせて、間隔ごとの「/**」以外をJavadocとして扱わないコメントにする
+        int javadocCount = 0;
+        int javadocIdx   = sb.indexOf(JdtsBenchmarkCorpus.JAVADOC_START);
+
+        while (javadocIdx >= 0) {
+
+            if ((javadocCount % density.keepInterval) != 0) {
+
+                sb.replace(javadocIdx, javadocIdx + JdtsBenchmarkCorpus.JAVADOC_START.length(),
+                    JdtsBenchmarkCorpus.COMMENT_START);
+
+            }
+
+            javadocCount++;
+            javadocIdx = sb.indexOf(JdtsBenchmarkCorpus.JAVADOC_START,
+                javadocIdx + JdtsBenchmarkCorpus.JAVADOC_START.length());
+
+        }
+
+        final String result = sb.toString();
+        return result;
+
+    }
+
+    /**
+     * ベンチマーク用のJavadocタグ設定の構成モデルを生成する
+     *
+     * @since 0.2.8
+     *
+     * @param tagConfigCount
+     *                       タグ構成数
+     *
+     * @return Javadocタグ設定の構成モデル
+     *
+     * @throws Exception
+     *                   例外
+     */
+    public static JdtsConfigsModel createConfigsModel(final int tagConfigCount) throws Exception {
+
+        final List<Map<String, Object>> tagConfigs = new ArrayList<>();
+
+        for (int i = 0; i < tagConfigCount; i++) {
+
+            final String[] pattern = JdtsBenchmarkCorpus.TAG_CONFIG_PATTERNS[i
+                % JdtsBenchmarkCorpus.TAG_CONFIG_PATTERNS.length];
+
+            final Map<String, Object> location = new HashMap<>();
+            location.put("mode", "compliant");
+            location.put("removeIfMisplaced", Boolean.TRUE);
+
+            final Map<String, Object> tagConfig = new HashMap<>();
+            tagConfig.put("tagName", pattern[0]);
+            tagConfig.put("tagValue", pattern[1]);
+            tagConfig.put("location", location);
+            tagConfig.put("overwrite", pattern[2]);
+            tagConfig.put("insertPosition", pattern[3]);
+            tagConfigs.add(tagConfig);
+
+        }
+
+        final Map<String, Object> yamlData = new HashMap<>();
+        yamlData.put("JdtsConfigs", tagConfigs);
+
+        final JdtsConfigsModel result = new JdtsConfigsModelImpl(yamlData);
+        return result;
+
+    }
+
+    /**
+     * 結合テストの定義ファイルを読み込む
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルの内容
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    public static String readDefinition() throws IOException {
+
+        final String result = JdtsBenchmarkCorpus.readResource(JdtsBenchmarkCorpus.DEFINITION_RESOURCE_NAME);
+        return result;
+
+    }
+
+    /**
+     * コーパスの元にする結合テストの入力ファイルを決まった順番で読み込む
+     *
+     * @since 0.2.8
+     *
+     * @return 入力ファイルの内容のリスト
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    public static List<String> readInputs() throws IOException {
+
+        final List<String> result = new ArrayList<>();
+
+        for (final String resourceName : JdtsBenchmarkCorpus.INPUT_RESOURCE_NAMES) {
+
+            result.add(JdtsBenchmarkCorpus.readResource(resourceName));
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * リソースを読み込む
+     *
+     * @since 0.2.8
+     *
+     * @param resourceName
+     *                     リソース名
+     *
+     * @return リソースの内容
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private static String readResource(final String resourceName) throws IOException {
+
+        try (final InputStream inputStream = JdtsBenchmarkCorpus.class.getClassLoader()
+            .getResourceAsStream(resourceName)) {
+
+            if (inputStream == null) {
+
+                throw new IOException("リソースが見つかりません。リソース名=[" + resourceName + "]");
+
+            }
+
+            final String result = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            return result;
+
+        }
+
+    }
+
+}
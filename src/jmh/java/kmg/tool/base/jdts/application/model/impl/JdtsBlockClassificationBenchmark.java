@@ -0,0 +1,343 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import kmg.core.infrastructure.type.KmgString;
+import kmg.core.infrastructure.types.JavaClassificationTypes;
+import kmg.tool.base.jdoc.domain.model.impl.JavadocModelImpl;
+import kmg.tool.base.jdts.application.model.JdtsJavadocLexerModel;
+
+/**
+ * Javadocタグ設定のブロックモデルの区分の特定のベンチマーク<br>
+ * <p>
+ * クラス、メソッド、フィールドが多いファイルのブロックに対して、宣言部のみによる区分の特定と、従来のコードブロック全体による区分の特定を比較する。<br>
+ * 従来の方法は、Javadocの後のコードを全て行に分割し、前後の空白を除いて連結したコードブロックに対して区分を特定する。
+ * </p>
+ * <ul>
+ * <li>parseByCodeBlock：従来のJdtsBlockModelImplの解析を再現する。</li>
+ * <li>parseByDeclarationHeader：宣言部のみで区分を特定する。</li>
+ * </ul>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class JdtsBlockClassificationBenchmark {
+
+    /**
+     * ファイルの構成
+     *
+     * @since 0.2.8
+     */
+    public enum ShapeTypes {
+
+        /**
+         * クラスが多い。Javadocの後に入れ子のクラスの宣言と本体が続く。
+         *
+         * @since 0.2.8
+         */
+        CLASS,
+
+        /**
+         * メソッドが多い。Javadocの後にメソッドの宣言と本体が続く。
+         *
+         * @since 0.2.8
+         */
+        METHOD,
+
+        /**
+         * フィールドが多い。Javadocの後にフィールドの宣言と配列の初期化子が続く。
+         *
+         * @since 0.2.8
+         */
+        FIELD,
+
+        ;
+
+    }
+
+    /**
+     * 生成するメンバ数
+     *
+     * @since 0.2.8
+     */
+    private static final int MEMBER_COUNT = 500;
+
+    /**
+     * Javadocブロック終了文字列
+     *
+     * @since 0.2.8
+     */
+    private static final String JAVADOC_END = "*/";
+
+    /**
+     * 従来の改行の正規表現パターン
+     *
+     * @since 0.2.8
+     */
+    private static final Pattern LEGACY_LINE_SEPARATOR_PATTERN = Pattern.compile("\\R");
+
+    /**
+     * ファイルの構成
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "CLASS", "METHOD", "FIELD",
+    })
+    private ShapeTypes shape;
+
+    /**
+     * メンバごとの本体の行数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "5", "50",
+    })
+    private int bodyLineCount;
+
+    /**
+     * 対象のブロックのリスト
+     *
+     * @since 0.2.8
+     */
+    private List<CharSequence> blocks;
+
+    /**
+     * 対象のコードを生成し、ブロックに分ける
+     *
+     * @since 0.2.8
+     */
+    @Setup
+    public void setUp() {
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("package bench;\n\n");
+        sb.append("/**\n * ベンチマーク用クラス\n *\n * @since 0.1.0\n */\n");
+        sb.append("public class BenchClass {\n\n");
+
+        for (int i = 0; i < JdtsBlockClassificationBenchmark.MEMBER_COUNT; i++) {
+
+            sb.append("    /**\n     * メンバ").append(i).append("\n     *\n     * @since 0.1.0\n     */\n");
+
+            switch (this.shape) {
+
+                case CLASS -> {
+
+                    sb.append("    @SuppressWarnings(\"nls\")\n");
+                    sb.append("    public static class Inner").append(i).append(" extends Object {\n\n");
+
+                    for (int j = 0; j < this.bodyLineCount; j++) {
+
+                        sb.append("        private final String value").append(j).append(" = \"").append(j)
+                            .append("\";\n");
+
+                    }
+
+                    sb.append("\n    }\n\n");
+
+                }
+
+                case METHOD -> {
+
+                    sb.append("    @SuppressWarnings(\"nls\")\n");
+                    sb.append("    public String method").append(i).append("(final String arg) {\n\n");
+
+                    for (int j = 0; j < this.bodyLineCount; j++) {
+
+                        sb.append("        final String value").append(j).append(" = arg + \"").append(j)
+                            .append("\";\n");
+
+                    }
+
+                    sb.append("        return arg;\n\n    }\n\n");
+
+                }
+
+                case FIELD -> {
+
+                    sb.append("    private static final String[] FIELD").append(i).append(" = {\n");
+
+                    for (int j = 0; j < this.bodyLineCount; j++) {
+
+                        sb.append("        \"value").append(j).append("\",\n");
+
+                    }
+
+                    sb.append("    };\n\n");
+
+                }
+
+            }
+
+        }
+
+        sb.append("}\n");
+
+        final String code = sb.toString();
+
+        this.blocks = new ArrayList<>();
+        final JdtsJavadocLexerModel javadocLexerModel = new JdtsJavadocLexerModelImpl(code);
+
+        while (javadocLexerModel.nextJavadoc()) {
+
+            this.blocks
+                .add(CharBuffer.wrap(code, javadocLexerModel.getBlockStartIdx(), javadocLexerModel.getCodeEndIdx()));
+
+        }
+
+    }
+
+    /**
+     * 従来のコードブロック全体による区分の特定でブロックを解析する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void parseByCodeBlock(final Blackhole blackhole) {
+
+        for (final CharSequence block : this.blocks) {
+
+            JdtsBlockClassificationBenchmark.legacyParse(block, blackhole);
+
+        }
+
+    }
+
+    /**
+     * 宣言部のみによる区分の特定でブロックを解析する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void parseByDeclarationHeader(final Blackhole blackhole) {
+
+        for (final CharSequence block : this.blocks) {
+
+            final JdtsBlockModelImpl jdtsBlockModel = new JdtsBlockModelImpl(block, 0);
+            jdtsBlockModel.parse();
+            blackhole.consume(jdtsBlockModel.getClassification());
+            blackhole.consume(jdtsBlockModel.getElementName());
+
+        }
+
+    }
+
+    /**
+     * 従来のJdtsBlockModelImplの解析を再現する
+     * <p>
+     * Javadocの後のコードを全て行に分割し、アノテーションの後の行を前後の空白を除いて連結したコードブロックで区分を特定する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param block
+     *                  ブロック
+     * @param blackhole
+     *                  ブラックホール
+     */
+    private static void legacyParse(final CharSequence block, final Blackhole blackhole) {
+
+        final String blockStr      = block.toString();
+        final int    javadocEndIdx = blockStr.indexOf(JdtsBlockClassificationBenchmark.JAVADOC_END);
+
+        if (javadocEndIdx < 0) {
+
+            return;
+
+        }
+
+        final int codeStartIdx = javadocEndIdx + JdtsBlockClassificationBenchmark.JAVADOC_END.length();
+        blackhole.consume(new JavadocModelImpl(blockStr.substring(0, javadocEndIdx)));
+
+        final String[] codeLines = JdtsBlockClassificationBenchmark.LEGACY_LINE_SEPARATOR_PATTERN
+            .split(blockStr.substring(codeStartIdx));
+
+        final List<String> annotations         = new ArrayList<>();
+        int                codeSectionStartIdx = 0;
+
+        for (int i = 0; i < codeLines.length; i++) {
+
+            if (KmgString.isBlank(codeLines[i])) {
+
+                continue;
+
+            }
+
+            final String trimmedLine = codeLines[i].trim();
+
+            if (!trimmedLine.startsWith("@")) {
+
+                codeSectionStartIdx = i;
+                break;
+
+            }
+
+            annotations.add(trimmedLine);
+
+        }
+
+        blackhole.consume(annotations);
+
+        final StringBuilder wkCodeBlock = new StringBuilder();
+
+        for (int i = codeSectionStartIdx; i < codeLines.length; i++) {
+
+            if (KmgString.isBlank(codeLines[i])) {
+
+                continue;
+
+            }
+
+            wkCodeBlock.append(codeLines[i].trim()).append(System.lineSeparator());
+
+        }
+
+        final String                  codeBlock      = wkCodeBlock.toString();
+        final JavaClassificationTypes classification = JavaClassificationTypes.identify(codeBlock);
+        blackhole.consume(classification);
+
+        if (classification.isNotJavadocTarget()) {
+
+            return;
+
+        }
+
+        blackhole.consume(classification.getElementName(codeBlock));
+
+    }
+
+}
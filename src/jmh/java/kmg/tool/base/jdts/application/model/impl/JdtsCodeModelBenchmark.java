@@ -0,0 +1,190 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import kmg.tool.base.jdts.application.model.JdtsJavadocLexerModel;
+
+/**
+ * Javadocタグ設定のコードモデルのベンチマーク<br>
+ * <p>
+ * 生成した大きなJavaファイルに対して、字句解析によるJavadocブロックの特定と、従来の正規表現による分割を比較する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class JdtsCodeModelBenchmark {
+
+    /**
+     * 従来のJavadocブロック分割用の正規表現パターン
+     *
+     * @since 0.2.8
+     */
+    private static final Pattern LEGACY_JAVADOC_BLOCK_SPLIT_PATTERN = Pattern.compile("(^|\\s+)/\\*\\*\\s+");
+
+    /**
+     * 従来のJavadocとコードの分割用の正規表現パターン
+     *
+     * @since 0.2.8
+     */
+    private static final Pattern LEGACY_JAVADOC_CODE_SPLIT_PATTERN = Pattern.compile("\\*/\\s+");
+
+    /**
+     * 従来の改行の正規表現パターン
+     *
+     * @since 0.2.8
+     */
+    private static final Pattern LEGACY_LINE_SEPARATOR_PATTERN = Pattern.compile("\\R");
+
+    /**
+     * 生成するメンバ数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "100", "1000", "10000",
+    })
+    private int memberCount;
+
+    /**
+     * 対象のコード
+     *
+     * @since 0.2.8
+     */
+    private String code;
+
+    /**
+     * 対象のコードを生成する
+     *
+     * @since 0.2.8
+     */
+    @Setup
+    public void setUp() {
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("package bench;\n\n");
+        sb.append("/**\n * ベンチマーク用クラス\n *\n * @since 0.1.0\n */\n");
+        sb.append("public class BenchClass {\n\n");
+
+        for (int i = 0; i < this.memberCount; i++) {
+
+            sb.append("    /**\n     * フィールド").append(i).append("\n     *\n     * @since 0.1.0\n     */\n");
+            sb.append("    private static final String FIELD").append(i).append(" = \" /** 文字列 */ \";\n\n");
+
+            sb.append("    /**\n     * メソッド").append(i).append("\n     *\n     * @since 0.1.0\n");
+            sb.append("     *\n     * @return 結果\n     */\n");
+            sb.append("    @SuppressWarnings(\"nls\")\n");
+            sb.append("    public String method").append(i).append("() {\n\n");
+            sb.append("        // /** 行コメント */\n");
+            sb.append("        final String result = BenchClass.FIELD").append(i).append(" + \"\"\"\n");
+            sb.append("            テキストブロック\n            \"\"\";\n");
+            sb.append("        return result;\n\n    }\n\n");
+
+        }
+
+        sb.append("}\n");
+
+        this.code = sb.toString();
+
+    }
+
+    /**
+     * コードモデルを解析する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void parseCodeModel(final Blackhole blackhole) {
+
+        final JdtsCodeModelImpl jdtsCodeModel = new JdtsCodeModelImpl(this.code);
+        jdtsCodeModel.parse();
+        blackhole.consume(jdtsCodeModel.getJdtsBlockModels());
+
+    }
+
+    /**
+     * 字句解析でJavadocブロックを特定する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void scanByLexer(final Blackhole blackhole) {
+
+        final JdtsJavadocLexerModel javadocLexerModel = new JdtsJavadocLexerModelImpl(this.code);
+
+        while (javadocLexerModel.nextJavadoc()) {
+
+            blackhole.consume(javadocLexerModel.getBlockStartIdx());
+            blackhole.consume(javadocLexerModel.getJavadocEndIdx());
+            blackhole.consume(javadocLexerModel.getCodeEndIdx());
+
+        }
+
+    }
+
+    /**
+     * 従来の正規表現による分割でJavadocブロックを特定する
+     * <p>
+     * 従来のJdtsCodeModelImplとJdtsBlockModelImplが行っていた、ファイル全体の分割、Javadocとコードの分割、文字列中かの判定のための分割、コード行の分割を再現する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void splitByRegex(final Blackhole blackhole) {
+
+        final String[] blocks = JdtsCodeModelBenchmark.LEGACY_JAVADOC_BLOCK_SPLIT_PATTERN.split(this.code);
+
+        for (int i = 1; i < blocks.length; i++) {
+
+            final String[] javadocCodeBlock = JdtsCodeModelBenchmark.LEGACY_JAVADOC_CODE_SPLIT_PATTERN.split(blocks[i],
+                2);
+
+            if (javadocCodeBlock.length < 2) {
+
+                continue;
+
+            }
+
+            blackhole.consume(javadocCodeBlock[1].split("\"", 2));
+            blackhole.consume(javadocCodeBlock[0]);
+            blackhole.consume(JdtsCodeModelBenchmark.LEGACY_LINE_SEPARATOR_PATTERN.split(javadocCodeBlock[1]));
+
+        }
+
+    }
+
+}
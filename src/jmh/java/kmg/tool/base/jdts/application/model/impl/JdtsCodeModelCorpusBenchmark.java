@@ -0,0 +1,135 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import kmg.tool.base.jdoc.domain.model.impl.JavadocTagsModelImpl;
+import kmg.tool.base.jdts.application.model.JdtsBlockModel;
+
+/**
+ * Javadocタグ設定のコードモデルのコーパスによるベンチマーク<br>
+ * <p>
+ * 結合テストの入力ファイルから生成したコーパスに対して、コードモデルの解析と、Javadocタグモデルの作成を計測する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class JdtsCodeModelCorpusBenchmark {
+
+    /**
+     * コーパスの大きさ
+     *
+     * @since 0.2.8
+     */
+    @Param
+    private JdtsBenchmarkCorpus.SizeTypes size;
+
+    /**
+     * Javadocブロックの密度
+     *
+     * @since 0.2.8
+     */
+    @Param
+    private JdtsBenchmarkCorpus.DensityTypes density;
+
+    /**
+     * 対象のコード
+     *
+     * @since 0.2.8
+     */
+    private String code;
+
+    /**
+     * 対象のコードに含まれるJavadocのリスト
+     *
+     * @since 0.2.8
+     */
+    private List<String> srcJavadocs;
+
+    /**
+     * 対象のコードと、対象のコードに含まれるJavadocのリストを生成する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Setup
+    public void setUp() throws Exception {
+
+        this.code = JdtsBenchmarkCorpus.createCode(this.size, this.density);
+
+        final JdtsCodeModelImpl jdtsCodeModel = new JdtsCodeModelImpl(this.code);
+        jdtsCodeModel.parse();
+
+        this.srcJavadocs = new ArrayList<>();
+
+        for (final JdtsBlockModel jdtsBlockModel : jdtsCodeModel.getJdtsBlockModels()) {
+
+            this.srcJavadocs.add(jdtsBlockModel.getJavadocModel().getSrcJavadoc());
+
+        }
+
+    }
+
+    /**
+     * Javadocタグモデルを作成する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void createJavadocTagsModels(final Blackhole blackhole) {
+
+        for (final String srcJavadoc : this.srcJavadocs) {
+
+            blackhole.consume(new JavadocTagsModelImpl(srcJavadoc));
+
+        }
+
+    }
+
+    /**
+     * コードモデルを解析する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void parseCodeModel(final Blackhole blackhole) {
+
+        final JdtsCodeModelImpl jdtsCodeModel = new JdtsCodeModelImpl(this.code);
+        jdtsCodeModel.parse();
+        blackhole.consume(jdtsCodeModel.getJdtsBlockModels());
+
+    }
+
+}
@@ -0,0 +1,213 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import kmg.tool.base.jdts.application.model.JdtsBlockModel;
+import kmg.tool.base.jdts.application.model.JdtsJavadocLexerModel;
+
+/**
+ * Javadocタグ設定の大きなファイルのメモリ使用量のベンチマーク<br>
+ * <p>
+ * 生成した大きなJavaファイルに対して、ブロックをオリジナルコードの部分列の参照とする解析と、従来のブロックごとに文字列を複写する解析を比較する。<br>
+ * また、書き込む内容全体をバイト配列に変換する書き込みと、バッファ単位で符号化する書き込みを比較する。<br>
+ * ファイルの大きさに対するメモリ使用量は、「-prof gc」で出力される「gc.alloc.rate.norm」で確認する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class JdtsFileMemoryBenchmark {
+
+    /**
+     * 生成するメンバ数
+     * <p>
+     * 1メンバあたり約400文字のため、100000の場合は約40MBのファイルとなる。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "10000", "100000",
+    })
+    private int memberCount;
+
+    /**
+     * 対象のコード
+     *
+     * @since 0.2.8
+     */
+    private String code;
+
+    /**
+     * 書き込み先の一時ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path tempFilePath;
+
+    /**
+     * 対象のコードと書き込み先の一時ファイルを生成する
+     *
+     * @since 0.2.8
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    @Setup
+    public void setUp() throws IOException {
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("package bench;\n\n");
+        sb.append("/**\n * ベンチマーク用クラス\n *\n * @since 0.1.0\n */\n");
+        sb.append("public class BenchClass {\n\n");
+
+        for (int i = 0; i < this.memberCount; i++) {
+
+            sb.append("    /**\n     * フィールド").append(i).append("\n     *\n     * @since 0.1.0\n     */\n");
+            sb.append("    private static final String FIELD").append(i).append(" = \"field\";\n\n");
+
+            sb.append("    /**\n     * メソッド").append(i).append("\n     *\n     * @since 0.1.0\n");
+            sb.append("     *\n     * @return 結果\n     */\n");
+            sb.append("    public String method").append(i).append("() {\n\n");
+            sb.append("        final String result = BenchClass.FIELD").append(i).append(";\n");
+            sb.append("        return result;\n\n    }\n\n");
+
+        }
+
+        sb.append("}\n");
+
+        this.code = sb.toString();
+
+        this.tempFilePath = Files.createTempFile("jdts-bench", ".java");
+
+    }
+
+    /**
+     * 従来のブロックごとに文字列を複写して解析する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void parseByCopy(final Blackhole blackhole) {
+
+        final List<JdtsBlockModel>  jdtsBlockModels   = new ArrayList<>();
+        final JdtsJavadocLexerModel javadocLexerModel = new JdtsJavadocLexerModelImpl(this.code);
+
+        while (javadocLexerModel.nextJavadoc()) {
+
+            final int            blockStartIdx  = javadocLexerModel.getBlockStartIdx();
+            final String         block          = this.code.substring(blockStartIdx, javadocLexerModel.getCodeEndIdx());
+            final JdtsBlockModel jdtsBlockModel = new JdtsBlockModelImpl(block, blockStartIdx);
+
+            if (jdtsBlockModel.parse()) {
+
+                jdtsBlockModels.add(jdtsBlockModel);
+
+            }
+
+        }
+
+        blackhole.consume(jdtsBlockModels);
+
+    }
+
+    /**
+     * ブロックを部分列の参照として解析する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void parseByView(final Blackhole blackhole) {
+
+        final JdtsCodeModelImpl jdtsCodeModel = new JdtsCodeModelImpl(this.code);
+        jdtsCodeModel.parse();
+        blackhole.consume(jdtsCodeModel.getJdtsBlockModels());
+
+    }
+
+    /**
+     * バッファ単位で符号化して書き込む
+     *
+     * @since 0.2.8
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    @Benchmark
+    public void writeByBufferedWriter() throws IOException {
+
+        try (final BufferedWriter writer = Files.newBufferedWriter(this.tempFilePath)) {
+
+            writer.write(this.code);
+
+        }
+
+    }
+
+    /**
+     * 書き込む内容全体をバイト配列に変換して書き込む
+     *
+     * @since 0.2.8
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    @Benchmark
+    public void writeByWriteString() throws IOException {
+
+        Files.writeString(this.tempFilePath, this.code);
+
+    }
+
+    /**
+     * 一時ファイルを削除する
+     *
+     * @since 0.2.8
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+
+        Files.deleteIfExists(this.tempFilePath);
+
+    }
+
+}
@@ -0,0 +1,315 @@
+package kmg.tool.base.jdts.application.service.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import ch.qos.logback.classic.Logger;
+
+import kmg.fund.domain.logic.impl.FileIteratorLogicImpl;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.io.domain.logic.impl.FileWriteLogicImpl;
+import kmg.tool.base.jdts.application.logic.impl.JdtsBlockReplLogicImpl;
+import kmg.tool.base.jdts.application.logic.impl.JdtsDaemonClientLogicImpl;
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsBenchmarkCorpus;
+import kmg.tool.base.jdts.application.model.impl.JdtsCodeModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsDaemonRequestModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsVersionCacheModelImpl;
+import kmg.tool.base.jdts.application.service.JdtsService;
+
+/**
+ * Javadocタグ設定の常駐プロセスの呼び出しごとの待ち時間のベンチマーク<br>
+ * <p>
+ * コミット前のフックで変更された数ファイルを処理する場合を想定し、呼び出しごとに対象ファイルを元の内容に戻してから、次の方法の待ち時間を計測する。
+ * </p>
+ * <ul>
+ * <li>coldContext：呼び出しごとにSpringのコンテキストを起動して処理し、終了する。</li>
+ * <li>daemonRequest：常駐プロセスに、クライアントロジックでソケットファイル経由の要求を送る。</li>
+ * <li>warmService：常駐しているコンテキストのJavadocタグ設定サービスを、ソケットを介さずに直接呼び出す。</li>
+ * </ul>
+ * <p>
+ * 同じJVMで計測するため、coldContextにはJVMの起動とクラスの読み込みの時間が含まれない。実際のコマンドごとの起動との差は、計測結果より大きい。<br>
+ * メッセージソースは呼び出しを記録しないスタブとし、ログは警告以上のみを出力する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class JdtsDaemonLatencyBenchmark {
+
+    /**
+     * Javadocタグ設定に必要なコンポーネント
+     * <p>
+     * 結合テストと同じ構成にする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final Class<?>[] COMPONENT_CLASSES = {
+        JdtsServiceImpl.class, JdtsReplServiceImpl.class, JdtsBlockReplLogicImpl.class, JdtsCodeModelImpl.class,
+        JdtsVersionCacheModelImpl.class, FileIteratorLogicImpl.class, FileWriteLogicImpl.class,
+        JdtsDaemonServiceImpl.class,
+    };
+
+    /**
+     * 変更されたファイル数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "5", "20",
+    })
+    private int fileCount;
+
+    /**
+     * 作業用のディレクトリ
+     *
+     * @since 0.2.8
+     */
+    private Path workDirectoryPath;
+
+    /**
+     * 定義ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path definitionPath;
+
+    /**
+     * 対象ファイルのパスのリスト
+     *
+     * @since 0.2.8
+     */
+    private List<Path> targetPaths;
+
+    /**
+     * 対象ファイルの元の内容のリスト
+     *
+     * @since 0.2.8
+     */
+    private List<String> originalContents;
+
+    /**
+     * 常駐しているSpringのコンテキスト
+     *
+     * @since 0.2.8
+     */
+    private AnnotationConfigApplicationContext residentContext;
+
+    /**
+     * 常駐プロセスサービス
+     *
+     * @since 0.2.8
+     */
+    private JdtsDaemonServiceImpl jdtsDaemonService;
+
+    /**
+     * 常駐プロセスのクライアントロジック
+     *
+     * @since 0.2.8
+     */
+    private JdtsDaemonClientLogicImpl jdtsDaemonClientLogic;
+
+    /**
+     * 常駐プロセスへの要求モデル
+     *
+     * @since 0.2.8
+     */
+    private JdtsDaemonRequestModel request;
+
+    /**
+     * 作業用のディレクトリ、定義ファイル、対象ファイルを作成し、常駐プロセスを開始する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        // ログの出力先の設定に結果が左右されないように、警告以上のみを出力する
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+            .setLevel(ch.qos.logback.classic.Level.WARN);
+
+        this.workDirectoryPath = Files.createTempDirectory("jdts-daemon-benchmark");
+
+        this.definitionPath = this.workDirectoryPath.resolve("definition.yml");
+        Files.writeString(this.definitionPath, JdtsBenchmarkCorpus.readDefinition());
+
+        final List<String> inputs = JdtsBenchmarkCorpus.readInputs();
+        this.originalContents = Stream.iterate(0, i -> i + 1).limit(this.fileCount)
+            .map(i -> inputs.get(i % inputs.size())).toList();
+        this.targetPaths = Stream.iterate(0, i -> i + 1).limit(this.fileCount)
+            .map(i -> this.workDirectoryPath.resolve("TestInput" + i + ".java")).toList();
+
+        this.residentContext = JdtsDaemonLatencyBenchmark.createContext();
+        this.jdtsDaemonService = this.residentContext.getBean(JdtsDaemonServiceImpl.class);
+        this.jdtsDaemonService.preload(this.definitionPath);
+        this.jdtsDaemonService.start(this.workDirectoryPath.resolve("jdts.sock"));
+
+        this.jdtsDaemonClientLogic = new JdtsDaemonClientLogicImpl();
+        this.request = new JdtsDaemonRequestModelImpl(this.definitionPath, this.targetPaths, (short) 1);
+
+    }
+
+    /**
+     * 対象ファイルを元の内容に戻す
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Setup(Level.Invocation)
+    public void resetTargetFiles() throws Exception {
+
+        for (int i = 0; i < this.targetPaths.size(); i++) {
+
+            Files.writeString(this.targetPaths.get(i), this.originalContents.get(i));
+
+        }
+
+    }
+
+    /**
+     * 呼び出しごとにSpringのコンテキストを起動して処理する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Benchmark
+    public void coldContext(final Blackhole blackhole) throws Exception {
+
+        try (final AnnotationConfigApplicationContext context = JdtsDaemonLatencyBenchmark.createContext()) {
+
+            for (final Path targetPath : this.targetPaths) {
+
+                final JdtsService jdtsService = context.getBean(JdtsService.class);
+                jdtsService.initialize(targetPath, this.definitionPath);
+                blackhole.consume(jdtsService.process());
+
+            }
+
+        }
+
+    }
+
+    /**
+     * 常駐プロセスに要求を送る
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Benchmark
+    public void daemonRequest(final Blackhole blackhole) throws Exception {
+
+        blackhole.consume(this.jdtsDaemonClientLogic.request(this.jdtsDaemonService.getSocketPath(), this.request));
+
+    }
+
+    /**
+     * 常駐しているコンテキストのJavadocタグ設定サービスを直接呼び出す
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void warmService(final Blackhole blackhole) {
+
+        blackhole.consume(this.jdtsDaemonService.handle(this.request));
+
+    }
+
+    /**
+     * 常駐プロセスを停止し、コンテキストと作業用のディレクトリを削除する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+
+        this.jdtsDaemonService.stop();
+        this.residentContext.close();
+
+        try (final Stream<Path> stream = Files.walk(this.workDirectoryPath)) {
+
+            for (final Path path : stream.sorted(Comparator.reverseOrder()).toList()) {
+
+                Files.deleteIfExists(path);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Javadocタグ設定に必要なコンポーネントでSpringのコンテキストを起動する
+     * <p>
+     * 呼び出しを記録すると計測中にメモリ使用量が増え続けるため、メッセージソースはスタブとして登録する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 起動したSpringのコンテキスト
+     */
+    private static AnnotationConfigApplicationContext createContext() {
+
+        final AnnotationConfigApplicationContext result = new AnnotationConfigApplicationContext();
+        result.register(JdtsDaemonLatencyBenchmark.COMPONENT_CLASSES);
+        result.registerBean(KmgMessageSource.class,
+            () -> Mockito.mock(KmgMessageSource.class, Mockito.withSettings().stubOnly()));
+        result.refresh();
+        return result;
+
+    }
+
+}
@@ -0,0 +1,224 @@
+package kmg.tool.base.jdts.application.service.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.helpers.NOPLogger;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.jdts.application.logic.JdtsBlockReplLogic;
+import kmg.tool.base.jdts.application.logic.impl.JdtsBlockReplLogicImpl;
+import kmg.tool.base.jdts.application.model.JdtsBlockModel;
+import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsBenchmarkCorpus;
+import kmg.tool.base.jdts.application.model.impl.JdtsCodeModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsVersionCacheModelImpl;
+
+/**
+ * Javadocタグ設定の置換サービスのベンチマーク<br>
+ * <p>
+ * 結合テストの入力ファイルから生成したコーパスとタグ構成に対して、ブロック置換ロジックのタグ操作と、置換サービスによるコード全体の置換を計測する。<br>
+ * Springのコンテキストは使用せず、依存するオブジェクトを直接設定する。メッセージソースは呼び出しを記録しないスタブとし、ロガーは何も出力しない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class JdtsReplServiceBenchmark {
+
+    /**
+     * コーパスの大きさ
+     *
+     * @since 0.2.8
+     */
+    @Param
+    private JdtsBenchmarkCorpus.SizeTypes size;
+
+    /**
+     * Javadocブロックの密度
+     *
+     * @since 0.2.8
+     */
+    @Param
+    private JdtsBenchmarkCorpus.DensityTypes density;
+
+    /**
+     * タグ構成数
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "1", "10", "50",
+    })
+    private int tagConfigCount;
+
+    /**
+     * Javadocタグ設定の構成モデル
+     *
+     * @since 0.2.8
+     */
+    private JdtsConfigsModel jdtsConfigsModel;
+
+    /**
+     * 解析済みのJavadocタグ設定のコードモデル
+     *
+     * @since 0.2.8
+     */
+    private JdtsCodeModelImpl jdtsCodeModel;
+
+    /**
+     * Javadocタグ設定のブロック置換ロジック
+     *
+     * @since 0.2.8
+     */
+    private JdtsBlockReplLogic jdtsBlockReplLogic;
+
+    /**
+     * Javadocタグ設定の入出力サービス
+     *
+     * @since 0.2.8
+     */
+    private JdtsReplServiceImpl jdtsReplService;
+
+    /**
+     * 置換サービスでコード全体を置換する
+     * <p>
+     * 置換サービスの初期化は、置換前のコードを元に戻すために計測に含める。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Benchmark
+    public void replace(final Blackhole blackhole) throws Exception {
+
+        this.jdtsReplService.initialize(this.jdtsConfigsModel, this.jdtsCodeModel);
+        this.jdtsReplService.replace();
+        blackhole.consume(this.jdtsReplService.getReplaceCode());
+
+    }
+
+    /**
+     * ブロック置換ロジックでタグを操作する
+     * <p>
+     * 置換サービスのブロックごとの処理と同じ順番でタグ操作を呼び出す。ログの出力と置換操作の記録は含めない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Benchmark
+    public void replaceBlockTags(final Blackhole blackhole) throws Exception {
+
+        for (final JdtsBlockModel jdtsBlockModel : this.jdtsCodeModel.getJdtsBlockModels()) {
+
+            this.jdtsBlockReplLogic.initialize(this.jdtsConfigsModel, jdtsBlockModel);
+
+            do {
+
+                if (!this.jdtsBlockReplLogic.hasExistingTag()) {
+
+                    if (this.jdtsBlockReplLogic.shouldAddNewTag()) {
+
+                        this.jdtsBlockReplLogic.addNewTagByPosition();
+
+                    }
+
+                    continue;
+
+                }
+
+                if (this.jdtsBlockReplLogic.removeCurrentTagOnError()) {
+
+                    continue;
+
+                }
+
+                if (!this.jdtsBlockReplLogic.shouldOverwriteTag()) {
+
+                    continue;
+
+                }
+
+                if (this.jdtsBlockReplLogic.repositionTagIfNeeded()) {
+
+                    continue;
+
+                }
+
+                this.jdtsBlockReplLogic.replaceExistingTag();
+
+            } while (this.jdtsBlockReplLogic.nextTag());
+
+            blackhole.consume(this.jdtsBlockReplLogic.getReplacedJavadocBlock());
+
+        }
+
+    }
+
+    /**
+     * コーパス、タグ構成、ブロック置換ロジック、置換サービスを準備する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Setup
+    public void setUp() throws Exception {
+
+        this.jdtsConfigsModel = JdtsBenchmarkCorpus.createConfigsModel(this.tagConfigCount);
+
+        this.jdtsCodeModel = new JdtsCodeModelImpl(JdtsBenchmarkCorpus.createCode(this.size, this.density));
+        this.jdtsCodeModel.parse();
+
+        this.jdtsBlockReplLogic = new JdtsBlockReplLogicImpl();
+        new KmgReflectionModelImpl(this.jdtsBlockReplLogic).set("jdtsVersionCacheModel",
+            new JdtsVersionCacheModelImpl());
+
+        // 呼び出しを記録すると計測中にメモリ使用量が増え続けるため、スタブとして作成する
+        final KmgMessageSource messageSource = Mockito.mock(KmgMessageSource.class,
+            Mockito.withSettings().stubOnly());
+
+        // ログの出力先の設定に結果が左右されないように、何も出力しないロガーを使用する
+        this.jdtsReplService = new JdtsReplServiceImpl(NOPLogger.NOP_LOGGER);
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.jdtsReplService);
+        reflectionModel.set("messageSource", messageSource);
+        reflectionModel.set("jdtsBlockReplLogic", this.jdtsBlockReplLogic);
+
+    }
+
+}
@@ -0,0 +1,308 @@
+package kmg.tool.base.jdts.application.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.cmn.infrastructure.log.KmgToolBaseMsgLogger;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
+import kmg.tool.base.jdoc.domain.model.JavadocTagModel;
+import kmg.tool.base.jdts.application.logic.impl.JdtsBlockReplLogicImpl;
+import kmg.tool.base.jdts.application.model.JdtsBlockModel;
+import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsBenchmarkCorpus;
+import kmg.tool.base.jdts.application.model.impl.JdtsCodeModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsVersionCacheModelImpl;
+
+/**
+ * Javadocタグ設定の置換サービスのログ出力のベンチマーク<br>
+ * <p>
+ * デバッグレベルが無効な場合と有効な場合について、ブロックごとのログ出力の負荷を計測する。<br>
+ * メッセージソースは、ログメッセージの定義ファイルからメッセージを検索して書式化する。ロガーは出力先を持たない。
+ * </p>
+ * <ul>
+ * <li>logBlocksEagerly：従来のログ出力を再現する。ログレベルを判定する前に、引数の配列とログメッセージを作成する。</li>
+ * <li>logBlocksLazily：KMGツールベースメッセージロガーで、ログレベルを判定してから引数の配列とログメッセージを作成する。</li>
+ * <li>replace：置換サービスでコード全体を置換する。</li>
+ * </ul>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+@SuppressWarnings("nls")
+public class JdtsReplServiceLogBenchmark {
+
+    /**
+     * ログメッセージの定義ファイル
+     *
+     * @since 0.2.8
+     */
+    private static final String LOG_MSG_PROPERTIES = "kmg-tool-base-messages-log.properties";
+
+    /**
+     * タグ構成数
+     *
+     * @since 0.2.8
+     */
+    private static final int TAG_CONFIG_COUNT = 10;
+
+    /**
+     * デバッグレベルが有効か
+     *
+     * @since 0.2.8
+     */
+    @Param({
+        "false", "true",
+    })
+    private boolean debugEnabled;
+
+    /**
+     * Javadocタグ設定の構成モデル
+     *
+     * @since 0.2.8
+     */
+    private JdtsConfigsModel jdtsConfigsModel;
+
+    /**
+     * 解析済みのJavadocタグ設定のコードモデル
+     *
+     * @since 0.2.8
+     */
+    private JdtsCodeModelImpl jdtsCodeModel;
+
+    /**
+     * ロガー
+     *
+     * @since 0.2.8
+     */
+    private Logger logger;
+
+    /**
+     * KMGメッセージリソース
+     *
+     * @since 0.2.8
+     */
+    private KmgMessageSource messageSource;
+
+    /**
+     * KMGツールベースメッセージロガー
+     *
+     * @since 0.2.8
+     */
+    private KmgToolBaseMsgLogger msgLogger;
+
+    /**
+     * Javadocタグ設定の入出力サービス
+     *
+     * @since 0.2.8
+     */
+    private JdtsReplServiceImpl jdtsReplService;
+
+    /**
+     * 従来のログ出力でブロックごとにログを出力する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void logBlocksEagerly(final Blackhole blackhole) {
+
+        for (final JdtsBlockModel jdtsBlockModel : this.jdtsCodeModel.getJdtsBlockModels()) {
+
+            final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13002;
+            final Object[]               logMsgArgs  = JdtsReplServiceLogBenchmark.createLogMsgArgs(jdtsBlockModel);
+            final String                 logMsg      = this.messageSource.getLogMessage(logMsgTypes, logMsgArgs);
+            this.logger.debug(logMsg);
+            blackhole.consume(logMsg);
+
+        }
+
+    }
+
+    /**
+     * KMGツールベースメッセージロガーでブロックごとにログを出力する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     */
+    @Benchmark
+    public void logBlocksLazily(final Blackhole blackhole) {
+
+        for (final JdtsBlockModel jdtsBlockModel : this.jdtsCodeModel.getJdtsBlockModels()) {
+
+            final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13002;
+            this.msgLogger.debug(logMsgTypes, () -> JdtsReplServiceLogBenchmark.createLogMsgArgs(jdtsBlockModel));
+            blackhole.consume(jdtsBlockModel);
+
+        }
+
+    }
+
+    /**
+     * 置換サービスでコード全体を置換する
+     *
+     * @since 0.2.8
+     *
+     * @param blackhole
+     *                  ブラックホール
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Benchmark
+    public void replace(final Blackhole blackhole) throws Exception {
+
+        this.jdtsReplService.initialize(this.jdtsConfigsModel, this.jdtsCodeModel);
+        this.jdtsReplService.replace();
+        blackhole.consume(this.jdtsReplService.getReplaceCode());
+
+    }
+
+    /**
+     * コーパス、メッセージソース、ロガー、置換サービスを準備する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Setup
+    public void setUp() throws Exception {
+
+        this.jdtsConfigsModel = JdtsBenchmarkCorpus.createConfigsModel(JdtsReplServiceLogBenchmark.TAG_CONFIG_COUNT);
+
+        this.jdtsCodeModel = new JdtsCodeModelImpl(JdtsBenchmarkCorpus.createCode(JdtsBenchmarkCorpus.SizeTypes.MEDIUM,
+            JdtsBenchmarkCorpus.DensityTypes.MANY));
+        this.jdtsCodeModel.parse();
+
+        // メッセージソースの検索と書式化の負荷を含めるため、ログメッセージの定義ファイルから書式化する
+        final Properties logMsgProperties = JdtsReplServiceLogBenchmark.loadLogMsgProperties();
+        this.messageSource = Mockito.mock(KmgMessageSource.class, Mockito.withSettings().stubOnly());
+        Mockito.when(this.messageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenAnswer(invocation -> MessageFormat.format(
+                logMsgProperties.getProperty(((KmgToolBaseLogMsgTypes) invocation.getArgument(0)).getKey()),
+                (Object[]) invocation.getRawArguments()[1]));
+
+        // 出力先の設定に結果が左右されないように、出力先を持たないロガーとする
+        this.logger = (Logger) LoggerFactory.getLogger(JdtsReplServiceLogBenchmark.class);
+        this.logger.setAdditive(false);
+        this.logger.setLevel(this.debugEnabled ? Level.DEBUG : Level.INFO);
+
+        this.msgLogger = new KmgToolBaseMsgLogger(this.logger, () -> this.messageSource);
+
+        final JdtsBlockReplLogicImpl jdtsBlockReplLogic = new JdtsBlockReplLogicImpl();
+        new KmgReflectionModelImpl(jdtsBlockReplLogic).set("jdtsVersionCacheModel", new JdtsVersionCacheModelImpl());
+
+        this.jdtsReplService = new JdtsReplServiceImpl(this.logger);
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.jdtsReplService);
+        reflectionModel.set("messageSource", this.messageSource);
+        reflectionModel.set("jdtsBlockReplLogic", jdtsBlockReplLogic);
+
+    }
+
+    /**
+     * ブロックのタグ削除時のログメッセージの引数を作成する
+     * <p>
+     * 最初のJavadocタグの対象文字列を含めるため、対象文字列の作成も負荷に含まれる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param jdtsBlockModel
+     *                       Javadocタグ設定のブロックモデル
+     *
+     * @return ログメッセージの引数
+     */
+    private static Object[] createLogMsgArgs(final JdtsBlockModel jdtsBlockModel) {
+
+        final List<JavadocTagModel> javadocTagModelList
+            = jdtsBlockModel.getJavadocModel().getJavadocTagsModel().getJavadocTagModelList();
+
+        Object[] result = {
+            jdtsBlockModel.getClassification().getDisplayName(), jdtsBlockModel.getElementName(), null, null, null,
+            null,
+        };
+
+        if (javadocTagModelList.isEmpty()) {
+
+            return result;
+
+        }
+
+        final JavadocTagModel javadocTagModel = javadocTagModelList.get(0);
+        result = new Object[] {
+            jdtsBlockModel.getClassification().getDisplayName(), jdtsBlockModel.getElementName(),
+            javadocTagModel.getTargetStr(), javadocTagModel.getTag(), javadocTagModel.getValue(),
+            javadocTagModel.getDescription(),
+        };
+        return result;
+
+    }
+
+    /**
+     * ログメッセージの定義ファイルを読み込む
+     *
+     * @since 0.2.8
+     *
+     * @return ログメッセージの定義
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private static Properties loadLogMsgProperties() throws IOException {
+
+        final Properties result = new Properties();
+
+        try (final InputStream inputStream = JdtsReplServiceLogBenchmark.class.getClassLoader()
+            .getResourceAsStream(JdtsReplServiceLogBenchmark.LOG_MSG_PROPERTIES);
+            final Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+
+            result.load(reader);
+
+        }
+
+        return result;
+
+    }
+
+}
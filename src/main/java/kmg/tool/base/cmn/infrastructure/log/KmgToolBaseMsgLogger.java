@@ -0,0 +1,195 @@
+package kmg.tool.base.cmn.infrastructure.log;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
+
+/**
+ * KMGツールベースメッセージロガー<br>
+ * <p>
+ * ログレベルが有効な場合のみ、ログメッセージの引数を作成し、メッセージソースでログメッセージを作成する。<br>
+ * 無効なログレベルの出力では、引数の配列の作成と、メッセージソースの検索とメッセージの書式化を行わない。
+ * </p>
+ * <p>
+ * メッセージソースは、フィールドに注入される前に作成できるように、出力時に取得する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class KmgToolBaseMsgLogger {
+
+    /**
+     * ロガー
+     *
+     * @since 0.2.8
+     */
+    private final Logger logger;
+
+    /**
+     * KMGメッセージリソースの取得
+     *
+     * @since 0.2.8
+     */
+    private final Supplier<KmgMessageSource> messageSourceSupplier;
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param logger
+     *                              ロガー
+     * @param messageSourceSupplier
+     *                              KMGメッセージリソースの取得
+     */
+    public KmgToolBaseMsgLogger(final Logger logger, final Supplier<KmgMessageSource> messageSourceSupplier) {
+
+        this.logger = logger;
+        this.messageSourceSupplier = messageSourceSupplier;
+
+    }
+
+    /**
+     * デバッグレベルでログを出力する<br>
+     * <p>
+     * デバッグレベルが無効な場合は、引数を作成しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param logMsgTypes
+     *                           ログメッセージの種類
+     * @param logMsgArgsSupplier
+     *                           ログメッセージの引数の作成
+     */
+    public void debug(final KmgToolBaseLogMsgTypes logMsgTypes, final Supplier<Object[]> logMsgArgsSupplier) {
+
+        // デバッグレベルが無効か
+        if (!this.logger.isDebugEnabled()) {
+            // 無効の場合
+
+            return;
+
+        }
+
+        final String logMsg = this.createLogMessage(logMsgTypes, logMsgArgsSupplier);
+        this.logger.debug(logMsg);
+
+    }
+
+    /**
+     * 情報レベルでログを出力する<br>
+     * <p>
+     * 情報レベルが無効な場合は、引数を作成しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param logMsgTypes
+     *                           ログメッセージの種類
+     * @param logMsgArgsSupplier
+     *                           ログメッセージの引数の作成
+     */
+    public void info(final KmgToolBaseLogMsgTypes logMsgTypes, final Supplier<Object[]> logMsgArgsSupplier) {
+
+        // 情報レベルが無効か
+        if (!this.logger.isInfoEnabled()) {
+            // 無効の場合
+
+            return;
+
+        }
+
+        final String logMsg = this.createLogMessage(logMsgTypes, logMsgArgsSupplier);
+        this.logger.info(logMsg);
+
+    }
+
+    /**
+     * 警告レベルでログを出力する<br>
+     * <p>
+     * 警告レベルが無効な場合は、引数を作成しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param logMsgTypes
+     *                           ログメッセージの種類
+     * @param logMsgArgsSupplier
+     *                           ログメッセージの引数の作成
+     */
+    public void warn(final KmgToolBaseLogMsgTypes logMsgTypes, final Supplier<Object[]> logMsgArgsSupplier) {
+
+        // 警告レベルが無効か
+        if (!this.logger.isWarnEnabled()) {
+            // 無効の場合
+
+            return;
+
+        }
+
+        final String logMsg = this.createLogMessage(logMsgTypes, logMsgArgsSupplier);
+        this.logger.warn(logMsg);
+
+    }
+
+    /**
+     * 警告レベルで例外とともにログを出力する<br>
+     * <p>
+     * 警告レベルが無効な場合は、引数を作成しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param logMsgTypes
+     *                           ログメッセージの種類
+     * @param logMsgArgsSupplier
+     *                           ログメッセージの引数の作成
+     * @param throwable
+     *                           例外
+     */
+    public void warn(final KmgToolBaseLogMsgTypes logMsgTypes, final Supplier<Object[]> logMsgArgsSupplier,
+        final Throwable throwable) {
+
+        // 警告レベルが無効か
+        if (!this.logger.isWarnEnabled()) {
+            // 無効の場合
+
+            return;
+
+        }
+
+        final String logMsg = this.createLogMessage(logMsgTypes, logMsgArgsSupplier);
+        this.logger.warn(logMsg, throwable);
+
+    }
+
+    /**
+     * ログメッセージを作成する
+     *
+     * @since 0.2.8
+     *
+     * @param logMsgTypes
+     *                           ログメッセージの種類
+     * @param logMsgArgsSupplier
+     *                           ログメッセージの引数の作成
+     *
+     * @return ログメッセージ
+     */
+    private String createLogMessage(final KmgToolBaseLogMsgTypes logMsgTypes,
+        final Supplier<Object[]> logMsgArgsSupplier) {
+
+        final Object[] logMsgArgs = logMsgArgsSupplier.get();
+        final String   result     = this.messageSourceSupplier.get().getLogMessage(logMsgTypes, logMsgArgs);
+        return result;
+
+    }
+
+}
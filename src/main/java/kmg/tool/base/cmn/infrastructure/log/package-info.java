@@ -0,0 +1,14 @@
+/**
+ * 共通のログ出力パッケージ<br>
+ * <p>
+ * KMGツール群で共通して使用されるログ出力を提供します。<br>
+ * ログレベルを判定してから、ログメッセージを作成するロガーが定義されています。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+package kmg.tool.base.cmn.infrastructure.log;
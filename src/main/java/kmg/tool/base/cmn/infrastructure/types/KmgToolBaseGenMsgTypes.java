@@ -17,7 +17,7 @@ import kmg.tool.base.cmn.infrastructure.msg.KmgToolBaseCmnGenMsg;
  *
  * @since 0.2.4
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @SuppressWarnings("nls")
 public enum KmgToolBaseGenMsgTypes implements KmgToolBaseCmnGenMsg, KmgToolBaseCmnExcMsg {
@@ -59,6 +59,13 @@ public enum KmgToolBaseGenMsgTypes implements KmgToolBaseCmnGenMsg, KmgToolBaseC
      */
     KMGTOOLBASE_GEN01003("型情報がnullです。"),
 
+    /**
+     * ハッシュ値の算出に失敗しました。アルゴリズム=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN02000("ハッシュ値の算出に失敗しました。アルゴリズム=[{0}]"),
+
     /**
      * テンプレートファイルをYAML形式で読み込むことに失敗しました。テンプレートパス=[{0}]
      *
@@ -108,6 +115,20 @@ public enum KmgToolBaseGenMsgTypes implements KmgToolBaseCmnGenMsg, KmgToolBaseC
      */
     KMGTOOLBASE_GEN03006("テンプレートの動的変換ロジックをクローズ中にエラーが発生しました。"),
 
+    /**
+     * テンプレートの動的変換の並列処理中にエラーが発生しました。入力ファイルパス：[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN03007("テンプレートの動的変換の並列処理中にエラーが発生しました。入力ファイルパス：[{0}]"),
+
+    /**
+     * テンプレートの動的変換の並列処理が中断されました。
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN03008("テンプレートの動的変換の並列処理が中断されました。"),
+
     /**
      * 項目名がnullです。
      *
@@ -241,6 +262,13 @@ public enum KmgToolBaseGenMsgTypes implements KmgToolBaseCmnGenMsg, KmgToolBaseC
      */
     KMGTOOLBASE_GEN08002("入力ファイルの読み込みに失敗しました。入力ファイルパス=[{0}]"),
 
+    /**
+     * ファイルの書き込みに失敗しました。ファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN09000("ファイルの書き込みに失敗しました。ファイルのパス=[{0}]"),
+
     /**
      * 出力ファイルのディレクトリの作成に失敗しました。出力ファイルパス=[{0}]
      *
@@ -318,6 +346,104 @@ public enum KmgToolBaseGenMsgTypes implements KmgToolBaseCmnGenMsg, KmgToolBaseC
      */
     KMGTOOLBASE_GEN13003("定義ファイルの読み込みに失敗しました。定義ファイル=[{0}]"),
 
+    /**
+     * Javadocタグ設定の並列処理中にエラーが発生しました。対象のファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13004("Javadocタグ設定の並列処理中にエラーが発生しました。対象のファイルのパス=[{0}]"),
+
+    /**
+     * Javadocタグ設定の並列処理が中断されました。
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13005("Javadocタグ設定の並列処理が中断されました。"),
+
+    /**
+     * 対象のファイルの読み込みに失敗しました。対象のファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13006("対象のファイルの読み込みに失敗しました。対象のファイルのパス=[{0}]"),
+
+    /**
+     * マニフェストファイルの読み込みに失敗しました。マニフェストファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13008("マニフェストファイルの読み込みに失敗しました。マニフェストファイルのパス=[{0}]"),
+
+    /**
+     * マニフェストファイルの書き込みに失敗しました。マニフェストファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13009("マニフェストファイルの書き込みに失敗しました。マニフェストファイルのパス=[{0}]"),
+
+    /**
+     * レポートファイルの書き込みに失敗しました。レポートファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13011("レポートファイルの書き込みに失敗しました。レポートファイルのパス=[{0}]"),
+
+    /**
+     * 構成キャッシュファイルの書き込みに失敗しました。構成キャッシュファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13012("構成キャッシュファイルの書き込みに失敗しました。構成キャッシュファイルのパス=[{0}]"),
+
+    /**
+     * 常駐プロセスの開始に失敗しました。ソケットファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13013("常駐プロセスの開始に失敗しました。ソケットファイルのパス=[{0}]"),
+
+    /**
+     * 常駐プロセスとの通信に失敗しました。ソケットファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13014("常駐プロセスとの通信に失敗しました。ソケットファイルのパス=[{0}]"),
+
+    /**
+     * 常駐プロセスの準備に失敗しました。準備用のディレクトリのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13015("常駐プロセスの準備に失敗しました。準備用のディレクトリのパス=[{0}]"),
+
+    /**
+     * 常駐プロセスの停止に失敗しました。ソケットファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13016("常駐プロセスの停止に失敗しました。ソケットファイルのパス=[{0}]"),
+
+    /**
+     * 対象ファイルリストの読み込みに失敗しました。基準のディレクトリのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13017("対象ファイルリストの読み込みに失敗しました。基準のディレクトリのパス=[{0}]"),
+
+    /**
+     * 対象ファイルリストのファイルを開けませんでした。対象ファイルリストのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13018("対象ファイルリストのファイルを開けませんでした。対象ファイルリストのパス=[{0}]"),
+
+    /**
+     * 対象のパスのパターンが不正です。定義ファイルのパス=[{0}]、対象のパスのパターン=[{1}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_GEN13019("対象のパスのパターンが不正です。定義ファイルのパス=[{0}]、対象のパスのパターン=[{1}]"),
+
     /**
      * 項目名がnullです。
      *
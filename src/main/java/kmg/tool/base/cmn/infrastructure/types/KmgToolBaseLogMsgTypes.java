@@ -15,7 +15,7 @@ import kmg.tool.base.cmn.infrastructure.msg.KmgToolBaseCmnLogMsg;
  *
  * @since 0.2.4
  *
- * @version 0.2.7
+ * @version 0.2.8
  */
 @SuppressWarnings("nls")
 public enum KmgToolBaseLogMsgTypes implements KmgToolBaseCmnLogMsg {
@@ -237,11 +237,11 @@ public enum KmgToolBaseLogMsgTypes implements KmgToolBaseCmnLogMsg {
     KMGTOOLBASE_LOG13005("Javadocタグ設定処理を開始します。"),
 
     /**
-     * Javadocタグ設定処理を終了します。読み込みファイル数:[{0}]、合計置換数:[{1}]
+     * Javadocタグ設定処理を終了します。読み込みファイル数:[{0}]、合計置換数:[{1}]、書き込みファイル数:[{2}]、書き込みスキップファイル数:[{3}]
      *
      * @since 0.2.4
      */
-    KMGTOOLBASE_LOG13006("Javadocタグ設定処理を終了します。読み込みファイル数:[{0}]、合計置換数:[{1}]"),
+    KMGTOOLBASE_LOG13006("Javadocタグ設定処理を終了します。読み込みファイル数:[{0}]、合計置換数:[{1}]、書き込みファイル数:[{2}]、書き込みスキップファイル数:[{3}]"),
 
     /**
      * 対象のファイルの処理を開始します。対象のファイルのパス=[{0}]
@@ -257,6 +257,62 @@ public enum KmgToolBaseLogMsgTypes implements KmgToolBaseCmnLogMsg {
      */
     KMGTOOLBASE_LOG13008("対象のファイルの処理を終了します。対象のファイルのパス=[{0}]"),
 
+    /**
+     * 前回の処理から変更がないため、対象のファイルの処理をスキップします。対象のファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_LOG13009("前回の処理から変更がないため、対象のファイルの処理をスキップします。対象のファイルのパス=[{0}]"),
+
+    /**
+     * 常駐プロセスを開始しました。ソケットファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_LOG13010("常駐プロセスを開始しました。ソケットファイルのパス=[{0}]"),
+
+    /**
+     * 常駐プロセスの要求の処理に失敗しました。対象ファイルパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_LOG13011("常駐プロセスの要求の処理に失敗しました。対象ファイルパス=[{0}]"),
+
+    /**
+     * 常駐プロセスを停止しました。ソケットファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_LOG13012("常駐プロセスを停止しました。ソケットファイルのパス=[{0}]"),
+
+    /**
+     * 常駐プロセスとの接続でエラーが発生しました。ソケットファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_LOG13013("常駐プロセスとの接続でエラーが発生しました。ソケットファイルのパス=[{0}]"),
+
+    /**
+     * 適用する定義ファイルがないため、対象のファイルの処理をスキップします。対象のファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_LOG13014("適用する定義ファイルがないため、対象のファイルの処理をスキップします。対象のファイルのパス=[{0}]"),
+
+    /**
+     * Javadocの開始位置が置換前のコードと一致しないため、ブロックの置換をスキップします。区分：[{0}]、 要素名：[{1}]、 開始位置：[{2}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_LOG13015("Javadocの開始位置が置換前のコードと一致しないため、ブロックの置換をスキップします。区分：[{0}]、 要素名：[{1}]、 開始位置：[{2}]"),
+
+    /**
+     * 常駐プロセスの処理を待機する接続数が上限に達したため、接続を閉じました。ソケットファイルのパス=[{0}]
+     *
+     * @since 0.2.8
+     */
+    KMGTOOLBASE_LOG13016("常駐プロセスの処理を待機する接続数が上限に達したため、接続を閉じました。ソケットファイルのパス=[{0}]"),
+
     /**
      * クリア処理中にエラーが発生しました。
      *
@@ -300,11 +356,11 @@ public enum KmgToolBaseLogMsgTypes implements KmgToolBaseCmnLogMsg {
     KMGTOOLBASE_LOG19000("マッピング変換処理を開始します。"),
 
     /**
-     * マッピング変換処理を終了します。読み込みファイル数:[{0}]、合計置換数:[{1}]
+     * マッピング変換処理を終了します。読み込みファイル数:[{0}]、合計置換数:[{1}]、書き込み回数:[{2}]、書き込みスキップ回数:[{3}]
      *
      * @since 0.2.4
      */
-    KMGTOOLBASE_LOG19001("マッピング変換処理を終了します。読み込みファイル数:[{0}]、合計置換数:[{1}]"),
+    KMGTOOLBASE_LOG19001("マッピング変換処理を終了します。読み込みファイル数:[{0}]、合計置換数:[{1}]、書き込み回数:[{2}]、書き込みスキップ回数:[{3}]"),
 
     /* 定義：終了 */
     ;
@@ -0,0 +1,81 @@
+package kmg.tool.base.cmn.infrastructure.utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+
+/**
+ * KMGツールベースハッシュユーティリティ<br>
+ * <p>
+ * ファイルの内容が変更されたかを判定するためのハッシュ値を算出する。<br>
+ * ハッシュ値は、SHA-256の16進数文字列である。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public final class KmgToolBaseHashUtils {
+
+    /**
+     * ハッシュ値のアルゴリズム
+     *
+     * @since 0.2.8
+     */
+    public static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    /**
+     * デフォルトコンストラクタ<br>
+     * <p>
+     * ユーティリティクラスのため、インスタンス化を禁止する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private KmgToolBaseHashUtils() {
+
+        // 処理なし
+    }
+
+    /**
+     * ハッシュ値を算出する
+     *
+     * @since 0.2.8
+     *
+     * @param content
+     *                内容
+     *
+     * @return SHA-256の16進数文字列
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    public static String hash(final byte[] content) throws KmgToolBaseMsgException {
+
+        final String result;
+
+        try {
+
+            final MessageDigest messageDigest = MessageDigest.getInstance(KmgToolBaseHashUtils.HASH_ALGORITHM);
+            result = HexFormat.of().formatHex(messageDigest.digest(content));
+
+        } catch (final NoSuchAlgorithmException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN02000;
+            final Object[]               genMsgArgs  = {
+                KmgToolBaseHashUtils.HASH_ALGORITHM,
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,14 @@
+/**
+ * 共通のユーティリティパッケージ<br>
+ * <p>
+ * KMGツール群で共通して使用されるユーティリティを提供します。<br>
+ * ハッシュ値の算出など、複数のツールで使用する処理が定義されています。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+package kmg.tool.base.cmn.infrastructure.utils;
@@ -3,9 +3,11 @@ package kmg.tool.base.dtc.domain.logic;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import kmg.core.infrastructure.types.KmgDelimiterTypes;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.dtc.domain.model.DtcConversionModel;
 
 /**
  * テンプレートの動的変換ロジックインタフェース<br>
@@ -17,7 +19,7 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 public interface DtcLogic extends Closeable {
 
@@ -43,6 +45,22 @@ public interface DtcLogic extends Closeable {
      */
     void applyTemplateToInputFile() throws KmgToolBaseMsgException;
 
+    /**
+     * 入力ファイルからテンプレートに基づいて変換し、出力バッファに追加する<br>
+     * <p>
+     * 1件分の内容を出力バッファに直接作成し、改行を追加する。出力バッファが書き込みバッファサイズ以上になった場合は、出力ファイルに書き込む。<br>
+     * 1件分の内容は保持しないため、{@link #getContentsOfOneItem()}の値は更新されない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean applyTemplateToOutputBuffer() throws KmgToolBaseMsgException;
+
     /**
      * 出力バッファコンテンツをクリアする
      *
@@ -76,6 +94,21 @@ public interface DtcLogic extends Closeable {
     @Override
     void close() throws IOException;
 
+    /**
+     * 出力バッファを出力ファイルに書き込み、クリアする<br>
+     * <p>
+     * {@link #writeOutputBuffer()}と異なり、改行は追加しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean flushOutputBuffer() throws KmgToolBaseMsgException;
+
     /**
      * 1件分の内容を返す<br>
      *
@@ -85,6 +118,18 @@ public interface DtcLogic extends Closeable {
      */
     String getContentsOfOneItem();
 
+    /**
+     * 変換モデルを返す<br>
+     * <p>
+     * テンプレートファイルの読み込み後に有効になる。変換モデルは変更されないため、複数のスレッドで共有できる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 変換モデル
+     */
+    DtcConversionModel getDtcConversionModel();
+
     /**
      * 入力ファイルパスを返す<br>
      *
@@ -112,6 +157,15 @@ public interface DtcLogic extends Closeable {
      */
     Path getTemplatePath();
 
+    /**
+     * 書き込みバッファサイズを返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return 書き込みバッファサイズ - 出力ファイルに書き込む出力バッファの文字数
+     */
+    int getWriteBufferSize();
+
     /**
      * 初期化する
      *
@@ -166,6 +220,24 @@ public interface DtcLogic extends Closeable {
      */
     boolean loadTemplate() throws KmgToolBaseMsgException;
 
+    /**
+     * 複数行のデータを読み込む<br>
+     * <p>
+     * 最大行数まで、行単位で読み込む。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param maxLineCount
+     *                     最大行数
+     *
+     * @return 読み込んだ行のリスト - ファイル終端に達した場合は空のリスト
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    List<String> readLinesOfData(int maxLineCount) throws KmgToolBaseMsgException;
+
     /**
      * 1行データを読み込む。
      *
@@ -178,6 +250,19 @@ public interface DtcLogic extends Closeable {
      */
     boolean readOneLineOfData() throws KmgToolBaseMsgException;
 
+    /**
+     * 書き込みバッファサイズを設定する<br>
+     * <p>
+     * 1以下の場合は、1件ごとに出力ファイルに書き込む。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param writeBufferSize
+     *                        書き込みバッファサイズ - 出力ファイルに書き込む出力バッファの文字数
+     */
+    void setWriteBufferSize(int writeBufferSize);
+
     /**
      * 出力バッファを書き込む
      *
@@ -189,4 +274,22 @@ public interface DtcLogic extends Closeable {
      *                                 KMGツールメッセージ例外
      */
     boolean writeOutputBuffer() throws KmgToolBaseMsgException;
+
+    /**
+     * 内容を出力ファイルに書き込む<br>
+     * <p>
+     * 出力バッファを使用せず、改行も追加しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param content
+     *                内容
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean writeOutputContent(CharSequence content) throws KmgToolBaseMsgException;
 }
@@ -6,7 +6,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,10 +18,10 @@ import kmg.fund.infrastructure.utils.KmgYamlUtils;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
 import kmg.tool.base.dtc.domain.logic.DtcLogic;
+import kmg.tool.base.dtc.domain.model.DtcConversionModel;
 import kmg.tool.base.dtc.domain.model.DtcDerivedPlaceholderModel;
-import kmg.tool.base.dtc.domain.model.DtcTransformModel;
+import kmg.tool.base.dtc.domain.model.impl.DtcConversionModelImpl;
 import kmg.tool.base.dtc.domain.model.impl.DtcDerivedPlaceholderModelImpl;
-import kmg.tool.base.dtc.domain.model.impl.DtcTransformModelImpl;
 import kmg.tool.base.dtc.domain.types.DtcKeyTypes;
 import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
 
@@ -33,16 +33,39 @@ import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
  * <p>
  * このクラスはテンプレートファイルを入力ファイルのデータに基づいて動的に変換するロジックを実装します。 中間データとテンプレートを組み合わせて、動的なコンテンツ生成を行います。
  * </p>
+ * <p>
+ * テンプレートは読み込み時にコンパイル済みテンプレートモデルに変換し、1件分の内容はプレースホルダーの値を埋めて1回の走査で作成します。
+ * </p>
  *
  * @author KenichiroArai
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @Service
 public class DtcLogicImpl implements DtcLogic {
 
+    /**
+     * デフォルトの書き込みバッファサイズ
+     * <p>
+     * 出力ファイルに書き込む出力バッファの文字数である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    public static final int DEFAULT_WRITE_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * 改行
+     * <p>
+     * BufferedWriter#newLineと同じ改行である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
     /**
      * 入力ファイルパス
      *
@@ -101,6 +124,9 @@ public class DtcLogicImpl implements DtcLogic {
 
     /**
      * 中間プレースホルダーの定義マップ
+     * <p>
+     * テンプレート定義ファイルに定義された順序を保持する。この順序が中間行の列の順序になる。
+     * </p>
      *
      * @since 0.2.0
      */
@@ -120,6 +146,33 @@ public class DtcLogicImpl implements DtcLogic {
      */
     private String templateContent;
 
+    /**
+     * 変換モデル
+     * <p>
+     * コンパイル済みテンプレート、中間プレースホルダーと中間行の列の対応、派生プレースホルダーの定義を保持する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private DtcConversionModel dtcConversionModel;
+
+    /**
+     * プレースホルダーの値の配列
+     * <p>
+     * 中間プレースホルダー、派生プレースホルダーの順である。1件ごとに再利用する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private String[] placeholderValues;
+
+    /**
+     * 1件分の内容の作成用の文字列ビルダー
+     *
+     * @since 0.2.8
+     */
+    private final StringBuilder contentsOfOneItemBuilder;
+
     /**
      * 1件分の内容
      *
@@ -134,6 +187,13 @@ public class DtcLogicImpl implements DtcLogic {
      */
     private final StringBuilder outputBufferContent;
 
+    /**
+     * 書き込みバッファサイズ
+     *
+     * @since 0.2.8
+     */
+    private int writeBufferSize;
+
     /**
      * デフォルトコンストラクタ
      *
@@ -141,9 +201,11 @@ public class DtcLogicImpl implements DtcLogic {
      */
     public DtcLogicImpl() {
 
-        this.intermediatePlaceholderMap = new HashMap<>();
+        this.intermediatePlaceholderMap = new LinkedHashMap<>();
         this.derivedPlaceholders = new ArrayList<>();
         this.outputBufferContent = new StringBuilder();
+        this.contentsOfOneItemBuilder = new StringBuilder();
+        this.writeBufferSize = DtcLogicImpl.DEFAULT_WRITE_BUFFER_SIZE;
 
     }
 
@@ -177,6 +239,9 @@ public class DtcLogicImpl implements DtcLogic {
      * <p>
      * 現在読み込まれている入力ファイルの1行データに対して、テンプレートを適用し変換処理を行います。 中間プレースホルダーと派生プレースホルダーの両方を処理します。
      * </p>
+     * <p>
+     * 各プレースホルダーの値を求めた後、コンパイル済みテンプレートモデルに値を埋めて1件分の内容を作成します。
+     * </p>
      *
      * @since 0.2.4
      *
@@ -186,17 +251,62 @@ public class DtcLogicImpl implements DtcLogic {
     @Override
     public void applyTemplateToInputFile() throws KmgToolBaseMsgException {
 
-        /* 1件分の内容をコンテンツの内容で初期化 */
-        this.contentsOfOneItem = this.templateContent;
+        /* 中間プレースホルダーを処理 */
+        this.processPlaceholders();
+
+        /* 派生プレースホルダーを処理 */
+        this.processDerivedPlaceholders();
+
+        /* 1件分の内容を作成 */
+        this.contentsOfOneItemBuilder.setLength(0);
+        this.dtcConversionModel.getDtcTemplateModel().render(this.contentsOfOneItemBuilder, this.placeholderValues);
+        this.contentsOfOneItem = this.contentsOfOneItemBuilder.toString();
+
+    }
+
+    /**
+     * 入力ファイルからテンプレートに基づいて変換し、出力バッファに追加する<br>
+     * <p>
+     * 1件分の内容を文字列にせずに出力バッファに直接作成し、改行を追加します。 出力バッファが書き込みバッファサイズ以上になった場合は、出力ファイルに書き込みます。
+     * </p>
+     * <p>
+     * 1件分の内容は保持しないため、{@link #getContentsOfOneItem()}の値は更新されません。 最後の書き込みは、{@link #flushOutputBuffer()}で行います。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外 - 変換処理中または書き込み処理中にエラーが発生した場合
+     */
+    @Override
+    public boolean applyTemplateToOutputBuffer() throws KmgToolBaseMsgException {
 
-        /* 中間値を一時保存するマップ */
-        final Map<String, String> intermediateValues = new HashMap<>();
+        boolean result = false;
 
         /* 中間プレースホルダーを処理 */
-        this.processPlaceholders(intermediateValues);
+        this.processPlaceholders();
 
         /* 派生プレースホルダーを処理 */
-        this.processDerivedPlaceholders(intermediateValues);
+        this.processDerivedPlaceholders();
+
+        /* 出力バッファに1件分の内容を作成 */
+        this.dtcConversionModel.getDtcTemplateModel().render(this.outputBufferContent, this.placeholderValues);
+        this.outputBufferContent.append(DtcLogicImpl.LINE_SEPARATOR);
+
+        /* 出力バッファを書き込む */
+
+        // 書き込みバッファサイズに達したか
+        if (this.outputBufferContent.length() >= this.writeBufferSize) {
+            // 達した場合
+
+            this.flushOutputBuffer();
+
+        }
+
+        result = true;
+        return result;
 
     }
 
@@ -239,6 +349,7 @@ public class DtcLogicImpl implements DtcLogic {
         this.lineOfDataRead = null;
         this.convertedLine = null;
         this.templateContent = null;
+        this.dtcConversionModel = null;
         this.intermediatePlaceholderMap.clear();
         this.derivedPlaceholders.clear();
         this.contentsOfOneItem = null;
@@ -268,6 +379,45 @@ public class DtcLogicImpl implements DtcLogic {
 
     }
 
+    /**
+     * 出力バッファを出力ファイルに書き込み、クリアする<br>
+     * <p>
+     * 出力バッファに蓄積された内容をそのまま出力ファイルに書き込みます。 {@link #writeOutputBuffer()}と異なり、改行は追加しません。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外 - 書き込み処理中にエラーが発生した場合
+     */
+    @Override
+    public boolean flushOutputBuffer() throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        try {
+
+            this.writer.append(this.outputBufferContent);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes msgType     = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03002;
+            final Object[]               messageArgs = {
+                this.inputPath.toString(), this.templatePath.toString(), this.outputPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(msgType, messageArgs, e);
+
+        }
+
+        this.clearOutputBufferContent();
+
+        result = true;
+        return result;
+
+    }
+
     /**
      * 1件分の内容を返す<br>
      * <p>
@@ -286,6 +436,24 @@ public class DtcLogicImpl implements DtcLogic {
 
     }
 
+    /**
+     * 変換モデルを返す<br>
+     * <p>
+     * テンプレートファイルの読み込み後に有効になります。変換モデルは変更されないため、複数のスレッドで共有できます。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 変換モデル - テンプレートファイルの読み込み前はnull
+     */
+    @Override
+    public DtcConversionModel getDtcConversionModel() {
+
+        final DtcConversionModel result = this.dtcConversionModel;
+        return result;
+
+    }
+
     /**
      * 入力ファイルパスを返す<br>
      * <p>
@@ -340,6 +508,21 @@ public class DtcLogicImpl implements DtcLogic {
 
     }
 
+    /**
+     * 書き込みバッファサイズを返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return 書き込みバッファサイズ - 出力ファイルに書き込む出力バッファの文字数
+     */
+    @Override
+    public int getWriteBufferSize() {
+
+        final int result = this.writeBufferSize;
+        return result;
+
+    }
+
     /**
      * 初期化する<br>
      * <p>
@@ -422,6 +605,9 @@ public class DtcLogicImpl implements DtcLogic {
      * <p>
      * YAMLフォーマットのテンプレート定義ファイルを読み込み、 テンプレートコンテンツ、中間プレースホルダー定義、派生プレースホルダー定義を取得します。
      * </p>
+     * <p>
+     * 読み込んだテンプレートは、コンパイル済みテンプレートモデルにコンパイルします。
+     * </p>
      *
      * @since 0.2.4
      *
@@ -463,11 +649,70 @@ public class DtcLogicImpl implements DtcLogic {
         // 派生プレースホルダー定義を読み込む
         this.loadDerivedPlaceholderDefinitions(yamlData);
 
+        /* テンプレートをコンパイルする */
+        this.compileTemplate();
+
         result = true;
         return result;
 
     }
 
+    /**
+     * 複数行のデータを読み込む<br>
+     * <p>
+     * 入力ファイルから最大行数まで、行単位で読み込みます。 行の途中で分割しないため、読み込んだ行ごとに独立して変換できます。
+     * </p>
+     * <p>
+     * {@link #readOneLineOfData()}と異なり、読み込んだデータは内部変数に保存しません。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param maxLineCount
+     *                     最大行数
+     *
+     * @return 読み込んだ行のリスト - ファイル終端に達した場合は空のリスト
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外 - 読み込み処理中にエラーが発生した場合
+     */
+    @Override
+    public List<String> readLinesOfData(final int maxLineCount) throws KmgToolBaseMsgException {
+
+        final List<String> result = new ArrayList<>(maxLineCount);
+
+        try {
+
+            while (result.size() < maxLineCount) {
+
+                final String line = this.reader.readLine();
+
+                // ファイルの終わりに達したか
+                if (line == null) {
+                    // 達した場合
+
+                    break;
+
+                }
+
+                result.add(line);
+
+            }
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes messageTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03001;
+            final Object[]               messageArgs  = {
+                this.inputPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(messageTypes, messageArgs, e);
+
+        }
+
+        return result;
+
+    }
+
     /**
      * 1行データを読み込む。<br>
      * <p>
@@ -515,6 +760,25 @@ public class DtcLogicImpl implements DtcLogic {
 
     }
 
+    /**
+     * 書き込みバッファサイズを設定する<br>
+     * <p>
+     * 1以下の場合は、1件ごとに出力ファイルに書き込みます。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param writeBufferSize
+     *                        書き込みバッファサイズ - 出力ファイルに書き込む出力バッファの文字数
+     */
+    @Override
+    @SuppressWarnings("hiding")
+    public void setWriteBufferSize(final int writeBufferSize) {
+
+        this.writeBufferSize = writeBufferSize;
+
+    }
+
     /**
      * 出力バッファを書き込む<br>
      * <p>
@@ -553,6 +817,46 @@ public class DtcLogicImpl implements DtcLogic {
 
     }
 
+    /**
+     * 内容を出力ファイルに書き込む<br>
+     * <p>
+     * 変換済みの内容をそのまま出力ファイルに書き込みます。 出力バッファは使用せず、改行も追加しません。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param content
+     *                内容
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外 - 書き込み処理中にエラーが発生した場合
+     */
+    @Override
+    public boolean writeOutputContent(final CharSequence content) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        try {
+
+            this.writer.append(content);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes msgType     = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03002;
+            final Object[]               messageArgs = {
+                this.inputPath.toString(), this.templatePath.toString(), this.outputPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(msgType, messageArgs, e);
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
     /**
      * 入力ファイルのリーダーをクローズする<br>
      * <p>
@@ -601,10 +905,31 @@ public class DtcLogicImpl implements DtcLogic {
 
     }
 
+    /**
+     * テンプレートをコンパイルする<br>
+     * <p>
+     * 読み込んだテンプレートの定義から変換モデルを作成し、プレースホルダーの値の配列を作成します。
+     * </p>
+     * <p>
+     * 列と中間プレースホルダーの対応は、ここで定義された順序の固定のインデックスとして決まるため、1件ごとには中間行の分割と配列の参照のみを行います。
+     * 変換モデルは変更されないため、{@link #getDtcConversionModel()}で取得して複数のスレッドで共有できます。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private void compileTemplate() {
+
+        this.dtcConversionModel = new DtcConversionModelImpl(this.inputPath, this.intermediateDelimiter,
+            this.templateContent, this.intermediatePlaceholderMap, this.derivedPlaceholders);
+        this.placeholderValues = new String[this.dtcConversionModel.getPlaceholderCount()];
+
+    }
+
     /**
      * 派生プレースホルダー定義を読み込む<br>
      * <p>
-     * YAMLデータから派生プレースホルダー定義を読み込み、内部リストに格納します。 派生プレースホルダー定義がない場合は何もしません。
+     * YAMLデータから派生プレースホルダー定義を読み込み、内部リストに格納します。 派生プレースホルダー定義がない場合は何もしません。<br>
+     * 変換処理は、単一のキー、またはキーのリストで定義します。リストの場合は、リストの順に変換処理を連結します。
      * </p>
      *
      * @since 0.2.4
@@ -624,8 +949,8 @@ public class DtcLogicImpl implements DtcLogic {
 
         // 派生プレースホルダー定義を取得する
         @SuppressWarnings("unchecked")
-        final List<Map<String, String>> derivedPlaceholdersTmp
-            = (List<Map<String, String>>) yamlData.get(DtcKeyTypes.DERIVED_PLACEHOLDERS.getKey());
+        final List<Map<String, Object>> derivedPlaceholdersTmp
+            = (List<Map<String, Object>>) yamlData.get(DtcKeyTypes.DERIVED_PLACEHOLDERS.getKey());
 
         if (derivedPlaceholdersTmp == null) {
 
@@ -633,16 +958,19 @@ public class DtcLogicImpl implements DtcLogic {
 
         }
 
-        for (final Map<String, String> placeholderMap : derivedPlaceholdersTmp) {
+        for (final Map<String, Object> placeholderMap : derivedPlaceholdersTmp) {
 
-            final String            displayName        = placeholderMap.get(DtcKeyTypes.DISPLAY_NAME.getKey());
-            final String            replacementPattern = placeholderMap.get(DtcKeyTypes.REPLACEMENT_PATTERN.getKey());
-            final String            sourceKey          = placeholderMap.get(DtcKeyTypes.SOURCE_KEY.getKey());
-            final DtcTransformTypes transformTypes     = DtcTransformTypes
-                .getEnum(placeholderMap.get(DtcKeyTypes.TRANSFORMATION.getKey()));
+            final String                  displayName        = (String) placeholderMap
+                .get(DtcKeyTypes.DISPLAY_NAME.getKey());
+            final String                  replacementPattern = (String) placeholderMap
+                .get(DtcKeyTypes.REPLACEMENT_PATTERN.getKey());
+            final String                  sourceKey          = (String) placeholderMap
+                .get(DtcKeyTypes.SOURCE_KEY.getKey());
+            final List<DtcTransformTypes> transformTypesList = DtcLogicImpl
+                .createTransformTypesList(placeholderMap.get(DtcKeyTypes.TRANSFORMATION.getKey()));
 
             final DtcDerivedPlaceholderModel derivedPlaceholder
-                = new DtcDerivedPlaceholderModelImpl(displayName, replacementPattern, sourceKey, transformTypes);
+                = new DtcDerivedPlaceholderModelImpl(displayName, replacementPattern, sourceKey, transformTypesList);
             this.derivedPlaceholders.add(derivedPlaceholder);
 
         }
@@ -657,6 +985,9 @@ public class DtcLogicImpl implements DtcLogic {
      * <p>
      * YAMLデータから中間プレースホルダー定義を読み込み、内部マップに格納します。 プレースホルダー定義がない場合は何もしません。
      * </p>
+     * <p>
+     * 内部マップは定義された順序を保持し、n番目に定義された中間プレースホルダーは中間行のn列目に対応します。
+     * </p>
      *
      * @since 0.2.4
      *
@@ -786,100 +1117,75 @@ public class DtcLogicImpl implements DtcLogic {
     /**
      * 派生プレースホルダーを処理する<br>
      * <p>
-     * 中間プレースホルダー処理で得られた値を元に、派生プレースホルダーの変換処理を行います。 各派生プレースホルダーに対して、指定された変換タイプに基づいて値を変換し、 テンプレート内の対応するパターンを置換します。
+     * 中間プレースホルダー処理で得られた値を元に、派生プレースホルダーの変換処理を行います。 各派生プレースホルダーに対して、指定された変換タイプに基づいて値を変換し、 プレースホルダーの値の配列に設定します。
+     * </p>
+     * <p>
+     * ソースキーに対応する中間プレースホルダーがない場合は、値をnullとし、テンプレート内の対応するパターンを置換しません。
      * </p>
      *
      * @since 0.2.4
      *
-     * @param intermediateValues
-     *                           中間値を保存するマップ - キーはプレースホルダー名、値は中間から読み取った値
-     *
      * @throws KmgToolBaseMsgException
      *                                 KMGツールメッセージ例外 - 変換処理中にエラーが発生した場合
      */
-    private void processDerivedPlaceholders(final Map<String, String> intermediateValues)
-        throws KmgToolBaseMsgException {
-
-        for (final DtcDerivedPlaceholderModel derivedPlaceholder : this.derivedPlaceholders) {
-
-            final String sourceValue = intermediateValues.get(derivedPlaceholder.getSourceKey());
-
-            if (sourceValue == null) {
-
-                continue;
+    private void processDerivedPlaceholders() throws KmgToolBaseMsgException {
 
-            }
-
-            // 変換処理を適用
-            final DtcTransformModel dtcTransformModel
-                = new DtcTransformModelImpl(sourceValue, derivedPlaceholder.getTransformationTypes());
-            dtcTransformModel.apply();
-
-            // テンプレートを置換
-            this.contentsOfOneItem = this.contentsOfOneItem.replace(derivedPlaceholder.getReplacementPattern(),
-                dtcTransformModel.getTransformedValue());
-
-        }
+        this.dtcConversionModel.setDerivedValues(this.placeholderValues);
 
     }
 
     /**
      * 中間プレースホルダーを処理する<br>
      * <p>
-     * 現在読み込まれている中間行データを解析し、中間プレースホルダーを対応する値で置換します。 置換された値は中間値を保存するマップに保存され、後続の派生プレースホルダー処理で使用されます。
+     * 現在読み込まれている中間行データを解析し、中間プレースホルダーに対応する値をプレースホルダーの値の配列に設定します。 設定された値は後続の派生プレースホルダー処理で使用されます。
      * </p>
      *
      * @since 0.2.4
      *
-     * @param intermediateValues
-     *                           中間値を保存するマップ - キーはプレースホルダー名、値は中間から読み取った値
-     *
      * @throws KmgToolBaseMsgException
      *                                 KMGツールメッセージ例外 - 中間行の列数が不足している場合など
      */
-    private void processPlaceholders(final Map<String, String> intermediateValues) throws KmgToolBaseMsgException {
-
-        /* 置換前の準備 */
-
-        // 中間行に分割
-        final String[] intermediateLine = this.intermediateDelimiter.split(this.convertedLine);
+    private void processPlaceholders() throws KmgToolBaseMsgException {
 
-        // 中間プレースホルダーのキー配列
-        final String[] intermediatePlaceholderKeys = this.intermediatePlaceholderMap.keySet().toArray(new String[0]);
+        this.dtcConversionModel.setIntermediateValues(this.convertedLine, this.placeholderValues);
 
-        // 中間プレースホルダーのパターン配列
-        final String[] intermediatePlaceholderPatterns
-            = this.intermediatePlaceholderMap.values().toArray(new String[0]);
-
-        /* 各中間プレースホルダーを対応する値で置換 */
-        for (int i = 0; i < intermediatePlaceholderKeys.length; i++) {
-
-            final String key     = intermediatePlaceholderKeys[i];
-            final String pattern = intermediatePlaceholderPatterns[i];
-            String       value;
+    }
 
-            try {
+    /**
+     * 変換処理の定義から変換処理の種類のリストを作成する<br>
+     * <p>
+     * 変換処理の定義がリストの場合は、リストの順に変換処理の種類を並べる。単一のキーの場合は、1件のリストとする。<br>
+     * キーに該当する種類がない場合は、指定無し（NONE）とする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param transformation
+     *                       変換処理の定義 - 変換処理の種類のキー、またはキーのリスト
+     *
+     * @return 変換処理の種類のリスト - 適用する順序
+     */
+    private static List<DtcTransformTypes> createTransformTypesList(final Object transformation) {
 
-                value = intermediateLine[i];
+        final List<DtcTransformTypes> result = new ArrayList<>();
 
-            } catch (final ArrayIndexOutOfBoundsException e) {
+        // 変換処理の定義がリストか
+        if (!(transformation instanceof final List<?> transformationList)) {
+            // リストではない場合
 
-                final KmgToolBaseGenMsgTypes messageTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03005;
-                final Object[]               messageArgs  = {
-                    this.inputPath.toString(), key, i + 1,
-                };
-                throw new KmgToolBaseMsgException(messageTypes, messageArgs, e);
+            result.add(DtcTransformTypes.getEnum((String) transformation));
+            return result;
 
-            }
+        }
 
-            // 値を保存
-            intermediateValues.put(key, value);
+        for (final Object key : transformationList) {
 
-            // テンプレートを置換
-            this.contentsOfOneItem = this.contentsOfOneItem.replace(pattern, value);
+            result.add(DtcTransformTypes.getEnum((String) key));
 
         }
 
+        return result;
+
     }
 
 }
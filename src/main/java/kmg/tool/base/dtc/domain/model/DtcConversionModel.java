@@ -0,0 +1,96 @@
+package kmg.tool.base.dtc.domain.model;
+
+import java.util.List;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+
+/**
+ * テンプレートの動的変換の変換モデル<br>
+ * <p>
+ * 「Dtc」→「DynamicTemplateConversion」の略。
+ * </p>
+ * <p>
+ * コンパイル済みテンプレート、中間プレースホルダーと中間行の列の対応、派生プレースホルダーの定義を保持し、中間行を1件分の内容に変換する。<br>
+ * 作成後は変更されないため、複数のスレッドから同時に使用できる。プレースホルダーの値の配列は呼び出し元が用意する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface DtcConversionModel {
+
+    /**
+     * 中間行のリストを変換する<br>
+     * <p>
+     * 中間行ごとに1件分の内容を作成し、改行を追加して連結する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param lines
+     *              中間行のリスト
+     *
+     * @return 変換後の内容
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外 - 中間行の列数が不足している場合など
+     */
+    StringBuilder convertLines(List<String> lines) throws KmgToolBaseMsgException;
+
+    /**
+     * コンパイル済みテンプレートモデルを返す
+     *
+     * @since 0.2.8
+     *
+     * @return コンパイル済みテンプレートモデル
+     */
+    DtcTemplateModel getDtcTemplateModel();
+
+    /**
+     * プレースホルダーの数を返す<br>
+     * <p>
+     * プレースホルダーの値の配列の要素数である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return プレースホルダーの数
+     */
+    int getPlaceholderCount();
+
+    /**
+     * 派生プレースホルダーの値を設定する<br>
+     * <p>
+     * 中間プレースホルダーの値から派生プレースホルダーの値を求め、プレースホルダーの値の配列に設定する。<br>
+     * ソースキーに対応する中間プレースホルダーがない場合は、nullを設定する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param values
+     *               プレースホルダーの値の配列 - 中間プレースホルダーの値が設定済みであること
+     */
+    void setDerivedValues(String[] values);
+
+    /**
+     * 中間プレースホルダーの値を設定する<br>
+     * <p>
+     * 中間行を区切り文字で分割し、n列目の値をn番目に定義された中間プレースホルダーの値として設定する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param line
+     *               中間行
+     * @param values
+     *               プレースホルダーの値の配列
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外 - 中間行の列数が不足している場合
+     */
+    void setIntermediateValues(String line, String[] values) throws KmgToolBaseMsgException;
+
+}
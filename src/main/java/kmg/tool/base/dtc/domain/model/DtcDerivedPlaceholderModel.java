@@ -12,7 +12,7 @@ import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 public interface DtcDerivedPlaceholderModel {
 
@@ -44,7 +44,10 @@ public interface DtcDerivedPlaceholderModel {
     String getSourceKey();
 
     /**
-     * 変換処理の種類を返す
+     * 変換処理の種類を返す<br>
+     * <p>
+     * 複数の変換処理の種類を連結している場合は、最初に適用する変換処理の種類を返す。
+     * </p>
      *
      * @since 0.2.0
      *
@@ -52,4 +55,16 @@ public interface DtcDerivedPlaceholderModel {
      */
     DtcTransformTypes getTransformationTypes();
 
+    /**
+     * 変換パイプラインモデルを返す<br>
+     * <p>
+     * 派生プレースホルダーの値は、ソースキーの中間プレースホルダーの値を変換パイプラインモデルで変換して求める。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 変換パイプラインモデル
+     */
+    DtcTransformPipelineModel getTransformPipelineModel();
+
 }
@@ -0,0 +1,55 @@
+package kmg.tool.base.dtc.domain.model;
+
+/**
+ * テンプレートの動的変換コンパイル済みテンプレートモデル<br>
+ * <p>
+ * 「Dtc」→「DynamicTemplateConversion」の略。
+ * </p>
+ * <p>
+ * テンプレートの内容を、固定の文字列とプレースホルダーの枠に分割したモデルである。<br>
+ * 置換パターンの検索はコンパイル時に1回だけ行い、1件分の内容はプレースホルダーの値を枠に埋めて1回の走査で作成する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface DtcTemplateModel {
+
+    /**
+     * 置換パターンの数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 置換パターンの数
+     */
+    int getReplacementPatternCount();
+
+    /**
+     * テンプレートの内容を返す
+     *
+     * @since 0.2.8
+     *
+     * @return テンプレートの内容
+     */
+    String getTemplateContent();
+
+    /**
+     * プレースホルダーの値を埋めた1件分の内容を追加する<br>
+     * <p>
+     * プレースホルダーの値は、置換パターンと同じ順序で指定する。<br>
+     * 値がnullのプレースホルダーは置換せず、置換パターンのまま追加する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param sb
+     *               追加先の文字列ビルダー
+     * @param values
+     *               プレースホルダーの値の配列 - 置換パターンと同じ順序
+     */
+    void render(StringBuilder sb, String[] values);
+
+}
@@ -0,0 +1,49 @@
+package kmg.tool.base.dtc.domain.model;
+
+import java.util.List;
+
+import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
+
+/**
+ * テンプレートの動的変換変換パイプラインモデル<br>
+ * <p>
+ * 「Dtc」→「DynamicTemplateConversion」の略。
+ * </p>
+ * <p>
+ * 複数の変換処理の種類を定義された順に連結し、1つの変換処理として適用するモデルである。<br>
+ * 変換処理の連結は作成時に1回だけ行い、重い変換処理の変換結果は変換対象の文字列ごとにキャッシュする。作成後は変更されないため、複数のスレッドから同時に使用できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface DtcTransformPipelineModel {
+
+    /**
+     * 変換処理の種類のリストを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 変換処理の種類のリスト - 適用する順序
+     */
+    List<DtcTransformTypes> getTransformTypesList();
+
+    /**
+     * 指定された文字列を変換する<br>
+     * <p>
+     * 変換処理の種類を定義された順に適用する。nullの場合は、空文字列を返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param value
+     *              変換対象の文字列
+     *
+     * @return 変換後の文字列
+     */
+    String transform(String value);
+
+}
@@ -0,0 +1,309 @@
+package kmg.tool.base.dtc.domain.model.impl;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import kmg.core.infrastructure.types.KmgDelimiterTypes;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.dtc.domain.model.DtcConversionModel;
+import kmg.tool.base.dtc.domain.model.DtcDerivedPlaceholderModel;
+import kmg.tool.base.dtc.domain.model.DtcTemplateModel;
+import kmg.tool.base.dtc.domain.model.DtcTransformPipelineModel;
+
+/**
+ * テンプレートの動的変換の変換モデル実装<br>
+ * <p>
+ * 「Dtc」→「DynamicTemplateConversion」の略。
+ * </p>
+ * <p>
+ * プレースホルダーの値の配列は、中間プレースホルダー、派生プレースホルダーの順である。<br>
+ * 全てのフィールドは作成時に決まり変更されないため、複数のスレッドから同時に使用できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class DtcConversionModelImpl implements DtcConversionModel {
+
+    /**
+     * 改行
+     *
+     * @since 0.2.8
+     */
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * 入力ファイルのパス
+     * <p>
+     * メッセージの表示に使用する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Path inputPath;
+
+    /**
+     * 中間行の区切り文字
+     *
+     * @since 0.2.8
+     */
+    private final KmgDelimiterTypes intermediateDelimiter;
+
+    /**
+     * 中間プレースホルダーのキー配列
+     * <p>
+     * 中間行の列のインデックスから中間プレースホルダーのキーを引く対応表である。テンプレート定義ファイルに定義された順序である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final String[] intermediatePlaceholderKeys;
+
+    /**
+     * 派生プレースホルダーの変換パイプラインモデルの配列
+     * <p>
+     * 派生プレースホルダーの定義の順序である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final DtcTransformPipelineModel[] derivedTransformPipelineModels;
+
+    /**
+     * 派生プレースホルダーのソースキーのインデックス配列
+     * <p>
+     * 中間プレースホルダーのキー配列のインデックスである。ソースキーがない場合は、-1である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final int[] derivedSourceIndexes;
+
+    /**
+     * コンパイル済みテンプレートモデル
+     *
+     * @since 0.2.8
+     */
+    private final DtcTemplateModel dtcTemplateModel;
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * 中間プレースホルダー、派生プレースホルダーの順に置換パターンを並べ、テンプレートの内容をコンパイルする。<br>
+     * また、派生プレースホルダーのソースキーを中間プレースホルダーのキー配列のインデックスに変換し、変換パイプラインモデルを取り出す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param inputPath
+     *                                   入力ファイルのパス
+     * @param intermediateDelimiter
+     *                                   中間行の区切り文字
+     * @param templateContent
+     *                                   テンプレートの内容
+     * @param intermediatePlaceholderMap
+     *                                   中間プレースホルダーの定義マップ - 中間行の列の順序であること
+     * @param derivedPlaceholders
+     *                                   派生プレースホルダーの定義リスト
+     */
+    public DtcConversionModelImpl(final Path inputPath, final KmgDelimiterTypes intermediateDelimiter,
+        final String templateContent, final Map<String, String> intermediatePlaceholderMap,
+        final List<DtcDerivedPlaceholderModel> derivedPlaceholders) {
+
+        this.inputPath = inputPath;
+        this.intermediateDelimiter = intermediateDelimiter;
+
+        /* 中間プレースホルダー */
+
+        // 中間プレースホルダーのキー配列
+        this.intermediatePlaceholderKeys = intermediatePlaceholderMap.keySet().toArray(new String[0]);
+
+        // 置換パターンのリスト
+        final List<String> replacementPatterns = new ArrayList<>(intermediatePlaceholderMap.values());
+
+        /* 派生プレースホルダー */
+        final List<String> intermediatePlaceholderKeyList = Arrays.asList(this.intermediatePlaceholderKeys);
+        this.derivedTransformPipelineModels = new DtcTransformPipelineModel[derivedPlaceholders.size()];
+        this.derivedSourceIndexes = new int[derivedPlaceholders.size()];
+
+        for (int i = 0; i < derivedPlaceholders.size(); i++) {
+
+            final DtcDerivedPlaceholderModel derivedPlaceholder = derivedPlaceholders.get(i);
+
+            this.derivedTransformPipelineModels[i] = derivedPlaceholder.getTransformPipelineModel();
+            this.derivedSourceIndexes[i] = intermediatePlaceholderKeyList.indexOf(derivedPlaceholder.getSourceKey());
+            replacementPatterns.add(derivedPlaceholder.getReplacementPattern());
+
+        }
+
+        /* コンパイル */
+        this.dtcTemplateModel = new DtcTemplateModelImpl(templateContent, replacementPatterns);
+
+    }
+
+    /**
+     * 中間行のリストを変換する<br>
+     * <p>
+     * 中間行ごとに1件分の内容を作成し、改行を追加して連結する。<br>
+     * プレースホルダーの値の配列は呼び出しごとに作成するため、複数のスレッドから同時に呼び出せる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param lines
+     *              中間行のリスト
+     *
+     * @return 変換後の内容
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外 - 中間行の列数が不足している場合など
+     */
+    @Override
+    public StringBuilder convertLines(final List<String> lines) throws KmgToolBaseMsgException {
+
+        final StringBuilder result = new StringBuilder();
+
+        final String[] values = new String[this.getPlaceholderCount()];
+
+        for (final String line : lines) {
+
+            this.setIntermediateValues(line, values);
+            this.setDerivedValues(values);
+
+            this.dtcTemplateModel.render(result, values);
+            result.append(DtcConversionModelImpl.LINE_SEPARATOR);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * コンパイル済みテンプレートモデルを返す
+     *
+     * @since 0.2.8
+     *
+     * @return コンパイル済みテンプレートモデル
+     */
+    @Override
+    public DtcTemplateModel getDtcTemplateModel() {
+
+        final DtcTemplateModel result = this.dtcTemplateModel;
+        return result;
+
+    }
+
+    /**
+     * プレースホルダーの数を返す<br>
+     * <p>
+     * 中間プレースホルダーの数と派生プレースホルダーの数の合計である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return プレースホルダーの数
+     */
+    @Override
+    public int getPlaceholderCount() {
+
+        final int result = this.dtcTemplateModel.getReplacementPatternCount();
+        return result;
+
+    }
+
+    /**
+     * 派生プレースホルダーの値を設定する<br>
+     * <p>
+     * 各派生プレースホルダーに対して、ソースキーの中間プレースホルダーの値を変換パイプラインモデルで変換し、プレースホルダーの値の配列に設定する。<br>
+     * 変換処理は作成時に連結済みであり、行ごとに変換モデルを作成しない。<br>
+     * ソースキーに対応する中間プレースホルダーがない場合は、値をnullとし、テンプレート内の対応するパターンを置換しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param values
+     *               プレースホルダーの値の配列 - 中間プレースホルダーの値が設定済みであること
+     */
+    @Override
+    public void setDerivedValues(final String[] values) {
+
+        final int intermediateCount = this.intermediatePlaceholderKeys.length;
+
+        for (int i = 0; i < this.derivedSourceIndexes.length; i++) {
+
+            final int sourceIndex = this.derivedSourceIndexes[i];
+
+            // ソースキーに対応する中間プレースホルダーがないか
+            if (sourceIndex < 0) {
+                // ない場合
+
+                values[intermediateCount + i] = null;
+                continue;
+
+            }
+
+            // 変換処理を適用し、値を保存
+            values[intermediateCount + i] = this.derivedTransformPipelineModels[i].transform(values[sourceIndex]);
+
+        }
+
+    }
+
+    /**
+     * 中間プレースホルダーの値を設定する<br>
+     * <p>
+     * 中間行を区切り文字で分割し、n列目の値をn番目に定義された中間プレースホルダーの値として、プレースホルダーの値の配列に設定する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param line
+     *               中間行
+     * @param values
+     *               プレースホルダーの値の配列
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外 - 中間行の列数が不足している場合
+     */
+    @Override
+    public void setIntermediateValues(final String line, final String[] values) throws KmgToolBaseMsgException {
+
+        // 中間行に分割
+        final String[] intermediateLine = this.intermediateDelimiter.split(line);
+
+        /* 各中間プレースホルダーに対応する値を設定 */
+        for (int i = 0; i < this.intermediatePlaceholderKeys.length; i++) {
+
+            final String key = this.intermediatePlaceholderKeys[i];
+            String       value;
+
+            try {
+
+                value = intermediateLine[i];
+
+            } catch (final ArrayIndexOutOfBoundsException e) {
+
+                final KmgToolBaseGenMsgTypes messageTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03005;
+                final Object[]               messageArgs  = {
+                    this.inputPath.toString(), key, i + 1,
+                };
+                throw new KmgToolBaseMsgException(messageTypes, messageArgs, e);
+
+            }
+
+            // 値を保存
+            values[i] = value;
+
+        }
+
+    }
+
+}
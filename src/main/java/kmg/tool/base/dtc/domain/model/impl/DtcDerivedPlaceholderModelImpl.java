@@ -1,6 +1,9 @@
 package kmg.tool.base.dtc.domain.model.impl;
 
+import java.util.List;
+
 import kmg.tool.base.dtc.domain.model.DtcDerivedPlaceholderModel;
+import kmg.tool.base.dtc.domain.model.DtcTransformPipelineModel;
 import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
 
 /**
@@ -13,7 +16,7 @@ import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 public class DtcDerivedPlaceholderModelImpl implements DtcDerivedPlaceholderModel {
 
@@ -39,11 +42,11 @@ public class DtcDerivedPlaceholderModelImpl implements DtcDerivedPlaceholderMode
     private final String sourceKey;
 
     /**
-     * 変換処理の種類
+     * 変換パイプラインモデル
      *
-     * @since 0.2.0
+     * @since 0.2.8
      */
-    private final DtcTransformTypes transformTypes;
+    private final DtcTransformPipelineModel transformPipelineModel;
 
     /**
      * コンストラクタ
@@ -62,10 +65,34 @@ public class DtcDerivedPlaceholderModelImpl implements DtcDerivedPlaceholderMode
     public DtcDerivedPlaceholderModelImpl(final String displayName, final String replacementPattern,
         final String sourceKey, final DtcTransformTypes transformTypes) {
 
+        this(displayName, replacementPattern, sourceKey, List.of(transformTypes));
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * 変換処理の種類のリストを連結し、変換パイプラインモデルを作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param displayName
+     *                           表示名
+     * @param replacementPattern
+     *                           置換パターン
+     * @param sourceKey
+     *                           ソースキー
+     * @param transformTypesList
+     *                           変換処理の種類のリスト - 適用する順序
+     */
+    public DtcDerivedPlaceholderModelImpl(final String displayName, final String replacementPattern,
+        final String sourceKey, final List<DtcTransformTypes> transformTypesList) {
+
         this.displayName = displayName;
         this.replacementPattern = replacementPattern;
         this.sourceKey = sourceKey;
-        this.transformTypes = transformTypes;
+        this.transformPipelineModel = new DtcTransformPipelineModelImpl(transformTypesList);
 
     }
 
@@ -115,16 +142,44 @@ public class DtcDerivedPlaceholderModelImpl implements DtcDerivedPlaceholderMode
     }
 
     /**
-     * 変換処理の種類を返す
+     * 変換処理の種類を返す<br>
+     * <p>
+     * 複数の変換処理の種類を連結している場合は、最初に適用する変換処理の種類を返す。
+     * </p>
      *
      * @since 0.2.0
      *
-     * @return 変換処理の種類
+     * @return 変換処理の種類。指定無し（NONE）：変換処理の種類がない場合。
      */
     @Override
     public DtcTransformTypes getTransformationTypes() {
 
-        final DtcTransformTypes result = this.transformTypes;
+        DtcTransformTypes result = DtcTransformTypes.NONE;
+
+        final List<DtcTransformTypes> transformTypesList = this.transformPipelineModel.getTransformTypesList();
+
+        if (transformTypesList.isEmpty()) {
+
+            return result;
+
+        }
+
+        result = transformTypesList.get(0);
+        return result;
+
+    }
+
+    /**
+     * 変換パイプラインモデルを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 変換パイプラインモデル
+     */
+    @Override
+    public DtcTransformPipelineModel getTransformPipelineModel() {
+
+        final DtcTransformPipelineModel result = this.transformPipelineModel;
         return result;
 
     }
@@ -0,0 +1,257 @@
+package kmg.tool.base.dtc.domain.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import kmg.core.infrastructure.type.KmgString;
+import kmg.tool.base.dtc.domain.model.DtcTemplateModel;
+
+/**
+ * テンプレートの動的変換コンパイル済みテンプレートモデル実装<br>
+ * <p>
+ * 「Dtc」→「DynamicTemplateConversion」の略。
+ * </p>
+ * <p>
+ * テンプレートの内容を「固定の文字列、枠、固定の文字列、…、枠、固定の文字列」の順に分割して保持する。<br>
+ * 分割は、置換パターンの順に、固定の文字列の中を先頭から重ならないように検索して行う。そのため、置換パターンの順にString#replaceで置換した場合と同じ位置が枠になる。<br>
+ * ただし、埋めた値は再度検索しないため、値に含まれる置換パターンは置換しない。また、空の置換パターンは無視する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class DtcTemplateModelImpl implements DtcTemplateModel {
+
+    /**
+     * テンプレートの内容
+     *
+     * @since 0.2.8
+     */
+    private final String templateContent;
+
+    /**
+     * 置換パターンの配列
+     *
+     * @since 0.2.8
+     */
+    private final String[] replacementPatterns;
+
+    /**
+     * 固定の文字列の配列
+     * <p>
+     * 要素数は、枠の数より1つ多い。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private String[] literals;
+
+    /**
+     * 枠の置換パターンのインデックスの配列
+     *
+     * @since 0.2.8
+     */
+    private int[] slotIndexes;
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * テンプレートの内容をコンパイルする。テンプレートの内容がnullの場合は、空文字として扱う。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param templateContent
+     *                            テンプレートの内容
+     * @param replacementPatterns
+     *                            置換パターンのリスト - 置換する順序
+     */
+    public DtcTemplateModelImpl(final String templateContent, final List<String> replacementPatterns) {
+
+        if (templateContent == null) {
+
+            this.templateContent = KmgString.EMPTY;
+
+        } else {
+
+            this.templateContent = templateContent;
+
+        }
+
+        this.replacementPatterns = replacementPatterns.toArray(new String[0]);
+
+        this.compile();
+
+    }
+
+    /**
+     * 置換パターンの数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 置換パターンの数
+     */
+    @Override
+    public int getReplacementPatternCount() {
+
+        final int result = this.replacementPatterns.length;
+        return result;
+
+    }
+
+    /**
+     * テンプレートの内容を返す
+     *
+     * @since 0.2.8
+     *
+     * @return テンプレートの内容
+     */
+    @Override
+    public String getTemplateContent() {
+
+        final String result = this.templateContent;
+        return result;
+
+    }
+
+    /**
+     * プレースホルダーの値を埋めた1件分の内容を追加する<br>
+     * <p>
+     * プレースホルダーの値は、置換パターンと同じ順序で指定する。<br>
+     * 値がnullのプレースホルダーは置換せず、置換パターンのまま追加する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param sb
+     *               追加先の文字列ビルダー
+     * @param values
+     *               プレースホルダーの値の配列 - 置換パターンと同じ順序
+     */
+    @Override
+    public void render(final StringBuilder sb, final String[] values) {
+
+        sb.append(this.literals[0]);
+
+        for (int i = 0; i < this.slotIndexes.length; i++) {
+
+            final int    slotIndex = this.slotIndexes[i];
+            final String value     = values[slotIndex];
+
+            // 値がないか
+            if (value == null) {
+                // ない場合
+
+                sb.append(this.replacementPatterns[slotIndex]);
+
+            } else {
+                // ある場合
+
+                sb.append(value);
+
+            }
+
+            sb.append(this.literals[i + 1]);
+
+        }
+
+    }
+
+    /**
+     * テンプレートの内容をコンパイルする<br>
+     * <p>
+     * 置換パターンの順に、固定の文字列を置換パターンで分割し、分割した位置に枠を挿入する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private void compile() {
+
+        List<String>  literalList   = new ArrayList<>();
+        List<Integer> slotIndexList = new ArrayList<>();
+        literalList.add(this.templateContent);
+
+        for (int i = 0; i < this.replacementPatterns.length; i++) {
+
+            final String replacementPattern = this.replacementPatterns[i];
+
+            // 置換パターンが空か
+            if (KmgString.isEmpty(replacementPattern)) {
+                // 空の場合
+
+                continue;
+
+            }
+
+            final List<String>  splitLiteralList   = new ArrayList<>();
+            final List<Integer> splitSlotIndexList = new ArrayList<>();
+
+            for (int j = 0; j < literalList.size(); j++) {
+
+                // 先頭の固定の文字列ではないか
+                if (j > 0) {
+                    // 先頭ではない場合
+
+                    // 直前の枠を引き継ぐ
+                    splitSlotIndexList.add(slotIndexList.get(j - 1));
+
+                }
+
+                DtcTemplateModelImpl.splitLiteral(literalList.get(j), replacementPattern, i, splitLiteralList,
+                    splitSlotIndexList);
+
+            }
+
+            literalList = splitLiteralList;
+            slotIndexList = splitSlotIndexList;
+
+        }
+
+        this.literals = literalList.toArray(new String[0]);
+        this.slotIndexes = slotIndexList.stream().mapToInt(Integer::intValue).toArray();
+
+    }
+
+    /**
+     * 固定の文字列を置換パターンで分割する<br>
+     * <p>
+     * 先頭から重ならないように置換パターンを検索し、分割した固定の文字列と、その間の枠を追加する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param literal
+     *                           固定の文字列
+     * @param replacementPattern
+     *                           置換パターン
+     * @param slotIndex
+     *                           置換パターンのインデックス
+     * @param literalList
+     *                           分割した固定の文字列の追加先
+     * @param slotIndexList
+     *                           枠の追加先
+     */
+    private static void splitLiteral(final String literal, final String replacementPattern, final int slotIndex,
+        final List<String> literalList, final List<Integer> slotIndexList) {
+
+        int start = 0;
+        int index = literal.indexOf(replacementPattern);
+
+        while (index >= 0) {
+
+            literalList.add(literal.substring(start, index));
+            slotIndexList.add(slotIndex);
+
+            start = index + replacementPattern.length();
+            index = literal.indexOf(replacementPattern, start);
+
+        }
+
+        literalList.add(literal.substring(start));
+
+    }
+
+}
@@ -0,0 +1,284 @@
+package kmg.tool.base.dtc.domain.model.impl;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import kmg.core.infrastructure.type.KmgString;
+import kmg.tool.base.dtc.domain.model.DtcTransformPipelineModel;
+import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
+
+/**
+ * テンプレートの動的変換変換パイプラインモデル実装<br>
+ * <p>
+ * 「Dtc」→「DynamicTemplateConversion」の略。
+ * </p>
+ * <p>
+ * 作成時に、指定無し（NONE）を除いた変換処理の種類を1つの関数に連結する。変換処理がない場合は、変換対象の文字列をそのまま返す。<br>
+ * 変換結果は、変換対象の文字列のハッシュ値で格納位置が決まる固定長のキャッシュに格納し、同じ格納位置の変換結果は上書きする。<br>
+ * 格納位置の衝突を減らすため、キャッシュの要素数は、キャッシュの最大件数の2倍以上の2のべき乗とする。<br>
+ * キャッシュの要素は変更されないため、複数のスレッドからロックせずに参照、更新できる。他のスレッドの更新が見えない場合は、変換処理を適用し直すだけである。<br>
+ * ただし、大文字、小文字への変換のように1つだけの軽い変換処理は、キャッシュを参照するよりも変換処理を適用する方が速いため、キャッシュしない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class DtcTransformPipelineModelImpl implements DtcTransformPipelineModel {
+
+    /**
+     * デフォルトのキャッシュの最大件数
+     *
+     * @since 0.2.8
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1_024;
+
+    /**
+     * キャッシュの最大件数の上限
+     *
+     * @since 0.2.8
+     */
+    private static final int MAX_CACHE_SIZE = 1 << 20;
+
+    /**
+     * 格納位置を求めるハッシュ値の乗数
+     * <p>
+     * 黄金比から求めた値であり、連番を含む文字列のようにハッシュ値が偏る場合も、乗算結果の上位のビットが均等に分散する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * キャッシュしない変換処理の種類のセット
+     * <p>
+     * 変換処理がこのいずれか1つだけの場合は、キャッシュしない。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final Set<DtcTransformTypes> UNCACHED_SINGLE_TRANSFORM_TYPES
+        = EnumSet.of(DtcTransformTypes.CAPITALIZE, DtcTransformTypes.TO_UPPER_CASE, DtcTransformTypes.TO_LOWER_CASE);
+
+    /**
+     * 変換処理の種類のリスト
+     *
+     * @since 0.2.8
+     */
+    private final List<DtcTransformTypes> transformTypesList;
+
+    /**
+     * 連結した変換処理
+     * <p>
+     * 変換処理がない場合は、nullである。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Function<String, String> transformFunction;
+
+    /**
+     * 変換結果のキャッシュ
+     * <p>
+     * 変換対象の文字列のハッシュ値から格納位置を決める。要素数は、キャッシュの最大件数の2倍以上の2のべき乗である。<br>
+     * 変換処理がない場合、キャッシュしない変換処理だけの場合、またはキャッシュの最大件数が0以下の場合は、nullである。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final CacheEntry[] cache;
+
+    /**
+     * 格納位置を求めるシフト数
+     * <p>
+     * ハッシュ値に乗数を掛けた値を右にシフトし、上位のビットを格納位置とする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final int cacheShift;
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * キャッシュの最大件数は、デフォルトのキャッシュの最大件数とする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param transformTypesList
+     *                           変換処理の種類のリスト - 適用する順序
+     */
+    public DtcTransformPipelineModelImpl(final List<DtcTransformTypes> transformTypesList) {
+
+        this(transformTypesList, DtcTransformPipelineModelImpl.DEFAULT_CACHE_SIZE);
+
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param transformTypesList
+     *                           変換処理の種類のリスト - 適用する順序
+     * @param cacheSize
+     *                           キャッシュの最大件数 - 0以下の場合はキャッシュしない
+     */
+    public DtcTransformPipelineModelImpl(final List<DtcTransformTypes> transformTypesList, final int cacheSize) {
+
+        this.transformTypesList = List.copyOf(transformTypesList);
+
+        /* 変換処理の連結 */
+        Function<String, String> function       = null;
+        DtcTransformTypes        firstTransform = null;
+        int                      transformCount = 0;
+
+        for (final DtcTransformTypes transformTypes : this.transformTypesList) {
+
+            // 指定無しか
+            if (transformTypes == DtcTransformTypes.NONE) {
+                // 指定無しの場合
+
+                continue;
+
+            }
+
+            final Function<String, String> next = transformTypes::transform;
+            transformCount++;
+
+            if (function == null) {
+
+                function = next;
+                firstTransform = transformTypes;
+                continue;
+
+            }
+
+            function = function.andThen(next);
+
+        }
+
+        this.transformFunction = function;
+
+        /* キャッシュ */
+
+        // キャッシュしないか
+        if ((this.transformFunction == null) || (cacheSize <= 0) || ((transformCount == 1)
+            && DtcTransformPipelineModelImpl.UNCACHED_SINGLE_TRANSFORM_TYPES.contains(firstTransform))) {
+            // キャッシュしない場合
+
+            this.cache = null;
+            this.cacheShift = 0;
+            return;
+
+        }
+
+        // キャッシュの最大件数の2倍以上の最小の2のべき乗
+        final int capacity
+            = Integer.highestOneBit((Math.min(cacheSize, DtcTransformPipelineModelImpl.MAX_CACHE_SIZE) * 4) - 1);
+        this.cache = new CacheEntry[capacity];
+        this.cacheShift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+
+    }
+
+    /**
+     * 変換処理の種類のリストを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 変換処理の種類のリスト - 適用する順序
+     */
+    @Override
+    public List<DtcTransformTypes> getTransformTypesList() {
+
+        final List<DtcTransformTypes> result = this.transformTypesList;
+        return result;
+
+    }
+
+    /**
+     * 指定された文字列を変換する<br>
+     * <p>
+     * キャッシュに変換結果がある場合は、変換処理を適用せずにキャッシュの変換結果を返す。<br>
+     * ない場合は変換処理を適用し、同じ格納位置の変換結果を上書きする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param value
+     *              変換対象の文字列
+     *
+     * @return 変換後の文字列。空文字列：変換対象の文字列がnullの場合。
+     */
+    @Override
+    public String transform(final String value) {
+
+        String result = KmgString.EMPTY;
+
+        if (value == null) {
+
+            return result;
+
+        }
+
+        // 変換処理がないか
+        if (this.transformFunction == null) {
+            // ない場合
+
+            result = value;
+            return result;
+
+        }
+
+        // キャッシュしないか
+        if (this.cache == null) {
+            // キャッシュしない場合
+
+            result = this.transformFunction.apply(value);
+            return result;
+
+        }
+
+        final int        index = (value.hashCode() * DtcTransformPipelineModelImpl.HASH_MULTIPLIER) >>> this.cacheShift;
+        final CacheEntry entry = this.cache[index];
+
+        // キャッシュに変換結果があるか
+        if ((entry != null) && entry.value().equals(value)) {
+            // ある場合
+
+            result = entry.transformedValue();
+            return result;
+
+        }
+
+        result = this.transformFunction.apply(value);
+        this.cache[index] = new CacheEntry(value, result);
+
+        return result;
+
+    }
+
+    /**
+     * 変換結果のキャッシュの要素
+     * <p>
+     * 全てのフィールドがfinalのため、ロックせずに他のスレッドに渡しても、変換対象の文字列と変換後の文字列の組が崩れない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param value
+     *                         変換対象の文字列
+     * @param transformedValue
+     *                         変換後の文字列
+     */
+    private record CacheEntry(String value, String transformedValue) {
+        // 処理なし
+    }
+
+}
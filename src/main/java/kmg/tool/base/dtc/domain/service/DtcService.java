@@ -16,7 +16,7 @@ import kmg.tool.base.two2one.domain.service.Two2OneService;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 public interface DtcService extends Two2OneService {
 
@@ -45,4 +45,32 @@ public interface DtcService extends Two2OneService {
     boolean initialize(Path inputPath, Path templatePath, Path outputPath, KmgDelimiterTypes intermediateDelimiter)
         throws KmgToolBaseMsgException;
 
+    /**
+     * スレッド数を指定して初期化する<br>
+     * <p>
+     * スレッド数が2以上の場合は、中間ファイルを行単位のチャンクに分けて並列に変換する。1以下の場合は、1行ずつ順番に変換する。<br>
+     * 並列に変換する場合も、出力ファイルの内容は順番に変換した場合と同じになる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param inputPath
+     *                              入力ファイルパス（中間ファイルパス）
+     * @param templatePath
+     *                              テンプレートファイルパス
+     * @param outputPath
+     *                              出力ファイルパス
+     * @param intermediateDelimiter
+     *                              中間ファイルの区切り文字
+     * @param threadNum
+     *                              スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean initialize(Path inputPath, Path templatePath, Path outputPath, KmgDelimiterTypes intermediateDelimiter,
+        short threadNum) throws KmgToolBaseMsgException;
+
 }
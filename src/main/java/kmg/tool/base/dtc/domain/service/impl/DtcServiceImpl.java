@@ -2,6 +2,13 @@ package kmg.tool.base.dtc.domain.service.impl;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +21,7 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
 import kmg.tool.base.dtc.domain.logic.DtcLogic;
+import kmg.tool.base.dtc.domain.model.DtcConversionModel;
 import kmg.tool.base.dtc.domain.service.DtcService;
 
 /**
@@ -26,11 +34,41 @@ import kmg.tool.base.dtc.domain.service.DtcService;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @Service
 public class DtcServiceImpl implements DtcService {
 
+    /**
+     * デフォルトのスレッド数
+     * <p>
+     * 1の場合は、1行ずつ順番に変換する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final short DEFAULT_THREAD_NUM = 1;
+
+    /**
+     * チャンクの行数
+     * <p>
+     * 並列に変換する場合に、1つのタスクで変換する中間行の数である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final int CHUNK_LINE_COUNT = 10_000;
+
+    /**
+     * スレッドあたりの未書き込みのチャンクの最大数
+     * <p>
+     * 並列に変換する場合に、書き込み待ちで保持するチャンクの数をスレッド数のこの倍数までに制限する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final int MAX_PENDING_CHUNK_COUNT_PER_THREAD = 2;
+
     /**
      * ロガー
      *
@@ -82,6 +120,13 @@ public class DtcServiceImpl implements DtcService {
      */
     private Path outputPath;
 
+    /**
+     * スレッド数
+     *
+     * @since 0.2.8
+     */
+    private short threadNum;
+
     /**
      * 標準ロガーを使用して入出力ツールを初期化するコンストラクタ<br>
      *
@@ -179,6 +224,7 @@ public class DtcServiceImpl implements DtcService {
         this.inputPath = inputPath;
         this.templatePath = templatePath;
         this.outputPath = outputPath;
+        this.threadNum = DtcServiceImpl.DEFAULT_THREAD_NUM;
 
         return result;
 
@@ -217,6 +263,42 @@ public class DtcServiceImpl implements DtcService {
 
     }
 
+    /**
+     * スレッド数を指定して初期化する<br>
+     * <p>
+     * スレッド数が2以上の場合は、中間ファイルを行単位のチャンクに分けて並列に変換します。1以下の場合は、1行ずつ順番に変換します。<br>
+     * 並列に変換する場合も、チャンクは入力の順番に書き込むため、出力ファイルの内容は順番に変換した場合と同じになります。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param inputPath
+     *                              入力ファイルパス（中間ファイルパス）
+     * @param templatePath
+     *                              テンプレートファイルパス
+     * @param outputPath
+     *                              出力ファイルパス
+     * @param intermediateDelimiter
+     *                              中間ファイルの区切り文字
+     * @param threadNum
+     *                              スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean initialize(final Path inputPath, final Path templatePath, final Path outputPath,
+        final KmgDelimiterTypes intermediateDelimiter, final short threadNum) throws KmgToolBaseMsgException {
+
+        final boolean result = this.initialize(inputPath, templatePath, outputPath, intermediateDelimiter);
+        this.threadNum = threadNum;
+        return result;
+
+    }
+
     /**
      * 処理する
      *
@@ -259,30 +341,36 @@ public class DtcServiceImpl implements DtcService {
 
             /* 入力ファイルの処理と出力 */
 
-            do {
+            // 並列に変換するか
+            if (this.threadNum > 1) {
+                // 並列に変換する場合
 
-                /* 1行データを読み込む */
-                final boolean isRead = this.dtcLogic.readOneLineOfData();
+                this.processInParallel();
 
-                if (!isRead) {
+            } else {
+                // 順番に変換する場合
 
-                    break;
+                do {
 
-                }
+                    /* 1行データを読み込む */
+                    final boolean isRead = this.dtcLogic.readOneLineOfData();
 
-                /* 入力ファイルからテンプレートに基づいて変換する */
-                this.dtcLogic.applyTemplateToInputFile();
+                    if (!isRead) {
 
-                /* 出力バッファに追加する */
-                this.dtcLogic.addOutputBufferContent();
+                        break;
 
-                /* 出力バッファを書き込む */
-                this.dtcLogic.writeOutputBuffer();
+                    }
 
-                /* 出力バッファをクリアする */
-                this.dtcLogic.clearOutputBufferContent();
+                    /* 入力ファイルからテンプレートに基づいて変換し、出力バッファに追加する */
+                    // 出力バッファは、書き込みバッファサイズに達するごとに書き込まれる
+                    this.dtcLogic.applyTemplateToOutputBuffer();
 
-            } while (true);
+                } while (true);
+
+                /* 出力バッファの残りを書き込む */
+                this.dtcLogic.flushOutputBuffer();
+
+            }
 
             result = true;
 
@@ -309,6 +397,59 @@ public class DtcServiceImpl implements DtcService {
 
     }
 
+    /**
+     * チャンクごとの変換結果を待機して返す
+     * <p>
+     * 並列処理中に発生したKMGツールメッセージ例外は、そのまま呼び出し元に送出する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param future
+     *               チャンクごとの変換結果
+     *
+     * @return 変換後の内容
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private StringBuilder awaitChunkResult(final Future<StringBuilder> future) throws KmgToolBaseMsgException {
+
+        final StringBuilder result;
+
+        try {
+
+            result = future.get();
+
+        } catch (final InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03008;
+            throw new KmgToolBaseMsgException(genMsgTypes, e);
+
+        } catch (final ExecutionException e) {
+
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof final KmgToolBaseMsgException toolBaseMsgException) {
+
+                throw toolBaseMsgException;
+
+            }
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03007;
+            final Object[]               genMsgArgs  = {
+                this.inputPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, cause);
+
+        }
+
+        return result;
+
+    }
+
     /**
      * テンプレートの動的変換ロジックをクローズする。
      *
@@ -333,4 +474,72 @@ public class DtcServiceImpl implements DtcService {
 
     }
 
+    /**
+     * 中間ファイルを並列に変換する<br>
+     * <p>
+     * 中間ファイルを行単位のチャンクに分けて読み込み、スレッドごとに変換モデルで変換する。 変換モデルは変更されないため、全てのスレッドで共有する。
+     * </p>
+     * <p>
+     * 変換結果は、読み込んだ順番に待機して書き込む。 書き込み待ちのチャンクはスレッド数に比例した数までに制限し、上限に達した場合は最も古いチャンクを書き込んでから次のチャンクを読み込む。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private void processInParallel() throws KmgToolBaseMsgException {
+
+        final DtcConversionModel dtcConversionModel = this.dtcLogic.getDtcConversionModel();
+
+        // 書き込み待ちのチャンクの最大数
+        final int maxPendingChunkCount = this.threadNum * DtcServiceImpl.MAX_PENDING_CHUNK_COUNT_PER_THREAD;
+
+        final ExecutorService service = Executors.newFixedThreadPool(this.threadNum);
+
+        try {
+
+            // 書き込み待ちのチャンクの変換結果（読み込んだ順番）
+            final Deque<Future<StringBuilder>> pendingFutures = new ArrayDeque<>(maxPendingChunkCount);
+
+            do {
+
+                /* チャンクを読み込む */
+                final List<String> lines = this.dtcLogic.readLinesOfData(DtcServiceImpl.CHUNK_LINE_COUNT);
+
+                // ファイルの終わりに達したか
+                if (lines.isEmpty()) {
+                    // 達した場合
+
+                    break;
+
+                }
+
+                /* 書き込み待ちのチャンクが上限に達した場合は、最も古いチャンクを書き込む */
+                if (pendingFutures.size() >= maxPendingChunkCount) {
+
+                    this.dtcLogic.writeOutputContent(this.awaitChunkResult(pendingFutures.poll()));
+
+                }
+
+                /* チャンクの変換を登録する */
+                pendingFutures.add(service.submit(() -> dtcConversionModel.convertLines(lines)));
+
+            } while (true);
+
+            /* 残りのチャンクを読み込んだ順番に書き込む */
+            while (!pendingFutures.isEmpty()) {
+
+                this.dtcLogic.writeOutputContent(this.awaitChunkResult(pendingFutures.poll()));
+
+            }
+
+        } finally {
+
+            service.shutdownNow();
+
+        }
+
+    }
+
 }
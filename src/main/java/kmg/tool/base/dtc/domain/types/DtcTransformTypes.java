@@ -16,7 +16,7 @@ import kmg.core.infrastructure.type.KmgString;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 @SuppressWarnings("nls")
 public enum DtcTransformTypes implements KmgCmnTypes<String> {
@@ -51,6 +51,20 @@ public enum DtcTransformTypes implements KmgCmnTypes<String> {
      */
     TO_LOWER_CASE("すべて小文字に変換", "toLowerCase", "文字列のすべての文字を小文字に変換する"),
 
+    /**
+     * スネークケースに変換
+     *
+     * @since 0.2.8
+     */
+    TO_SNAKE_CASE("スネークケースに変換", "toSnakeCase", "キャメルケースの文字列を小文字のスネークケースに変換する"),
+
+    /**
+     * キャメルケースに変換
+     *
+     * @since 0.2.8
+     */
+    TO_CAMEL_CASE("キャメルケースに変換", "toCamelCase", "スネークケースの文字列をキャメルケースに変換する"),
+
     /* 定義：終了 */
     ;
 
@@ -170,6 +184,126 @@ public enum DtcTransformTypes implements KmgCmnTypes<String> {
 
     }
 
+    /**
+     * スネークケースの文字列をキャメルケースに変換<br>
+     * <p>
+     * アンダースコアを削除し、アンダースコアの次の文字を大文字にする。それ以外の文字は変換しない。<br>
+     * 小文字を含まない大文字のスネークケースの場合は、すべて小文字に変換してから変換する。例：「FOO_BAR」→「fooBar」
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param value
+     *              変換対象の文字列
+     *
+     * @return キャメルケースに変換した値
+     */
+    private static String toCamelCase(final String value) {
+
+        String source = value;
+
+        // 大文字のスネークケースか
+        if (value.chars().noneMatch(Character::isLowerCase)) {
+            // 大文字のスネークケースの場合
+
+            source = value.toLowerCase();
+
+        }
+
+        final StringBuilder sb = new StringBuilder(source.length());
+
+        boolean isUpperNext = false;
+
+        for (int i = 0; i < source.length(); i++) {
+
+            final char c = source.charAt(i);
+
+            // アンダースコアか
+            if (c == '_') {
+                // アンダースコアの場合
+
+                // 先頭のアンダースコアは、次の文字を大文字にしない
+                isUpperNext = sb.length() > 0;
+                continue;
+
+            }
+
+            // アンダースコアの次の文字か
+            if (isUpperNext) {
+                // アンダースコアの次の文字の場合
+
+                sb.append(Character.toUpperCase(c));
+                isUpperNext = false;
+                continue;
+
+            }
+
+            sb.append(c);
+
+        }
+
+        final String result = sb.toString();
+        return result;
+
+    }
+
+    /**
+     * キャメルケースの文字列を小文字のスネークケースに変換<br>
+     * <p>
+     * 大文字の前にアンダースコアを挿入し、すべて小文字にする。<br>
+     * 連続する大文字は1つの単語とし、次の文字が小文字の大文字から新しい単語とする。例：「HTTPServer」→「http_server」
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param value
+     *              変換対象の文字列
+     *
+     * @return スネークケースに変換した値
+     */
+    private static String toSnakeCase(final String value) {
+
+        final StringBuilder sb = new StringBuilder(value.length() + 8);
+
+        for (int i = 0; i < value.length(); i++) {
+
+            final char c = value.charAt(i);
+
+            // 大文字か
+            if (!Character.isUpperCase(c)) {
+                // 大文字ではない場合
+
+                sb.append(c);
+                continue;
+
+            }
+
+            // 単語の先頭か
+            if (i > 0) {
+
+                final char    prev        = value.charAt(i - 1);
+                final boolean isNextLower = (i + 1 < value.length()) && Character.isLowerCase(value.charAt(i + 1));
+                final boolean isWordStart = Character.isLowerCase(prev) || Character.isDigit(prev)
+                    || (Character.isUpperCase(prev) && isNextLower);
+
+                if (isWordStart) {
+                    // 単語の先頭の場合
+
+                    sb.append('_');
+
+                }
+
+            }
+
+            sb.append(Character.toLowerCase(c));
+
+        }
+
+        final String result = sb.toString();
+        return result;
+
+    }
+
     /**
      * コンストラクタ<br>
      *
@@ -298,6 +432,8 @@ public enum DtcTransformTypes implements KmgCmnTypes<String> {
             case CAPITALIZE    -> DtcTransformTypes.capitalize(value);
             case TO_UPPER_CASE -> value.toUpperCase();
             case TO_LOWER_CASE -> value.toLowerCase();
+            case TO_SNAKE_CASE -> DtcTransformTypes.toSnakeCase(value);
+            case TO_CAMEL_CASE -> DtcTransformTypes.toCamelCase(value);
 
         };
 
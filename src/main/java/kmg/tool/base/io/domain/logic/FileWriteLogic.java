@@ -0,0 +1,46 @@
+package kmg.tool.base.io.domain.logic;
+
+import java.nio.file.Path;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+
+/**
+ * ファイル書き込みロジックインタフェース<br>
+ * <p>
+ * 書き込む内容が元の内容から変更されている場合のみ、ファイルに書き込む。<br>
+ * 変更されていない場合は書き込まないため、ファイルの最終更新日時は変わらない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface FileWriteLogic {
+
+    /**
+     * 内容が変更されている場合のみ、ファイルに書き込む
+     * <p>
+     * 書き込む場合は、同じディレクトリの一時ファイルに書き込んだ後に、対象のファイルへ置き換える。<br>
+     * 書き込み中にエラーが発生しても、対象のファイルが書きかけの状態になることはない。<br>
+     * ただし、対象のファイルの所有者、グループ、ACLを一時ファイルに引き継ぐ権限がない場合は、属性を保つために対象のファイルへ直接書き込む。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                        対象のファイルのパス
+     * @param originalContent
+     *                        元の内容
+     * @param writeContent
+     *                        書き込む内容
+     *
+     * @return true：書き込んだ、false：変更がないため書き込みをスキップした
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean writeIfChanged(Path filePath, String originalContent, String writeContent) throws KmgToolBaseMsgException;
+
+}
@@ -0,0 +1,322 @@
+package kmg.tool.base.io.domain.logic.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+
+import org.springframework.stereotype.Service;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.io.domain.logic.FileWriteLogic;
+
+/**
+ * ファイル書き込みロジック<br>
+ * <p>
+ * 書き込む内容が元の内容から変更されている場合のみ、一時ファイルへの書き込みと置き換えにより、対象のファイルに書き込む。<br>
+ * 置き換えでは、シンボリックリンクを解決し、対象のファイルの権限、所有者、グループ、ACLを引き継ぐ。<br>
+ * 状態を持たないため、複数のスレッドから同時に使用できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@Service
+public class FileWriteLogicImpl implements FileWriteLogic {
+
+    /**
+     * 一時ファイルの接尾辞
+     *
+     * @since 0.2.8
+     */
+    private static final String TEMP_FILE_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.8
+     */
+    public FileWriteLogicImpl() {
+
+        // 処理なし
+    }
+
+    /**
+     * 内容が変更されている場合のみ、ファイルに書き込む
+     * <p>
+     * 書き込む場合は、同じディレクトリの一時ファイルに書き込んだ後に、対象のファイルへ置き換える。<br>
+     * ファイルシステムがアトミックな置き換えに対応していない場合は、通常の置き換えを行う。<br>
+     * 一時ファイルへは、バッファ単位で符号化して書き込むため、大きなファイルでも内容全体のバイト配列を作成しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                        対象のファイルのパス
+     * @param originalContent
+     *                        元の内容
+     * @param writeContent
+     *                        書き込む内容
+     *
+     * @return true：書き込んだ、false：変更がないため書き込みをスキップした
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Override
+    public boolean writeIfChanged(final Path filePath, final String originalContent, final String writeContent)
+        throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        // 内容が変更されているか
+        if (writeContent.equals(originalContent)) {
+            // 変更されていない場合
+
+            return result;
+
+        }
+
+        this.writeAtomically(filePath, writeContent);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 一時ファイルに書き込んだ後に、対象のファイルへ置き換える
+     * <p>
+     * 対象のファイルがシンボリックリンクの場合は、リンク先のファイルを置き換える。<br>
+     * 対象のファイルの属性を一時ファイルに引き継げない場合は、属性が変わらないように対象のファイルへ直接書き込む。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                     対象のファイルのパス
+     * @param writeContent
+     *                     書き込む内容
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("static-method")
+    private void writeAtomically(final Path filePath, final String writeContent) throws KmgToolBaseMsgException {
+
+        Path tempFilePath = null;
+
+        try {
+
+            // シンボリックリンクを置き換えないように、リンク先の実際のパスに書き込む
+            final Path targetFilePath = FileWriteLogicImpl.toTargetFilePath(filePath);
+
+            tempFilePath = Files.createTempFile(targetFilePath.getParent(), targetFilePath.getFileName().toString(),
+                FileWriteLogicImpl.TEMP_FILE_SUFFIX);
+
+            // 書き込む内容全体をバイト配列に変換しないように、バッファ単位で符号化して書き込む
+            try (final BufferedWriter writer = Files.newBufferedWriter(tempFilePath)) {
+
+                writer.write(writeContent);
+
+            }
+
+            // 一時ファイルに対象のファイルの属性を引き継げないか
+            if (!FileWriteLogicImpl.copyFileAttributes(targetFilePath, tempFilePath)) {
+                // 引き継げない場合
+
+                Files.delete(tempFilePath);
+                tempFilePath = null;
+
+                try (final BufferedWriter writer = Files.newBufferedWriter(targetFilePath)) {
+
+                    writer.write(writeContent);
+
+                }
+
+                return;
+
+            }
+
+            try {
+
+                Files.move(tempFilePath, targetFilePath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+
+            } catch (@SuppressWarnings("unused") final AtomicMoveNotSupportedException e) {
+
+                // アトミックな置き換えに対応していない場合は、通常の置き換えを行う
+                Files.move(tempFilePath, targetFilePath, StandardCopyOption.REPLACE_EXISTING);
+
+            }
+
+        } catch (final IOException e) {
+
+            // 一時ファイルが残っている場合は削除する
+            if (tempFilePath != null) {
+
+                try {
+
+                    Files.deleteIfExists(tempFilePath);
+
+                } catch (final IOException suppressed) {
+
+                    e.addSuppressed(suppressed);
+
+                }
+
+            }
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN09000;
+            final Object[]               genMsgArgs  = {
+                filePath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+    }
+
+    /**
+     * 対象のファイルの属性を一時ファイルに引き継ぐ
+     * <p>
+     * 一時ファイルは書き込むユーザーが所有者となり、所有者のみの権限で作成されるため、対象のファイルの権限、所有者、グループ、ACLを引き継ぐ。<br>
+     * 所有者、グループは、対象のファイルと異なる場合のみ変更する。変更する権限がない場合は、引き継げないとする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param targetFilePath
+     *                       対象のファイルのパス
+     * @param tempFilePath
+     *                       一時ファイルのパス
+     *
+     * @return true：引き継いだ、または対象のファイルが存在しない、false：引き継げない
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private static boolean copyFileAttributes(final Path targetFilePath, final Path tempFilePath) throws IOException {
+
+        boolean result = true;
+
+        // 対象のファイルが存在しないか
+        if (!Files.exists(targetFilePath)) {
+            // 存在しない場合
+
+            return result;
+
+        }
+
+        try {
+
+            final PosixFileAttributeView targetPosixView
+                = Files.getFileAttributeView(targetFilePath, PosixFileAttributeView.class);
+
+            // POSIXのファイル属性に対応しているか
+            if (targetPosixView != null) {
+                // 対応している場合
+
+                final PosixFileAttributes    targetAttributes = targetPosixView.readAttributes();
+                final PosixFileAttributeView tempPosixView
+                    = Files.getFileAttributeView(tempFilePath, PosixFileAttributeView.class);
+                final PosixFileAttributes    tempAttributes   = tempPosixView.readAttributes();
+
+                if (!targetAttributes.owner().equals(tempAttributes.owner())) {
+
+                    tempPosixView.setOwner(targetAttributes.owner());
+
+                }
+
+                if (!targetAttributes.group().equals(tempAttributes.group())) {
+
+                    tempPosixView.setGroup(targetAttributes.group());
+
+                }
+
+                // 所有者、グループの変更で権限が変わる場合があるため、最後に設定する
+                tempPosixView.setPermissions(targetAttributes.permissions());
+
+                return result;
+
+            }
+
+            final AclFileAttributeView targetAclView
+                = Files.getFileAttributeView(targetFilePath, AclFileAttributeView.class);
+
+            // ACLに対応しているか
+            if (targetAclView != null) {
+                // 対応している場合
+
+                final AclFileAttributeView tempAclView
+                    = Files.getFileAttributeView(tempFilePath, AclFileAttributeView.class);
+
+                if (!targetAclView.getOwner().equals(tempAclView.getOwner())) {
+
+                    tempAclView.setOwner(targetAclView.getOwner());
+
+                }
+
+                tempAclView.setAcl(targetAclView.getAcl());
+
+            }
+
+        } catch (@SuppressWarnings("unused") final FileSystemException e) {
+
+            // 所有者、グループ、ACLを変更する権限がない場合
+            result = false;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 書き込む対象のファイルのパスを返す
+     * <p>
+     * 対象のファイルが存在する場合は、シンボリックリンクを解決した実際のパスを返す。存在しない場合は、絶対パスを返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return 書き込む対象のファイルのパス
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private static Path toTargetFilePath(final Path filePath) throws IOException {
+
+        final Path result;
+
+        // 対象のファイルが存在するか
+        if (Files.exists(filePath)) {
+            // 存在する場合
+
+            result = filePath.toRealPath();
+
+        } else {
+            // 存在しない場合
+
+            result = filePath.toAbsolutePath();
+
+        }
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,14 @@
+/**
+ * 入出力処理のロジック実装パッケージ<br>
+ * <p>
+ * 入出力処理機能のドメインロジックの実装を提供します。<br>
+ * ロジックインターフェースの具体的な実装が含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+package kmg.tool.base.io.domain.logic.impl;
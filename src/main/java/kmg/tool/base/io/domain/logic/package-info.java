@@ -0,0 +1,14 @@
+/**
+ * 入出力処理のロジックパッケージ<br>
+ * <p>
+ * 入出力処理機能のドメインロジックを提供します。<br>
+ * ファイルの書き込み方針などのロジックインターフェースが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+package kmg.tool.base.io.domain.logic;
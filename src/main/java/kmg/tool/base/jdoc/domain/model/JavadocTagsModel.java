@@ -12,7 +12,7 @@ import kmg.core.infrastructure.types.KmgJavadocTagTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 public interface JavadocTagsModel {
 
@@ -44,8 +44,26 @@ public interface JavadocTagsModel {
      */
     Pattern COMPILED_TAG_PATTERN = Pattern.compile(JavadocTagsModel.TAG_PATTERN);
 
+    /**
+     * 指定されたタグに対応する既存のJavadocタグを全て検索する<br>
+     * <p>
+     * 「@author」などの複数指定できるタグに使用する。Javadocに記述された順に返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param tag
+     *            Javadocタグの種類
+     *
+     * @return 既存のJavadocタグモデルのリスト。存在しない場合は空のリスト
+     */
+    List<JavadocTagModel> findAllByTag(KmgJavadocTagTypes tag);
+
     /**
      * 指定されたタグに対応する既存のJavadocタグを検索する<br>
+     * <p>
+     * 同じタグが複数ある場合は、最初のタグを返す。
+     * </p>
      *
      * @since 0.2.0
      *
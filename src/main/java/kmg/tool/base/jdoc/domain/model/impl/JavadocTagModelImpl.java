@@ -1,25 +1,60 @@
 package kmg.tool.base.jdoc.domain.model.impl;
 
+import kmg.core.infrastructure.types.KmgDelimiterTypes;
 import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.tool.base.jdoc.domain.model.JavadocTagModel;
 
 /**
  * Javadocタグ情報<br>
+ * <p>
+ * Javadocと対象文字列の範囲から作成した場合は、対象文字列を最初に参照した時に作成する。
+ * </p>
  *
  * @author KenichiroArai
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 public class JavadocTagModelImpl implements JavadocTagModel {
 
+    /**
+     * 行頭のアスタリスク
+     *
+     * @since 0.2.8
+     */
+    private static final char LINE_START_ASTERISK = '*';
+
     /**
      * 対象文字列
+     * <p>
+     * Javadocと対象文字列の範囲から作成した場合は、最初に参照するまでnullである。
+     * </p>
      *
      * @since 0.2.0
      */
-    private final String targetStr;
+    private String targetStr;
+
+    /**
+     * 対象文字列を含むJavadoc
+     *
+     * @since 0.2.8
+     */
+    private final String sourceJavadoc;
+
+    /**
+     * Javadocにおける対象文字列の開始位置
+     *
+     * @since 0.2.8
+     */
+    private final int targetStartIndex;
+
+    /**
+     * Javadocにおける対象文字列の終了位置
+     *
+     * @since 0.2.8
+     */
+    private final int targetEndIndex;
 
     /**
      * タグ
@@ -60,12 +95,120 @@ public class JavadocTagModelImpl implements JavadocTagModel {
         final String description) {
 
         this.targetStr = targetStr;
+        this.sourceJavadoc = null;
+        this.targetStartIndex = 0;
+        this.targetEndIndex = 0;
+        this.tag = tag;
+        this.value = value;
+        this.description = description;
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * 対象文字列は、Javadocの範囲として保持し、最初に参照した時に作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param sourceJavadoc
+     *                         対象文字列を含むJavadoc
+     * @param targetStartIndex
+     *                         Javadocにおける対象文字列の開始位置
+     * @param targetEndIndex
+     *                         Javadocにおける対象文字列の終了位置
+     * @param tag
+     *                         タグ
+     * @param value
+     *                         指定値
+     * @param description
+     *                         説明
+     */
+    public JavadocTagModelImpl(final String sourceJavadoc, final int targetStartIndex, final int targetEndIndex,
+        final KmgJavadocTagTypes tag, final String value, final String description) {
+
+        this.targetStr = null;
+        this.sourceJavadoc = sourceJavadoc;
+        this.targetStartIndex = targetStartIndex;
+        this.targetEndIndex = targetEndIndex;
         this.tag = tag;
         this.value = value;
         this.description = description;
 
     }
 
+    /**
+     * Javadocの範囲から対象文字列を作成する<br>
+     * <p>
+     * 範囲を行ごとに前後の空白を除き、空白のみの行とアスタリスクのみの行を除いて、行区切り文字で連結する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param sourceJavadoc
+     *                      対象文字列を含むJavadoc
+     * @param startIndex
+     *                      開始位置
+     * @param endIndex
+     *                      終了位置
+     *
+     * @return 対象文字列
+     */
+    private static String createTargetStr(final String sourceJavadoc, final int startIndex, final int endIndex) {
+
+        final StringBuilder targetBuilder = new StringBuilder(endIndex - startIndex);
+        int                 lineStartIdx  = startIndex;
+
+        while (lineStartIdx <= endIndex) {
+
+            int lineEndIdx = lineStartIdx;
+
+            while ((lineEndIdx < endIndex) && !JavadocTagModelImpl.isLineBreak(sourceJavadoc.charAt(lineEndIdx))) {
+
+                lineEndIdx++;
+
+            }
+
+            // 行の前後の空白を除く
+            int trimStartIdx = lineStartIdx;
+            int trimEndIdx   = lineEndIdx;
+
+            while ((trimStartIdx < trimEndIdx) && (sourceJavadoc.charAt(trimStartIdx) <= ' ')) {
+
+                trimStartIdx++;
+
+            }
+
+            while ((trimStartIdx < trimEndIdx) && (sourceJavadoc.charAt(trimEndIdx - 1) <= ' ')) {
+
+                trimEndIdx--;
+
+            }
+
+            // 対象の行か
+            if (JavadocTagModelImpl.isTargetLine(sourceJavadoc, trimStartIdx, trimEndIdx)) {
+                // 対象の行の場合
+
+                if (!targetBuilder.isEmpty()) {
+
+                    targetBuilder.append(KmgDelimiterTypes.LINE_SEPARATOR.get());
+
+                }
+
+                targetBuilder.append(sourceJavadoc, trimStartIdx, trimEndIdx);
+
+            }
+
+            lineStartIdx = lineEndIdx + 1;
+
+        }
+
+        final String result = targetBuilder.toString();
+        return result;
+
+    }
+
     /**
      * 説明を返す<br>
      *
@@ -106,6 +249,15 @@ public class JavadocTagModelImpl implements JavadocTagModel {
     @Override
     public String getTargetStr() {
 
+        // 対象文字列が未作成か
+        if ((this.targetStr == null) && (this.sourceJavadoc != null)) {
+            // 未作成の場合
+
+            this.targetStr = JavadocTagModelImpl.createTargetStr(this.sourceJavadoc, this.targetStartIndex,
+                this.targetEndIndex);
+
+        }
+
         final String result = this.targetStr;
         return result;
 
@@ -125,4 +277,73 @@ public class JavadocTagModelImpl implements JavadocTagModel {
         return result;
 
     }
+
+    /**
+     * 改行文字（正規表現の\R）か
+     * <p>
+     * 「\r\n」は「\r」と「\n」に分かれ、間の空の行は対象文字列に含めないため、1文字ずつ判定する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param ch
+     *           文字
+     *
+     * @return true：改行文字、false：改行文字ではない
+     */
+    private static boolean isLineBreak(final char ch) {
+
+        final boolean result = (ch == '\n') || (ch == '\u000B') || (ch == '\f') || (ch == '\r') || (ch == '\u0085')
+            || (ch == '\u2028') || (ch == '\u2029');
+        return result;
+
+    }
+
+    /**
+     * 対象文字列に含める行か
+     * <p>
+     * 空白のみの行と、アスタリスクのみの行は含めない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param sourceJavadoc
+     *                      対象文字列を含むJavadoc
+     * @param startIndex
+     *                      前後の空白を除いた行の開始位置
+     * @param endIndex
+     *                      前後の空白を除いた行の終了位置
+     *
+     * @return true：含める、false：含めない
+     */
+    private static boolean isTargetLine(final String sourceJavadoc, final int startIndex, final int endIndex) {
+
+        boolean result = false;
+
+        // アスタリスクのみの行か
+        if (((endIndex - startIndex) == 1)
+            && (sourceJavadoc.charAt(startIndex) == JavadocTagModelImpl.LINE_START_ASTERISK)) {
+            // アスタリスクのみの行の場合
+
+            return result;
+
+        }
+
+        for (int i = startIndex; i < endIndex; i++) {
+
+            // 空白以外の文字か
+            if (!Character.isWhitespace(sourceJavadoc.charAt(i))) {
+                // 空白以外の文字の場合
+
+                result = true;
+                break;
+
+            }
+
+        }
+
+        return result;
+
+    }
+
 }
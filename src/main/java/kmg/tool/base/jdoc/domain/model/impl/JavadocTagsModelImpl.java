@@ -1,15 +1,12 @@
 package kmg.tool.base.jdoc.domain.model.impl;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import kmg.core.infrastructure.type.KmgString;
-import kmg.core.infrastructure.types.KmgDelimiterTypes;
 import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.tool.base.jdoc.domain.model.JavadocTagModel;
 import kmg.tool.base.jdoc.domain.model.JavadocTagsModel;
@@ -17,15 +14,43 @@ import kmg.tool.base.jdoc.domain.types.JavadocGroupIndexTypes;
 
 /**
  * Javadocタグ一覧情報<br>
+ * <p>
+ * タグの検索を定数時間で行うため、構築時にタグの種類ごとの索引を作成する。
+ * </p>
+ * <p>
+ * タグの抽出は、{@link JavadocTagsModel#TAG_PATTERN}と同じ結果になる走査で行い、タグごとに正規表現の照合や行の分割を行わない。<br>
+ * 対象文字列は位置として保持し、最初に参照した時に作成する。
+ * </p>
  *
  * @author KenichiroArai
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 public class JavadocTagsModelImpl implements JavadocTagsModel {
 
+    /**
+     * 行頭のアスタリスク
+     *
+     * @since 0.2.8
+     */
+    private static final char LINE_START_ASTERISK = '*';
+
+    /**
+     * タグの開始文字
+     *
+     * @since 0.2.8
+     */
+    private static final char TAG_START = '@';
+
+    /**
+     * 位置がないことを表す値
+     *
+     * @since 0.2.8
+     */
+    private static final int NO_INDEX = -1;
+
     /**
      * Javadocタグモデルのリスト
      *
@@ -33,6 +58,16 @@ public class JavadocTagsModelImpl implements JavadocTagsModel {
      */
     private final List<JavadocTagModel> javadocTagModelList;
 
+    /**
+     * タグの種類ごとのJavadocタグモデルのリストの索引
+     * <p>
+     * 各リストは、Javadocに記述された順である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Map<KmgJavadocTagTypes, List<JavadocTagModel>> javadocTagModelIndex;
+
     /**
      * デフォルトコンストラクタ<br>
      *
@@ -41,6 +76,7 @@ public class JavadocTagsModelImpl implements JavadocTagsModel {
     public JavadocTagsModelImpl() {
 
         this.javadocTagModelList = new ArrayList<>();
+        this.javadocTagModelIndex = new EnumMap<>(KmgJavadocTagTypes.class);
 
     }
 
@@ -55,6 +91,7 @@ public class JavadocTagsModelImpl implements JavadocTagsModel {
     public JavadocTagsModelImpl(final String sourceJavadoc) {
 
         this.javadocTagModelList = new ArrayList<>();
+        this.javadocTagModelIndex = new EnumMap<>(KmgJavadocTagTypes.class);
 
         /* 引数チェック */
         if (sourceJavadoc == null) {
@@ -63,44 +100,191 @@ public class JavadocTagsModelImpl implements JavadocTagsModel {
 
         }
 
-        // @タグを抽出する正規表現パターン
-        // グループ1: タグ名
-        // グループ2: 値
-        // グループ3: 説明（オプション）
-        final Pattern compiledTagPattern = JavadocTagsModel.COMPILED_TAG_PATTERN;
-        final Matcher compiledTagMatcher = compiledTagPattern.matcher(sourceJavadoc);
+        // グループごとの開始位置と終了位置（Matcherのstart、endと同じ並び）
+        final int[] groupIndexes = new int[JavadocGroupIndexTypes.values().length * 2];
+
+        int searchIdx = 0;
+        int idx       = searchIdx + 1;
+
+        while (idx < sourceJavadoc.length()) {
+
+            // 空白の直後のアスタリスクから始まるタグか
+            if ((sourceJavadoc.charAt(idx) != JavadocTagsModelImpl.LINE_START_ASTERISK)
+                || !JavadocTagsModelImpl.isWhitespace(sourceJavadoc.charAt(idx - 1))
+                || !JavadocTagsModelImpl.matchTag(sourceJavadoc, idx, groupIndexes)) {
+                // タグではない場合
+
+                idx++;
+                continue;
+
+            }
+
+            // タグ全体の開始位置は、アスタリスクの前の空白の先頭とする
+            int wholeStartIdx = idx - 1;
+
+            while ((wholeStartIdx > searchIdx)
+                && JavadocTagsModelImpl.isWhitespace(sourceJavadoc.charAt(wholeStartIdx - 1))) {
+
+                wholeStartIdx--;
+
+            }
+
+            JavadocTagsModelImpl.setGroupIndex(groupIndexes, JavadocGroupIndexTypes.WHOLE, wholeStartIdx,
+                JavadocTagsModelImpl.getGroupEnd(groupIndexes, JavadocGroupIndexTypes.WHOLE));
+
+            this.addJavadocTagModel(sourceJavadoc, groupIndexes);
+
+            searchIdx = JavadocTagsModelImpl.getGroupEnd(groupIndexes, JavadocGroupIndexTypes.WHOLE);
+            idx = searchIdx + 1;
+
+        }
+
+    }
+
+    /**
+     * グループの位置からJavadocタグモデルを作成し、リストと索引に追加する<br>
+     *
+     * @since 0.2.8
+     *
+     * @param sourceJavadoc
+     *                      Javadoc
+     * @param groupIndexes
+     *                      グループごとの開始位置と終了位置
+     */
+    private void addJavadocTagModel(final String sourceJavadoc, final int[] groupIndexes) {
+
+        // タグ
+        final KmgJavadocTagTypes tag = KmgJavadocTagTypes.getEnum(sourceJavadoc.substring(
+            JavadocTagsModelImpl.getGroupStart(groupIndexes, JavadocGroupIndexTypes.TAG_NAME),
+            JavadocTagsModelImpl.getGroupEnd(groupIndexes, JavadocGroupIndexTypes.TAG_NAME)));
+
+        // 指定値
+        final String value = sourceJavadoc.substring(
+            JavadocTagsModelImpl.getGroupStart(groupIndexes, JavadocGroupIndexTypes.VALUE),
+            JavadocTagsModelImpl.getGroupEnd(groupIndexes, JavadocGroupIndexTypes.VALUE));
+
+        // 説明
+        final String description = JavadocTagsModelImpl.createDescription(sourceJavadoc, groupIndexes);
+
+        final JavadocTagModel javadocTagModel = new JavadocTagModelImpl(sourceJavadoc,
+            JavadocTagsModelImpl.getGroupStart(groupIndexes, JavadocGroupIndexTypes.WHOLE),
+            JavadocTagsModelImpl.getGroupEnd(groupIndexes, JavadocGroupIndexTypes.WHOLE), tag, value, description);
+        this.javadocTagModelList.add(javadocTagModel);
+
+        // 索引に追加する
+        if (tag != null) {
+
+            this.javadocTagModelIndex.computeIfAbsent(tag, key -> new ArrayList<>()).add(javadocTagModel);
+
+        }
+
+    }
+
+    /**
+     * 説明のグループの位置から説明を作成する<br>
+     * <p>
+     * 前後の空白と、先頭のアスタリスクを除く。説明のグループがない場合は空文字を返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param sourceJavadoc
+     *                      Javadoc
+     * @param groupIndexes
+     *                      グループごとの開始位置と終了位置
+     *
+     * @return 説明
+     */
+    private static String createDescription(final String sourceJavadoc, final int[] groupIndexes) {
+
+        String result = KmgString.EMPTY;
+
+        int startIdx = JavadocTagsModelImpl.getGroupStart(groupIndexes, JavadocGroupIndexTypes.DESCRIPTION);
+        int endIdx   = JavadocTagsModelImpl.getGroupEnd(groupIndexes, JavadocGroupIndexTypes.DESCRIPTION);
+
+        // 説明のグループがないか
+        if (startIdx == JavadocTagsModelImpl.NO_INDEX) {
+            // ない場合
+
+            return result;
+
+        }
+
+        // 前後の空白を除く
+        while ((startIdx < endIdx) && (sourceJavadoc.charAt(startIdx) <= ' ')) {
 
-        while (compiledTagMatcher.find()) {
+            startIdx++;
 
-            // Javadocタグの対象文字列
-            final String srcPatternStr = compiledTagMatcher.group(JavadocGroupIndexTypes.WHOLE.get());
-            // 改行で分割して2行目の処理を行う
-            final String targetStr = Arrays.stream(KmgDelimiterTypes.REGEX_LINE_SEPARATOR.split(srcPatternStr))
-                .map(line -> line.trim().replaceAll(JavadocTagsModel.PATTERN_LINE_START_ASTERISK_ONLY, KmgString.EMPTY))
-                .filter(KmgString::isNotBlank).collect(Collectors.joining(KmgDelimiterTypes.LINE_SEPARATOR.get()));
+        }
 
-            // タグ
-            final KmgJavadocTagTypes tag
-                = KmgJavadocTagTypes.getEnum(compiledTagMatcher.group(JavadocGroupIndexTypes.TAG_NAME.get()));
+        while ((startIdx < endIdx) && (sourceJavadoc.charAt(endIdx - 1) <= ' ')) {
 
-            // 指定値
-            final String value = compiledTagMatcher.group(JavadocGroupIndexTypes.VALUE.get());
+            endIdx--;
 
-            // 説明取得
-            final String description
-                = Optional.ofNullable(compiledTagMatcher.group(JavadocGroupIndexTypes.DESCRIPTION.get()))
-                    .map(s -> s.trim().replaceFirst(JavadocTagsModel.PATTERN_LINE_START_ASTERISK, KmgString.EMPTY))
-                    .orElse(KmgString.EMPTY).trim();
+        }
 
-            final JavadocTagModel javadocTagMode = new JavadocTagModelImpl(targetStr, tag, value, description);
-            this.javadocTagModelList.add(javadocTagMode);
+        // 先頭のアスタリスクを除く
+        if ((startIdx < endIdx) && (sourceJavadoc.charAt(startIdx) == JavadocTagsModelImpl.LINE_START_ASTERISK)) {
+
+            startIdx++;
 
         }
 
+        while ((startIdx < endIdx) && (sourceJavadoc.charAt(startIdx) <= ' ')) {
+
+            startIdx++;
+
+        }
+
+        result = sourceJavadoc.substring(startIdx, endIdx);
+        return result;
+
+    }
+
+    /**
+     * 指定されたタグに対応する既存のJavadocタグを全て検索する<br>
+     * <p>
+     * 「@author」などの複数指定できるタグに使用する。Javadocに記述された順に返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param tag
+     *            Javadocタグの種類
+     *
+     * @return 既存のJavadocタグモデルのリスト。存在しない場合は空のリスト
+     */
+    @Override
+    public List<JavadocTagModel> findAllByTag(final KmgJavadocTagTypes tag) {
+
+        List<JavadocTagModel> result = Collections.emptyList();
+
+        /* 引数チェック */
+        if (tag == null) {
+
+            return result;
+
+        }
+
+        /* 索引からタグの検索 */
+        final List<JavadocTagModel> javadocTagModels = this.javadocTagModelIndex.get(tag);
+
+        if (javadocTagModels == null) {
+
+            return result;
+
+        }
+
+        result = Collections.unmodifiableList(javadocTagModels);
+        return result;
+
     }
 
     /**
      * 指定されたタグに対応する既存のJavadocタグを検索する<br>
+     * <p>
+     * 同じタグが複数ある場合は、最初のタグを返す。
+     * </p>
      *
      * @since 0.2.0
      *
@@ -121,15 +305,64 @@ public class JavadocTagsModelImpl implements JavadocTagsModel {
 
         }
 
-        /* タグの検索 */
-        result = this.javadocTagModelList.stream().filter(model -> model.getTag() == tag).findFirst().orElse(null);
+        /* 索引からタグの検索 */
+        final List<JavadocTagModel> javadocTagModels = this.javadocTagModelIndex.get(tag);
+
+        if (javadocTagModels == null) {
+
+            return result;
 
+        }
+
+        result = javadocTagModels.get(0);
+
+        return result;
+
+    }
+
+    /**
+     * グループの終了位置を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @param groupIndexes
+     *                     グループごとの開始位置と終了位置
+     * @param groupType
+     *                     グループインデックスの種類
+     *
+     * @return グループの終了位置
+     */
+    private static int getGroupEnd(final int[] groupIndexes, final JavadocGroupIndexTypes groupType) {
+
+        final int result = groupIndexes[(groupType.get() * 2) + 1];
+        return result;
+
+    }
+
+    /**
+     * グループの開始位置を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @param groupIndexes
+     *                     グループごとの開始位置と終了位置
+     * @param groupType
+     *                     グループインデックスの種類
+     *
+     * @return グループの開始位置。グループがない場合は-1
+     */
+    private static int getGroupStart(final int[] groupIndexes, final JavadocGroupIndexTypes groupType) {
+
+        final int result = groupIndexes[groupType.get() * 2];
         return result;
 
     }
 
     /**
      * Javadocタグモデルのリストを返す<br>
+     * <p>
+     * 索引と一致させるため、返したリストは参照のみに使用すること。
+     * </p>
      *
      * @since 0.2.0
      *
@@ -143,4 +376,217 @@ public class JavadocTagsModelImpl implements JavadocTagsModel {
 
     }
 
+    /**
+     * 正規表現の空白文字（\s）か
+     *
+     * @since 0.2.8
+     *
+     * @param ch
+     *           文字
+     *
+     * @return true：空白文字、false：空白文字ではない
+     */
+    private static boolean isWhitespace(final char ch) {
+
+        final boolean result = (ch == ' ') || (ch == '\t') || (ch == '\n') || (ch == '\u000B') || (ch == '\f')
+            || (ch == '\r');
+        return result;
+
+    }
+
+    /**
+     * 正規表現の単語構成文字（\w）か
+     *
+     * @since 0.2.8
+     *
+     * @param ch
+     *           文字
+     *
+     * @return true：単語構成文字、false：単語構成文字ではない
+     */
+    private static boolean isWordChar(final char ch) {
+
+        final boolean result = ((ch >= 'a') && (ch <= 'z')) || ((ch >= 'A') && (ch <= 'Z'))
+            || ((ch >= '0') && (ch <= '9')) || (ch == '_');
+        return result;
+
+    }
+
+    /**
+     * アスタリスクの位置からタグに一致するか
+     * <p>
+     * {@link JavadocTagsModel#TAG_PATTERN}の「\*」以降と同じ規則で照合し、一致した場合はグループの位置を設定する。<br>
+     * タグ全体の開始位置は、呼び出し元で設定する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param sourceJavadoc
+     *                      Javadoc
+     * @param asteriskIdx
+     *                      アスタリスクの位置
+     * @param groupIndexes
+     *                      グループごとの開始位置と終了位置
+     *
+     * @return true：一致する、false：一致しない
+     */
+    private static boolean matchTag(final String sourceJavadoc, final int asteriskIdx, final int[] groupIndexes) {
+
+        boolean result = false;
+
+        final int length = sourceJavadoc.length();
+
+        /* タグ名 */
+        final int tagStartIdx = JavadocTagsModelImpl.skipWhitespace(sourceJavadoc, asteriskIdx + 1);
+
+        if ((tagStartIdx == (asteriskIdx + 1)) || (tagStartIdx >= length)
+            || (sourceJavadoc.charAt(tagStartIdx) != JavadocTagsModelImpl.TAG_START)) {
+
+            return result;
+
+        }
+
+        int tagEndIdx = tagStartIdx + 1;
+
+        while ((tagEndIdx < length) && JavadocTagsModelImpl.isWordChar(sourceJavadoc.charAt(tagEndIdx))) {
+
+            tagEndIdx++;
+
+        }
+
+        if (tagEndIdx == (tagStartIdx + 1)) {
+
+            return result;
+
+        }
+
+        /* 指定値 */
+        final int valueStartIdx = JavadocTagsModelImpl.skipWhitespace(sourceJavadoc, tagEndIdx);
+
+        if ((valueStartIdx == tagEndIdx) || (valueStartIdx >= length)) {
+
+            return result;
+
+        }
+
+        int valueEndIdx = valueStartIdx;
+
+        while ((valueEndIdx < length) && !JavadocTagsModelImpl.isWhitespace(sourceJavadoc.charAt(valueEndIdx))) {
+
+            valueEndIdx++;
+
+        }
+
+        /* 説明（オプション） */
+        int descriptionStartIdx = JavadocTagsModelImpl.NO_INDEX;
+        int descriptionEndIdx   = JavadocTagsModelImpl.NO_INDEX;
+        int wholeEndIdx         = valueEndIdx;
+
+        final int whitespaceEndIdx = JavadocTagsModelImpl.skipWhitespace(sourceJavadoc, valueEndIdx);
+
+        // 指定値の後に空白があるか
+        if (whitespaceEndIdx > valueEndIdx) {
+            // 空白がある場合
+
+            descriptionStartIdx = whitespaceEndIdx;
+
+            // 空白の後に説明の文字がないか
+            if ((whitespaceEndIdx >= length)
+                || (sourceJavadoc.charAt(whitespaceEndIdx) == JavadocTagsModelImpl.TAG_START)) {
+                // ない場合
+
+                // 正規表現のバックトラックと同じく、改行以外の最後の空白から説明とする
+                descriptionStartIdx = JavadocTagsModelImpl.NO_INDEX;
+
+                for (int i = whitespaceEndIdx - 1; i > valueEndIdx; i--) {
+
+                    if (sourceJavadoc.charAt(i) != '\n') {
+
+                        descriptionStartIdx = i;
+                        break;
+
+                    }
+
+                }
+
+            }
+
+            if (descriptionStartIdx != JavadocTagsModelImpl.NO_INDEX) {
+
+                descriptionEndIdx = descriptionStartIdx;
+
+                while ((descriptionEndIdx < length)
+                    && (sourceJavadoc.charAt(descriptionEndIdx) != JavadocTagsModelImpl.TAG_START)
+                    && (sourceJavadoc.charAt(descriptionEndIdx) != '\n')) {
+
+                    descriptionEndIdx++;
+
+                }
+
+                wholeEndIdx = descriptionEndIdx;
+
+            }
+
+        }
+
+        JavadocTagsModelImpl.setGroupIndex(groupIndexes, JavadocGroupIndexTypes.WHOLE, JavadocTagsModelImpl.NO_INDEX,
+            wholeEndIdx);
+        JavadocTagsModelImpl.setGroupIndex(groupIndexes, JavadocGroupIndexTypes.TAG_NAME, tagStartIdx, tagEndIdx);
+        JavadocTagsModelImpl.setGroupIndex(groupIndexes, JavadocGroupIndexTypes.VALUE, valueStartIdx, valueEndIdx);
+        JavadocTagsModelImpl.setGroupIndex(groupIndexes, JavadocGroupIndexTypes.DESCRIPTION, descriptionStartIdx,
+            descriptionEndIdx);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * グループの開始位置と終了位置を設定する<br>
+     *
+     * @since 0.2.8
+     *
+     * @param groupIndexes
+     *                     グループごとの開始位置と終了位置
+     * @param groupType
+     *                     グループインデックスの種類
+     * @param startIdx
+     *                     開始位置
+     * @param endIdx
+     *                     終了位置
+     */
+    private static void setGroupIndex(final int[] groupIndexes, final JavadocGroupIndexTypes groupType,
+        final int startIdx, final int endIdx) {
+
+        groupIndexes[groupType.get() * 2] = startIdx;
+        groupIndexes[(groupType.get() * 2) + 1] = endIdx;
+
+    }
+
+    /**
+     * 空白文字を読み飛ばす<br>
+     *
+     * @since 0.2.8
+     *
+     * @param sourceJavadoc
+     *                      Javadoc
+     * @param startIdx
+     *                      開始位置
+     *
+     * @return 空白文字ではない最初の位置。末尾まで空白文字の場合はJavadocの長さ
+     */
+    private static int skipWhitespace(final String sourceJavadoc, final int startIdx) {
+
+        int result = startIdx;
+
+        while ((result < sourceJavadoc.length()) && JavadocTagsModelImpl.isWhitespace(sourceJavadoc.charAt(result))) {
+
+            result++;
+
+        }
+
+        return result;
+
+    }
+
 }
@@ -0,0 +1,44 @@
+package kmg.tool.base.jdts.application.logic;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+
+/**
+ * Javadocタグ設定の常駐プロセスのクライアントロジックインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 起動済みの常駐プロセスにソケットファイル経由で要求を送り、対象ファイルパスごとの処理結果を受け取る。<br>
+ * Springのコンテキストを起動せずに使用できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsDaemonClientLogic {
+
+    /**
+     * 常駐プロセスに要求を送り、処理結果を受け取る
+     *
+     * @since 0.2.8
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     * @param request
+     *                   常駐プロセスへの要求モデル
+     *
+     * @return 処理に失敗した対象ファイルパスとメッセージのマップ。全て成功した場合は、空。
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    Map<Path, String> request(Path socketPath, JdtsDaemonRequestModel request) throws KmgToolBaseMsgException;
+
+}
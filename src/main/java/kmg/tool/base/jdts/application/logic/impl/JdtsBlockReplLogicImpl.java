@@ -3,16 +3,18 @@ package kmg.tool.base.jdts.application.logic.impl;
 import java.util.Iterator;
 
 import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 import kmg.core.infrastructure.type.KmgString;
-import kmg.core.infrastructure.types.KmgDelimiterTypes;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.jdoc.domain.model.JavadocTagModel;
 import kmg.tool.base.jdts.application.logic.JdtsBlockReplLogic;
 import kmg.tool.base.jdts.application.model.JdtsBlockModel;
 import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
 import kmg.tool.base.jdts.application.model.JdtsTagConfigModel;
+import kmg.tool.base.jdts.application.model.JdtsVersionCacheModel;
 import kmg.tool.base.jdts.application.types.JdtsInsertPositionTypes;
 
 /**
@@ -42,9 +44,10 @@ import kmg.tool.base.jdts.application.types.JdtsInsertPositionTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @Service
+@Scope("prototype")
 public class JdtsBlockReplLogicImpl implements JdtsBlockReplLogic {
 
     /**
@@ -54,13 +57,6 @@ public class JdtsBlockReplLogicImpl implements JdtsBlockReplLogic {
      */
     private static final String JAVADOC_TAG_START = "* @"; //$NON-NLS-1$
 
-    /**
-     * タグのフォーマット
-     *
-     * @since 0.2.0
-     */
-    private static final String TAG_FORMAT = "* %s %s %s"; //$NON-NLS-1$
-
     /**
      * 構成モデル
      *
@@ -117,6 +113,17 @@ public class JdtsBlockReplLogicImpl implements JdtsBlockReplLogic {
      */
     private StringBuilder replacedJavadocBlock;
 
+    /**
+     * バージョンキャッシュモデル
+     * <p>
+     * 対象のファイルのタグの指定値から変換したバージョンを、各ワーカーで共有して再利用する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    @Autowired
+    private JdtsVersionCacheModel jdtsVersionCacheModel;
+
     /**
      * デフォルトコンストラクタ
      *
@@ -614,7 +621,7 @@ public class JdtsBlockReplLogicImpl implements JdtsBlockReplLogic {
     /**
      * タグの内容を作成する<br>
      * <p>
-     * 現在のタグ構成モデルの情報を使用して、 タグの内容を生成します。<br>
+     * 現在のタグ構成モデルが構成の読み込み時に作成したタグの内容を使用するため、ブロックごとの書式設定や正規表現の処理は行わない。<br>
      * 生成される内容には、タグ、タグ値、タグの説明が含まれます。
      * </p>
      *
@@ -624,14 +631,7 @@ public class JdtsBlockReplLogicImpl implements JdtsBlockReplLogic {
      */
     private String createTagContent() {
 
-        /* タグ内容の生成 */
-        String result = String.format(JdtsBlockReplLogicImpl.TAG_FORMAT, this.currentTagConfigModel.getTag().getKey(),
-            this.currentTagConfigModel.getTagValue(), this.currentTagConfigModel.getTagDescription());
-
-        /* 余分な空白を正規化 */
-        result = result.replaceAll(KmgDelimiterTypes.SERIES_HALF_SPACE.get(), KmgDelimiterTypes.HALF_SPACE.get());
-        result = result.trim();
-
+        final String result = this.currentTagConfigModel.getTagContent();
         return result;
 
     }
@@ -660,9 +660,9 @@ public class JdtsBlockReplLogicImpl implements JdtsBlockReplLogic {
         }
 
         /* バージョン比較処理 */
-        // 既存バージョンと上書きするバージョンをComparableVersionに変換
-        final ComparableVersion srcVer  = new ComparableVersion(this.currentSrcJavadocTag.getValue());
-        final ComparableVersion destVer = new ComparableVersion(this.currentTagConfigModel.getTagValue());
+        // 既存バージョンはキャッシュから取得し、上書きするバージョンは構成の読み込み時に変換したものを使用
+        final ComparableVersion srcVer  = this.jdtsVersionCacheModel.get(this.currentSrcJavadocTag.getValue());
+        final ComparableVersion destVer = this.currentTagConfigModel.getTagVersion();
 
         // 既存バージョン>上書きするバージョンに場合に上書きを許可
         result = srcVer.compareTo(destVer) > 0;
@@ -0,0 +1,141 @@
+package kmg.tool.base.jdts.application.logic.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import kmg.core.infrastructure.type.KmgString;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.jdts.application.logic.JdtsDaemonClientLogic;
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsDaemonRequestModelImpl;
+import kmg.tool.base.jdts.application.types.JdtsDaemonResultTypes;
+
+/**
+ * Javadocタグ設定の常駐プロセスのクライアントロジック<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 起動済みの常駐プロセスにソケットファイル経由で要求を送り、対象ファイルパスごとの処理結果を受け取る。<br>
+ * 状態を持たず、他のオブジェクトに依存しないため、Springのコンテキストを起動せずに生成して使用できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@Service
+public class JdtsDaemonClientLogicImpl implements JdtsDaemonClientLogic {
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.8
+     */
+    public JdtsDaemonClientLogicImpl() {
+
+        // 処理なし
+    }
+
+    /**
+     * 常駐プロセスに要求を送り、処理結果を受け取る
+     * <p>
+     * 応答のヘッダ行が一致しない場合、または、終了行の前に接続が閉じられた場合は、通信に失敗したものとする。<br>
+     * 常駐プロセスは、形式が正しくない要求に応答せずに接続を閉じる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     * @param request
+     *                   常駐プロセスへの要求モデル
+     *
+     * @return 処理に失敗した対象ファイルパスとメッセージのマップ。全て成功した場合は、空。
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("static-method")
+    @Override
+    public Map<Path, String> request(final Path socketPath, final JdtsDaemonRequestModel request)
+        throws KmgToolBaseMsgException {
+
+        final Map<Path, String> result = new LinkedHashMap<>();
+
+        boolean isCompleted = false;
+
+        try (final SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+            final BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            final BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8))) {
+
+            request.write(writer);
+
+            // 応答のヘッダ行が一致するか
+            if (JdtsDaemonRequestModelImpl.HEADER_LINE.equals(reader.readLine())) {
+                // 一致する場合
+
+                String line = reader.readLine();
+
+                while ((line != null) && !JdtsDaemonRequestModelImpl.END_LINE.equals(line)) {
+
+                    final String[] items = line.split(JdtsDaemonRequestModelImpl.ITEM_DELIMITER, 3);
+
+                    // 処理に失敗した対象ファイルパスか
+                    if ((items.length >= 2)
+                        && (JdtsDaemonResultTypes.getEnum(items[0]) == JdtsDaemonResultTypes.ERROR)) {
+                        // 失敗した場合
+
+                        final String message = items.length > 2 ? items[2] : KmgString.EMPTY;
+                        result.put(Path.of(items[1]), message);
+
+                    }
+
+                    line = reader.readLine();
+
+                }
+
+                isCompleted = line != null;
+
+            }
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13014;
+            final Object[]               genMsgArgs  = {
+                socketPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        // 応答を終了行まで受け取ったか
+        if (!isCompleted) {
+            // 受け取っていない場合
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13014;
+            final Object[]               genMsgArgs  = {
+                socketPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs);
+
+        }
+
+        return result;
+
+    }
+
+}
@@ -1,7 +1,6 @@
 package kmg.tool.base.jdts.application.model;
 
 import java.util.List;
-import java.util.UUID;
 
 import kmg.core.infrastructure.types.JavaClassificationTypes;
 import kmg.tool.base.jdoc.domain.model.JavadocModel;
@@ -16,7 +15,7 @@ import kmg.tool.base.jdoc.domain.model.JavadocModel;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 public interface JdtsBlockModel {
 
@@ -49,12 +48,15 @@ public interface JdtsBlockModel {
 
     /**
      * 識別子を返す<br>
+     * <p>
+     * コードモデル内のブロックの順番（0始まり）である。文字列が必要な場合のみ、呼び出し側で変換する。
+     * </p>
      *
      * @since 0.2.0
      *
      * @return 識別子
      */
-    UUID getId();
+    int getId();
 
     /**
      * Javadocモデルを返す<br>
@@ -74,6 +76,18 @@ public interface JdtsBlockModel {
      */
     String getOrgBlock();
 
+    /**
+     * オリジナルコード内のオリジナルブロックの開始位置を返す<br>
+     * <p>
+     * オリジナルブロックはJavadocから始まるため、Javadocの開始位置と同じである。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return オリジナルコード内のオリジナルブロックの開始位置
+     */
+    int getOrgBlockStartIdx();
+
     /**
      * 解析する
      *
@@ -0,0 +1,85 @@
+package kmg.tool.base.jdts.application.model;
+
+import java.nio.file.Path;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+
+/**
+ * Javadocタグ設定の構成キャッシュモデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 検証済みのJavadocタグ設定の構成モデルを、定義ファイルのハッシュ値とともにバイナリ形式の構成キャッシュファイルに保持する。<br>
+ * 定義ファイルが前回から変更されていない場合は、構成キャッシュファイルから構成モデルを復元し、YAMLの解析と検証を行わない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsConfigsCacheModel {
+
+    /**
+     * 構成キャッシュファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 構成キャッシュファイルのパス
+     */
+    Path getCachePath();
+
+    /**
+     * 定義ファイルのハッシュ値を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルのハッシュ値
+     */
+    String getDefinitionHash();
+
+    /**
+     * 構成キャッシュファイルから復元したJavadocタグ設定の構成モデルを返す
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocタグ設定の構成モデル。構成キャッシュファイルが使用できない場合は、null。
+     */
+    JdtsConfigsModel getJdtsConfigsModel();
+
+    /**
+     * 構成キャッシュファイルと定義ファイルを読み込む
+     * <p>
+     * 構成キャッシュファイルが存在しない場合、形式が正しくない場合、または、定義ファイルが変更されている場合は、構成モデルを復元しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return true：構成モデルを復元した、false：構成キャッシュファイルが使用できない
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean load(Path definitionPath) throws KmgToolBaseMsgException;
+
+    /**
+     * Javadocタグ設定の構成モデルを、読み込んだ定義ファイルのハッシュ値とともに構成キャッシュファイルに保存する
+     *
+     * @since 0.2.8
+     *
+     * @param jdtsConfigsModel
+     *                         Javadocタグ設定の構成モデル
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean save(JdtsConfigsModel jdtsConfigsModel) throws KmgToolBaseMsgException;
+
+}
@@ -0,0 +1,68 @@
+package kmg.tool.base.jdts.application.model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Javadocタグ設定の常駐プロセスへの要求モデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 常駐プロセスに、定義ファイルのパスと、処理する対象ファイルパスの一覧を渡す。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsDaemonRequestModel {
+
+    /**
+     * 定義ファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルのパス
+     */
+    Path getDefinitionPath();
+
+    /**
+     * 対象ファイルパスの一覧を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 対象ファイルパスの一覧
+     */
+    List<Path> getTargetPaths();
+
+    /**
+     * スレッド数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return スレッド数
+     */
+    short getThreadNum();
+
+    /**
+     * 要求を書き込む
+     * <p>
+     * 終了行まで書き込んだ後にフラッシュするため、常駐プロセスは接続を閉じずに要求の終わりを判定できる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param writer
+     *               書き込み先
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    void write(BufferedWriter writer) throws IOException;
+
+}
@@ -0,0 +1,53 @@
+package kmg.tool.base.jdts.application.model;
+
+import java.nio.file.Path;
+
+/**
+ * Javadocタグ設定の定義モデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 複数の定義ファイルを1回の処理で適用する場合の、定義ファイルのパスと、その定義ファイルを適用する対象のパスのパターンの組である。<br>
+ * 対象のパスのパターンは、基準のディレクトリからの相対パスに対するglob形式のパターンである。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsDefinitionModel {
+
+    /**
+     * 定義ファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルのパス
+     */
+    Path getDefinitionPath();
+
+    /**
+     * 対象のパスのパターンを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 対象のパスのパターン
+     */
+    String getPathPattern();
+
+    /**
+     * 対象のパスのパターンに一致するか
+     *
+     * @since 0.2.8
+     *
+     * @param relativePath
+     *                     基準のディレクトリからの相対パス
+     *
+     * @return true：一致する、false：一致しない
+     */
+    boolean matches(Path relativePath);
+
+}
@@ -0,0 +1,72 @@
+package kmg.tool.base.jdts.application.model;
+
+import java.nio.file.Path;
+
+/**
+ * Javadocタグ設定のファイルごとの処理時間モデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 1ファイル分の解析、置換、書き込みの処理時間をナノ秒で保持する。<br>
+ * 解析の処理時間は、対象のファイルの読み込みを含む。<br>
+ * 試行モードの場合、書き込みの処理時間はレポートファイルへの出力の処理時間である。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsFileTimingModel {
+
+    /**
+     * 対象のファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 対象のファイルのパス
+     */
+    Path getFilePath();
+
+    /**
+     * 解析の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 解析の処理時間（ナノ秒）
+     */
+    long getParseNanos();
+
+    /**
+     * 置換の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 置換の処理時間（ナノ秒）
+     */
+    long getReplaceNanos();
+
+    /**
+     * 合計の処理時間を返す<br>
+     * <p>
+     * 解析、置換、書き込みの処理時間の合計である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 合計の処理時間（ナノ秒）
+     */
+    long getTotalNanos();
+
+    /**
+     * 書き込みの処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 書き込みの処理時間（ナノ秒）
+     */
+    long getWriteNanos();
+
+}
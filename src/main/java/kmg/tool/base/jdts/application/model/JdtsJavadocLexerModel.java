@@ -0,0 +1,78 @@
+package kmg.tool.base.jdts.application.model;
+
+/**
+ * Javadocタグ設定のJavadoc字句解析モデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * コードを先頭から1回だけ走査し、文字列リテラル、文字リテラル、テキストブロック、行コメント、ブロックコメントを読み飛ばしながら、Javadocブロックを順に特定する。<br>
+ * Javadocブロックは、Javadocの開始位置と終了位置、およびJavadocに続くコードの終了位置で表す。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsJavadocLexerModel {
+
+    /**
+     * ブロックの開始位置を返す<br>
+     * <p>
+     * 「/**」と続く空白文字の直後の位置であり、Javadocの本文の開始位置である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return ブロックの開始位置
+     */
+    int getBlockStartIdx();
+
+    /**
+     * コードの終了位置を返す<br>
+     * <p>
+     * 次のJavadocの直前の空白文字の開始位置、または、コードの終端である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return コードの終了位置
+     */
+    int getCodeEndIdx();
+
+    /**
+     * Javadocの終了位置を返す<br>
+     * <p>
+     * 「*&#47;」の開始位置である。Javadocが閉じられていない場合は、-1を返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocの終了位置
+     */
+    int getJavadocEndIdx();
+
+    /**
+     * Javadocの開始位置を返す<br>
+     * <p>
+     * 「/**」の開始位置である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocの開始位置
+     */
+    int getJavadocStartIdx();
+
+    /**
+     * 次のJavadocブロックに進む
+     *
+     * @since 0.2.8
+     *
+     * @return true：次のJavadocブロックがある、false：次のJavadocブロックがない
+     */
+    boolean nextJavadoc();
+
+}
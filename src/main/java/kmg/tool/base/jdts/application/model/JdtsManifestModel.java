@@ -0,0 +1,111 @@
+package kmg.tool.base.jdts.application.model;
+
+import java.nio.file.Path;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+
+/**
+ * Javadocタグ設定のマニフェストモデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 差分処理のために、前回処理した対象のファイルごとに、パス、サイズ、最終更新日時、内容のハッシュ値、定義ファイルのハッシュ値を保持する。<br>
+ * 対象のファイルと定義ファイルのいずれも前回から変更されていない場合は、対象のファイルを変更なしと判定する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsManifestModel {
+
+    /**
+     * 定義ファイルのハッシュ値を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルのハッシュ値
+     */
+    String getDefinitionHash();
+
+    /**
+     * マニフェストファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return マニフェストファイルのパス
+     */
+    Path getManifestPath();
+
+    /**
+     * 対象のファイルが前回の処理から変更されていないかを判定する
+     * <p>
+     * サイズと最終更新日時が前回と同じ場合は、内容を読み込まずに変更なしと判定する。<br>
+     * サイズが同じで最終更新日時のみ異なる場合は、内容のハッシュ値を比較する。<br>
+     * 変更なしと判定した対象のファイルは、今回の処理結果として記録する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return true：変更なし、false：変更あり、または、前回の処理結果なし
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean isUnchanged(Path filePath) throws KmgToolBaseMsgException;
+
+    /**
+     * マニフェストファイルと定義ファイルを読み込む
+     * <p>
+     * マニフェストファイルが存在しない場合は、前回の処理結果なしとして扱う。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean load(Path definitionPath) throws KmgToolBaseMsgException;
+
+    /**
+     * 対象のファイルの現在の状態を今回の処理結果として記録する
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean record(Path filePath) throws KmgToolBaseMsgException;
+
+    /**
+     * 今回の処理結果をマニフェストファイルに保存する
+     * <p>
+     * 今回の処理で記録されなかった対象のファイルは、マニフェストファイルから除外する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean save() throws KmgToolBaseMsgException;
+
+}
@@ -0,0 +1,60 @@
+package kmg.tool.base.jdts.application.model;
+
+import kmg.core.infrastructure.types.JavaClassificationTypes;
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
+import kmg.tool.base.jdts.application.types.JdtsReplActionTypes;
+
+/**
+ * Javadocタグ設定の置換操作モデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * ブロックのJavadocに対して行った1件の置換操作を、要素とタグとともに保持する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsReplActionModel {
+
+    /**
+     * 置換操作の種類を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 置換操作の種類
+     */
+    JdtsReplActionTypes getAction();
+
+    /**
+     * 要素の区分を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 要素の区分
+     */
+    JavaClassificationTypes getClassification();
+
+    /**
+     * 要素名を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 要素名
+     */
+    String getElementName();
+
+    /**
+     * 操作したタグを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 操作したタグ
+     */
+    KmgJavadocTagTypes getTag();
+
+}
@@ -0,0 +1,142 @@
+package kmg.tool.base.jdts.application.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
+import kmg.tool.base.jdts.application.types.JdtsReplActionTypes;
+
+/**
+ * Javadocタグ設定の統計モデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 1回の処理の置換操作の件数をタグ構成のタグと置換操作の種類ごとに集計し、上書きしなかった件数をタグごとに集計する。<br>
+ * また、ファイルごとの処理時間を集計し、合計の処理時間が長いファイルを上位から保持する。<br>
+ * どのタグ構成、どのファイルが処理時間を要しているかを特定するために使用する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsStatisticsModel {
+
+    /**
+     * 1ファイル分の処理結果を集計に加える
+     *
+     * @since 0.2.8
+     *
+     * @param fileTimingModel
+     *                        ファイルごとの処理時間モデル
+     * @param replActionList
+     *                        置換操作のリスト
+     * @param skipCountMap
+     *                        タグごとの上書きしなかった件数のマップ
+     */
+    void addFileResult(JdtsFileTimingModel fileTimingModel, List<JdtsReplActionModel> replActionList,
+        Map<KmgJavadocTagTypes, Long> skipCountMap);
+
+    /**
+     * 処理したファイル数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 処理したファイル数
+     */
+    long getFileCount();
+
+    /**
+     * タグと置換操作の種類に対応する置換操作の件数を返す
+     *
+     * @since 0.2.8
+     *
+     * @param tag
+     *               タグ
+     * @param action
+     *               置換操作の種類
+     *
+     * @return 置換操作の件数
+     */
+    long getReplActionCount(KmgJavadocTagTypes tag, JdtsReplActionTypes action);
+
+    /**
+     * タグに対応する上書きしなかった件数を返す<br>
+     * <p>
+     * 上書き設定が「上書きしない」、または、「指定値より小さい場合のみ上書き」で上書きしなかった件数である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param tag
+     *            タグ
+     *
+     * @return 上書きしなかった件数
+     */
+    long getSkipCount(KmgJavadocTagTypes tag);
+
+    /**
+     * 処理時間が長いファイルの処理時間モデルのリストを返す<br>
+     * <p>
+     * 合計の処理時間が長い順に、保持するファイル数まで返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 処理時間が長いファイルの処理時間モデルのリスト
+     */
+    List<JdtsFileTimingModel> getSlowestFileTimingList();
+
+    /**
+     * 処理時間が長いファイルを保持するファイル数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 処理時間が長いファイルを保持するファイル数
+     */
+    int getSlowestFileNum();
+
+    /**
+     * 集計したタグのセットを返す<br>
+     * <p>
+     * 置換操作、または、上書きしなかった件数が1件以上あるタグを返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 集計したタグのセット
+     */
+    Set<KmgJavadocTagTypes> getTagSet();
+
+    /**
+     * 解析の合計の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 解析の合計の処理時間（ナノ秒）
+     */
+    long getTotalParseNanos();
+
+    /**
+     * 置換の合計の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 置換の合計の処理時間（ナノ秒）
+     */
+    long getTotalReplaceNanos();
+
+    /**
+     * 書き込みの合計の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 書き込みの合計の処理時間（ナノ秒）
+     */
+    long getTotalWriteNanos();
+
+}
@@ -1,5 +1,7 @@
 package kmg.tool.base.jdts.application.model;
 
+import org.apache.maven.artifact.versioning.ComparableVersion;
+
 import kmg.core.infrastructure.types.JavaClassificationTypes;
 import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.tool.base.jdts.application.types.JdtsInsertPositionTypes;
@@ -15,7 +17,7 @@ import kmg.tool.base.jdts.application.types.JdtsOverwriteTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 public interface JdtsTagConfigModel {
 
@@ -55,6 +57,18 @@ public interface JdtsTagConfigModel {
      */
     KmgJavadocTagTypes getTag();
 
+    /**
+     * タグの内容を返す<br>
+     * <p>
+     * タグ、タグの指定値、タグの説明から作成したJavadocのタグ行であり、構成の読み込み時に1回だけ作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return タグの内容
+     */
+    String getTagContent();
+
     /**
      * タグの説明を返す<br>
      *
@@ -82,6 +96,18 @@ public interface JdtsTagConfigModel {
      */
     String getTagValue();
 
+    /**
+     * タグの指定値のバージョンを返す<br>
+     * <p>
+     * タグの指定値を構成の読み込み時に1回だけ変換したバージョンであり、上書き設定がIF_LOWERの場合の比較に使用する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return タグの指定値のバージョン
+     */
+    ComparableVersion getTagVersion();
+
     /**
      * タグの配置がJava区分に一致するか<br>
      *
@@ -0,0 +1,74 @@
+package kmg.tool.base.jdts.application.model;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+
+/**
+ * Javadocタグ設定のバージョンキャッシュモデルインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 対象のファイルのタグの指定値から変換したバージョンを、バージョンの文字列ごとに保持する。<br>
+ * 保持する件数には上限があり、上限に達した後は変換した結果を保持しない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsVersionCacheModel {
+
+    /**
+     * バージョンの文字列に対応するバージョンを返す<br>
+     * <p>
+     * 保持している場合は保持しているバージョンを返し、保持していない場合は変換したバージョンを返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param version
+     *                バージョンの文字列
+     *
+     * @return バージョン
+     */
+    ComparableVersion get(String version);
+
+    /**
+     * 保持しているバージョンを返した回数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 保持しているバージョンを返した回数
+     */
+    long getHitCount();
+
+    /**
+     * 保持する件数の上限を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 保持する件数の上限
+     */
+    int getMaxSize();
+
+    /**
+     * バージョンの文字列を変換した回数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return バージョンの文字列を変換した回数
+     */
+    long getMissCount();
+
+    /**
+     * 保持している件数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 保持している件数
+     */
+    int getSize();
+
+}
@@ -2,9 +2,6 @@ package kmg.tool.base.jdts.application.model.impl;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import kmg.core.infrastructure.type.KmgString;
 import kmg.core.infrastructure.types.JavaClassificationTypes;
@@ -22,7 +19,7 @@ import kmg.tool.base.jdts.application.model.JdtsBlockModel;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 public class JdtsBlockModelImpl implements JdtsBlockModel {
 
@@ -41,82 +38,72 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
     private static final String ANNOTATION_START = "@"; //$NON-NLS-1$
 
     /**
-     * 改行文字の正規表現
+     * 改行文字
+     * <p>
+     * 正規表現の「\R」に一致する文字である。「\r\n」は2つの改行文字として扱うが、間の空行は読み飛ばすため結果は変わらない。
+     * </p>
      *
-     * @since 0.2.0
+     * @since 0.2.8
      */
-    private static final String LINE_SEPARATOR_REGEX = "\\R"; //$NON-NLS-1$
+    private static final String LINE_SEPARATOR_CHARS = "\n\u000B\u000C\r\u0085\u2028\u2029"; //$NON-NLS-1$
 
     /**
-     * Javadocブロック分割用の正規表現
+     * 宣言部の終了文字
+     * <p>
+     * 括弧の外で最初に現れたいずれかの文字までを宣言部とする。
+     * </p>
      *
-     * @since 0.2.0
+     * @since 0.2.8
      */
-    private static final String JAVADOC_BLOCK_SPLIT_REGEX
-        = String.format("%s\\s+", Pattern.quote(JdtsBlockModelImpl.JAVADOC_END)); //$NON-NLS-1$
+    private static final String DECLARATION_END_CHARS = "{;="; //$NON-NLS-1$
 
     /**
-     * アノテーション複数行開始文字列
+     * 行コメント開始文字列
      *
-     * @since 0.2.0
-     */
-    private static final String ANNOTATION_MULTILINE_START = "{"; //$NON-NLS-1$
-
-    /**
-     * アノテーション複数行終了文字列
-     *
-     * @since 0.2.0
-     */
-    private static final String ANNOTATION_MULTILINE_END = "})"; //$NON-NLS-1$
-
-    /**
-     * ダブルクォート文字
-     *
-     * @since 0.2.0
+     * @since 0.2.8
      */
-    private static final String DOUBLE_QUOTE = "\""; //$NON-NLS-1$
+    private static final String LINE_COMMENT_START = "//"; //$NON-NLS-1$
 
     /**
-     * セミコロン文字
+     * アノテーション複数行開始文字列
      *
      * @since 0.2.0
      */
-    private static final String SEMICOLON = ";"; //$NON-NLS-1$
+    private static final String ANNOTATION_MULTILINE_START = "{"; //$NON-NLS-1$
 
     /**
-     * セミコロンで終わるパターン
+     * アノテーション複数行終了文字列
      *
      * @since 0.2.0
      */
-    private static final Pattern SEMICOLON_END_PATTERN
-        = Pattern.compile("^" + Pattern.quote(JdtsBlockModelImpl.SEMICOLON)); //$NON-NLS-1$
-
-    /**
-     * テキストブロック対応：複数のダブルクォートで終わるパターン
-     */
-    private static final Pattern TEXT_BLOCK_END_PATTERN = Pattern.compile(String.format("^%s+\\s*%s", //$NON-NLS-1$
-        Pattern.quote(JdtsBlockModelImpl.DOUBLE_QUOTE), Pattern.quote(JdtsBlockModelImpl.SEMICOLON)));
+    private static final String ANNOTATION_MULTILINE_END = "})"; //$NON-NLS-1$
 
     /**
-     * テキストブロック終了文字列
+     * 識別子
+     * <p>
+     * コードモデル内のブロックの順番であり、乱数を使用せずに決める。
+     * </p>
      *
      * @since 0.2.0
      */
-    private static final String TEXT_BLOCK_END = "\"\""; //$NON-NLS-1$
+    private final int id;
 
     /**
-     * 識別子
+     * オリジナルブロック
+     * <p>
+     * オリジナルコードの部分列の参照であり、ブロックごとに文字列を複写しない。
+     * </p>
      *
      * @since 0.2.0
      */
-    private final UUID id;
+    private final CharSequence orgBlock;
 
     /**
-     * オリジナルブロック
+     * オリジナルコード内のオリジナルブロックの開始位置
      *
-     * @since 0.2.0
+     * @since 0.2.8
      */
-    private final String orgBlock;
+    private final int orgBlockStartIdx;
 
     /**
      * Javadocモデル
@@ -134,6 +121,9 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
 
     /**
      * コードブロック
+     * <p>
+     * 区分の特定に必要な宣言部のみを保持する。アノテーションを除いた宣言の行から、括弧の外の最初の「{」、「;」、「=」までである。
+     * </p>
      *
      * @since 0.2.0
      */
@@ -163,9 +153,45 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
      */
     public JdtsBlockModelImpl(final String block) {
 
+        this(block, 0);
+
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param block
+     *                      ブロック。「/**」で分割されたブロック。オリジナルコードの部分列の参照を指定できる。
+     * @param blockStartIdx
+     *                      オリジナルコード内のブロックの開始位置
+     */
+    public JdtsBlockModelImpl(final CharSequence block, final int blockStartIdx) {
+
+        this(block, blockStartIdx, 0);
+
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param block
+     *                      ブロック。「/**」で分割されたブロック。オリジナルコードの部分列の参照を指定できる。
+     * @param blockStartIdx
+     *                      オリジナルコード内のブロックの開始位置
+     * @param id
+     *                      識別子。コードモデル内のブロックの順番。
+     */
+    public JdtsBlockModelImpl(final CharSequence block, final int blockStartIdx, final int id) {
+
         this.orgBlock = block;
 
-        this.id = UUID.randomUUID();
+        this.orgBlockStartIdx = blockStartIdx;
+
+        this.id = id;
 
         this.annotations = new ArrayList<>();
 
@@ -226,9 +252,9 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
      * @return 識別子
      */
     @Override
-    public UUID getId() {
+    public int getId() {
 
-        final UUID result = this.id;
+        final int result = this.id;
         return result;
 
     }
@@ -250,6 +276,9 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
 
     /**
      * オリジナルブロックを返す<br>
+     * <p>
+     * オリジナルブロックが部分列の参照の場合は、呼び出し時に文字列に変換する。
+     * </p>
      *
      * @since 0.2.0
      *
@@ -258,13 +287,31 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
     @Override
     public String getOrgBlock() {
 
-        final String result = this.orgBlock;
+        final String result = this.orgBlock.toString();
+        return result;
+
+    }
+
+    /**
+     * オリジナルコード内のオリジナルブロックの開始位置を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return オリジナルコード内のオリジナルブロックの開始位置
+     */
+    @Override
+    public int getOrgBlockStartIdx() {
+
+        final int result = this.orgBlockStartIdx;
         return result;
 
     }
 
     /**
      * 解析する
+     * <p>
+     * 区分の特定には宣言部のみを使用し、宣言の本体は読み込まない。
+     * </p>
      *
      * @since 0.2.0
      *
@@ -277,11 +324,11 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
 
         /* オリジナルブロックをJavadocとコードブロックに分ける */
 
-        // 「*/」でJavadocとCodeのブロックに分ける
-        final String[] javadocCodeBlock = this.orgBlock.split(JdtsBlockModelImpl.JAVADOC_BLOCK_SPLIT_REGEX, 2);
+        // 「*/」の位置
+        final int javadocEndIdx = this.indexOfJavadocEnd();
 
         // 「*/」がないか
-        if (javadocCodeBlock.length < 2) {
+        if (javadocEndIdx < 0) {
             // ない場合
 
             // 対象外とする
@@ -289,11 +336,12 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
 
         }
 
-        // Javadocが文字列中か（段階的にチェック）
-        final boolean isJavadocInString = this.isJavadocInString(javadocCodeBlock[1]);
+        // コードブロックの開始位置
+        final int codeStartIdx = javadocEndIdx + JdtsBlockModelImpl.JAVADOC_END.length();
 
-        if (isJavadocInString) {
-            // 文字列中の場合
+        // 「*/」の後に空白文字がないか
+        if ((codeStartIdx >= this.orgBlock.length()) || !Character.isWhitespace(this.orgBlock.charAt(codeStartIdx))) {
+            // ない場合
 
             // 対象外とする
             return result;
@@ -301,10 +349,7 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
         }
 
         /* Javadoc部分をJavadocモデルに変換する */
-        this.javadocModel = new JavadocModelImpl(javadocCodeBlock[0]);
-
-        /* コード行の配列にする */
-        final String[] codeLines = javadocCodeBlock[1].split(JdtsBlockModelImpl.LINE_SEPARATOR_REGEX);
+        this.javadocModel = new JavadocModelImpl(this.orgBlock.subSequence(0, javadocEndIdx).toString());
 
         /* アノテーションを設定する */
 
@@ -314,12 +359,18 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
         // アノテーション複数行
         final StringBuilder annotationMultiline = new StringBuilder();
 
-        // コードセクションの開始
-        int codeSectionStartIdx = 0;
+        // 宣言の開始位置。アノテーション以外の行がない場合は、コードブロックの開始位置とする。
+        int declarationStartIdx = codeStartIdx;
+
+        // コード部分を分割せずに、1行ずつ読み進める
+        int lineStartIdx = codeStartIdx;
 
-        for (int i = 0; i < codeLines.length; i++) {
+        while (lineStartIdx < this.orgBlock.length()) {
 
-            final String line = codeLines[i];
+            final int    currentLineStartIdx = lineStartIdx;
+            final int    lineEndIdx          = this.indexOfLineEnd(currentLineStartIdx);
+            final String line                = this.orgBlock.subSequence(currentLineStartIdx, lineEndIdx).toString();
+            lineStartIdx = lineEndIdx + 1;
 
             if (KmgString.isBlank(line)) {
 
@@ -354,7 +405,7 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
 
                 }
 
-                codeSectionStartIdx = i;
+                declarationStartIdx = currentLineStartIdx;
 
                 break;
 
@@ -376,12 +427,47 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
 
         }
 
-        /* コードブロックを設定する */
-        final StringBuilder wkCodeBlock = new StringBuilder();
+        /* コードブロックに宣言部を設定する */
+        // 宣言の本体は区分の特定に不要なため、宣言部より後は読み込まない
+        this.codeBlock = this.createDeclarationHeader(declarationStartIdx);
+
+        /* 区分を特定する */
+        this.specifyClassification();
+
+        result = true;
+        return result;
 
-        for (int i = codeSectionStartIdx; i < codeLines.length; i++) {
+    }
+
+    /**
+     * 宣言の開始位置から宣言部を作成する
+     * <p>
+     * 空行を除いた各行を前後の空白を除いて連結し、括弧の外で最初に現れた「{」、「;」、「=」までを宣言部とする。<br>
+     * 文字列リテラル、文字リテラル、行コメント中の文字は、宣言部の終了文字として扱わない。<br>
+     * 終了文字がない場合は、オリジナルブロックの最後までを宣言部とする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param declarationStartIdx
+     *                            宣言の開始位置
+     *
+     * @return 宣言部。各行の末尾に改行文字を付ける。
+     */
+    private String createDeclarationHeader(final int declarationStartIdx) {
 
-            final String line = codeLines[i];
+        final StringBuilder result = new StringBuilder();
+
+        // 括弧の深さ。複数行にまたがる引数のリストの中の文字は、宣言部の終了文字として扱わない。
+        int parenDepth = 0;
+
+        int lineStartIdx = declarationStartIdx;
+
+        while (lineStartIdx < this.orgBlock.length()) {
+
+            final int    lineEndIdx = this.indexOfLineEnd(lineStartIdx);
+            final String line       = this.orgBlock.subSequence(lineStartIdx, lineEndIdx).toString();
+            lineStartIdx = lineEndIdx + 1;
 
             if (KmgString.isBlank(line)) {
 
@@ -390,161 +476,154 @@ public class JdtsBlockModelImpl implements JdtsBlockModel {
             }
 
             final String trimmedLine = line.trim();
-            wkCodeBlock.append(trimmedLine).append(System.lineSeparator());
 
-        }
+            // 宣言部の終了文字の位置
+            int declarationEndIdx = -1;
 
-        this.codeBlock = wkCodeBlock.toString();
+            // リテラルの囲み文字。リテラルの外の場合は、0。
+            char literalQuote = 0;
 
-        /* 区分を特定する */
-        this.specifyClassification();
+            int charIdx = 0;
 
-        result = true;
-        return result;
+            while (charIdx < trimmedLine.length()) {
 
-    }
+                final char c = trimmedLine.charAt(charIdx);
 
-    /**
-     * Javadocが文字列中かを段階的にチェックする<br>
-     *
-     * @since 0.2.0
-     *
-     * @param codeBlock
-     *                  コードブロック
-     *
-     * @return true：文字列中、false：文字列外
-     */
-    @SuppressWarnings("hiding")
-    protected boolean isJavadocInString(final String codeBlock) {
+                // リテラルの中か
+                if (literalQuote != 0) {
+                    // 中の場合
 
-        boolean result = false;
+                    // エスケープ文字か
+                    if (c == '\\') {
+                        // エスケープ文字の場合
 
-        /* ダブルクォートがあるかチェックし、splitで分割 */
-        final String[] doubleQuoteParts = codeBlock.split(JdtsBlockModelImpl.DOUBLE_QUOTE, 2);
+                        // 次の文字を読み飛ばす
+                        charIdx++;
 
-        // ダブルクォートがない場合は文字列外か
-        if (doubleQuoteParts.length <= 1) {
-            // 文字列外の場合
+                    } else if (c == literalQuote) {
+                        // リテラルの終了の場合
 
-            return result;
+                        literalQuote = 0;
 
-        }
+                    }
 
-        /* 分割後の部分をチェック */
-        for (int i = 1; i < doubleQuoteParts.length; i++) {
+                    charIdx++;
+                    continue;
 
-            final String currentPart = doubleQuoteParts[i];
+                }
 
-            // 通常の文字列が終了しているか
-            final boolean isNormalStringEnd = this.isNormalStringEnd(currentPart);
+                // 行コメントの開始か
+                if (trimmedLine.startsWith(JdtsBlockModelImpl.LINE_COMMENT_START, charIdx)) {
+                    // 開始の場合
 
-            if (isNormalStringEnd) {
+                    break;
 
-                // 通常の文字列が終了している場合
-                result = true;
-                return result;
+                }
 
-            }
+                switch (c) {
 
-            // テキストブロックが終了しているか
-            final boolean isTextBlockEnd = this.isTextBlockEnd(currentPart);
+                    case '"', '\'' -> literalQuote = c;
 
-            if (isTextBlockEnd) {
+                    case '(' -> parenDepth++;
 
-                // テキストブロックが終了している場合
-                result = true;
-                return result;
+                    case ')' -> parenDepth--;
 
-            }
+                    default -> {
 
-            // セミコロン後にテキストブロックが終了しているか
-            final boolean isTextBlockEndWithSemicolon = this.isTextBlockEndWithSemicolon(currentPart);
+                        // 括弧の外の宣言部の終了文字か
+                        if ((parenDepth <= 0) && (JdtsBlockModelImpl.DECLARATION_END_CHARS.indexOf(c) >= 0)) {
+                            // 終了文字の場合
 
-            if (isTextBlockEndWithSemicolon) {
+                            declarationEndIdx = charIdx;
 
-                // セミコロン後にテキストブロックが終了している場合
-                result = true;
-                return result;
+                        }
+
+                    }
+
+                }
+
+                // 宣言部の終了文字が見つかったか
+                if (declarationEndIdx >= 0) {
+                    // 見つかった場合
+
+                    break;
+
+                }
+
+                charIdx++;
 
             }
 
+            // 宣言部の終了文字がないか
+            if (declarationEndIdx < 0) {
+                // ない場合
+
+                result.append(trimmedLine).append(System.lineSeparator());
+                continue;
+
+            }
+
+            result.append(trimmedLine, 0, declarationEndIdx + 1).append(System.lineSeparator());
+            break;
+
         }
 
-        return result;
+        return result.toString();
 
     }
 
     /**
-     * 通常の文字列が終了しているかをチェックする<br>
+     * オリジナルブロック内の最初の「*/」の位置を返す
      *
-     * @since 0.2.0
+     * @since 0.2.8
      *
-     * @param currentPart
-     *                    現在の部分文字列
-     *
-     * @return true：文字列終了、false：文字列継続
+     * @return 「*/」の位置。存在しない場合は、-1。
      */
-    @SuppressWarnings("static-method")
-    protected boolean isNormalStringEnd(final String currentPart) {
+    private int indexOfJavadocEnd() {
 
-        final boolean result;
+        int result = -1;
 
-        final Matcher semicolonMatcher = JdtsBlockModelImpl.SEMICOLON_END_PATTERN.matcher(currentPart);
-        result = semicolonMatcher.find();
+        final int lastIdx = this.orgBlock.length() - JdtsBlockModelImpl.JAVADOC_END.length();
 
-        return result;
+        for (int i = 0; i <= lastIdx; i++) {
 
-    }
+            // 「*/」か
+            if ((this.orgBlock.charAt(i) == JdtsBlockModelImpl.JAVADOC_END.charAt(0))
+                && (this.orgBlock.charAt(i + 1) == JdtsBlockModelImpl.JAVADOC_END.charAt(1))) {
+                // 「*/」の場合
 
-    /**
-     * テキストブロックが終了しているかをチェックする<br>
-     *
-     * @since 0.2.0
-     *
-     * @param currentPart
-     *                    現在の部分文字列
-     *
-     * @return true：テキストブロック終了、false：テキストブロック継続
-     */
-    @SuppressWarnings("static-method")
-    protected boolean isTextBlockEnd(final String currentPart) {
+                result = i;
+                break;
 
-        final boolean result;
+            }
 
-        final Matcher textBlockMatcher = JdtsBlockModelImpl.TEXT_BLOCK_END_PATTERN.matcher(currentPart);
-        result = textBlockMatcher.find();
+        }
 
         return result;
 
     }
 
     /**
-     * セミコロン後にテキストブロックが終了しているかをチェックする<br>
+     * 指定した位置から始まる行の終了位置を返す
      *
-     * @since 0.2.0
+     * @since 0.2.8
      *
-     * @param currentPart
-     *                    現在の部分文字列
+     * @param lineStartIdx
+     *                     行の開始位置
      *
-     * @return true：テキストブロック終了、false：テキストブロック継続
+     * @return 行の終了位置。最初の改行文字の位置であり、改行文字がない場合は、オリジナルブロックの長さ。
      */
-    @SuppressWarnings("static-method")
-    protected boolean isTextBlockEndWithSemicolon(final String currentPart) {
-
-        boolean result = false;
+    private int indexOfLineEnd(final int lineStartIdx) {
 
-        // セミコロンがあるかチェックし、splitで分割
-        final String[] semicolonParts = currentPart.split(JdtsBlockModelImpl.SEMICOLON, 2);
+        int result = lineStartIdx;
 
-        if (semicolonParts.length <= 1) {
-            // セミコロンがない場合
+        while ((result < this.orgBlock.length())
+            && (JdtsBlockModelImpl.LINE_SEPARATOR_CHARS.indexOf(this.orgBlock.charAt(result)) < 0)) {
 
-            return result;
+            result++;
 
         }
 
-        // テキストブロックで終わるか
-        result = semicolonParts[0].endsWith(JdtsBlockModelImpl.TEXT_BLOCK_END);
         return result;
 
     }
@@ -1,8 +1,8 @@
 package kmg.tool.base.jdts.application.model.impl;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,9 +11,11 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.cmn.infrastructure.log.KmgToolBaseMsgLogger;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
 import kmg.tool.base.jdts.application.model.JdtsBlockModel;
 import kmg.tool.base.jdts.application.model.JdtsCodeModel;
+import kmg.tool.base.jdts.application.model.JdtsJavadocLexerModel;
 
 /**
  * Javadocタグ設定のコードモデル<br>
@@ -25,48 +27,29 @@ import kmg.tool.base.jdts.application.model.JdtsCodeModel;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @Component
 @Scope("prototype")
 public class JdtsCodeModelImpl implements JdtsCodeModel {
 
     /**
-     * Javadocコメント開始文字列
-     *
-     * @since 0.2.0
-     */
-    private static final String JAVADOC_START = "/**"; //$NON-NLS-1$
-
-    /**
-     * Javadocブロック分割用の正規表現フォーマット
-     *
-     * @since 0.2.0
-     */
-    private static final String JAVADOC_BLOCK_SPLIT_FORMAT = "(^|\\s+)%s\\s+"; //$NON-NLS-1$
-
-    /**
-     * Javadocブロック分割用の正規表現パターン
-     *
-     * @since 0.2.0
-     */
-    private static final String JAVADOC_BLOCK_SPLIT_PATTERN
-        = String.format(JdtsCodeModelImpl.JAVADOC_BLOCK_SPLIT_FORMAT, Pattern.quote(JdtsCodeModelImpl.JAVADOC_START));
-
-    /**
-     * ロガー
+     * KMGメッセージリソース
      *
      * @since 0.2.0
      */
-    private final Logger logger;
+    @Autowired
+    private KmgMessageSource messageSource;
 
     /**
-     * KMGメッセージリソース
+     * KMGツールベースメッセージロガー
+     * <p>
+     * ログレベルが有効な場合のみ、ログメッセージを作成する。
+     * </p>
      *
-     * @since 0.2.0
+     * @since 0.2.8
      */
-    @Autowired
-    private KmgMessageSource messageSource;
+    private final KmgToolBaseMsgLogger msgLogger;
 
     /**
      * オリジナルコード
@@ -108,7 +91,7 @@ public class JdtsCodeModelImpl implements JdtsCodeModel {
      */
     protected JdtsCodeModelImpl(final Logger logger, final String code) {
 
-        this.logger = logger;
+        this.msgLogger = new KmgToolBaseMsgLogger(logger, () -> this.messageSource);
 
         this.orgCode = code;
 
@@ -149,6 +132,11 @@ public class JdtsCodeModelImpl implements JdtsCodeModel {
 
     /**
      * 解析する
+     * <p>
+     * コードを字句解析してJavadocごとのブロックに分け、ブロックごとにオリジナルコード内の開始位置を記録する。<br>
+     * 文字列リテラル、テキストブロック、コメント中の「/**」はJavadocとして扱わない。<br>
+     * 大きなファイルでもメモリ使用量が増えないように、ブロックはオリジナルコードを複写せずに参照する。
+     * </p>
      *
      * @since 0.2.0
      */
@@ -156,13 +144,30 @@ public class JdtsCodeModelImpl implements JdtsCodeModel {
     @Override
     public void parse() {
 
-        // 「/**」でブロックに分ける
-        final String[] blocks = this.orgCode.split(JdtsCodeModelImpl.JAVADOC_BLOCK_SPLIT_PATTERN);
+        final JdtsJavadocLexerModel javadocLexerModel = new JdtsJavadocLexerModelImpl(this.orgCode);
 
-        // ブロックの0番目はJavadocではないので、1番目から進める
-        for (int i = 1; i < blocks.length; i++) {
+        // ブロックの識別子。ブロックの順番とする。
+        int blockId = 0;
+
+        /* Javadocごとにブロックを解析する */
+        while (javadocLexerModel.nextJavadoc()) {
+
+            // ブロックはオリジナルコードの部分列の参照とし、ブロックごとに文字列を複写しない
+            final int          blockStartIdx = javadocLexerModel.getBlockStartIdx();
+            final CharSequence block         = CharBuffer.wrap(this.orgCode, blockStartIdx,
+                javadocLexerModel.getCodeEndIdx());
+
+            // ブロックが空か
+            if (block.isEmpty()) {
+                // 空の場合
+
+                // コード末尾の「/**」のみのブロックは対象外とする
+                continue;
+
+            }
 
-            final JdtsBlockModel jdtsBlockModel = new JdtsBlockModelImpl(blocks[i]);
+            final JdtsBlockModel jdtsBlockModel = new JdtsBlockModelImpl(block, blockStartIdx, blockId);
+            blockId++;
 
             // ブロックモデルを解析する
             final boolean blockParseResult = jdtsBlockModel.parse();
@@ -173,11 +178,9 @@ public class JdtsCodeModelImpl implements JdtsCodeModel {
 
                 /* ログの出力 */
                 final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13000;
-                final Object[]               logMsgArgs  = {
+                this.msgLogger.warn(logMsgTypes, () -> new Object[] {
                     jdtsBlockModel.getId(), jdtsBlockModel.getOrgBlock(),
-                };
-                final String                 logMsg      = this.messageSource.getLogMessage(logMsgTypes, logMsgArgs);
-                this.logger.warn(logMsg);
+                });
 
                 continue;
 
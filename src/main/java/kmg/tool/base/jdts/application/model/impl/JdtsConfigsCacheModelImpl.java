@@ -0,0 +1,462 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import kmg.core.infrastructure.types.JavaClassificationTypes;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.cmn.infrastructure.utils.KmgToolBaseHashUtils;
+import kmg.tool.base.jdts.application.model.JdtsConfigsCacheModel;
+import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsLocationConfigModel;
+import kmg.tool.base.jdts.application.model.JdtsTagConfigModel;
+import kmg.tool.base.jdts.application.types.JdtsInsertPositionTypes;
+import kmg.tool.base.jdts.application.types.JdtsLocationModeTypes;
+import kmg.tool.base.jdts.application.types.JdtsOverwriteTypes;
+
+/**
+ * Javadocタグ設定の構成キャッシュモデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 構成キャッシュファイルは、識別子、形式のバージョン、定義ファイルのハッシュ値、タグ構成数の後に、タグ構成ごとの値を順に保持するバイナリ形式である。<br>
+ * タグ構成ごとの値は、タグ名、タグの指定値、タグの説明、挿入位置、上書き設定、配置方法、誤配置時に削除するかどうか、対象要素数、対象要素の順である。<br>
+ * 種類は、キーで保持する。
+ * </p>
+ * <p>
+ * 構成キャッシュファイルは、定義ファイルから作成し直せるため、読み込めない場合や形式が正しくない場合は、エラーとせずに使用しない。<br>
+ * 件数が上限を超える場合も形式が正しくないとし、壊れたファイルの件数で領域を確保しない。
+ * </p>
+ * <p>
+ * 保存は、同じディレクトリの一時ファイルに書き込んだ後に置き換えるため、書きかけの構成キャッシュファイルが残らない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class JdtsConfigsCacheModelImpl implements JdtsConfigsCacheModel {
+
+    /**
+     * 構成キャッシュファイルの識別子
+     *
+     * @since 0.2.8
+     */
+    private static final String CACHE_IDENTIFIER = "#jdts-configs-cache"; //$NON-NLS-1$
+
+    /**
+     * 構成キャッシュファイルの形式のバージョン
+     * <p>
+     * 保持する値を変更した場合は、古い構成キャッシュファイルを使用しないように変更する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * タグ構成数の上限
+     *
+     * @since 0.2.8
+     */
+    private static final int MAX_TAG_CONFIG_COUNT = 1_024;
+
+    /**
+     * 一時ファイルの接尾辞
+     *
+     * @since 0.2.8
+     */
+    private static final String TEMP_FILE_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+    /**
+     * 構成キャッシュファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private final Path cachePath;
+
+    /**
+     * 定義ファイルのハッシュ値
+     *
+     * @since 0.2.8
+     */
+    private String definitionHash;
+
+    /**
+     * 構成キャッシュファイルから復元したJavadocタグ設定の構成モデル
+     *
+     * @since 0.2.8
+     */
+    private JdtsConfigsModel jdtsConfigsModel;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.8
+     *
+     * @param cachePath
+     *                  構成キャッシュファイルのパス
+     */
+    public JdtsConfigsCacheModelImpl(final Path cachePath) {
+
+        this.cachePath = cachePath;
+        this.definitionHash = null;
+        this.jdtsConfigsModel = null;
+
+    }
+
+    /**
+     * 構成キャッシュファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 構成キャッシュファイルのパス
+     */
+    @Override
+    public Path getCachePath() {
+
+        final Path result = this.cachePath;
+        return result;
+
+    }
+
+    /**
+     * 定義ファイルのハッシュ値を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルのハッシュ値
+     */
+    @Override
+    public String getDefinitionHash() {
+
+        final String result = this.definitionHash;
+        return result;
+
+    }
+
+    /**
+     * 構成キャッシュファイルから復元したJavadocタグ設定の構成モデルを返す
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocタグ設定の構成モデル。構成キャッシュファイルが使用できない場合は、null。
+     */
+    @Override
+    public JdtsConfigsModel getJdtsConfigsModel() {
+
+        final JdtsConfigsModel result = this.jdtsConfigsModel;
+        return result;
+
+    }
+
+    /**
+     * 構成キャッシュファイルと定義ファイルを読み込む
+     * <p>
+     * 構成キャッシュファイルが存在しない場合、形式が正しくない場合、または、定義ファイルが変更されている場合は、構成モデルを復元しない。<br>
+     * 構成キャッシュファイルから復元する場合は、YAMLの解析と検証を行わない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return true：構成モデルを復元した、false：構成キャッシュファイルが使用できない
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Override
+    public boolean load(final Path definitionPath) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        /* 定義ファイルのハッシュ値を算出する */
+        try {
+
+            this.definitionHash = KmgToolBaseHashUtils.hash(Files.readAllBytes(definitionPath));
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13003;
+            final Object[]               genMsgArgs  = {
+                definitionPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        this.jdtsConfigsModel = null;
+
+        // 構成キャッシュファイルが存在するか
+        if (!Files.exists(this.cachePath)) {
+            // 存在しない場合
+
+            return result;
+
+        }
+
+        /* 構成キャッシュファイルから構成モデルを復元する */
+        try (final DataInputStream input
+            = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.cachePath)))) {
+
+            this.jdtsConfigsModel = this.readJdtsConfigsModel(input);
+
+        } catch (@SuppressWarnings("unused") final IOException e) {
+
+            // 構成キャッシュファイルは定義ファイルから作成し直せるため、読み込めない場合は使用しない
+            this.jdtsConfigsModel = null;
+
+        }
+
+        result = this.jdtsConfigsModel != null;
+        return result;
+
+    }
+
+    /**
+     * Javadocタグ設定の構成モデルを、読み込んだ定義ファイルのハッシュ値とともに構成キャッシュファイルに保存する
+     *
+     * @since 0.2.8
+     *
+     * @param jdtsConfigsModel
+     *                         Javadocタグ設定の構成モデル
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean save(final JdtsConfigsModel jdtsConfigsModel) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        // 定義ファイルを読み込んでいないか
+        if (this.definitionHash == null) {
+            // 読み込んでいない場合
+
+            return result;
+
+        }
+
+        final Path absoluteCachePath = this.cachePath.toAbsolutePath();
+        Path       tempFilePath      = null;
+
+        try {
+
+            final Path parentPath = absoluteCachePath.getParent();
+            Files.createDirectories(parentPath);
+
+            // 書きかけの構成キャッシュファイルが残らないように、一時ファイルに書き込んだ後に置き換える
+            tempFilePath = Files.createTempFile(parentPath, absoluteCachePath.getFileName().toString(),
+                JdtsConfigsCacheModelImpl.TEMP_FILE_SUFFIX);
+
+            try (final DataOutputStream output
+                = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFilePath)))) {
+
+                this.writeJdtsConfigsModel(output, jdtsConfigsModel);
+
+            }
+
+            try {
+
+                Files.move(tempFilePath, absoluteCachePath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+
+            } catch (@SuppressWarnings("unused") final AtomicMoveNotSupportedException e) {
+
+                // アトミックな置き換えに対応していない場合は、通常の置き換えを行う
+                Files.move(tempFilePath, absoluteCachePath, StandardCopyOption.REPLACE_EXISTING);
+
+            }
+
+        } catch (final IOException e) {
+
+            // 一時ファイルが残っている場合は削除する
+            if (tempFilePath != null) {
+
+                try {
+
+                    Files.deleteIfExists(tempFilePath);
+
+                } catch (final IOException suppressed) {
+
+                    e.addSuppressed(suppressed);
+
+                }
+
+            }
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13012;
+            final Object[]               genMsgArgs  = {
+                this.cachePath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 構成キャッシュファイルからJavadocタグ設定の構成モデルを読み込む
+     *
+     * @since 0.2.8
+     *
+     * @param input
+     *              入力ストリーム
+     *
+     * @return Javadocタグ設定の構成モデル。形式が正しくない場合、または、定義ファイルが変更されている場合は、null。
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private JdtsConfigsModel readJdtsConfigsModel(final DataInputStream input) throws IOException {
+
+        JdtsConfigsModel result = null;
+
+        // 識別子と形式のバージョンが一致するか
+        if (!JdtsConfigsCacheModelImpl.CACHE_IDENTIFIER.equals(input.readUTF())
+            || (input.readInt() != JdtsConfigsCacheModelImpl.FORMAT_VERSION)) {
+            // 一致しない場合
+
+            return result;
+
+        }
+
+        // 定義ファイルが前回から変更されているか
+        if (!this.definitionHash.equals(input.readUTF())) {
+            // 変更されている場合
+
+            return result;
+
+        }
+
+        final int tagConfigCount = input.readInt();
+
+        // タグ構成数が範囲外か
+        if ((tagConfigCount < 0) || (tagConfigCount > JdtsConfigsCacheModelImpl.MAX_TAG_CONFIG_COUNT)) {
+            // 範囲外の場合
+
+            return result;
+
+        }
+
+        final List<JdtsTagConfigModel> tagConfigModels = new ArrayList<>(tagConfigCount);
+
+        for (int i = 0; i < tagConfigCount; i++) {
+
+            final String                  tagName           = input.readUTF();
+            final String                  tagValue          = input.readUTF();
+            final String                  tagDescription    = input.readUTF();
+            final JdtsInsertPositionTypes insertPosition    = JdtsInsertPositionTypes.getEnum(input.readUTF());
+            final JdtsOverwriteTypes      overwrite         = JdtsOverwriteTypes.getEnum(input.readUTF());
+            final JdtsLocationModeTypes   mode              = JdtsLocationModeTypes.getEnum(input.readUTF());
+            final boolean                 removeIfMisplaced = input.readBoolean();
+
+            final int targetElementCount = input.readInt();
+
+            // 対象要素数が範囲外か
+            // 対象要素は区分の種類ごとに指定するため、区分の種類の数を上限とする
+            if ((targetElementCount < 0) || (targetElementCount > JavaClassificationTypes.values().length)) {
+                // 範囲外の場合
+
+                return result;
+
+            }
+
+            final List<JavaClassificationTypes> targetElements = new ArrayList<>(targetElementCount);
+
+            for (int j = 0; j < targetElementCount; j++) {
+
+                targetElements.add(JavaClassificationTypes.getEnum(input.readUTF()));
+
+            }
+
+            // 種類が正しくないか
+            if ((insertPosition == JdtsInsertPositionTypes.NONE) || (overwrite == JdtsOverwriteTypes.NONE)
+                || (mode == JdtsLocationModeTypes.NONE)) {
+                // 正しくない場合
+
+                return result;
+
+            }
+
+            final JdtsLocationConfigModel location
+                = new JdtsLocationConfigModelImpl(mode, removeIfMisplaced, targetElements);
+            tagConfigModels.add(new JdtsTagConfigModelImpl(tagName, tagValue, tagDescription, location,
+                insertPosition, overwrite));
+
+        }
+
+        result = new JdtsConfigsModelImpl(tagConfigModels);
+        return result;
+
+    }
+
+    /**
+     * Javadocタグ設定の構成モデルを構成キャッシュファイルに書き込む
+     *
+     * @since 0.2.8
+     *
+     * @param output
+     *                         出力ストリーム
+     * @param jdtsConfigsModel
+     *                         Javadocタグ設定の構成モデル
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    @SuppressWarnings("hiding")
+    private void writeJdtsConfigsModel(final DataOutputStream output, final JdtsConfigsModel jdtsConfigsModel)
+        throws IOException {
+
+        output.writeUTF(JdtsConfigsCacheModelImpl.CACHE_IDENTIFIER);
+        output.writeInt(JdtsConfigsCacheModelImpl.FORMAT_VERSION);
+        output.writeUTF(this.definitionHash);
+
+        final List<JdtsTagConfigModel> tagConfigModels = jdtsConfigsModel.getJdaTagConfigModels();
+        output.writeInt(tagConfigModels.size());
+
+        for (final JdtsTagConfigModel tagConfigModel : tagConfigModels) {
+
+            output.writeUTF(tagConfigModel.getTagName());
+            output.writeUTF(tagConfigModel.getTagValue());
+            output.writeUTF(tagConfigModel.getTagDescription());
+            output.writeUTF(tagConfigModel.getInsertPosition().get());
+            output.writeUTF(tagConfigModel.getOverwrite().get());
+            output.writeUTF(tagConfigModel.getLocation().getMode().get());
+            output.writeBoolean(tagConfigModel.getLocation().isRemoveIfMisplaced());
+
+            final List<JavaClassificationTypes> targetElements = tagConfigModel.getLocation().getTargetElements();
+            output.writeInt(targetElements.size());
+
+            for (final JavaClassificationTypes targetElement : targetElements) {
+
+                output.writeUTF(targetElement.get());
+
+            }
+
+        }
+
+    }
+
+}
@@ -25,12 +25,15 @@ import kmg.tool.base.jdts.application.types.JdtsConfigKeyTypes;
  * <p>
  * Jdtsは、JavadocTagSetterの略。
  * </p>
+ * <p>
+ * 作成後は変更できないスナップショットであり、タグ構成モデルのリストは変更できない。
+ * </p>
  *
  * @author KenichiroArai
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 public class JdtsConfigsModelImpl implements JdtsConfigsModel {
 
@@ -41,6 +44,37 @@ public class JdtsConfigsModelImpl implements JdtsConfigsModel {
      */
     private final List<JdtsTagConfigModel> jdtsTagConfigModels;
 
+    /**
+     * YAMLデータの変換に使用する共有のオブジェクトマッパー<br>
+     * <p>
+     * オブジェクトマッパーの作成は重いため、構成の読み込みで1つだけ作成して共有する。<br>
+     * 構成キャッシュから作成する場合は使用しないため、初めて使用する時に作成する。<br>
+     * 設定を変更しないため、複数のスレッドから同時に使用できる。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    static final class YamlMapperHolder {
+
+        /**
+         * オブジェクトマッパー
+         *
+         * @since 0.2.8
+         */
+        static final ObjectMapper MAPPER = new ObjectMapper(new YAMLFactory());
+
+        /**
+         * デフォルトコンストラクタ
+         *
+         * @since 0.2.8
+         */
+        private YamlMapperHolder() {
+
+            // 処理なし
+        }
+
+    }
+
     /**
      * コンストラクタ<br>
      *
@@ -54,7 +88,7 @@ public class JdtsConfigsModelImpl implements JdtsConfigsModel {
      */
     public JdtsConfigsModelImpl(final Map<String, Object> yamlData) throws KmgToolBaseValException {
 
-        this.jdtsTagConfigModels = new ArrayList<>();
+        final List<JdtsTagConfigModel> tagConfigModels = new ArrayList<>();
 
         final KmgValsModel valsModel = new KmgValsModelImpl();
 
@@ -70,8 +104,7 @@ public class JdtsConfigsModelImpl implements JdtsConfigsModel {
         }
 
         /* YAMLデータからJdtsConfigsセクションを取得 */
-        final ObjectMapper              mapper      = new ObjectMapper(new YAMLFactory());
-        final List<Map<String, Object>> javadocTags = mapper
+        final List<Map<String, Object>> javadocTags = YamlMapperHolder.MAPPER
             .convertValue(yamlData.get(JdtsConfigKeyTypes.JDTS_CONFIGS.get()), List.class);
 
         if (KmgListUtils.isEmpty(javadocTags)) {
@@ -105,10 +138,12 @@ public class JdtsConfigsModelImpl implements JdtsConfigsModel {
             }
 
             /* モデルの追加 */
-            this.jdtsTagConfigModels.add(model);
+            tagConfigModels.add(model);
 
         }
 
+        this.jdtsTagConfigModels = List.copyOf(tagConfigModels);
+
         /* バリデーションをマージする */
         if (valsModel.isNotEmpty()) {
 
@@ -118,6 +153,24 @@ public class JdtsConfigsModelImpl implements JdtsConfigsModel {
 
     }
 
+    /**
+     * 検証済みのタグ構成モデルのリストから作成するコンストラクタ<br>
+     * <p>
+     * 構成キャッシュから復元する場合に使用し、YAMLデータの変換と検証は行わない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param jdtsTagConfigModels
+     *                            検証済みのタグ構成モデルのリスト
+     */
+    @SuppressWarnings("hiding")
+    public JdtsConfigsModelImpl(final List<JdtsTagConfigModel> jdtsTagConfigModels) {
+
+        this.jdtsTagConfigModels = List.copyOf(jdtsTagConfigModels);
+
+    }
+
     /**
      * Javadocタグ設定のタグ構成モデルのリストを返す<br>
      *
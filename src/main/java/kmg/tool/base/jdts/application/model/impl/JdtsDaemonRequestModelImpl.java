@@ -0,0 +1,443 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+
+/**
+ * Javadocタグ設定の常駐プロセスへの要求モデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 要求は、ヘッダ行の後に、定義ファイルのパス、スレッド数、対象ファイルパスを1行ずつキーと値のタブ区切りで並べ、終了行で終わるUTF-8のテキストである。<br>
+ * 対象ファイルパスは、1件以上を指定する。ヘッダ行、項目の区切り文字、終了行は、常駐プロセスの応答でも使用する。
+ * </p>
+ * <p>
+ * 常駐プロセスが不正な要求で大量のメモリを使用しないように、読み込む1行の長さと要求全体の長さには上限がある。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class JdtsDaemonRequestModelImpl implements JdtsDaemonRequestModel {
+
+    /**
+     * 要求と応答のヘッダ行
+     * <p>
+     * 形式を変更した場合は、バージョンを変更して古い形式の要求と応答を受け付けないようにする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    public static final String HEADER_LINE = "#jdts-daemon\t1"; //$NON-NLS-1$
+
+    /**
+     * 要求と応答の項目の区切り文字
+     *
+     * @since 0.2.8
+     */
+    public static final String ITEM_DELIMITER = "\t"; //$NON-NLS-1$
+
+    /**
+     * 要求と応答の終了行
+     *
+     * @since 0.2.8
+     */
+    public static final String END_LINE = "end"; //$NON-NLS-1$
+
+    /**
+     * 定義ファイルのパスのキー
+     *
+     * @since 0.2.8
+     */
+    private static final String DEFINITION_KEY = "definition"; //$NON-NLS-1$
+
+    /**
+     * スレッド数のキー
+     *
+     * @since 0.2.8
+     */
+    private static final String THREAD_NUM_KEY = "threadNum"; //$NON-NLS-1$
+
+    /**
+     * 対象ファイルパスのキー
+     *
+     * @since 0.2.8
+     */
+    private static final String TARGET_KEY = "target"; //$NON-NLS-1$
+
+    /**
+     * 読み込む1行の長さの上限
+     * <p>
+     * キーとパスの1行を読み込める長さとする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final int MAX_LINE_LENGTH = 8_192;
+
+    /**
+     * 読み込む要求全体の長さの上限
+     *
+     * @since 0.2.8
+     */
+    private static final int MAX_REQUEST_LENGTH = 4 * 1_024 * 1_024;
+
+    /**
+     * 定義ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private final Path definitionPath;
+
+    /**
+     * 対象ファイルパスの一覧
+     *
+     * @since 0.2.8
+     */
+    private final List<Path> targetPaths;
+
+    /**
+     * スレッド数
+     *
+     * @since 0.2.8
+     */
+    private final short threadNum;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     * @param targetPaths
+     *                       対象ファイルパスの一覧
+     * @param threadNum
+     *                       スレッド数
+     */
+    public JdtsDaemonRequestModelImpl(final Path definitionPath, final List<Path> targetPaths, final short threadNum) {
+
+        this.definitionPath = definitionPath;
+        this.targetPaths = List.copyOf(targetPaths);
+        this.threadNum = threadNum;
+
+    }
+
+    /**
+     * 要求を読み込む
+     * <p>
+     * ヘッダ行が一致しない場合、キーが正しくない場合、値が正しくない場合、対象ファイルパスがない場合、または、終了行の前に入力が終わった場合は、形式が正しくない要求としてnullを返す。<br>
+     * 1行の長さ、または、要求全体の長さが上限を超えた場合も、それ以上読み込まずに形式が正しくない要求とする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param reader
+     *               読み込み元
+     *
+     * @return 常駐プロセスへの要求モデル。形式が正しくない場合は、null。
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    public static JdtsDaemonRequestModel read(final BufferedReader reader) throws IOException {
+
+        JdtsDaemonRequestModel result = null;
+
+        final LimitedLineReader lineReader = new LimitedLineReader(reader);
+
+        // ヘッダ行が一致するか
+        if (!JdtsDaemonRequestModelImpl.HEADER_LINE.equals(lineReader.readLine())) {
+            // 一致しない場合
+
+            return result;
+
+        }
+
+        Path             definitionPath = null;
+        short            threadNum      = 1;
+        final List<Path> targetPaths    = new ArrayList<>();
+
+        try {
+
+            String line = lineReader.readLine();
+
+            while ((line != null) && !JdtsDaemonRequestModelImpl.END_LINE.equals(line)) {
+
+                final String[] items = line.split(JdtsDaemonRequestModelImpl.ITEM_DELIMITER, 2);
+
+                // キーと値があるか
+                if (items.length < 2) {
+                    // ない場合
+
+                    return result;
+
+                }
+
+                switch (items[0]) {
+
+                    case DEFINITION_KEY -> definitionPath = Path.of(items[1]);
+
+                    case THREAD_NUM_KEY -> threadNum = Short.parseShort(items[1]);
+
+                    case TARGET_KEY -> targetPaths.add(Path.of(items[1]));
+
+                    default -> {
+                        /* キーが正しくない */
+
+                        return result;
+
+                    }
+
+                }
+
+                line = lineReader.readLine();
+
+            }
+
+            // 終了行の前に入力が終わったか
+            if (line == null) {
+                // 終わった場合
+
+                return result;
+
+            }
+
+        } catch (@SuppressWarnings("unused") final NumberFormatException | InvalidPathException e) {
+
+            // 値が正しくない場合は、形式が正しくない要求とする
+            return result;
+
+        }
+
+        // 定義ファイルのパスと対象ファイルパスがあるか
+        if ((definitionPath == null) || targetPaths.isEmpty()) {
+            // ない場合
+
+            return result;
+
+        }
+
+        result = new JdtsDaemonRequestModelImpl(definitionPath, targetPaths, threadNum);
+        return result;
+
+    }
+
+    /**
+     * 定義ファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルのパス
+     */
+    @Override
+    public Path getDefinitionPath() {
+
+        final Path result = this.definitionPath;
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルパスの一覧を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 対象ファイルパスの一覧
+     */
+    @Override
+    public List<Path> getTargetPaths() {
+
+        final List<Path> result = this.targetPaths;
+        return result;
+
+    }
+
+    /**
+     * スレッド数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return スレッド数
+     */
+    @Override
+    public short getThreadNum() {
+
+        final short result = this.threadNum;
+        return result;
+
+    }
+
+    /**
+     * 要求を書き込む
+     * <p>
+     * 終了行まで書き込んだ後にフラッシュするため、常駐プロセスは接続を閉じずに要求の終わりを判定できる。<br>
+     * パスは、常駐プロセスの作業ディレクトリに依存しないように、絶対パスで書き込む。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param writer
+     *               書き込み先
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    @Override
+    public void write(final BufferedWriter writer) throws IOException {
+
+        writer.write(JdtsDaemonRequestModelImpl.HEADER_LINE);
+        writer.newLine();
+
+        JdtsDaemonRequestModelImpl.writeItem(writer, JdtsDaemonRequestModelImpl.DEFINITION_KEY,
+            this.definitionPath.toAbsolutePath().toString());
+        JdtsDaemonRequestModelImpl.writeItem(writer, JdtsDaemonRequestModelImpl.THREAD_NUM_KEY,
+            String.valueOf(this.threadNum));
+
+        for (final Path targetPath : this.targetPaths) {
+
+            JdtsDaemonRequestModelImpl.writeItem(writer, JdtsDaemonRequestModelImpl.TARGET_KEY,
+                targetPath.toAbsolutePath().toString());
+
+        }
+
+        writer.write(JdtsDaemonRequestModelImpl.END_LINE);
+        writer.newLine();
+        writer.flush();
+
+    }
+
+    /**
+     * キーと値の行を書き込む
+     *
+     * @since 0.2.8
+     *
+     * @param writer
+     *               書き込み先
+     * @param key
+     *               キー
+     * @param value
+     *               値
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private static void writeItem(final BufferedWriter writer, final String key, final String value)
+        throws IOException {
+
+        writer.write(key);
+        writer.write(JdtsDaemonRequestModelImpl.ITEM_DELIMITER);
+        writer.write(value);
+        writer.newLine();
+
+    }
+
+    /**
+     * 長さの上限を超えて読み込まない行の読み込み元<br>
+     *
+     * @since 0.2.8
+     */
+    private static final class LimitedLineReader {
+
+        /**
+         * 読み込み元
+         *
+         * @since 0.2.8
+         */
+        private final BufferedReader reader;
+
+        /**
+         * 要求全体で読み込める残りの長さ
+         *
+         * @since 0.2.8
+         */
+        private int remainingLength;
+
+        /**
+         * コンストラクタ
+         *
+         * @since 0.2.8
+         *
+         * @param reader
+         *               読み込み元
+         */
+        LimitedLineReader(final BufferedReader reader) {
+
+            this.reader = reader;
+            this.remainingLength = JdtsDaemonRequestModelImpl.MAX_REQUEST_LENGTH;
+
+        }
+
+        /**
+         * 1行を読み込む
+         * <p>
+         * 改行文字は、行に含めない。行末の復帰文字も、行に含めない。
+         * </p>
+         *
+         * @since 0.2.8
+         *
+         * @return 1行。入力が終わった場合、または、長さが上限を超えた場合は、null。
+         *
+         * @throws IOException
+         *                     入出力例外
+         */
+        String readLine() throws IOException {
+
+            String result = null;
+
+            int character = this.reader.read();
+
+            // 入力が終わったか
+            if (character < 0) {
+                // 終わった場合
+
+                return result;
+
+            }
+
+            final StringBuilder lineBuilder = new StringBuilder();
+
+            while ((character >= 0) && (character != '\n')) {
+
+                // 長さが上限を超えるか
+                if ((lineBuilder.length() >= JdtsDaemonRequestModelImpl.MAX_LINE_LENGTH)
+                    || (this.remainingLength <= 0)) {
+                    // 超える場合
+
+                    return result;
+
+                }
+
+                lineBuilder.append((char) character);
+                this.remainingLength--;
+                character = this.reader.read();
+
+            }
+
+            // 行末が復帰文字か
+            if ((lineBuilder.length() > 0) && (lineBuilder.charAt(lineBuilder.length() - 1) == '\r')) {
+                // 復帰文字の場合
+
+                lineBuilder.setLength(lineBuilder.length() - 1);
+
+            }
+
+            result = lineBuilder.toString();
+            return result;
+
+        }
+
+    }
+
+}
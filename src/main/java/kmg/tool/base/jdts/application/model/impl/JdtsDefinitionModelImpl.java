@@ -0,0 +1,141 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.jdts.application.model.JdtsDefinitionModel;
+
+/**
+ * Javadocタグ設定の定義モデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 対象のパスのパターンは、作成時に検証してパスの照合に変換する。<br>
+ * 全てのファイルに適用する場合は、対象のパスのパターンに「**」を指定する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class JdtsDefinitionModelImpl implements JdtsDefinitionModel {
+
+    /**
+     * パスの照合の構文
+     *
+     * @since 0.2.8
+     */
+    private static final String GLOB_SYNTAX = "glob:"; //$NON-NLS-1$
+
+    /**
+     * 定義ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private final Path definitionPath;
+
+    /**
+     * 対象のパスのパターン
+     *
+     * @since 0.2.8
+     */
+    private final String pathPattern;
+
+    /**
+     * 対象のパスの照合
+     *
+     * @since 0.2.8
+     */
+    private final PathMatcher pathMatcher;
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     * @param pathPattern
+     *                       対象のパスのパターン
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    public JdtsDefinitionModelImpl(final Path definitionPath, final String pathPattern)
+        throws KmgToolBaseMsgException {
+
+        this.definitionPath = definitionPath;
+        this.pathPattern = pathPattern;
+
+        try {
+
+            this.pathMatcher = FileSystems.getDefault()
+                .getPathMatcher(JdtsDefinitionModelImpl.GLOB_SYNTAX + pathPattern);
+
+        } catch (final IllegalArgumentException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13019;
+            final Object[]               genMsgArgs  = {
+                definitionPath, pathPattern,
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+    }
+
+    /**
+     * 定義ファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルのパス
+     */
+    @Override
+    public Path getDefinitionPath() {
+
+        final Path result = this.definitionPath;
+        return result;
+
+    }
+
+    /**
+     * 対象のパスのパターンを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 対象のパスのパターン
+     */
+    @Override
+    public String getPathPattern() {
+
+        final String result = this.pathPattern;
+        return result;
+
+    }
+
+    /**
+     * 対象のパスのパターンに一致するか
+     *
+     * @since 0.2.8
+     *
+     * @param relativePath
+     *                     基準のディレクトリからの相対パス
+     *
+     * @return true：一致する、false：一致しない
+     */
+    @Override
+    public boolean matches(final Path relativePath) {
+
+        final boolean result = this.pathMatcher.matches(relativePath);
+        return result;
+
+    }
+
+}
@@ -0,0 +1,151 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.nio.file.Path;
+
+import kmg.tool.base.jdts.application.model.JdtsFileTimingModel;
+
+/**
+ * Javadocタグ設定のファイルごとの処理時間モデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class JdtsFileTimingModelImpl implements JdtsFileTimingModel {
+
+    /**
+     * 対象のファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private final Path filePath;
+
+    /**
+     * 解析の処理時間（ナノ秒）
+     *
+     * @since 0.2.8
+     */
+    private final long parseNanos;
+
+    /**
+     * 置換の処理時間（ナノ秒）
+     *
+     * @since 0.2.8
+     */
+    private final long replaceNanos;
+
+    /**
+     * 書き込みの処理時間（ナノ秒）
+     *
+     * @since 0.2.8
+     */
+    private final long writeNanos;
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                     対象のファイルのパス
+     * @param parseNanos
+     *                     解析の処理時間（ナノ秒）
+     * @param replaceNanos
+     *                     置換の処理時間（ナノ秒）
+     * @param writeNanos
+     *                     書き込みの処理時間（ナノ秒）
+     */
+    public JdtsFileTimingModelImpl(final Path filePath, final long parseNanos, final long replaceNanos,
+        final long writeNanos) {
+
+        this.filePath = filePath;
+        this.parseNanos = parseNanos;
+        this.replaceNanos = replaceNanos;
+        this.writeNanos = writeNanos;
+
+    }
+
+    /**
+     * 対象のファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 対象のファイルのパス
+     */
+    @Override
+    public Path getFilePath() {
+
+        final Path result = this.filePath;
+        return result;
+
+    }
+
+    /**
+     * 解析の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 解析の処理時間（ナノ秒）
+     */
+    @Override
+    public long getParseNanos() {
+
+        final long result = this.parseNanos;
+        return result;
+
+    }
+
+    /**
+     * 置換の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 置換の処理時間（ナノ秒）
+     */
+    @Override
+    public long getReplaceNanos() {
+
+        final long result = this.replaceNanos;
+        return result;
+
+    }
+
+    /**
+     * 合計の処理時間を返す<br>
+     * <p>
+     * 解析、置換、書き込みの処理時間の合計である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 合計の処理時間（ナノ秒）
+     */
+    @Override
+    public long getTotalNanos() {
+
+        final long result = this.parseNanos + this.replaceNanos + this.writeNanos;
+        return result;
+
+    }
+
+    /**
+     * 書き込みの処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 書き込みの処理時間（ナノ秒）
+     */
+    @Override
+    public long getWriteNanos() {
+
+        final long result = this.writeNanos;
+        return result;
+
+    }
+
+}
@@ -0,0 +1,727 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import kmg.tool.base.jdts.application.model.JdtsJavadocLexerModel;
+
+/**
+ * Javadocタグ設定のJavadoc字句解析モデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * コードを先頭から1回だけ走査し、文字列リテラル、文字リテラル、テキストブロック、行コメント、ブロックコメントを読み飛ばしながら、Javadocブロックを順に特定する。<br>
+ * Javadocは、先頭または空白文字の直後にある「/**」のうち、直後に空白文字が続くものとする。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class JdtsJavadocLexerModelImpl implements JdtsJavadocLexerModel {
+
+    /**
+     * 見つからない場合の位置
+     *
+     * @since 0.2.8
+     */
+    private static final int NOT_FOUND_IDX = -1;
+
+    /**
+     * 未検索の場合の位置
+     *
+     * @since 0.2.8
+     */
+    private static final int NOT_SEARCHED_IDX = -2;
+
+    /**
+     * スラッシュ文字
+     *
+     * @since 0.2.8
+     */
+    private static final char SLASH = '/';
+
+    /**
+     * アスタリスク文字
+     *
+     * @since 0.2.8
+     */
+    private static final char ASTERISK = '*';
+
+    /**
+     * ダブルクォート文字
+     *
+     * @since 0.2.8
+     */
+    private static final char DOUBLE_QUOTE = '"';
+
+    /**
+     * シングルクォート文字
+     *
+     * @since 0.2.8
+     */
+    private static final char SINGLE_QUOTE = '\'';
+
+    /**
+     * バックスラッシュ文字
+     *
+     * @since 0.2.8
+     */
+    private static final char BACKSLASH = '\\';
+
+    /**
+     * 改行文字（LF）
+     *
+     * @since 0.2.8
+     */
+    private static final char LF = '\n';
+
+    /**
+     * 改行文字（CR）
+     *
+     * @since 0.2.8
+     */
+    private static final char CR = '\r';
+
+    /**
+     * Javadoc開始文字列「/**」の長さ
+     *
+     * @since 0.2.8
+     */
+    private static final int JAVADOC_START_LENGTH = 3;
+
+    /**
+     * コメント開始文字列・終了文字列の長さ
+     *
+     * @since 0.2.8
+     */
+    private static final int COMMENT_DELIMITER_LENGTH = 2;
+
+    /**
+     * テキストブロック区切り文字列「"""」の長さ
+     *
+     * @since 0.2.8
+     */
+    private static final int TEXT_BLOCK_DELIMITER_LENGTH = 3;
+
+    /**
+     * 対象のコード
+     *
+     * @since 0.2.8
+     */
+    private final CharSequence code;
+
+    /**
+     * 対象のコードの長さ
+     *
+     * @since 0.2.8
+     */
+    private final int codeLength;
+
+    /**
+     * Javadocの開始位置
+     *
+     * @since 0.2.8
+     */
+    private int javadocStartIdx;
+
+    /**
+     * ブロックの開始位置
+     *
+     * @since 0.2.8
+     */
+    private int blockStartIdx;
+
+    /**
+     * Javadocの終了位置
+     *
+     * @since 0.2.8
+     */
+    private int javadocEndIdx;
+
+    /**
+     * コードの終了位置
+     *
+     * @since 0.2.8
+     */
+    private int codeEndIdx;
+
+    /**
+     * 次のJavadocの開始位置
+     *
+     * @since 0.2.8
+     */
+    private int nextJavadocStartIdx;
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param code
+     *             対象のコード
+     */
+    public JdtsJavadocLexerModelImpl(final CharSequence code) {
+
+        this.code = code;
+        this.codeLength = code.length();
+
+        this.javadocStartIdx = JdtsJavadocLexerModelImpl.NOT_FOUND_IDX;
+        this.blockStartIdx = JdtsJavadocLexerModelImpl.NOT_FOUND_IDX;
+        this.javadocEndIdx = JdtsJavadocLexerModelImpl.NOT_FOUND_IDX;
+        this.codeEndIdx = JdtsJavadocLexerModelImpl.NOT_FOUND_IDX;
+        this.nextJavadocStartIdx = JdtsJavadocLexerModelImpl.NOT_SEARCHED_IDX;
+
+    }
+
+    /**
+     * ブロックの開始位置を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return ブロックの開始位置
+     */
+    @Override
+    public int getBlockStartIdx() {
+
+        final int result = this.blockStartIdx;
+        return result;
+
+    }
+
+    /**
+     * コードの終了位置を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return コードの終了位置
+     */
+    @Override
+    public int getCodeEndIdx() {
+
+        final int result = this.codeEndIdx;
+        return result;
+
+    }
+
+    /**
+     * Javadocの終了位置を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocの終了位置
+     */
+    @Override
+    public int getJavadocEndIdx() {
+
+        final int result = this.javadocEndIdx;
+        return result;
+
+    }
+
+    /**
+     * Javadocの開始位置を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocの開始位置
+     */
+    @Override
+    public int getJavadocStartIdx() {
+
+        final int result = this.javadocStartIdx;
+        return result;
+
+    }
+
+    /**
+     * 次のJavadocブロックに進む
+     *
+     * @since 0.2.8
+     *
+     * @return true：次のJavadocブロックがある、false：次のJavadocブロックがない
+     */
+    @Override
+    public boolean nextJavadoc() {
+
+        boolean result = false;
+
+        // 次のJavadocを未検索か
+        if (this.nextJavadocStartIdx == JdtsJavadocLexerModelImpl.NOT_SEARCHED_IDX) {
+            // 未検索の場合
+
+            this.nextJavadocStartIdx = this.findJavadocStart(0);
+
+        }
+
+        // 次のJavadocがないか
+        if (this.nextJavadocStartIdx == JdtsJavadocLexerModelImpl.NOT_FOUND_IDX) {
+            // ない場合
+
+            return result;
+
+        }
+
+        /* Javadocの範囲を特定する */
+        this.javadocStartIdx = this.nextJavadocStartIdx;
+        this.blockStartIdx = this.skipWhitespace(this.javadocStartIdx + JdtsJavadocLexerModelImpl.JAVADOC_START_LENGTH);
+        this.javadocEndIdx = this.findCommentEnd(this.blockStartIdx);
+
+        // Javadocが閉じられていないか
+        if (this.javadocEndIdx == JdtsJavadocLexerModelImpl.NOT_FOUND_IDX) {
+            // 閉じられていない場合
+
+            // 残りのすべてをブロックとする
+            this.codeEndIdx = this.codeLength;
+            this.nextJavadocStartIdx = JdtsJavadocLexerModelImpl.NOT_FOUND_IDX;
+
+            result = true;
+            return result;
+
+        }
+
+        /* Javadocに続くコードの範囲を特定する */
+        final int codeStartIdx = this.javadocEndIdx + JdtsJavadocLexerModelImpl.COMMENT_DELIMITER_LENGTH;
+        this.nextJavadocStartIdx = this.findJavadocStart(codeStartIdx);
+
+        // 次のJavadocがないか
+        if (this.nextJavadocStartIdx == JdtsJavadocLexerModelImpl.NOT_FOUND_IDX) {
+            // ない場合
+
+            this.codeEndIdx = this.codeLength;
+
+        } else {
+            // ある場合
+
+            // 次のJavadocの直前の空白文字は含めない
+            this.codeEndIdx = this.skipWhitespaceBackward(this.nextJavadocStartIdx, codeStartIdx);
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * コメントの終了位置を検索する<br>
+     *
+     * @since 0.2.8
+     *
+     * @param fromIdx
+     *                検索開始位置
+     *
+     * @return 「*&#47;」の開始位置。見つからない場合は、-1
+     */
+    private int findCommentEnd(final int fromIdx) {
+
+        int result = JdtsJavadocLexerModelImpl.NOT_FOUND_IDX;
+
+        for (int idx = fromIdx; (idx + 1) < this.codeLength; idx++) {
+
+            if ((this.code.charAt(idx) != JdtsJavadocLexerModelImpl.ASTERISK)
+                || (this.code.charAt(idx + 1) != JdtsJavadocLexerModelImpl.SLASH)) {
+
+                continue;
+
+            }
+
+            result = idx;
+            break;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * Javadocの開始位置を検索する<br>
+     * <p>
+     * 文字列リテラル、文字リテラル、テキストブロック、行コメント、ブロックコメントは読み飛ばす。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param fromIdx
+     *                検索開始位置
+     *
+     * @return 「/**」の開始位置。見つからない場合は、-1
+     */
+    private int findJavadocStart(final int fromIdx) {
+
+        int result = JdtsJavadocLexerModelImpl.NOT_FOUND_IDX;
+
+        int idx = fromIdx;
+
+        while (idx < this.codeLength) {
+
+            final char currentChar = this.code.charAt(idx);
+
+            // 文字列リテラルまたはテキストブロックの開始か
+            if (currentChar == JdtsJavadocLexerModelImpl.DOUBLE_QUOTE) {
+
+                idx = this.skipStringLiteral(idx);
+                continue;
+
+            }
+
+            // 文字リテラルの開始か
+            if (currentChar == JdtsJavadocLexerModelImpl.SINGLE_QUOTE) {
+
+                idx = this.skipQuotedLiteral(idx, JdtsJavadocLexerModelImpl.SINGLE_QUOTE);
+                continue;
+
+            }
+
+            // コメントの開始ではないか
+            if ((currentChar != JdtsJavadocLexerModelImpl.SLASH) || ((idx + 1) >= this.codeLength)) {
+
+                idx++;
+                continue;
+
+            }
+
+            final char nextChar = this.code.charAt(idx + 1);
+
+            // 行コメントの開始か
+            if (nextChar == JdtsJavadocLexerModelImpl.SLASH) {
+
+                idx = this.skipLineComment(idx);
+                continue;
+
+            }
+
+            // ブロックコメントの開始ではないか
+            if (nextChar != JdtsJavadocLexerModelImpl.ASTERISK) {
+
+                idx++;
+                continue;
+
+            }
+
+            // Javadocの開始か
+            if (this.isJavadocStart(idx)) {
+
+                result = idx;
+                break;
+
+            }
+
+            idx = this.skipBlockComment(idx);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * Javadocの開始かを判定する<br>
+     * <p>
+     * 「/**」が先頭または空白文字の直後にあり、直後に空白文字が続く場合にJavadocの開始とする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param idx
+     *            「/*」の開始位置
+     *
+     * @return true：Javadocの開始である、false：Javadocの開始ではない
+     */
+    private boolean isJavadocStart(final int idx) {
+
+        boolean result = false;
+
+        final int whitespaceIdx = idx + JdtsJavadocLexerModelImpl.JAVADOC_START_LENGTH;
+
+        // 「/**」の後に文字がないか
+        if (whitespaceIdx >= this.codeLength) {
+
+            return result;
+
+        }
+
+        // 「/**」ではないか
+        final char thirdChar = this.code.charAt(idx + JdtsJavadocLexerModelImpl.COMMENT_DELIMITER_LENGTH);
+
+        if (thirdChar != JdtsJavadocLexerModelImpl.ASTERISK) {
+
+            return result;
+
+        }
+
+        // 「/**」の直後が空白文字ではないか
+        if (!Character.isWhitespace(this.code.charAt(whitespaceIdx))) {
+
+            return result;
+
+        }
+
+        // 「/**」の直前が空白文字ではないか
+        if ((idx > 0) && !Character.isWhitespace(this.code.charAt(idx - 1))) {
+
+            return result;
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * ブロックコメントを読み飛ばす<br>
+     *
+     * @since 0.2.8
+     *
+     * @param idx
+     *            「/*」の開始位置
+     *
+     * @return ブロックコメントの直後の位置
+     */
+    private int skipBlockComment(final int idx) {
+
+        int result = this.codeLength;
+
+        final int commentEndIdx = this.findCommentEnd(idx + JdtsJavadocLexerModelImpl.COMMENT_DELIMITER_LENGTH);
+
+        // ブロックコメントが閉じられていないか
+        if (commentEndIdx == JdtsJavadocLexerModelImpl.NOT_FOUND_IDX) {
+
+            return result;
+
+        }
+
+        result = commentEndIdx + JdtsJavadocLexerModelImpl.COMMENT_DELIMITER_LENGTH;
+        return result;
+
+    }
+
+    /**
+     * 行コメントを読み飛ばす<br>
+     *
+     * @since 0.2.8
+     *
+     * @param idx
+     *            「//」の開始位置
+     *
+     * @return 行末の位置
+     */
+    private int skipLineComment(final int idx) {
+
+        int result = idx + JdtsJavadocLexerModelImpl.COMMENT_DELIMITER_LENGTH;
+
+        while (result < this.codeLength) {
+
+            final char currentChar = this.code.charAt(result);
+
+            if ((currentChar == JdtsJavadocLexerModelImpl.LF) || (currentChar == JdtsJavadocLexerModelImpl.CR)) {
+
+                break;
+
+            }
+
+            result++;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 引用符で囲まれたリテラルを読み飛ばす<br>
+     * <p>
+     * 文字列リテラルと文字リテラルが対象である。エスケープされた引用符は読み飛ばし、閉じられずに改行に達した場合は改行の位置で終了する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param idx
+     *                  開始の引用符の位置
+     * @param quoteChar
+     *                  引用符
+     *
+     * @return リテラルの直後の位置
+     */
+    private int skipQuotedLiteral(final int idx, final char quoteChar) {
+
+        int result = idx + 1;
+
+        while (result < this.codeLength) {
+
+            final char currentChar = this.code.charAt(result);
+
+            // エスケープ文字か
+            if (currentChar == JdtsJavadocLexerModelImpl.BACKSLASH) {
+
+                result += 2;
+                continue;
+
+            }
+
+            // 終了の引用符か
+            if (currentChar == quoteChar) {
+
+                result++;
+                break;
+
+            }
+
+            // 改行か
+            if ((currentChar == JdtsJavadocLexerModelImpl.LF) || (currentChar == JdtsJavadocLexerModelImpl.CR)) {
+
+                break;
+
+            }
+
+            result++;
+
+        }
+
+        result = Math.min(result, this.codeLength);
+        return result;
+
+    }
+
+    /**
+     * 文字列リテラルまたはテキストブロックを読み飛ばす<br>
+     *
+     * @since 0.2.8
+     *
+     * @param idx
+     *            開始のダブルクォートの位置
+     *
+     * @return 文字列リテラルまたはテキストブロックの直後の位置
+     */
+    private int skipStringLiteral(final int idx) {
+
+        int result;
+
+        // テキストブロックではないか
+        if (!this.startsWithTextBlockDelimiter(idx)) {
+            // テキストブロックではない場合
+
+            result = this.skipQuotedLiteral(idx, JdtsJavadocLexerModelImpl.DOUBLE_QUOTE);
+            return result;
+
+        }
+
+        /* テキストブロックを読み飛ばす */
+        result = idx + JdtsJavadocLexerModelImpl.TEXT_BLOCK_DELIMITER_LENGTH;
+
+        while (result < this.codeLength) {
+
+            // エスケープ文字か
+            if (this.code.charAt(result) == JdtsJavadocLexerModelImpl.BACKSLASH) {
+
+                result += 2;
+                continue;
+
+            }
+
+            // 終了の区切り文字か
+            if (this.startsWithTextBlockDelimiter(result)) {
+
+                result += JdtsJavadocLexerModelImpl.TEXT_BLOCK_DELIMITER_LENGTH;
+                break;
+
+            }
+
+            result++;
+
+        }
+
+        result = Math.min(result, this.codeLength);
+        return result;
+
+    }
+
+    /**
+     * 空白文字を読み飛ばす<br>
+     *
+     * @since 0.2.8
+     *
+     * @param fromIdx
+     *                開始位置
+     *
+     * @return 空白文字ではない最初の位置
+     */
+    private int skipWhitespace(final int fromIdx) {
+
+        int result = fromIdx;
+
+        while ((result < this.codeLength) && Character.isWhitespace(this.code.charAt(result))) {
+
+            result++;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 後方の空白文字を読み飛ばす<br>
+     *
+     * @since 0.2.8
+     *
+     * @param toIdx
+     *                 終了位置
+     * @param lowerIdx
+     *                 下限位置
+     *
+     * @return 終了位置の直前に続く空白文字の開始位置
+     */
+    private int skipWhitespaceBackward(final int toIdx, final int lowerIdx) {
+
+        int result = toIdx;
+
+        while ((result > lowerIdx) && Character.isWhitespace(this.code.charAt(result - 1))) {
+
+            result--;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * テキストブロックの区切り文字で始まるかを判定する<br>
+     *
+     * @since 0.2.8
+     *
+     * @param idx
+     *            判定位置
+     *
+     * @return true：区切り文字「"""」で始まる、false：区切り文字で始まらない
+     */
+    private boolean startsWithTextBlockDelimiter(final int idx) {
+
+        boolean result = false;
+
+        // 区切り文字の長さが残っていないか
+        if ((idx + JdtsJavadocLexerModelImpl.TEXT_BLOCK_DELIMITER_LENGTH) > this.codeLength) {
+
+            return result;
+
+        }
+
+        for (int i = 0; i < JdtsJavadocLexerModelImpl.TEXT_BLOCK_DELIMITER_LENGTH; i++) {
+
+            if (this.code.charAt(idx + i) != JdtsJavadocLexerModelImpl.DOUBLE_QUOTE) {
+
+                return result;
+
+            }
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+}
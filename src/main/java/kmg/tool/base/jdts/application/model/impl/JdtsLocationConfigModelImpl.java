@@ -4,9 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-
 import kmg.core.infrastructure.model.val.KmgValDataModel;
 import kmg.core.infrastructure.model.val.KmgValsModel;
 import kmg.core.infrastructure.model.val.impl.KmgValDataModelImpl;
@@ -28,7 +25,7 @@ import kmg.tool.base.jdts.application.types.JdtsLocationModeTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 public class JdtsLocationConfigModelImpl implements JdtsLocationConfigModel {
 
@@ -68,8 +65,6 @@ public class JdtsLocationConfigModelImpl implements JdtsLocationConfigModel {
 
         final KmgValsModel valsModel = new KmgValsModelImpl();
 
-        final ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
-
         /* 配置方法の設定 */
         this.mode = JdtsLocationModeTypes.getEnum((String) locationMap.get(JdtsConfigKeyTypes.MODE.get()));
 
@@ -78,9 +73,9 @@ public class JdtsLocationConfigModelImpl implements JdtsLocationConfigModel {
             = Boolean.parseBoolean(String.valueOf(locationMap.get(JdtsConfigKeyTypes.REMOVE_IF_MISPLACED.get())));
 
         /* 対象要素の種類の設定 */
-        final List<String> targetElementsKeys
-            = mapper.convertValue(locationMap.get(JdtsConfigKeyTypes.TARGET_ELEMENTS.get()), List.class);
-        this.targetElements = new ArrayList<>();
+        final List<String>                  targetElementsKeys = JdtsConfigsModelImpl.YamlMapperHolder.MAPPER
+            .convertValue(locationMap.get(JdtsConfigKeyTypes.TARGET_ELEMENTS.get()), List.class);
+        final List<JavaClassificationTypes> targetElementList  = new ArrayList<>();
 
         if (targetElementsKeys != null) {
 
@@ -110,7 +105,7 @@ public class JdtsLocationConfigModelImpl implements JdtsLocationConfigModel {
 
                 }
 
-                this.targetElements.add(type);
+                targetElementList.add(type);
 
             }
 
@@ -125,6 +120,8 @@ public class JdtsLocationConfigModelImpl implements JdtsLocationConfigModel {
 
         }
 
+        this.targetElements = List.copyOf(targetElementList);
+
         /* バリデーションをマージする */
         if (valsModel.isNotEmpty()) {
 
@@ -134,6 +131,31 @@ public class JdtsLocationConfigModelImpl implements JdtsLocationConfigModel {
 
     }
 
+    /**
+     * 検証済みの値から作成するコンストラクタ<br>
+     * <p>
+     * 構成キャッシュから復元する場合に使用し、検証は行わない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param mode
+     *                          配置方法
+     * @param removeIfMisplaced
+     *                          誤配置時に削除するかどうか
+     * @param targetElements
+     *                          対象要素の種類
+     */
+    @SuppressWarnings("hiding")
+    public JdtsLocationConfigModelImpl(final JdtsLocationModeTypes mode, final boolean removeIfMisplaced,
+        final List<JavaClassificationTypes> targetElements) {
+
+        this.mode = mode;
+        this.removeIfMisplaced = removeIfMisplaced;
+        this.targetElements = List.copyOf(targetElements);
+
+    }
+
     /**
      * 配置方法を返す<br>
      *
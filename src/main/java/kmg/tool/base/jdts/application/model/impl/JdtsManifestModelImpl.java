@@ -0,0 +1,558 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.cmn.infrastructure.utils.KmgToolBaseHashUtils;
+import kmg.tool.base.jdts.application.model.JdtsManifestModel;
+
+/**
+ * Javadocタグ設定のマニフェストモデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * マニフェストファイルは、1行に1ファイルの処理結果をタブ区切りで保持する。<br>
+ * 項目は、サイズ、最終更新日時（ミリ秒）、内容のハッシュ値、定義ファイルのハッシュ値、絶対パスの順である。<br>
+ * ハッシュ値は、SHA-256の16進数文字列である。
+ * </p>
+ * <p>
+ * 並列処理からの判定と記録に対応するため、今回の処理結果はスレッドセーフなマップで保持する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class JdtsManifestModelImpl implements JdtsManifestModel {
+
+    /**
+     * マニフェストファイルのヘッダ行
+     *
+     * @since 0.2.8
+     */
+    private static final String HEADER_LINE = "#jdts-manifest\t1"; //$NON-NLS-1$
+
+    /**
+     * 項目の区切り文字
+     *
+     * @since 0.2.8
+     */
+    private static final String ITEM_DELIMITER = "\t"; //$NON-NLS-1$
+
+    /**
+     * 1行の項目数
+     *
+     * @since 0.2.8
+     */
+    private static final int ITEM_COUNT = 5;
+
+    /**
+     * 一時ファイルの接尾辞
+     *
+     * @since 0.2.8
+     */
+    private static final String TEMP_FILE_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+    /**
+     * マニフェストファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private final Path manifestPath;
+
+    /**
+     * 前回の処理結果のマップ
+     * <p>
+     * キーは、対象のファイルの絶対パスである。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Map<String, ManifestEntry> previousEntryMap;
+
+    /**
+     * 今回の処理結果のマップ
+     * <p>
+     * キーは、対象のファイルの絶対パスである。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Map<String, ManifestEntry> currentEntryMap;
+
+    /**
+     * 定義ファイルのハッシュ値
+     *
+     * @since 0.2.8
+     */
+    private String definitionHash;
+
+    /**
+     * マニフェストのエントリ
+     *
+     * @since 0.2.8
+     *
+     * @param size
+     *                         サイズ
+     * @param lastModifiedTime
+     *                         最終更新日時（ミリ秒）
+     * @param contentHash
+     *                         内容のハッシュ値
+     * @param definitionHash
+     *                         定義ファイルのハッシュ値
+     */
+    private record ManifestEntry(long size, long lastModifiedTime, String contentHash, String definitionHash) {
+        // 処理なし
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.8
+     *
+     * @param manifestPath
+     *                     マニフェストファイルのパス
+     */
+    public JdtsManifestModelImpl(final Path manifestPath) {
+
+        this.manifestPath = manifestPath;
+        this.previousEntryMap = new HashMap<>();
+        this.currentEntryMap = new ConcurrentHashMap<>();
+        this.definitionHash = null;
+
+    }
+
+    /**
+     * 定義ファイルのハッシュ値を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 定義ファイルのハッシュ値
+     */
+    @Override
+    public String getDefinitionHash() {
+
+        final String result = this.definitionHash;
+        return result;
+
+    }
+
+    /**
+     * マニフェストファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return マニフェストファイルのパス
+     */
+    @Override
+    public Path getManifestPath() {
+
+        final Path result = this.manifestPath;
+        return result;
+
+    }
+
+    /**
+     * 対象のファイルが前回の処理から変更されていないかを判定する
+     * <p>
+     * サイズと最終更新日時が前回と同じ場合は、内容を読み込まずに変更なしと判定する。<br>
+     * サイズが同じで最終更新日時のみ異なる場合は、内容のハッシュ値を比較する。<br>
+     * 変更なしと判定した対象のファイルは、今回の処理結果として記録する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return true：変更なし、false：変更あり、または、前回の処理結果なし
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Override
+    public boolean isUnchanged(final Path filePath) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        final String        key           = JdtsManifestModelImpl.toKey(filePath);
+        final ManifestEntry previousEntry = this.previousEntryMap.get(key);
+
+        // 前回の処理結果があるか
+        if (previousEntry == null) {
+            // ない場合
+
+            return result;
+
+        }
+
+        // 定義ファイルが前回から変更されているか
+        if (!previousEntry.definitionHash().equals(this.definitionHash)) {
+            // 変更されている場合
+
+            return result;
+
+        }
+
+        final long size;
+        final long lastModifiedTime;
+
+        try {
+
+            size = Files.size(filePath);
+            lastModifiedTime = Files.getLastModifiedTime(filePath).toMillis();
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13006;
+            final Object[]               genMsgArgs  = {
+                filePath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        // サイズが前回から変更されているか
+        if (size != previousEntry.size()) {
+            // 変更されている場合
+
+            return result;
+
+        }
+
+        // 最終更新日時が前回と同じか
+        if (lastModifiedTime == previousEntry.lastModifiedTime()) {
+            // 同じ場合
+
+            this.currentEntryMap.put(key, previousEntry);
+
+            result = true;
+            return result;
+
+        }
+
+        /* 最終更新日時のみが異なる場合は、内容のハッシュ値で判定する */
+        final String contentHash = KmgToolBaseHashUtils.hash(JdtsManifestModelImpl.readFileBytes(filePath));
+
+        // 内容が前回から変更されているか
+        if (!contentHash.equals(previousEntry.contentHash())) {
+            // 変更されている場合
+
+            return result;
+
+        }
+
+        this.currentEntryMap.put(key,
+            new ManifestEntry(size, lastModifiedTime, contentHash, this.definitionHash));
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * マニフェストファイルと定義ファイルを読み込む
+     * <p>
+     * マニフェストファイルが存在しない場合は、前回の処理結果なしとして扱う。<br>
+     * 形式が正しくない行は、前回の処理結果なしとして読み飛ばす。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Override
+    public boolean load(final Path definitionPath) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        /* 定義ファイルのハッシュ値を算出する */
+        try {
+
+            this.definitionHash = KmgToolBaseHashUtils.hash(Files.readAllBytes(definitionPath));
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13003;
+            final Object[]               genMsgArgs  = {
+                definitionPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        /* 前回の処理結果を読み込む */
+        this.previousEntryMap.clear();
+        this.currentEntryMap.clear();
+
+        // マニフェストファイルが存在するか
+        if (!Files.exists(this.manifestPath)) {
+            // 存在しない場合
+
+            result = true;
+            return result;
+
+        }
+
+        final List<String> lines;
+
+        try {
+
+            lines = Files.readAllLines(this.manifestPath, StandardCharsets.UTF_8);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13008;
+            final Object[]               genMsgArgs  = {
+                this.manifestPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        // ヘッダ行が一致するか
+        if (lines.isEmpty() || !JdtsManifestModelImpl.HEADER_LINE.equals(lines.get(0))) {
+            // 一致しない場合
+
+            result = true;
+            return result;
+
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+
+            final String[] items = lines.get(i).split(JdtsManifestModelImpl.ITEM_DELIMITER,
+                JdtsManifestModelImpl.ITEM_COUNT);
+
+            if (items.length < JdtsManifestModelImpl.ITEM_COUNT) {
+
+                continue;
+
+            }
+
+            try {
+
+                final ManifestEntry entry
+                    = new ManifestEntry(Long.parseLong(items[0]), Long.parseLong(items[1]), items[2], items[3]);
+                this.previousEntryMap.put(items[4], entry);
+
+            } catch (@SuppressWarnings("unused") final NumberFormatException e) {
+
+                // 形式が正しくない行は読み飛ばす
+                continue;
+
+            }
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 対象のファイルの現在の状態を今回の処理結果として記録する
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Override
+    public boolean record(final Path filePath) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        final byte[] content = JdtsManifestModelImpl.readFileBytes(filePath);
+        final long   lastModifiedTime;
+
+        try {
+
+            lastModifiedTime = Files.getLastModifiedTime(filePath).toMillis();
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13006;
+            final Object[]               genMsgArgs  = {
+                filePath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        final ManifestEntry entry = new ManifestEntry(content.length, lastModifiedTime,
+            KmgToolBaseHashUtils.hash(content), this.definitionHash);
+        this.currentEntryMap.put(JdtsManifestModelImpl.toKey(filePath), entry);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 今回の処理結果をマニフェストファイルに保存する
+     * <p>
+     * 今回の処理で記録されなかった対象のファイルは、マニフェストファイルから除外する。<br>
+     * 差分が出にくいように、パスの昇順で出力する。<br>
+     * 一時ファイルに書き込んでから置き換えるため、保存が途中で失敗しても前回のマニフェストファイルが残る。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Override
+    public boolean save() throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        final List<String> lines = new ArrayList<>(this.currentEntryMap.size() + 1);
+        lines.add(JdtsManifestModelImpl.HEADER_LINE);
+
+        for (final Map.Entry<String, ManifestEntry> mapEntry : new TreeMap<>(this.currentEntryMap).entrySet()) {
+
+            final ManifestEntry entry = mapEntry.getValue();
+            final String        line  = String.join(JdtsManifestModelImpl.ITEM_DELIMITER, String.valueOf(entry.size()),
+                String.valueOf(entry.lastModifiedTime()), entry.contentHash(), entry.definitionHash(),
+                mapEntry.getKey());
+            lines.add(line);
+
+        }
+
+        final Path absoluteManifestPath = this.manifestPath.toAbsolutePath();
+        Path       tempFilePath         = null;
+
+        try {
+
+            final Path parentPath = absoluteManifestPath.getParent();
+            Files.createDirectories(parentPath);
+
+            // 書きかけのマニフェストファイルが残らないように、一時ファイルに書き込んだ後に置き換える
+            tempFilePath = Files.createTempFile(parentPath, absoluteManifestPath.getFileName().toString(),
+                JdtsManifestModelImpl.TEMP_FILE_SUFFIX);
+            Files.write(tempFilePath, lines, StandardCharsets.UTF_8);
+
+            try {
+
+                Files.move(tempFilePath, absoluteManifestPath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+
+            } catch (@SuppressWarnings("unused") final AtomicMoveNotSupportedException e) {
+
+                // アトミックな置き換えに対応していない場合は、通常の置き換えを行う
+                Files.move(tempFilePath, absoluteManifestPath, StandardCopyOption.REPLACE_EXISTING);
+
+            }
+
+        } catch (final IOException e) {
+
+            // 一時ファイルが残っている場合は削除する
+            if (tempFilePath != null) {
+
+                try {
+
+                    Files.deleteIfExists(tempFilePath);
+
+                } catch (final IOException suppressed) {
+
+                    e.addSuppressed(suppressed);
+
+                }
+
+            }
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13009;
+            final Object[]               genMsgArgs  = {
+                this.manifestPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 対象のファイルの内容を読み込む
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return 内容
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private static byte[] readFileBytes(final Path filePath) throws KmgToolBaseMsgException {
+
+        final byte[] result;
+
+        try {
+
+            result = Files.readAllBytes(filePath);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13006;
+            final Object[]               genMsgArgs  = {
+                filePath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * マップのキーに変換する
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return 正規化した絶対パス
+     */
+    private static String toKey(final Path filePath) {
+
+        final String result = filePath.toAbsolutePath().normalize().toString();
+        return result;
+
+    }
+
+}
@@ -0,0 +1,134 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import kmg.core.infrastructure.types.JavaClassificationTypes;
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
+import kmg.tool.base.jdts.application.model.JdtsReplActionModel;
+import kmg.tool.base.jdts.application.types.JdtsReplActionTypes;
+
+/**
+ * Javadocタグ設定の置換操作モデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class JdtsReplActionModelImpl implements JdtsReplActionModel {
+
+    /**
+     * 置換操作の種類
+     *
+     * @since 0.2.8
+     */
+    private final JdtsReplActionTypes action;
+
+    /**
+     * 要素の区分
+     *
+     * @since 0.2.8
+     */
+    private final JavaClassificationTypes classification;
+
+    /**
+     * 要素名
+     *
+     * @since 0.2.8
+     */
+    private final String elementName;
+
+    /**
+     * 操作したタグ
+     *
+     * @since 0.2.8
+     */
+    private final KmgJavadocTagTypes tag;
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param action
+     *                       置換操作の種類
+     * @param classification
+     *                       要素の区分
+     * @param elementName
+     *                       要素名
+     * @param tag
+     *                       操作したタグ
+     */
+    public JdtsReplActionModelImpl(final JdtsReplActionTypes action, final JavaClassificationTypes classification,
+        final String elementName, final KmgJavadocTagTypes tag) {
+
+        this.action = action;
+        this.classification = classification;
+        this.elementName = elementName;
+        this.tag = tag;
+
+    }
+
+    /**
+     * 置換操作の種類を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 置換操作の種類
+     */
+    @Override
+    public JdtsReplActionTypes getAction() {
+
+        final JdtsReplActionTypes result = this.action;
+        return result;
+
+    }
+
+    /**
+     * 要素の区分を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 要素の区分
+     */
+    @Override
+    public JavaClassificationTypes getClassification() {
+
+        final JavaClassificationTypes result = this.classification;
+        return result;
+
+    }
+
+    /**
+     * 要素名を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 要素名
+     */
+    @Override
+    public String getElementName() {
+
+        final String result = this.elementName;
+        return result;
+
+    }
+
+    /**
+     * 操作したタグを返す
+     *
+     * @since 0.2.8
+     *
+     * @return 操作したタグ
+     */
+    @Override
+    public KmgJavadocTagTypes getTag() {
+
+        final KmgJavadocTagTypes result = this.tag;
+        return result;
+
+    }
+
+}
@@ -0,0 +1,420 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
+import kmg.tool.base.jdts.application.model.JdtsFileTimingModel;
+import kmg.tool.base.jdts.application.model.JdtsReplActionModel;
+import kmg.tool.base.jdts.application.model.JdtsStatisticsModel;
+import kmg.tool.base.jdts.application.types.JdtsReplActionTypes;
+
+/**
+ * Javadocタグ設定の統計モデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 並列処理の各ワーカーから集計に加えるため、スレッドセーフなマップとカウンタで保持する。<br>
+ * 処理時間が長いファイルは、保持するファイル数を上限とし、合計の処理時間が最も短いものを先頭とするキューで保持する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public class JdtsStatisticsModelImpl implements JdtsStatisticsModel {
+
+    /**
+     * 処理時間が長いファイルを保持するファイル数の初期値
+     *
+     * @since 0.2.8
+     */
+    private static final int DEFAULT_SLOWEST_FILE_NUM = 10;
+
+    /**
+     * 処理時間が長いファイルを保持するファイル数
+     *
+     * @since 0.2.8
+     */
+    private final int slowestFileNum;
+
+    /**
+     * 置換操作の件数のマップ
+     * <p>
+     * キーはタグ、値は置換操作の種類ごとの件数のマップ。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Map<KmgJavadocTagTypes, Map<JdtsReplActionTypes, LongAdder>> replActionCountMap;
+
+    /**
+     * 上書きしなかった件数のマップ
+     * <p>
+     * キーはタグ、値は上書きしなかった件数。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Map<KmgJavadocTagTypes, LongAdder> skipCountMap;
+
+    /**
+     * 処理したファイル数
+     *
+     * @since 0.2.8
+     */
+    private final LongAdder fileCount;
+
+    /**
+     * 解析の合計の処理時間（ナノ秒）
+     *
+     * @since 0.2.8
+     */
+    private final LongAdder totalParseNanos;
+
+    /**
+     * 置換の合計の処理時間（ナノ秒）
+     *
+     * @since 0.2.8
+     */
+    private final LongAdder totalReplaceNanos;
+
+    /**
+     * 書き込みの合計の処理時間（ナノ秒）
+     *
+     * @since 0.2.8
+     */
+    private final LongAdder totalWriteNanos;
+
+    /**
+     * 処理時間が長いファイルのキュー
+     * <p>
+     * 合計の処理時間が最も短いファイルを先頭とする。更新と参照は、キューで同期して行う。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final PriorityQueue<JdtsFileTimingModel> slowestFileTimingQueue;
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.8
+     */
+    public JdtsStatisticsModelImpl() {
+
+        this(JdtsStatisticsModelImpl.DEFAULT_SLOWEST_FILE_NUM);
+
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param slowestFileNum
+     *                       処理時間が長いファイルを保持するファイル数
+     */
+    public JdtsStatisticsModelImpl(final int slowestFileNum) {
+
+        this.slowestFileNum = slowestFileNum;
+        this.replActionCountMap = new ConcurrentHashMap<>();
+        this.skipCountMap = new ConcurrentHashMap<>();
+        this.fileCount = new LongAdder();
+        this.totalParseNanos = new LongAdder();
+        this.totalReplaceNanos = new LongAdder();
+        this.totalWriteNanos = new LongAdder();
+        this.slowestFileTimingQueue = new PriorityQueue<>(
+            Comparator.comparingLong(JdtsFileTimingModel::getTotalNanos));
+
+    }
+
+    /**
+     * 1ファイル分の処理結果を集計に加える<br>
+     * <p>
+     * タグがない置換操作は、タグごとの件数に加えない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param fileTimingModel
+     *                        ファイルごとの処理時間モデル
+     * @param replActionList
+     *                        置換操作のリスト
+     * @param skipCountMap
+     *                        タグごとの上書きしなかった件数のマップ
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public void addFileResult(final JdtsFileTimingModel fileTimingModel,
+        final List<JdtsReplActionModel> replActionList, final Map<KmgJavadocTagTypes, Long> skipCountMap) {
+
+        /* 置換操作の件数を加える */
+        if (replActionList != null) {
+
+            for (final JdtsReplActionModel replActionModel : replActionList) {
+
+                // タグがないか
+                if (replActionModel.getTag() == null) {
+                    // ない場合
+
+                    continue;
+
+                }
+
+                this.replActionCountMap.computeIfAbsent(replActionModel.getTag(), key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(replActionModel.getAction(), key -> new LongAdder()).increment();
+
+            }
+
+        }
+
+        /* 上書きしなかった件数を加える */
+        if (skipCountMap != null) {
+
+            for (final Map.Entry<KmgJavadocTagTypes, Long> skipCountEntry : skipCountMap.entrySet()) {
+
+                this.skipCountMap.computeIfAbsent(skipCountEntry.getKey(), key -> new LongAdder())
+                    .add(skipCountEntry.getValue());
+
+            }
+
+        }
+
+        /* 処理時間を加える */
+        this.fileCount.increment();
+        this.totalParseNanos.add(fileTimingModel.getParseNanos());
+        this.totalReplaceNanos.add(fileTimingModel.getReplaceNanos());
+        this.totalWriteNanos.add(fileTimingModel.getWriteNanos());
+
+        // 処理時間が長いファイルを保持しないか
+        if (this.slowestFileNum <= 0) {
+            // 保持しない場合
+
+            return;
+
+        }
+
+        synchronized (this.slowestFileTimingQueue) {
+
+            this.slowestFileTimingQueue.offer(fileTimingModel);
+
+            // 保持するファイル数を超えたか
+            if (this.slowestFileTimingQueue.size() > this.slowestFileNum) {
+                // 超えた場合
+
+                // 合計の処理時間が最も短いファイルを除く
+                this.slowestFileTimingQueue.poll();
+
+            }
+
+        }
+
+    }
+
+    /**
+     * 処理したファイル数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 処理したファイル数
+     */
+    @Override
+    public long getFileCount() {
+
+        final long result = this.fileCount.sum();
+        return result;
+
+    }
+
+    /**
+     * タグと置換操作の種類に対応する置換操作の件数を返す
+     *
+     * @since 0.2.8
+     *
+     * @param tag
+     *               タグ
+     * @param action
+     *               置換操作の種類
+     *
+     * @return 置換操作の件数
+     */
+    @Override
+    public long getReplActionCount(final KmgJavadocTagTypes tag, final JdtsReplActionTypes action) {
+
+        long result = 0;
+
+        final Map<JdtsReplActionTypes, LongAdder> actionCountMap = this.replActionCountMap.get(tag);
+
+        // タグの置換操作がないか
+        if (actionCountMap == null) {
+            // ない場合
+
+            return result;
+
+        }
+
+        final LongAdder actionCount = actionCountMap.get(action);
+
+        // 置換操作の種類の置換操作がないか
+        if (actionCount == null) {
+            // ない場合
+
+            return result;
+
+        }
+
+        result = actionCount.sum();
+        return result;
+
+    }
+
+    /**
+     * タグに対応する上書きしなかった件数を返す<br>
+     * <p>
+     * 上書き設定が「上書きしない」、または、「指定値より小さい場合のみ上書き」で上書きしなかった件数である。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param tag
+     *            タグ
+     *
+     * @return 上書きしなかった件数
+     */
+    @Override
+    public long getSkipCount(final KmgJavadocTagTypes tag) {
+
+        long result = 0;
+
+        final LongAdder skipCount = this.skipCountMap.get(tag);
+
+        // 上書きしなかったことがないか
+        if (skipCount == null) {
+            // ない場合
+
+            return result;
+
+        }
+
+        result = skipCount.sum();
+        return result;
+
+    }
+
+    /**
+     * 処理時間が長いファイルの処理時間モデルのリストを返す<br>
+     * <p>
+     * 合計の処理時間が長い順に、保持するファイル数まで返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 処理時間が長いファイルの処理時間モデルのリスト
+     */
+    @Override
+    public List<JdtsFileTimingModel> getSlowestFileTimingList() {
+
+        final List<JdtsFileTimingModel> result;
+
+        synchronized (this.slowestFileTimingQueue) {
+
+            result = new ArrayList<>(this.slowestFileTimingQueue);
+
+        }
+
+        result.sort(Comparator.comparingLong(JdtsFileTimingModel::getTotalNanos).reversed());
+        return result;
+
+    }
+
+    /**
+     * 処理時間が長いファイルを保持するファイル数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 処理時間が長いファイルを保持するファイル数
+     */
+    @Override
+    public int getSlowestFileNum() {
+
+        final int result = this.slowestFileNum;
+        return result;
+
+    }
+
+    /**
+     * 集計したタグのセットを返す<br>
+     * <p>
+     * 置換操作、または、上書きしなかった件数が1件以上あるタグを返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 集計したタグのセット
+     */
+    @Override
+    public Set<KmgJavadocTagTypes> getTagSet() {
+
+        final Set<KmgJavadocTagTypes> result = new HashSet<>(this.replActionCountMap.keySet());
+        result.addAll(this.skipCountMap.keySet());
+        return result;
+
+    }
+
+    /**
+     * 解析の合計の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 解析の合計の処理時間（ナノ秒）
+     */
+    @Override
+    public long getTotalParseNanos() {
+
+        final long result = this.totalParseNanos.sum();
+        return result;
+
+    }
+
+    /**
+     * 置換の合計の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 置換の合計の処理時間（ナノ秒）
+     */
+    @Override
+    public long getTotalReplaceNanos() {
+
+        final long result = this.totalReplaceNanos.sum();
+        return result;
+
+    }
+
+    /**
+     * 書き込みの合計の処理時間を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 書き込みの合計の処理時間（ナノ秒）
+     */
+    @Override
+    public long getTotalWriteNanos() {
+
+        final long result = this.totalWriteNanos.sum();
+        return result;
+
+    }
+
+}
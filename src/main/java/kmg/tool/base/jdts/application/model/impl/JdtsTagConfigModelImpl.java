@@ -3,9 +3,9 @@ package kmg.tool.base.jdts.application.model.impl;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.apache.maven.artifact.versioning.ComparableVersion;
 
 import kmg.core.infrastructure.model.val.KmgValDataModel;
 import kmg.core.infrastructure.model.val.KmgValsModel;
@@ -13,6 +13,7 @@ import kmg.core.infrastructure.model.val.impl.KmgValDataModelImpl;
 import kmg.core.infrastructure.model.val.impl.KmgValsModelImpl;
 import kmg.core.infrastructure.type.KmgString;
 import kmg.core.infrastructure.types.JavaClassificationTypes;
+import kmg.core.infrastructure.types.KmgDelimiterTypes;
 import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseValMsgTypes;
@@ -32,10 +33,24 @@ import kmg.tool.base.jdts.application.types.JdtsOverwriteTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 public class JdtsTagConfigModelImpl implements JdtsTagConfigModel {
 
+    /**
+     * タグのフォーマット
+     *
+     * @since 0.2.8
+     */
+    private static final String TAG_FORMAT = "* %s %s %s"; //$NON-NLS-1$
+
+    /**
+     * 連続する半角空白のパターン
+     *
+     * @since 0.2.8
+     */
+    private static final Pattern SERIES_HALF_SPACE_PATTERN = Pattern.compile(KmgDelimiterTypes.SERIES_HALF_SPACE.get());
+
     /**
      * タグ設定
      *
@@ -92,6 +107,20 @@ public class JdtsTagConfigModelImpl implements JdtsTagConfigModel {
      */
     private JdtsOverwriteTypes overwrite;
 
+    /**
+     * タグの内容
+     *
+     * @since 0.2.8
+     */
+    private String tagContent;
+
+    /**
+     * タグの指定値のバージョン
+     *
+     * @since 0.2.8
+     */
+    private ComparableVersion tagVersion;
+
     /**
      * コンストラクタ<br>
      *
@@ -131,6 +160,56 @@ public class JdtsTagConfigModelImpl implements JdtsTagConfigModel {
 
         }
 
+        /* タグの内容の作成 */
+        this.tagContent = this.createTagContent();
+
+        /* タグの指定値のバージョンの作成 */
+        this.tagVersion = new ComparableVersion(this.tagValue);
+
+    }
+
+    /**
+     * 検証済みの値から作成するコンストラクタ<br>
+     * <p>
+     * 構成キャッシュから復元する場合に使用し、検証は行わない。<br>
+     * タグの内容とタグの指定値のバージョンは、YAMLデータから作成する場合と同様に作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param tagName
+     *                       タグ名
+     * @param tagValue
+     *                       タグの指定値
+     * @param tagDescription
+     *                       タグの説明
+     * @param location
+     *                       配置場所の設定
+     * @param insertPosition
+     *                       タグの挿入位置
+     * @param overwrite
+     *                       上書き設定
+     */
+    @SuppressWarnings("hiding")
+    public JdtsTagConfigModelImpl(final String tagName, final String tagValue, final String tagDescription,
+        final JdtsLocationConfigModel location, final JdtsInsertPositionTypes insertPosition,
+        final JdtsOverwriteTypes overwrite) {
+
+        this.tagConfig = Map.of();
+        this.tagName = tagName;
+        this.tag = KmgJavadocTagTypes.getEnum(tagName);
+        this.tagValue = tagValue;
+        this.tagDescription = tagDescription;
+        this.location = location;
+        this.insertPosition = insertPosition;
+        this.overwrite = overwrite;
+
+        /* タグの内容の作成 */
+        this.tagContent = this.createTagContent();
+
+        /* タグの指定値のバージョンの作成 */
+        this.tagVersion = new ComparableVersion(this.tagValue);
+
     }
 
     /**
@@ -193,6 +272,24 @@ public class JdtsTagConfigModelImpl implements JdtsTagConfigModel {
 
     }
 
+    /**
+     * タグの内容を返す<br>
+     * <p>
+     * タグ、タグの指定値、タグの説明から作成したJavadocのタグ行であり、構成の読み込み時に1回だけ作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return タグの内容
+     */
+    @Override
+    public String getTagContent() {
+
+        final String result = this.tagContent;
+        return result;
+
+    }
+
     /**
      * タグの説明を返す<br>
      *
@@ -238,6 +335,24 @@ public class JdtsTagConfigModelImpl implements JdtsTagConfigModel {
 
     }
 
+    /**
+     * タグの指定値のバージョンを返す<br>
+     * <p>
+     * タグの指定値を構成の読み込み時に1回だけ変換したバージョンであり、上書き設定がIF_LOWERの場合の比較に使用する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return タグの指定値のバージョン
+     */
+    @Override
+    public ComparableVersion getTagVersion() {
+
+        final ComparableVersion result = this.tagVersion;
+        return result;
+
+    }
+
     /**
      * タグの配置がJava区分に一致するか<br>
      *
@@ -388,8 +503,7 @@ public class JdtsTagConfigModelImpl implements JdtsTagConfigModel {
 
         try {
 
-            final ObjectMapper        mapper      = new ObjectMapper(new YAMLFactory());
-            final Map<String, Object> locationMap = mapper
+            final Map<String, Object> locationMap = JdtsConfigsModelImpl.YamlMapperHolder.MAPPER
                 .convertValue(this.tagConfig.get(JdtsConfigKeyTypes.LOCATION.get()), Map.class);
 
             // 配置場所の設定の生成
@@ -433,4 +547,28 @@ public class JdtsTagConfigModelImpl implements JdtsTagConfigModel {
 
     }
 
+    /**
+     * タグの内容を作成する<br>
+     * <p>
+     * タグ、タグの指定値、タグの説明を半角空白で連結し、連続する半角空白を1つにまとめる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return タグの内容
+     */
+    private String createTagContent() {
+
+        String result = String.format(JdtsTagConfigModelImpl.TAG_FORMAT, this.tag.getKey(), this.tagValue,
+            this.tagDescription);
+
+        /* 余分な空白を正規化 */
+        result = JdtsTagConfigModelImpl.SERIES_HALF_SPACE_PATTERN.matcher(result)
+            .replaceAll(KmgDelimiterTypes.HALF_SPACE.get());
+        result = result.trim();
+
+        return result;
+
+    }
+
 }
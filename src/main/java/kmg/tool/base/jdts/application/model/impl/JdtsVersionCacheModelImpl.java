@@ -0,0 +1,200 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.springframework.stereotype.Component;
+
+import kmg.tool.base.jdts.application.model.JdtsVersionCacheModel;
+
+/**
+ * Javadocタグ設定のバージョンキャッシュモデル<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * 「1.0.0」のように同じバージョンの文字列が繰り返し現れるため、変換したバージョンを保持して再利用する。<br>
+ * 並列処理の各ワーカーから共有して使用するため、スレッドセーフなマップとカウンタで保持する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@Component
+public class JdtsVersionCacheModelImpl implements JdtsVersionCacheModel {
+
+    /**
+     * 保持する件数の上限の初期値
+     *
+     * @since 0.2.8
+     */
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * 保持する件数の上限
+     *
+     * @since 0.2.8
+     */
+    private final int maxSize;
+
+    /**
+     * バージョンのマップ
+     * <p>
+     * キーはバージョンの文字列、値は変換したバージョン。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Map<String, ComparableVersion> versionMap;
+
+    /**
+     * 保持しているバージョンを返した回数
+     *
+     * @since 0.2.8
+     */
+    private final LongAdder hitCount;
+
+    /**
+     * バージョンの文字列を変換した回数
+     *
+     * @since 0.2.8
+     */
+    private final LongAdder missCount;
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.8
+     */
+    public JdtsVersionCacheModelImpl() {
+
+        this(JdtsVersionCacheModelImpl.DEFAULT_MAX_SIZE);
+
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.8
+     *
+     * @param maxSize
+     *                保持する件数の上限
+     */
+    public JdtsVersionCacheModelImpl(final int maxSize) {
+
+        this.maxSize = maxSize;
+        this.versionMap = new ConcurrentHashMap<>();
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+
+    }
+
+    /**
+     * バージョンの文字列に対応するバージョンを返す<br>
+     * <p>
+     * 保持している場合は保持しているバージョンを返し、保持していない場合は変換したバージョンを返す。<br>
+     * 保持している件数が上限に達していない場合のみ、変換したバージョンを保持する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param version
+     *                バージョンの文字列
+     *
+     * @return バージョン
+     */
+    @Override
+    public ComparableVersion get(final String version) {
+
+        ComparableVersion result = this.versionMap.get(version);
+
+        // 保持しているか
+        if (result != null) {
+            // 保持している場合
+
+            this.hitCount.increment();
+            return result;
+
+        }
+
+        this.missCount.increment();
+        result = new ComparableVersion(version);
+
+        // 保持している件数が上限に達していないか
+        if (this.versionMap.size() < this.maxSize) {
+            // 達していない場合
+
+            this.versionMap.putIfAbsent(version, result);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 保持しているバージョンを返した回数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 保持しているバージョンを返した回数
+     */
+    @Override
+    public long getHitCount() {
+
+        final long result = this.hitCount.sum();
+        return result;
+
+    }
+
+    /**
+     * 保持する件数の上限を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 保持する件数の上限
+     */
+    @Override
+    public int getMaxSize() {
+
+        final int result = this.maxSize;
+        return result;
+
+    }
+
+    /**
+     * バージョンの文字列を変換した回数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return バージョンの文字列を変換した回数
+     */
+    @Override
+    public long getMissCount() {
+
+        final long result = this.missCount.sum();
+        return result;
+
+    }
+
+    /**
+     * 保持している件数を返す
+     *
+     * @since 0.2.8
+     *
+     * @return 保持している件数
+     */
+    @Override
+    public int getSize() {
+
+        final int result = this.versionMap.size();
+        return result;
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package kmg.tool.base.jdts.application.service;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import kmg.fund.infrastructure.exception.KmgFundMsgException;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+
+/**
+ * Javadocタグ設定の常駐プロセスサービスインタフェース<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * Springのコンテキスト、定義ファイルごとの検証済みの構成モデル、コンパイル済みの置換処理を常駐させ、ソケットファイル経由で受け付けた要求を処理する。<br>
+ * 要求ごとにJavadocタグ設定サービスを生成するため、同時に受け付けた要求の間で処理の状態を共有しない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+public interface JdtsDaemonService {
+
+    /**
+     * ソケットファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return ソケットファイルのパス。開始していない場合は、null。
+     */
+    Path getSocketPath();
+
+    /**
+     * 要求を処理する
+     * <p>
+     * 対象ファイルパスごとに処理し、処理に失敗した対象ファイルパスがあっても残りの対象ファイルパスを処理する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param request
+     *                常駐プロセスへの要求モデル
+     *
+     * @return 処理に失敗した対象ファイルパスとメッセージのマップ。全て成功した場合は、空。
+     */
+    Map<Path, String> handle(JdtsDaemonRequestModel request);
+
+    /**
+     * 開始しているかを返す
+     *
+     * @since 0.2.8
+     *
+     * @return true：開始している、false：開始していない
+     */
+    boolean isRunning();
+
+    /**
+     * 定義ファイルを読み込み、置換処理を事前に実行する
+     * <p>
+     * 定義ファイルの構成モデルを常駐させ、準備用のコードに対して試行モードで置換処理を繰り返し実行する。<br>
+     * 最初の要求から、コンパイル済みの置換処理で処理できる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    boolean preload(Path definitionPath) throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException;
+
+    /**
+     * 開始する
+     * <p>
+     * ソケットファイルで接続を待ち受け、接続ごとに要求を処理する。<br>
+     * ソケットファイルは所有者のみが接続できる権限で作成する。停止した常駐プロセスのソケットファイルが残っている場合は、削除してから作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     *
+     * @return true：成功、false：既に開始している
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean start(Path socketPath) throws KmgToolBaseMsgException;
+
+    /**
+     * 停止する
+     * <p>
+     * 接続の待ち受けを終了し、処理中の要求の完了を待ってから、ソケットファイルを削除する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：開始していない
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean stop() throws KmgToolBaseMsgException;
+
+}
@@ -1,8 +1,13 @@
 package kmg.tool.base.jdts.application.service;
 
+import java.util.List;
+import java.util.Map;
+
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.jdts.application.model.JdtsCodeModel;
 import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsReplActionModel;
 
 /**
  * Javadocタグ設定の入出力サービスインタフェース<br>
@@ -15,7 +20,7 @@ import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 public interface JdtsReplService {
 
@@ -28,6 +33,18 @@ public interface JdtsReplService {
      */
     JdtsConfigsModel getJdtsConfigsModel();
 
+    /**
+     * 置換操作のリストを返す<br>
+     * <p>
+     * 直近に初期化してから行った置換操作を、操作した順番に返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 置換操作のリスト
+     */
+    List<JdtsReplActionModel> getReplActionList();
+
     /**
      * 置換後のコードを返す<br>
      *
@@ -37,6 +54,18 @@ public interface JdtsReplService {
      */
     String getReplaceCode();
 
+    /**
+     * タグごとの上書きしなかった件数のマップを返す<br>
+     * <p>
+     * 直近に初期化してから、上書き設定によりタグを上書きしなかった件数をタグごとに返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return タグごとの上書きしなかった件数のマップ
+     */
+    Map<KmgJavadocTagTypes, Long> getSkipCountMap();
+
     /**
      * 合計置換数を返す。
      *
@@ -1,10 +1,15 @@
 package kmg.tool.base.jdts.application.service;
 
+import java.io.BufferedReader;
 import java.nio.file.Path;
+import java.util.List;
 
 import kmg.fund.infrastructure.exception.KmgFundMsgException;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
+import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsDefinitionModel;
+import kmg.tool.base.jdts.application.model.JdtsStatisticsModel;
 
 /**
  * Javadocタグ設定サービスインタフェース<br>
@@ -16,10 +21,76 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 public interface JdtsService {
 
+    /**
+     * 構成キャッシュを有効にする
+     * <p>
+     * 構成キャッシュでは、検証済みのJavadocタグ設定の構成を、定義ファイルのハッシュ値とともにバイナリ形式の構成キャッシュファイルに保持する。<br>
+     * 定義ファイルが前回から変更されていない場合は、構成キャッシュファイルから構成を復元し、YAMLの解析と検証を行わない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param configCachePath
+     *                        構成キャッシュファイルのパス
+     *
+     * @return true：成功、false：失敗
+     */
+    boolean enableConfigCache(final Path configCachePath);
+
+    /**
+     * 試行モードを有効にする
+     * <p>
+     * 試行モードでは、置換の処理を全て行うが、対象のファイルには書き込まない。<br>
+     * 代わりに、内容が変更される対象のファイルの置換操作を、ファイル、要素の区分、要素名、タグ、置換操作の種類のタブ区切りでレポートファイルに出力する。<br>
+     * レポートファイルは処理しながら順次書き込むため、変更される全てのファイルの内容をメモリに保持しない。<br>
+     * 差分処理は行わず、マニフェストファイルも更新しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param reportPath
+     *                   レポートファイルのパス
+     *
+     * @return true：成功、false：失敗
+     */
+    boolean enableDryRunMode(final Path reportPath);
+
+    /**
+     * 差分処理を有効にする
+     * <p>
+     * 差分処理では、マニフェストファイルに前回の処理結果を保持し、対象のファイルと定義ファイルのいずれも前回から変更されていない対象のファイルの処理をスキップする。<br>
+     * マニフェストファイルは、対象のファイルと同じ階層、または、キャッシュ用のディレクトリに配置する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param manifestPath
+     *                     マニフェストファイルのパス
+     *
+     * @return true：成功、false：失敗
+     */
+    boolean enableIncrementalMode(final Path manifestPath);
+
+    /**
+     * 常駐している構成モデルを使用する
+     * <p>
+     * 処理時に定義ファイルを読み込まず、指定された検証済みのJavadocタグ設定の構成モデルを使用する。<br>
+     * 定義ファイルが構成モデルの作成時から変更されていないことは、呼び出し元で確認する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param jdtsConfigsModel
+     *                         Javadocタグ設定の構成モデル
+     *
+     * @return true：成功、false：失敗
+     */
+    boolean enableResidentConfigs(final JdtsConfigsModel jdtsConfigsModel);
+
     /**
      * 定義ファイルのパスを返す。
      *
@@ -29,6 +100,28 @@ public interface JdtsService {
      */
     Path getDefinitionPath();
 
+    /**
+     * 処理に使用したJavadocタグ設定の構成モデルを返す。
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocタグ設定の構成モデル。処理していない場合は、null。
+     */
+    JdtsConfigsModel getJdtsConfigsModel();
+
+    /**
+     * Javadocタグ設定の統計モデルを返す<br>
+     * <p>
+     * 直近の処理の、タグと置換操作の種類ごとの件数、タグごとの上書きしなかった件数、ファイルごとの処理時間を返す。<br>
+     * 処理するたびに新しい統計モデルに置き換わる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocタグ設定の統計モデル
+     */
+    JdtsStatisticsModel getJdtsStatisticsModel();
+
     /**
      * 対象ファイルパス
      *
@@ -58,6 +151,110 @@ public interface JdtsService {
     boolean initialize(final Path targetPath, final Path definitionPath)
         throws KmgFundMsgException, KmgToolBaseMsgException;
 
+    /**
+     * スレッド数を指定して初期化する
+     * <p>
+     * スレッド数が2以上の場合は、対象ファイルを並列に処理する。1以下の場合は、1ファイルずつ順番に処理する。<br>
+     * 並列に処理する場合も、ファイルごとの置換結果は順番に処理した場合と同じになる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param targetPath
+     *                       対象ファイルパス
+     * @param definitionPath
+     *                       定義ファイルのパス
+     * @param threadNum
+     *                       スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean initialize(final Path targetPath, final Path definitionPath, final short threadNum)
+        throws KmgFundMsgException, KmgToolBaseMsgException;
+
+    /**
+     * 複数の定義ファイルを指定して初期化する
+     * <p>
+     * 対象のディレクトリを1回だけ走査し、ファイルごとに、対象のパスのパターンに一致する定義ファイルを定義モデルのリストの順番に適用する。<br>
+     * 各ファイルは、一致する定義ファイルの数によらず、読み込みと書き込みを1回ずつ行う。一致する定義ファイルがないファイルは処理しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param targetPath
+     *                                対象ファイルパス
+     * @param jdtsDefinitionModelList
+     *                                Javadocタグ設定の定義モデルのリスト
+     * @param threadNum
+     *                                スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean initializeWithDefinitions(final Path targetPath, final List<JdtsDefinitionModel> jdtsDefinitionModelList,
+        final short threadNum) throws KmgFundMsgException, KmgToolBaseMsgException;
+
+    /**
+     * 対象ファイルリストのファイルを指定して初期化する
+     * <p>
+     * 対象のディレクトリを走査せずに、対象ファイルリストに記載されたJavaファイルのみを処理する。<br>
+     * 対象ファイルリストは、1行に1ファイルのパスを記載する。git diff --name-only の出力をそのまま使用できる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param fileListPath
+     *                          対象ファイルリストのパス
+     * @param baseDirectoryPath
+     *                          相対パスの基準のディレクトリのパス
+     * @param definitionPath
+     *                          定義ファイルのパス
+     * @param threadNum
+     *                          スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean initializeWithFileList(final Path fileListPath, final Path baseDirectoryPath, final Path definitionPath,
+        final short threadNum) throws KmgToolBaseMsgException;
+
+    /**
+     * 対象ファイルリストを読み込んで初期化する
+     * <p>
+     * 対象のディレクトリを走査せずに、対象ファイルリストに記載されたJavaファイルのみを処理する。<br>
+     * 標準入力から読み込む場合は、標準入力のリーダーを指定する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param fileListReader
+     *                          対象ファイルリストのリーダー
+     * @param baseDirectoryPath
+     *                          相対パスの基準のディレクトリのパス
+     * @param definitionPath
+     *                          定義ファイルのパス
+     * @param threadNum
+     *                          スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    boolean initializeWithFileList(final BufferedReader fileListReader, final Path baseDirectoryPath,
+        final Path definitionPath, final short threadNum) throws KmgToolBaseMsgException;
+
     /**
      * 処理する
      *
@@ -0,0 +1,1112 @@
+package kmg.tool.base.jdts.application.service.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Service;
+
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.fund.infrastructure.exception.KmgFundMsgException;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
+import kmg.tool.base.cmn.infrastructure.log.KmgToolBaseMsgLogger;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
+import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsDaemonRequestModelImpl;
+import kmg.tool.base.jdts.application.service.JdtsDaemonService;
+import kmg.tool.base.jdts.application.service.JdtsService;
+import kmg.tool.base.jdts.application.types.JdtsDaemonResultTypes;
+
+/**
+ * Javadocタグ設定の常駐プロセスサービス<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。<br>
+ * </p>
+ * <p>
+ * Springのコンテキスト、定義ファイルごとの検証済みの構成モデル、コンパイル済みの置換処理を常駐させ、Unixドメインソケットのソケットファイル経由で受け付けた要求を処理する。<br>
+ * 構成モデルは、定義ファイルの内容が常駐させた時から変わっていない場合のみ使用し、変わっている場合は定義ファイルから作成し直す。
+ * </p>
+ * <p>
+ * 対象ファイルパスごとにJavadocタグ設定サービスを生成するため、要求の間で処理の状態を共有しない。<br>
+ * ただし、ファイルイテレーターロジックはコンテキストで共有される場合があるため、接続は並行して受け付け、要求の処理は1件ずつ行う。
+ * </p>
+ * <p>
+ * 接続を処理するスレッド数と待機する接続数には上限があり、上限を超えた接続は閉じる。<br>
+ * 要求は一定時間内に読み込めない場合に接続を閉じるため、要求を送らない接続がスレッドを占有し続けることはない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@Service
+public class JdtsDaemonServiceImpl implements JdtsDaemonService {
+
+    /**
+     * 準備で置換処理を繰り返す回数
+     *
+     * @since 0.2.8
+     */
+    private static final int WARM_UP_COUNT = 200;
+
+    /**
+     * 準備用のディレクトリの接頭辞
+     *
+     * @since 0.2.8
+     */
+    private static final String WARM_UP_DIRECTORY_PREFIX = "jdts-daemon"; //$NON-NLS-1$
+
+    /**
+     * 準備用のファイル名
+     *
+     * @since 0.2.8
+     */
+    private static final String WARM_UP_FILE_NAME = "JdtsDaemonWarmUp.java"; //$NON-NLS-1$
+
+    /**
+     * 準備用のレポートファイル名
+     *
+     * @since 0.2.8
+     */
+    private static final String WARM_UP_REPORT_FILE_NAME = "warm-up-report.tsv"; //$NON-NLS-1$
+
+    /**
+     * 準備用のコード
+     * <p>
+     * クラス、フィールド、メソッドのJavadocを含む。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final String WARM_UP_CODE = """
+        package warmup;
+
+        /**
+         * 準備用のクラス
+         */
+        public class JdtsDaemonWarmUp {
+
+            /**
+             * 準備用のフィールド
+             */
+            private int field;
+
+            /**
+             * 準備用のメソッド
+             *
+             * @return 準備用の値
+             */
+            public int method() {
+
+                return this.field;
+
+            }
+
+        }
+        """; //$NON-NLS-1$
+
+    /**
+     * 接続を待ち受けるスレッドの名前
+     *
+     * @since 0.2.8
+     */
+    private static final String ACCEPT_THREAD_NAME = "jdts-daemon-acceptor"; //$NON-NLS-1$
+
+    /**
+     * 読み込みの期限を監視するスレッドの名前
+     *
+     * @since 0.2.8
+     */
+    private static final String READ_TIMEOUT_THREAD_NAME = "jdts-daemon-read-timeout"; //$NON-NLS-1$
+
+    /**
+     * ソケットファイルを作成するディレクトリの接頭辞
+     *
+     * @since 0.2.8
+     */
+    private static final String SOCKET_DIRECTORY_PREFIX = ".jdts-daemon"; //$NON-NLS-1$
+
+    /**
+     * ソケットファイルを作成するディレクトリの権限
+     * <p>
+     * ソケットファイルの権限を設定するまで、他のユーザーが接続できないようにする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final Set<PosixFilePermission> SOCKET_DIRECTORY_PERMISSIONS
+        = PosixFilePermissions.fromString("rwx------"); //$NON-NLS-1$
+
+    /**
+     * ソケットファイルの権限
+     * <p>
+     * 所有者のみが接続できるようにする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final Set<PosixFilePermission> SOCKET_PERMISSIONS
+        = PosixFilePermissions.fromString("rw-------"); //$NON-NLS-1$
+
+    /**
+     * 停止時に処理中の要求の完了を待つ秒数
+     *
+     * @since 0.2.8
+     */
+    private static final long STOP_TIMEOUT_SECONDS = 60L;
+
+    /**
+     * 接続を処理するスレッド数
+     * <p>
+     * 要求の処理は1件ずつ行うため、要求の読み込みと応答の書き込みを並行できる最小限の数とする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private static final int CONNECTION_THREAD_COUNT = 2;
+
+    /**
+     * 処理を待機する接続数の上限
+     *
+     * @since 0.2.8
+     */
+    private static final int CONNECTION_QUEUE_CAPACITY = 16;
+
+    /**
+     * 要求の読み込みの期限の秒数
+     *
+     * @since 0.2.8
+     */
+    private static final long READ_TIMEOUT_SECONDS = 30L;
+
+    /**
+     * 応答のメッセージで置き換える区切り文字と改行のパターン
+     *
+     * @since 0.2.8
+     */
+    private static final Pattern MESSAGE_SEPARATOR_PATTERN = Pattern.compile("[\\t\\r\\n]+"); //$NON-NLS-1$
+
+    /**
+     * 応答のメッセージで区切り文字と改行を置き換える文字
+     *
+     * @since 0.2.8
+     */
+    private static final String MESSAGE_SEPARATOR_REPLACEMENT = " "; //$NON-NLS-1$
+
+    /**
+     * KMGメッセージリソース
+     *
+     * @since 0.2.8
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * KMGツールベースメッセージロガー
+     * <p>
+     * ログレベルが有効な場合のみ、ログメッセージを作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final KmgToolBaseMsgLogger msgLogger;
+
+    /**
+     * Springアプリケーションコンテキスト
+     *
+     * @since 0.2.8
+     */
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    /**
+     * 定義ファイルの絶対パスごとの常駐している構成モデル
+     *
+     * @since 0.2.8
+     */
+    private final Map<Path, ResidentConfigs> residentConfigsMap;
+
+    /**
+     * 要求の処理のロック
+     *
+     * @since 0.2.8
+     */
+    private final Object processLock;
+
+    /**
+     * ソケットファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path socketPath;
+
+    /**
+     * 接続を待ち受けるサーバーソケットチャネル
+     *
+     * @since 0.2.8
+     */
+    private ServerSocketChannel serverChannel;
+
+    /**
+     * 接続を待ち受けるスレッド
+     *
+     * @since 0.2.8
+     */
+    private Thread acceptThread;
+
+    /**
+     * 接続ごとの要求を処理するエグゼキューター
+     *
+     * @since 0.2.8
+     */
+    private ExecutorService connectionExecutor;
+
+    /**
+     * 要求の読み込みの期限を過ぎた接続を閉じるスケジューラー
+     *
+     * @since 0.2.8
+     */
+    private ScheduledExecutorService readTimeoutScheduler;
+
+    /**
+     * 常駐している構成モデル
+     *
+     * @since 0.2.8
+     *
+     * @param definitionContent
+     *                          構成モデルを作成した時の定義ファイルの内容
+     * @param jdtsConfigsModel
+     *                          Javadocタグ設定の構成モデル
+     */
+    private record ResidentConfigs(byte[] definitionContent, JdtsConfigsModel jdtsConfigsModel) {
+        // 処理なし
+    }
+
+    /**
+     * 標準ロガーを使用して常駐プロセスサービスを初期化するコンストラクタ<br>
+     *
+     * @since 0.2.8
+     */
+    public JdtsDaemonServiceImpl() {
+
+        this(LoggerFactory.getLogger(JdtsDaemonServiceImpl.class));
+
+    }
+
+    /**
+     * カスタムロガーを使用して常駐プロセスサービスを初期化するコンストラクタ<br>
+     *
+     * @since 0.2.8
+     *
+     * @param logger
+     *               ロガー
+     */
+    protected JdtsDaemonServiceImpl(final Logger logger) {
+
+        this.msgLogger = new KmgToolBaseMsgLogger(logger, () -> this.messageSource);
+        this.residentConfigsMap = new ConcurrentHashMap<>();
+        this.processLock = new Object();
+
+    }
+
+    /**
+     * ソケットファイルのパスを返す
+     *
+     * @since 0.2.8
+     *
+     * @return ソケットファイルのパス。開始していない場合は、null。
+     */
+    @Override
+    public Path getSocketPath() {
+
+        final Path result = this.socketPath;
+        return result;
+
+    }
+
+    /**
+     * 要求を処理する
+     * <p>
+     * 対象ファイルパスごとに処理し、処理に失敗した対象ファイルパスがあっても残りの対象ファイルパスを処理する。<br>
+     * 常駐プロセスを継続するため、対象ファイルパスの処理で発生した例外は、送出せずに処理結果とする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param request
+     *                常駐プロセスへの要求モデル
+     *
+     * @return 処理に失敗した対象ファイルパスとメッセージのマップ。全て成功した場合は、空。
+     */
+    @Override
+    public Map<Path, String> handle(final JdtsDaemonRequestModel request) {
+
+        final Map<Path, String> result = new LinkedHashMap<>();
+
+        synchronized (this.processLock) {
+
+            for (final Path targetPath : request.getTargetPaths()) {
+
+                try {
+
+                    this.processTarget(request.getDefinitionPath(), targetPath, request.getThreadNum(), null);
+
+                } catch (final Exception e) {
+
+                    final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13011;
+                    this.msgLogger.warn(logMsgTypes, () -> new Object[] {
+                        targetPath.toString(),
+                    }, e);
+
+                    result.put(targetPath, Objects.toString(e.getMessage(), e.getClass().getName()));
+
+                }
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 開始しているかを返す
+     *
+     * @since 0.2.8
+     *
+     * @return true：開始している、false：開始していない
+     */
+    @Override
+    public boolean isRunning() {
+
+        final boolean result = (this.serverChannel != null) && this.serverChannel.isOpen();
+        return result;
+
+    }
+
+    /**
+     * 定義ファイルを読み込み、置換処理を事前に実行する
+     * <p>
+     * 定義ファイルの構成モデルを常駐させ、準備用のコードに対して試行モードで置換処理を繰り返し実行する。<br>
+     * 試行モードのため、準備用のコードは変更されない。準備用のディレクトリは、終了後に削除する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    @Override
+    public boolean preload(final Path definitionPath)
+        throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+
+        boolean result = false;
+
+        /* 準備用のコードを作成する */
+        Path warmUpDirectoryPath = null;
+
+        try {
+
+            warmUpDirectoryPath = Files.createTempDirectory(JdtsDaemonServiceImpl.WARM_UP_DIRECTORY_PREFIX);
+            Files.writeString(warmUpDirectoryPath.resolve(JdtsDaemonServiceImpl.WARM_UP_FILE_NAME),
+                JdtsDaemonServiceImpl.WARM_UP_CODE);
+
+        } catch (final IOException e) {
+
+            JdtsDaemonServiceImpl.deleteWarmUpDirectory(warmUpDirectoryPath);
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13015;
+            final Object[]               genMsgArgs  = {
+                Objects.toString(warmUpDirectoryPath, JdtsDaemonServiceImpl.WARM_UP_DIRECTORY_PREFIX),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        /* 置換処理を繰り返し実行する */
+        try {
+
+            synchronized (this.processLock) {
+
+                for (int i = 0; i < JdtsDaemonServiceImpl.WARM_UP_COUNT; i++) {
+
+                    this.processTarget(definitionPath,
+                        warmUpDirectoryPath.resolve(JdtsDaemonServiceImpl.WARM_UP_FILE_NAME), (short) 1,
+                        warmUpDirectoryPath.resolve(JdtsDaemonServiceImpl.WARM_UP_REPORT_FILE_NAME));
+
+                }
+
+            }
+
+        } finally {
+
+            JdtsDaemonServiceImpl.deleteWarmUpDirectory(warmUpDirectoryPath);
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 開始する
+     * <p>
+     * ソケットファイルで接続を待ち受け、接続ごとに要求を処理する。<br>
+     * ソケットファイルは、所有者のみがアクセスできるディレクトリ内で作成して所有者のみが接続できる権限を設定した後に、指定されたパスに移動する。<br>
+     * 停止した常駐プロセスのソケットファイルが残っている場合は、削除してから作成する。<br>
+     * 接続を待ち受けるスレッドはデーモンスレッドではないため、停止するまでJVMは終了しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     *
+     * @return true：成功、false：既に開始している
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean start(final Path socketPath) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        // 既に開始しているか
+        if (this.serverChannel != null) {
+            // 開始している場合
+
+            return result;
+
+        }
+
+        /* ソケットファイルで接続を待ち受ける */
+        ServerSocketChannel channel = null;
+
+        try {
+
+            this.deleteStaleSocket(socketPath);
+
+            channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            JdtsDaemonServiceImpl.bindPrivately(channel, socketPath);
+
+        } catch (final IOException e) {
+
+            // 開いたサーバーソケットチャネルが残っている場合は閉じる
+            if (channel != null) {
+
+                try {
+
+                    channel.close();
+
+                } catch (final IOException suppressed) {
+
+                    e.addSuppressed(suppressed);
+
+                }
+
+            }
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13013;
+            final Object[]               genMsgArgs  = {
+                socketPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        this.socketPath = socketPath;
+        this.serverChannel = channel;
+        this.connectionExecutor = new ThreadPoolExecutor(JdtsDaemonServiceImpl.CONNECTION_THREAD_COUNT,
+            JdtsDaemonServiceImpl.CONNECTION_THREAD_COUNT, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(JdtsDaemonServiceImpl.CONNECTION_QUEUE_CAPACITY));
+        this.readTimeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name(JdtsDaemonServiceImpl.READ_TIMEOUT_THREAD_NAME).daemon(true).factory());
+
+        /* 接続を待ち受けるスレッドを開始する */
+        final ServerSocketChannel acceptChannel = channel;
+        final ExecutorService          executor      = this.connectionExecutor;
+        final ScheduledExecutorService scheduler     = this.readTimeoutScheduler;
+        this.acceptThread = Thread.ofPlatform().name(JdtsDaemonServiceImpl.ACCEPT_THREAD_NAME).daemon(false)
+            .start(() -> this.acceptConnections(acceptChannel, executor, scheduler));
+
+        final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13010;
+        this.msgLogger.info(logMsgTypes, () -> new Object[] {
+            socketPath.toString(),
+        });
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 停止する
+     * <p>
+     * 接続の待ち受けを終了し、処理中の要求の完了を待ってから、ソケットファイルを削除する。<br>
+     * 処理中の要求が一定時間内に完了しない場合は、中断する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：開始していない
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Override
+    public boolean stop() throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        // 開始しているか
+        if (this.serverChannel == null) {
+            // 開始していない場合
+
+            return result;
+
+        }
+
+        final Path stopSocketPath = this.socketPath;
+
+        try {
+
+            // サーバーソケットチャネルを閉じて、接続の待ち受けを終了する
+            this.serverChannel.close();
+            this.acceptThread.join();
+
+            // 処理中の要求の完了を待つ
+            this.connectionExecutor.shutdown();
+
+            if (!this.connectionExecutor.awaitTermination(JdtsDaemonServiceImpl.STOP_TIMEOUT_SECONDS,
+                TimeUnit.SECONDS)) {
+
+                this.connectionExecutor.shutdownNow();
+
+            }
+
+            this.readTimeoutScheduler.shutdownNow();
+            Files.deleteIfExists(stopSocketPath);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13016;
+            final Object[]               genMsgArgs  = {
+                stopSocketPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        } catch (final InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            this.connectionExecutor.shutdownNow();
+            this.readTimeoutScheduler.shutdownNow();
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13016;
+            final Object[]               genMsgArgs  = {
+                stopSocketPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        } finally {
+
+            this.socketPath = null;
+            this.serverChannel = null;
+            this.acceptThread = null;
+            this.connectionExecutor = null;
+            this.readTimeoutScheduler = null;
+
+        }
+
+        final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13012;
+        this.msgLogger.info(logMsgTypes, () -> new Object[] {
+            stopSocketPath.toString(),
+        });
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 接続を待ち受け、接続ごとの要求の処理をエグゼキューターに渡す
+     * <p>
+     * サーバーソケットチャネルが閉じられるまで待ち受ける。<br>
+     * 処理を待機する接続数が上限に達している場合は、接続を閉じる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param channel
+     *                  サーバーソケットチャネル
+     * @param executor
+     *                  接続ごとの要求を処理するエグゼキューター
+     * @param scheduler
+     *                  要求の読み込みの期限を過ぎた接続を閉じるスケジューラー
+     */
+    private void acceptConnections(final ServerSocketChannel channel, final ExecutorService executor,
+        final ScheduledExecutorService scheduler) {
+
+        while (channel.isOpen()) {
+
+            try {
+
+                final SocketChannel connection = channel.accept();
+
+                try {
+
+                    executor.execute(() -> this.serveConnection(connection, scheduler));
+
+                } catch (@SuppressWarnings("unused") final RejectedExecutionException e) {
+
+                    final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13016;
+                    this.msgLogger.warn(logMsgTypes, () -> new Object[] {
+                        Objects.toString(this.socketPath),
+                    });
+                    JdtsDaemonServiceImpl.closeConnection(connection);
+
+                }
+
+            } catch (@SuppressWarnings("unused") final IOException e) {
+
+                // 停止によりサーバーソケットチャネルが閉じられた場合は、待ち受けを終了する
+            }
+
+        }
+
+    }
+
+    /**
+     * 所有者のみがアクセスできるディレクトリ内でソケットファイルを作成し、指定されたパスに移動する
+     * <p>
+     * ソケットファイルを作成してから権限を設定するまでの間に、他のユーザーが接続できないようにする。<br>
+     * ソケットファイルを移動しても、サーバーソケットチャネルは移動先のパスで接続を受け付ける。<br>
+     * POSIXのファイル属性に対応していない場合は、指定されたパスで作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param channel
+     *                       サーバーソケットチャネル
+     * @param bindSocketPath
+     *                       ソケットファイルのパス
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private static void bindPrivately(final ServerSocketChannel channel, final Path bindSocketPath)
+        throws IOException {
+
+        final Path socketFilePath = bindSocketPath.toAbsolutePath();
+
+        // POSIXのファイル属性に対応していないか
+        if (Files.getFileAttributeView(socketFilePath, PosixFileAttributeView.class) == null) {
+            // 対応していない場合
+
+            channel.bind(UnixDomainSocketAddress.of(socketFilePath));
+            return;
+
+        }
+
+        final Path socketDirectoryPath = Files.createTempDirectory(socketFilePath.getParent(),
+            JdtsDaemonServiceImpl.SOCKET_DIRECTORY_PREFIX,
+            PosixFilePermissions.asFileAttribute(JdtsDaemonServiceImpl.SOCKET_DIRECTORY_PERMISSIONS));
+
+        try {
+
+            final Path privateSocketPath = socketDirectoryPath.resolve(socketFilePath.getFileName());
+            channel.bind(UnixDomainSocketAddress.of(privateSocketPath));
+
+            // 所有者のみが接続できる権限を設定してから、指定されたパスに移動する
+            Files.setPosixFilePermissions(privateSocketPath, JdtsDaemonServiceImpl.SOCKET_PERMISSIONS);
+            Files.move(privateSocketPath, socketFilePath, StandardCopyOption.ATOMIC_MOVE);
+
+        } finally {
+
+            Files.deleteIfExists(socketDirectoryPath);
+
+        }
+
+    }
+
+    /**
+     * 接続を閉じる
+     * <p>
+     * 閉じられない場合も、他の接続の処理を続けるため、例外を投げない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param connection
+     *                   接続したソケットチャネル
+     */
+    private static void closeConnection(final SocketChannel connection) {
+
+        try {
+
+            connection.close();
+
+        } catch (@SuppressWarnings("unused") final IOException e) {
+
+            // 閉じられない場合は、処理を続ける
+        }
+
+    }
+
+    /**
+     * Javadocタグ設定サービスを生成する
+     * <p>
+     * 対象ファイルパスごとに依存するオブジェクトを注入した新しいインスタンスを生成し、処理の状態を他の要求と共有しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocタグ設定サービス
+     */
+    private JdtsService createJdtsService() {
+
+        final JdtsService result
+            = this.applicationContext.getAutowireCapableBeanFactory().createBean(JdtsServiceImpl.class);
+        return result;
+
+    }
+
+    /**
+     * 停止した常駐プロセスのソケットファイルを削除する
+     * <p>
+     * 接続できる場合は、他の常駐プロセスが使用中のため、削除しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param deleteSocketPath
+     *                         ソケットファイルのパス
+     *
+     * @throws IOException
+     *                                 入出力例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("static-method")
+    private void deleteStaleSocket(final Path deleteSocketPath) throws IOException, KmgToolBaseMsgException {
+
+        // ソケットファイルが存在するか
+        if (!Files.exists(deleteSocketPath)) {
+            // 存在しない場合
+
+            return;
+
+        }
+
+        // 接続できるか
+        try (final SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(deleteSocketPath))) {
+            // 接続できる場合
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13013;
+            final Object[]               genMsgArgs  = {
+                deleteSocketPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs);
+
+        } catch (@SuppressWarnings("unused") final IOException e) {
+
+            // 接続できない場合は、停止した常駐プロセスのソケットファイルとして削除する
+            Files.deleteIfExists(deleteSocketPath);
+
+        }
+
+    }
+
+    /**
+     * 準備用のディレクトリを削除する
+     * <p>
+     * 一時ディレクトリのため、削除できない場合も処理を続ける。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param warmUpDirectoryPath
+     *                            準備用のディレクトリのパス。作成していない場合は、null。
+     */
+    private static void deleteWarmUpDirectory(final Path warmUpDirectoryPath) {
+
+        if (warmUpDirectoryPath == null) {
+
+            return;
+
+        }
+
+        try {
+
+            Files.deleteIfExists(warmUpDirectoryPath.resolve(JdtsDaemonServiceImpl.WARM_UP_FILE_NAME));
+            Files.deleteIfExists(warmUpDirectoryPath.resolve(JdtsDaemonServiceImpl.WARM_UP_REPORT_FILE_NAME));
+            Files.deleteIfExists(warmUpDirectoryPath);
+
+        } catch (@SuppressWarnings("unused") final IOException e) {
+
+            // 一時ディレクトリのため、削除できない場合も処理を続ける
+        }
+
+    }
+
+    /**
+     * 対象ファイルパスを処理する
+     * <p>
+     * 定義ファイルの内容が常駐している構成モデルの作成時と同じ場合は、常駐している構成モデルを使用する。<br>
+     * 処理後は、使用した構成モデルを定義ファイルの内容とともに常駐させる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     * @param targetPath
+     *                       対象ファイルパス
+     * @param threadNum
+     *                       スレッド数
+     * @param reportPath
+     *                       試行モードのレポートファイルのパス。試行モードでない場合は、null。
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    private void processTarget(final Path definitionPath, final Path targetPath, final short threadNum,
+        final Path reportPath) throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+
+        final Path   absoluteDefinitionPath = definitionPath.toAbsolutePath().normalize();
+        final byte[] definitionContent      = JdtsDaemonServiceImpl.readDefinition(absoluteDefinitionPath);
+
+        final JdtsService jdtsService = this.createJdtsService();
+
+        // 常駐している構成モデルが使用できるか
+        final ResidentConfigs residentConfigs = this.residentConfigsMap.get(absoluteDefinitionPath);
+
+        if ((residentConfigs != null) && Arrays.equals(residentConfigs.definitionContent(), definitionContent)) {
+            // 使用できる場合
+
+            jdtsService.enableResidentConfigs(residentConfigs.jdtsConfigsModel());
+
+        }
+
+        // 試行モードか
+        if (reportPath != null) {
+            // 試行モードの場合
+
+            jdtsService.enableDryRunMode(reportPath);
+
+        }
+
+        jdtsService.initialize(targetPath, absoluteDefinitionPath, threadNum);
+        jdtsService.process();
+
+        /* 構成モデルを常駐させる */
+        this.residentConfigsMap.put(absoluteDefinitionPath,
+            new ResidentConfigs(definitionContent, jdtsService.getJdtsConfigsModel()));
+
+    }
+
+    /**
+     * 定義ファイルの内容を読み込む
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return 定義ファイルの内容
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private static byte[] readDefinition(final Path definitionPath) throws KmgToolBaseMsgException {
+
+        final byte[] result;
+
+        try {
+
+            result = Files.readAllBytes(definitionPath);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13003;
+            final Object[]               genMsgArgs  = {
+                definitionPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 接続ごとの要求を処理し、応答を書き込む
+     * <p>
+     * 形式が正しくない要求には応答せずに接続を閉じる。<br>
+     * 要求の読み込みの期限を過ぎた場合は、接続を閉じて読み込みを終了させる。<br>
+     * 接続でエラーが発生した場合は、他の接続の処理を続けるため、ログを出力して接続を閉じる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param connection
+     *                   接続したソケットチャネル
+     * @param scheduler
+     *                   要求の読み込みの期限を過ぎた接続を閉じるスケジューラー
+     */
+    private void serveConnection(final SocketChannel connection, final ScheduledExecutorService scheduler) {
+
+        try (connection;
+            final BufferedReader reader = new BufferedReader(Channels.newReader(connection, StandardCharsets.UTF_8));
+            final BufferedWriter writer
+                = new BufferedWriter(Channels.newWriter(connection, StandardCharsets.UTF_8))) {
+
+            final JdtsDaemonRequestModel request;
+            final ScheduledFuture<?>     readTimeout = scheduler.schedule(
+                () -> JdtsDaemonServiceImpl.closeConnection(connection), JdtsDaemonServiceImpl.READ_TIMEOUT_SECONDS,
+                TimeUnit.SECONDS);
+
+            try {
+
+                request = JdtsDaemonRequestModelImpl.read(reader);
+
+            } finally {
+
+                readTimeout.cancel(false);
+
+            }
+
+            // 形式が正しくない要求か
+            if (request == null) {
+                // 正しくない場合
+
+                return;
+
+            }
+
+            final Map<Path, String> errorMap = this.handle(request);
+            JdtsDaemonServiceImpl.writeResponse(writer, request, errorMap);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13013;
+            this.msgLogger.warn(logMsgTypes, () -> new Object[] {
+                Objects.toString(this.socketPath),
+            }, e);
+
+        }
+
+    }
+
+    /**
+     * 対象ファイルパスごとの処理結果を応答として書き込む
+     * <p>
+     * メッセージ内の区切り文字と改行は、空白に置き換える。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param writer
+     *                 書き込み先
+     * @param request
+     *                 常駐プロセスへの要求モデル
+     * @param errorMap
+     *                 処理に失敗した対象ファイルパスとメッセージのマップ
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private static void writeResponse(final BufferedWriter writer, final JdtsDaemonRequestModel request,
+        final Map<Path, String> errorMap) throws IOException {
+
+        writer.write(JdtsDaemonRequestModelImpl.HEADER_LINE);
+        writer.newLine();
+
+        for (final Path targetPath : request.getTargetPaths()) {
+
+            final String errorMessage = errorMap.get(targetPath);
+
+            // 処理に失敗したか
+            if (errorMessage == null) {
+                // 成功した場合
+
+                writer.write(JdtsDaemonResultTypes.OK.get());
+                writer.write(JdtsDaemonRequestModelImpl.ITEM_DELIMITER);
+                writer.write(targetPath.toString());
+
+            } else {
+                // 失敗した場合
+
+                writer.write(JdtsDaemonResultTypes.ERROR.get());
+                writer.write(JdtsDaemonRequestModelImpl.ITEM_DELIMITER);
+                writer.write(targetPath.toString());
+                writer.write(JdtsDaemonRequestModelImpl.ITEM_DELIMITER);
+                writer.write(JdtsDaemonServiceImpl.MESSAGE_SEPARATOR_PATTERN.matcher(errorMessage)
+                    .replaceAll(JdtsDaemonServiceImpl.MESSAGE_SEPARATOR_REPLACEMENT));
+
+            }
+
+            writer.newLine();
+
+        }
+
+        writer.write(JdtsDaemonRequestModelImpl.END_LINE);
+        writer.newLine();
+        writer.flush();
+
+    }
+
+}
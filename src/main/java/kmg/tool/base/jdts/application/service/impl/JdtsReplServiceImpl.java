@@ -1,21 +1,32 @@
 package kmg.tool.base.jdts.application.service.impl;
 
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 import kmg.core.infrastructure.type.KmgString;
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.log.KmgToolBaseMsgLogger;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
 import kmg.tool.base.jdts.application.logic.JdtsBlockReplLogic;
 import kmg.tool.base.jdts.application.model.JdtsBlockModel;
 import kmg.tool.base.jdts.application.model.JdtsCodeModel;
 import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsReplActionModel;
+import kmg.tool.base.jdts.application.model.JdtsTagConfigModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsReplActionModelImpl;
 import kmg.tool.base.jdts.application.service.JdtsReplService;
+import kmg.tool.base.jdts.application.types.JdtsReplActionTypes;
 
 /**
  * Javadocタグ設定の入出力サービス<br>
@@ -28,25 +39,29 @@ import kmg.tool.base.jdts.application.service.JdtsReplService;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @Service
+@Scope("prototype")
 public class JdtsReplServiceImpl implements JdtsReplService {
 
     /**
-     * ロガー
+     * KMGメッセージリソース
      *
      * @since 0.2.0
      */
-    private final Logger logger;
+    @Autowired
+    private KmgMessageSource messageSource;
 
     /**
-     * KMGメッセージリソース
+     * KMGツールベースメッセージロガー
+     * <p>
+     * ログレベルが有効な場合のみ、ログメッセージを作成する。
+     * </p>
      *
-     * @since 0.2.0
+     * @since 0.2.8
      */
-    @Autowired
-    private KmgMessageSource messageSource;
+    private final KmgToolBaseMsgLogger msgLogger;
 
     /**
      * Javadocタグ設定のブロック置換ロジック
@@ -84,6 +99,26 @@ public class JdtsReplServiceImpl implements JdtsReplService {
      */
     private long totalReplaceCount;
 
+    /**
+     * 置換操作のリスト
+     * <p>
+     * 1ファイル分の置換操作のみを保持し、初期化のたびにクリアする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final List<JdtsReplActionModel> replActionList;
+
+    /**
+     * タグごとの上書きしなかった件数のマップ
+     * <p>
+     * 1ファイル分の件数のみを保持し、初期化のたびにクリアする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Map<KmgJavadocTagTypes, Long> skipCountMap;
+
     /**
      * デフォルトコンストラクタ
      *
@@ -105,9 +140,11 @@ public class JdtsReplServiceImpl implements JdtsReplService {
      */
     protected JdtsReplServiceImpl(final Logger logger) {
 
-        this.logger = logger;
+        this.msgLogger = new KmgToolBaseMsgLogger(logger, () -> this.messageSource);
         this.replaceCode = KmgString.EMPTY;
         this.totalReplaceCount = 0;
+        this.replActionList = new ArrayList<>();
+        this.skipCountMap = new EnumMap<>(KmgJavadocTagTypes.class);
 
     }
 
@@ -126,6 +163,24 @@ public class JdtsReplServiceImpl implements JdtsReplService {
 
     }
 
+    /**
+     * 置換操作のリストを返す<br>
+     * <p>
+     * 直近に初期化してから行った置換操作を、操作した順番に返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 置換操作のリスト
+     */
+    @Override
+    public List<JdtsReplActionModel> getReplActionList() {
+
+        final List<JdtsReplActionModel> result = Collections.unmodifiableList(this.replActionList);
+        return result;
+
+    }
+
     /**
      * 置換後のコードを返す<br>
      *
@@ -141,6 +196,24 @@ public class JdtsReplServiceImpl implements JdtsReplService {
 
     }
 
+    /**
+     * タグごとの上書きしなかった件数のマップを返す<br>
+     * <p>
+     * 直近に初期化してから、上書き設定によりタグを上書きしなかった件数をタグごとに返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return タグごとの上書きしなかった件数のマップ
+     */
+    @Override
+    public Map<KmgJavadocTagTypes, Long> getSkipCountMap() {
+
+        final Map<KmgJavadocTagTypes, Long> result = Collections.unmodifiableMap(this.skipCountMap);
+        return result;
+
+    }
+
     /**
      * 合計置換数を返す。
      *
@@ -197,6 +270,8 @@ public class JdtsReplServiceImpl implements JdtsReplService {
         this.replaceCode = this.jdtsCodeModel.getOrgCode();
 
         this.totalReplaceCount = 0;
+        this.replActionList.clear();
+        this.skipCountMap.clear();
 
         result = true;
         return result;
@@ -218,48 +293,112 @@ public class JdtsReplServiceImpl implements JdtsReplService {
 
         boolean result = false;
 
-        /* 事前処理 */
+        /* Javadocを置換する */
 
-        // オリジナルコード内のJavadocブロック部分を一意の識別子に一時的に置換する
-        // 同一内容のJavadocが複数存在する場合でも、異なる置換が行われないようにするため
-        // 置換は前回の置換位置以降から検索して実施する
+        // 置換前のコード
+        final String srcCode = this.replaceCode;
 
-        int searchStartIdx = 0; // 次回検索開始位置
+        // オリジナルコードの先頭から順に、置換前のコードと置換後のJavadocブロックを連結する
+        // ブロックごとのJavadocの位置は、コードモデルの解析時に記録した開始位置を使用する
+        final StringBuilder replaceCodeBuilder = new StringBuilder(srcCode.length());
 
-        for (final JdtsBlockModel jdtsBlockModel : this.jdtsCodeModel.getJdtsBlockModels()) {
+        int copyStartIdx = 0; // 次回複写開始位置
 
-            final String target     = jdtsBlockModel.getJavadocModel().getSrcJavadoc();
-            final int    replaceIdx = this.replaceCode.indexOf(target, searchStartIdx);
+        // ブロックごとにJavadocを置換する
+        for (final JdtsBlockModel targetBlockModel : this.jdtsCodeModel.getJdtsBlockModels()) {
+
+            final String srcJavadoc      = targetBlockModel.getJavadocModel().getSrcJavadoc();
+            final int    javadocStartIdx = targetBlockModel.getOrgBlockStartIdx();
 
-            if (replaceIdx == -1) {
+            // 開始位置にJavadocが存在しないか
+            // ブロックの置換処理は置換件数と置換操作を記録するため、置換できないブロックは処理する前に除く
+            if ((javadocStartIdx < copyStartIdx) || !srcCode.startsWith(srcJavadoc, javadocStartIdx)) {
+                // 存在しない場合
 
+                this.logJavadocMismatch(targetBlockModel);
                 continue;
 
             }
 
-            // 置換対象の前後で分割し、Javadoc部分を識別子に置換
-            final String before = this.replaceCode.substring(0, replaceIdx);
-            final String after  = this.replaceCode.substring(replaceIdx).replaceFirst(Pattern.quote(target),
-                jdtsBlockModel.getId().toString());
+            final String replaceJavadocBlock = this.processBlock(targetBlockModel);
 
-            this.replaceCode = KmgString.concat(before, after);
+            // Javadocの直前までを複写し、置換後のJavadocブロックを連結する
+            replaceCodeBuilder.append(srcCode, copyStartIdx, javadocStartIdx);
+            replaceCodeBuilder.append(replaceJavadocBlock);
 
-            // 次回は今回置換した識別子の直後から検索を再開
-            searchStartIdx = replaceIdx + jdtsBlockModel.getId().toString().length();
+            // 次回は置換したJavadocの直後から複写する
+            copyStartIdx = javadocStartIdx + srcJavadoc.length();
 
         }
 
-        /* Javadocを置換する */
+        // 最後のJavadoc以降を複写する
+        replaceCodeBuilder.append(srcCode, copyStartIdx, srcCode.length());
 
-        // ブロックごとにJavadocを置換する
-        for (final JdtsBlockModel targetBlockModel : this.jdtsCodeModel.getJdtsBlockModels()) {
+        this.replaceCode = replaceCodeBuilder.toString();
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 置換操作を置換操作のリストに追加する
+     * <p>
+     * 削除の場合は元のJavadocタグのタグを、それ以外の場合はタグ構成のタグを操作したタグとする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param targetBlockModel
+     *                         対象のブロックモデル
+     * @param action
+     *                         置換操作の種類
+     */
+    private void addReplAction(final JdtsBlockModel targetBlockModel, final JdtsReplActionTypes action) {
+
+        KmgJavadocTagTypes tag = null;
+
+        // 削除か
+        if (action == JdtsReplActionTypes.REMOVE) {
+            // 削除の場合
+
+            if (this.jdtsBlockReplLogic.getCurrentSrcJavadocTag() != null) {
+
+                tag = this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getTag();
 
-            this.processBlock(targetBlockModel);
+            }
+
+        } else if (this.jdtsBlockReplLogic.getCurrentTagConfigModel() != null) {
+            // 削除以外でタグ構成がある場合
+
+            tag = this.jdtsBlockReplLogic.getCurrentTagConfigModel().getTag();
 
         }
 
-        result = true;
-        return result;
+        final JdtsReplActionModel replActionModel = new JdtsReplActionModelImpl(action,
+            targetBlockModel.getClassification(), targetBlockModel.getElementName(), tag);
+        this.replActionList.add(replActionModel);
+
+    }
+
+    /**
+     * タグ構成のタグの上書きしなかった件数を加算する
+     *
+     * @since 0.2.8
+     */
+    private void countSkip() {
+
+        final JdtsTagConfigModel tagConfigModel = this.jdtsBlockReplLogic.getCurrentTagConfigModel();
+
+        // タグ構成のタグがないか
+        if ((tagConfigModel == null) || (tagConfigModel.getTag() == null)) {
+            // ない場合
+
+            return;
+
+        }
+
+        this.skipCountMap.merge(tagConfigModel.getTag(), 1L, Long::sum);
 
     }
 
@@ -281,12 +420,28 @@ public class JdtsReplServiceImpl implements JdtsReplService {
         }
 
         final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13001;
-        final Object[]               logMsgArgs  = {
+        this.msgLogger.debug(logMsgTypes, () -> new Object[] {
             targetBlockModel.getClassification().getDisplayName(), targetBlockModel.getElementName(),
             this.jdtsBlockReplLogic.getCurrentTagConfigModel().getTag().getDisplayName(),
-        };
-        final String                 logMsg      = this.messageSource.getLogMessage(logMsgTypes, logMsgArgs);
-        this.logger.debug(logMsg);
+        });
+
+    }
+
+    /**
+     * Javadocの開始位置が置換前のコードと一致しない場合のログを出力する
+     *
+     * @since 0.2.8
+     *
+     * @param targetBlockModel
+     *                         対象のブロックモデル
+     */
+    private void logJavadocMismatch(final JdtsBlockModel targetBlockModel) {
+
+        final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13015;
+        this.msgLogger.warn(logMsgTypes, () -> new Object[] {
+            targetBlockModel.getClassification().getDisplayName(), targetBlockModel.getElementName(),
+            targetBlockModel.getOrgBlockStartIdx(),
+        });
 
     }
 
@@ -301,15 +456,13 @@ public class JdtsReplServiceImpl implements JdtsReplService {
     private void logRemoveTag(final JdtsBlockModel targetBlockModel) {
 
         final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13002;
-        final Object[]               logMsgArgs  = {
+        this.msgLogger.debug(logMsgTypes, () -> new Object[] {
             targetBlockModel.getClassification().getDisplayName(), targetBlockModel.getElementName(),
             this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getTargetStr(),
             this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getTag().getDisplayName(),
             this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getValue(),
             this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getDescription(),
-        };
-        final String                 logMsg      = this.messageSource.getLogMessage(logMsgTypes, logMsgArgs);
-        this.logger.debug(logMsg);
+        });
 
     }
 
@@ -331,7 +484,7 @@ public class JdtsReplServiceImpl implements JdtsReplService {
         }
 
         final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13004;
-        final Object[]               logMsgArgs  = {
+        this.msgLogger.debug(logMsgTypes, () -> new Object[] {
             targetBlockModel.getClassification().getDisplayName(), targetBlockModel.getElementName(),
             this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getTargetStr(),
             this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getTag().getDisplayName(),
@@ -341,9 +494,7 @@ public class JdtsReplServiceImpl implements JdtsReplService {
             this.jdtsBlockReplLogic.getCurrentTagConfigModel().getTag().getDisplayName(),
             this.jdtsBlockReplLogic.getCurrentTagConfigModel().getTagValue(),
             this.jdtsBlockReplLogic.getCurrentTagConfigModel().getTagDescription(),
-        };
-        final String                 logMsg      = this.messageSource.getLogMessage(logMsgTypes, logMsgArgs);
-        this.logger.debug(logMsg);
+        });
 
     }
 
@@ -365,7 +516,7 @@ public class JdtsReplServiceImpl implements JdtsReplService {
         }
 
         final KmgToolBaseLogMsgTypes logMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13003;
-        final Object[]               logMsgArgs  = {
+        this.msgLogger.debug(logMsgTypes, () -> new Object[] {
             targetBlockModel.getClassification().getDisplayName(), targetBlockModel.getElementName(),
             this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getTargetStr(),
             this.jdtsBlockReplLogic.getCurrentSrcJavadocTag().getTag().getDisplayName(),
@@ -375,9 +526,7 @@ public class JdtsReplServiceImpl implements JdtsReplService {
             this.jdtsBlockReplLogic.getCurrentTagConfigModel().getTag().getDisplayName(),
             this.jdtsBlockReplLogic.getCurrentTagConfigModel().getTagValue(),
             this.jdtsBlockReplLogic.getCurrentTagConfigModel().getTagDescription(),
-        };
-        final String                 logMsg      = this.messageSource.getLogMessage(logMsgTypes, logMsgArgs);
-        this.logger.debug(logMsg);
+        });
 
     }
 
@@ -389,10 +538,14 @@ public class JdtsReplServiceImpl implements JdtsReplService {
      * @param targetBlockModel
      *                         対象のブロックモデル
      *
+     * @return 置換後のJavadocブロック
+     *
      * @throws KmgToolBaseMsgException
      *                                 KMGツールメッセージ例外
      */
-    private void processBlock(final JdtsBlockModel targetBlockModel) throws KmgToolBaseMsgException {
+    private String processBlock(final JdtsBlockModel targetBlockModel) throws KmgToolBaseMsgException {
+
+        final String result;
 
         /* ブロックごとの置換の処理の準備 */
 
@@ -419,6 +572,7 @@ public class JdtsReplServiceImpl implements JdtsReplService {
                     this.totalReplaceCount++;
 
                     this.logAddNewTag(targetBlockModel);
+                    this.addReplAction(targetBlockModel, JdtsReplActionTypes.ADD);
 
                 }
 
@@ -435,6 +589,7 @@ public class JdtsReplServiceImpl implements JdtsReplService {
                 this.totalReplaceCount++;
 
                 this.logRemoveTag(targetBlockModel);
+                this.addReplAction(targetBlockModel, JdtsReplActionTypes.REMOVE);
 
                 // タグを削除したため、後続の処理は行わず、次のタグを処理する
                 continue;
@@ -447,6 +602,8 @@ public class JdtsReplServiceImpl implements JdtsReplService {
             if (!this.jdtsBlockReplLogic.shouldOverwriteTag()) {
                 // 上書きしない場合
 
+                this.countSkip();
+
                 continue;
 
             }
@@ -457,6 +614,7 @@ public class JdtsReplServiceImpl implements JdtsReplService {
                 this.totalReplaceCount++;
 
                 this.logRepositionTag(targetBlockModel);
+                this.addReplAction(targetBlockModel, JdtsReplActionTypes.REPOSITION);
 
                 continue;
 
@@ -468,6 +626,7 @@ public class JdtsReplServiceImpl implements JdtsReplService {
                 this.totalReplaceCount++;
 
                 this.logReplaceTag(targetBlockModel);
+                this.addReplAction(targetBlockModel, JdtsReplActionTypes.REPLACE);
 
                 continue;
 
@@ -476,13 +635,9 @@ public class JdtsReplServiceImpl implements JdtsReplService {
             /* 次のタグを処理するか */
         } while (this.jdtsBlockReplLogic.nextTag());
 
-        /* コード全体に反映する */
-
-        // 置換後のJavadocブロックを取得する
-        final String replaceJavadocBlock = this.jdtsBlockReplLogic.getReplacedJavadocBlock();
-
-        // 置換後のJavadocブロックにコード全体に反映する
-        this.replaceCode = this.replaceCode.replace(targetBlockModel.getId().toString(), replaceJavadocBlock);
+        /* 置換後のJavadocブロックを取得する */
+        result = this.jdtsBlockReplLogic.getReplacedJavadocBlock();
+        return result;
 
     }
 }
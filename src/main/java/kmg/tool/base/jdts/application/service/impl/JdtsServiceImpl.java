@@ -1,7 +1,25 @@
 package kmg.tool.base.jdts.application.service.impl;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,18 +27,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.fund.domain.logic.FileIteratorLogic;
 import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.fund.infrastructure.exception.KmgFundMsgException;
 import kmg.fund.infrastructure.utils.KmgYamlUtils;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
+import kmg.tool.base.cmn.infrastructure.log.KmgToolBaseMsgLogger;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
+import kmg.tool.base.io.domain.logic.FileWriteLogic;
 import kmg.tool.base.jdts.application.model.JdtsCodeModel;
+import kmg.tool.base.jdts.application.model.JdtsConfigsCacheModel;
 import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsDefinitionModel;
+import kmg.tool.base.jdts.application.model.JdtsFileTimingModel;
+import kmg.tool.base.jdts.application.model.JdtsManifestModel;
+import kmg.tool.base.jdts.application.model.JdtsReplActionModel;
+import kmg.tool.base.jdts.application.model.JdtsStatisticsModel;
 import kmg.tool.base.jdts.application.model.impl.JdtsCodeModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsConfigsCacheModelImpl;
 import kmg.tool.base.jdts.application.model.impl.JdtsConfigsModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsFileTimingModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsManifestModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsStatisticsModelImpl;
 import kmg.tool.base.jdts.application.service.JdtsReplService;
 import kmg.tool.base.jdts.application.service.JdtsService;
 
@@ -34,17 +65,51 @@ import kmg.tool.base.jdts.application.service.JdtsService;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @Service
 public class JdtsServiceImpl implements JdtsService {
 
     /**
-     * ロガー
+     * デフォルトのスレッド数
+     * <p>
+     * 1の場合は、1ファイルずつ順番に処理する。
+     * </p>
      *
-     * @since 0.2.0
+     * @since 0.2.8
+     */
+    private static final short DEFAULT_THREAD_NUM = 1;
+
+    /**
+     * Javaファイルの拡張子
+     *
+     * @since 0.2.8
+     */
+    private static final String JAVA_FILE_EXTENSION = ".java"; //$NON-NLS-1$
+
+    /**
+     * レポートファイルのヘッダ行
+     *
+     * @since 0.2.8
+     */
+    private static final String REPORT_HEADER_LINE = "#jdts-report\t1"; //$NON-NLS-1$
+
+    /**
+     * レポートファイルの項目の区切り文字
+     *
+     * @since 0.2.8
+     */
+    private static final String REPORT_ITEM_DELIMITER = "\t"; //$NON-NLS-1$
+
+    /**
+     * 対象のファイルの文字セット
+     * <p>
+     * 順番に処理する場合と並列に処理する場合で、同じ文字セットで読み込む。
+     * </p>
+     *
+     * @since 0.2.8
      */
-    private final Logger logger;
+    private static final Charset TARGET_FILE_CHARSET = StandardCharsets.UTF_8;
 
     /**
      * KMGメッセージリソース
@@ -54,6 +119,16 @@ public class JdtsServiceImpl implements JdtsService {
     @Autowired
     private KmgMessageSource messageSource;
 
+    /**
+     * KMGツールベースメッセージロガー
+     * <p>
+     * ログレベルが有効な場合のみ、ログメッセージを作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final KmgToolBaseMsgLogger msgLogger;
+
     /**
      * Javadocタグ設定の構成モデル
      *
@@ -69,6 +144,14 @@ public class JdtsServiceImpl implements JdtsService {
     @Autowired
     private FileIteratorLogic fileIteratorLogic;
 
+    /**
+     * ファイル書き込みロジック
+     *
+     * @since 0.2.8
+     */
+    @Autowired
+    private FileWriteLogic fileWriteLogic;
+
     /**
      * Javadocタグ設定の入出力サービス
      *
@@ -100,89 +183,213 @@ public class JdtsServiceImpl implements JdtsService {
     private Path definitionPath;
 
     /**
-     * 標準ロガーを使用して入出力ツールを初期化するコンストラクタ<br>
+     * スレッド数
      *
-     * @since 0.2.0
+     * @since 0.2.8
      */
-    public JdtsServiceImpl() {
+    private short threadNum;
 
-        this(LoggerFactory.getLogger(JdtsServiceImpl.class));
+    /**
+     * 対象ファイルリストのJavaファイルのパスのリスト
+     * <p>
+     * nullの場合は、対象ファイルパスのディレクトリを走査して対象のファイルを決める。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private List<Path> targetFilePathList;
 
-    }
+    /**
+     * Javadocタグ設定の定義モデルのリスト
+     * <p>
+     * nullの場合は、定義ファイルのパスの定義ファイルのみを全てのファイルに適用する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private List<JdtsDefinitionModel> jdtsDefinitionModelList;
 
     /**
-     * カスタムロガーを使用して入出力ツールを初期化するコンストラクタ<br>
+     * 定義モデルごとの構成モデルのリスト
+     * <p>
+     * 定義モデルのリストと同じ順番で保持する。定義モデルのリストがnullの場合は使用しない。
+     * </p>
      *
-     * @since 0.2.0
+     * @since 0.2.8
+     */
+    private List<JdtsConfigsModel> definitionConfigsModelList;
+
+    /**
+     * 構成キャッシュファイルのパス
+     * <p>
+     * nullの場合は、構成キャッシュを使用せず、毎回定義ファイルを解析する。
+     * </p>
      *
-     * @param logger
-     *               ロガー
+     * @since 0.2.8
      */
-    protected JdtsServiceImpl(final Logger logger) {
+    private Path configCachePath;
+
+    /**
+     * 常駐している構成モデル
+     * <p>
+     * nullの場合は、処理時に定義ファイルから構成モデルを作成する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private JdtsConfigsModel residentConfigsModel;
 
-        this.logger = logger;
+    /**
+     * マニフェストファイルのパス
+     * <p>
+     * nullの場合は、差分処理を行わない。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private Path manifestPath;
 
-    }
+    /**
+     * Javadocタグ設定のマニフェストモデル
+     * <p>
+     * 差分処理を行わない場合は、null。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private JdtsManifestModel jdtsManifestModel;
 
     /**
-     * 定義ファイルのパスを返す。
+     * レポートファイルのパス
+     * <p>
+     * nullの場合は、試行モードではなく、対象のファイルに書き込む。
+     * </p>
      *
-     * @since 0.2.0
+     * @since 0.2.8
+     */
+    private Path reportPath;
+
+    /**
+     * レポートファイルのライター
+     * <p>
+     * 試行モードの処理中のみ保持し、それ以外は、null。
+     * </p>
      *
-     * @return 定義ファイルのパス
+     * @since 0.2.8
      */
-    @Override
-    public Path getDefinitionPath() {
+    private BufferedWriter reportWriter;
 
-        final Path result = this.definitionPath;
-        return result;
+    /**
+     * レポートファイルの書き込みのロック
+     * <p>
+     * 並列に処理する場合も、1ファイル分の行が他のファイルの行と混在しないようにする。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final Object reportLock;
+
+    /**
+     * 書き込みファイル数
+     * <p>
+     * 並列に処理する場合も集計できるように、スレッドセーフに保持する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final AtomicLong writeFileCount;
+
+    /**
+     * 書き込みスキップファイル数
+     * <p>
+     * 内容に変更がないファイルと、差分処理でスキップしたファイルの数である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private final AtomicLong writeSkipFileCount;
+
+    /**
+     * Javadocタグ設定の統計モデル
+     * <p>
+     * 処理するたびに新しく作成し、並列に処理する場合も各ファイルの結果を集計する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private JdtsStatisticsModel jdtsStatisticsModel;
+
+    /**
+     * 順番に処理する場合の処理中のファイルの解析の処理時間（ナノ秒）
+     * <p>
+     * ファイルイテレーターロジックと同様に、順番に処理する場合のみ使用する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private long currentParseNanos;
+
+    /**
+     * 順番に処理する場合の処理中のファイルの読み込んだ内容
+     * <p>
+     * ファイルイテレーターロジックと同様に、順番に処理する場合のみ使用する。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private String currentReadContent;
+
+    /**
+     * 標準ロガーを使用して入出力ツールを初期化するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     */
+    public JdtsServiceImpl() {
+
+        this(LoggerFactory.getLogger(JdtsServiceImpl.class));
 
     }
 
     /**
-     * 対象ファイルパスを返す。
+     * カスタムロガーを使用して入出力ツールを初期化するコンストラクタ<br>
      *
      * @since 0.2.0
      *
-     * @return 対象ファイルパス
+     * @param logger
+     *               ロガー
      */
-    @Override
-    public Path getTargetPath() {
+    protected JdtsServiceImpl(final Logger logger) {
 
-        final Path result = this.targetPath;
-        return result;
+        this.msgLogger = new KmgToolBaseMsgLogger(logger, () -> this.messageSource);
+        this.threadNum = JdtsServiceImpl.DEFAULT_THREAD_NUM;
+        this.writeFileCount = new AtomicLong();
+        this.writeSkipFileCount = new AtomicLong();
+        this.reportLock = new Object();
+        this.jdtsStatisticsModel = new JdtsStatisticsModelImpl();
 
     }
 
     /**
-     * 初期化する
+     * 構成キャッシュを有効にする
+     * <p>
+     * 構成キャッシュでは、検証済みのJavadocタグ設定の構成を、定義ファイルのハッシュ値とともにバイナリ形式の構成キャッシュファイルに保持する。<br>
+     * 定義ファイルが前回から変更されていない場合は、構成キャッシュファイルから構成を復元し、YAMLの解析と検証を行わない。
+     * </p>
      *
-     * @since 0.2.4
+     * @since 0.2.8
      *
-     * @param targetPath
-     *                       対象ファイルパス
-     * @param definitionPath
-     *                       定義ファイルのパス
+     * @param configCachePath
+     *                        構成キャッシュファイルのパス
      *
      * @return true：成功、false：失敗
-     *
-     * @throws KmgFundMsgException
-     *                                 KMG基盤メッセージ例外
-     * @throws KmgToolBaseMsgException
-     *                                 KMGツールメッセージ例外
      */
     @SuppressWarnings("hiding")
     @Override
-    public boolean initialize(final Path targetPath, final Path definitionPath)
-        throws KmgFundMsgException, KmgToolBaseMsgException {
+    public boolean enableConfigCache(final Path configCachePath) {
 
         boolean result = false;
 
-        this.targetPath = targetPath;
-        this.definitionPath = definitionPath;
-
-        /* ファイルイテレーターロジックの初期化 */
-        this.fileIteratorLogic.initialize(targetPath);
+        this.configCachePath = configCachePath;
 
         result = true;
         return result;
@@ -190,55 +397,28 @@ public class JdtsServiceImpl implements JdtsService {
     }
 
     /**
-     * 処理する
+     * 試行モードを有効にする
+     * <p>
+     * 試行モードでは、置換の処理を全て行うが、対象のファイルには書き込まない。<br>
+     * 代わりに、内容が変更される対象のファイルの置換操作を、ファイル、要素の区分、要素名、タグ、置換操作の種類のタブ区切りでレポートファイルに出力する。<br>
+     * レポートファイルは処理しながら順次書き込むため、変更される全てのファイルの内容をメモリに保持しない。<br>
+     * 差分処理は行わず、マニフェストファイルも更新しない。
+     * </p>
      *
-     * @since 0.2.4
+     * @since 0.2.8
      *
-     * @return true：成功、false：失敗
+     * @param reportPath
+     *                   レポートファイルのパス
      *
-     * @throws KmgFundMsgException
-     *                                 KMG基盤メッセージ例外
-     * @throws KmgToolBaseMsgException
-     *                                 KMGツールメッセージ例外
-     * @throws KmgToolBaseValException
-     *                                 KMGツールバリデーション例外
+     * @return true：成功、false：失敗
      */
+    @SuppressWarnings("hiding")
     @Override
-    public boolean process() throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+    public boolean enableDryRunMode(final Path reportPath) {
 
         boolean result = false;
 
-        final KmgToolBaseLogMsgTypes startLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13005;
-        final Object[]               startLogMsgArgs  = {};
-        final String                 startLogMsg      = this.messageSource.getLogMessage(startLogMsgTypes,
-            startLogMsgArgs);
-        this.logger.debug(startLogMsg);
-
-        /* 準備 */
-
-        // 構成モデルを作成する
-        this.createJdtsConfigsModel();
-
-        // Javaファイルのリストをロードする
-        this.fileIteratorLogic.load();
-
-        /* 次のJavaファイルがあるまでJavadocを置換する */
-
-        // 合計置換数
-        long totalReplaceCount = 0;
-
-        do {
-
-            totalReplaceCount += this.processFile();
-
-        } while (this.fileIteratorLogic.nextFile());
-
-        final KmgToolBaseLogMsgTypes endLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13006;
-        final Object[]               endLogMsgArgs  = {
-            this.fileIteratorLogic.getFilePathList().size(), totalReplaceCount,
-        };
-        final String                 endLogMsg      = this.messageSource.getLogMessage(endLogMsgTypes, endLogMsgArgs);
-        this.logger.debug(endLogMsg);
+        this.reportPath = reportPath;
 
         result = true;
         return result;
@@ -246,43 +426,26 @@ public class JdtsServiceImpl implements JdtsService {
     }
 
     /**
-     * Javadocタグ設定の構成モデルを作成する。
+     * 差分処理を有効にする
      * <p>
-     * YAMLファイルを読み込み、Javadocタグ設定の構成モデルを作成する。
+     * 差分処理では、マニフェストファイルに前回の処理結果を保持し、対象のファイルと定義ファイルのいずれも前回から変更されていない対象のファイルの処理をスキップする。<br>
+     * マニフェストファイルは、対象のファイルと同じ階層、または、キャッシュ用のディレクトリに配置する。
      * </p>
      *
-     * @since 0.2.4
+     * @since 0.2.8
      *
-     * @return true：成功、false：失敗
+     * @param manifestPath
+     *                     マニフェストファイルのパス
      *
-     * @throws KmgToolBaseMsgException
-     *                                 KMGツールメッセージ例外
-     * @throws KmgToolBaseValException
-     *                                 KMGツールバリデーション例外
+     * @return true：成功、false：失敗
      */
-    private boolean createJdtsConfigsModel() throws KmgToolBaseMsgException, KmgToolBaseValException {
-
-        final boolean result;
-
-        /* YAMLファイルを読み込む */
-        Map<String, Object> yamlData;
-
-        try {
-
-            yamlData = KmgYamlUtils.load(this.definitionPath);
-
-        } catch (final KmgFundMsgException e) {
-
-            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13003;
-            final Object[]               genMsgArgs  = {
-                this.definitionPath.toString(),
-            };
-            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean enableIncrementalMode(final Path manifestPath) {
 
-        }
+        boolean result = false;
 
-        /* Javadocタグ設定の構成モデルを作成する */
-        this.jdtsConfigsModel = new JdtsConfigsModelImpl(yamlData);
+        this.manifestPath = manifestPath;
 
         result = true;
         return result;
@@ -290,72 +453,1094 @@ public class JdtsServiceImpl implements JdtsService {
     }
 
     /**
-     * 内容を読み込み、コードモデルを作成・解析する
+     * 常駐している構成モデルを使用する
+     * <p>
+     * 処理時に定義ファイルを読み込まず、指定された検証済みのJavadocタグ設定の構成モデルを使用する。<br>
+     * 定義ファイルが構成モデルの作成時から変更されていないことは、呼び出し元で確認する。
+     * </p>
      *
-     * @since 0.2.4
+     * @since 0.2.8
      *
-     * @return 解析済みのコードモデル
+     * @param jdtsConfigsModel
+     *                         Javadocタグ設定の構成モデル
      *
-     * @throws KmgFundMsgException
-     *                                 KMG基盤メッセージ例外
-     * @throws KmgToolBaseMsgException
-     *                                 KMGツールメッセージ例外
-     * @throws KmgToolBaseValException
-     *                                 KMGツールバリデーション例外
+     * @return true：成功、false：失敗
      */
-    private JdtsCodeModel loadAndCreateCodeModel()
-        throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
-
-        JdtsCodeModel result;
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean enableResidentConfigs(final JdtsConfigsModel jdtsConfigsModel) {
 
-        this.fileIteratorLogic.loadContent();
+        boolean result = false;
 
-        final String readContent = this.fileIteratorLogic.getReadContent();
-        result = this.applicationContext.getBean(JdtsCodeModelImpl.class, readContent);
-        result.parse();
+        this.residentConfigsModel = jdtsConfigsModel;
 
+        result = true;
         return result;
 
     }
 
     /**
-     * ファイル処理終了ログを出力する
+     * 定義ファイルのパスを返す。
      *
      * @since 0.2.0
+     *
+     * @return 定義ファイルのパス
      */
-    private void logFileEnd() {
+    @Override
+    public Path getDefinitionPath() {
 
-        final KmgToolBaseLogMsgTypes fileEndLogMsgTypes  = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13008;
-        final Object[]               fileStartEndMsgArgs = {
-            this.fileIteratorLogic.getCurrentFilePath()
-        };
-        final String                 fileEndLogMsg       = this.messageSource.getLogMessage(fileEndLogMsgTypes,
-            fileStartEndMsgArgs);
-        this.logger.debug(fileEndLogMsg);
+        final Path result = this.definitionPath;
+        return result;
 
     }
 
     /**
-     * ファイル処理開始ログを出力する
+     * 処理に使用したJavadocタグ設定の構成モデルを返す。
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocタグ設定の構成モデル。処理していない場合は、null。
+     */
+    @Override
+    public JdtsConfigsModel getJdtsConfigsModel() {
+
+        final JdtsConfigsModel result = this.jdtsConfigsModel;
+        return result;
+
+    }
+
+    /**
+     * Javadocタグ設定の統計モデルを返す<br>
+     * <p>
+     * 直近の処理の、タグと置換操作の種類ごとの件数、タグごとの上書きしなかった件数、ファイルごとの処理時間を返す。<br>
+     * 処理するたびに新しい統計モデルに置き換わる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocタグ設定の統計モデル
+     */
+    @Override
+    public JdtsStatisticsModel getJdtsStatisticsModel() {
+
+        final JdtsStatisticsModel result = this.jdtsStatisticsModel;
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 対象ファイルパス
+     */
+    @Override
+    public Path getTargetPath() {
+
+        final Path result = this.targetPath;
+        return result;
+
+    }
+
+    /**
+     * 初期化する
+     *
+     * @since 0.2.4
+     *
+     * @param targetPath
+     *                       対象ファイルパス
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean initialize(final Path targetPath, final Path definitionPath)
+        throws KmgFundMsgException, KmgToolBaseMsgException {
+
+        final boolean result = this.initialize(targetPath, definitionPath, JdtsServiceImpl.DEFAULT_THREAD_NUM);
+        return result;
+
+    }
+
+    /**
+     * スレッド数を指定して初期化する
+     * <p>
+     * スレッド数が2以上の場合は、対象ファイルを並列に処理する。1以下の場合は、1ファイルずつ順番に処理する。<br>
+     * 並列に処理する場合も、ファイルごとの置換結果は順番に処理した場合と同じになる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param targetPath
+     *                       対象ファイルパス
+     * @param definitionPath
+     *                       定義ファイルのパス
+     * @param threadNum
+     *                       スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean initialize(final Path targetPath, final Path definitionPath, final short threadNum)
+        throws KmgFundMsgException, KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        this.targetPath = targetPath;
+        this.definitionPath = definitionPath;
+        this.threadNum = threadNum;
+        this.targetFilePathList = null;
+        this.jdtsDefinitionModelList = null;
+
+        /* ファイルイテレーターロジックの初期化 */
+        this.fileIteratorLogic.initialize(targetPath);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 複数の定義ファイルを指定して初期化する
+     * <p>
+     * 対象のディレクトリを1回だけ走査し、ファイルごとに、対象のパスのパターンに一致する定義ファイルを定義モデルのリストの順番に適用する。<br>
+     * 各ファイルは、一致する定義ファイルの数によらず、読み込みと書き込みを1回ずつ行う。<br>
+     * 定義ファイルのパスは、先頭の定義モデルの定義ファイルのパスとする。構成キャッシュと差分処理は使用しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param targetPath
+     *                                対象ファイルパス
+     * @param jdtsDefinitionModelList
+     *                                Javadocタグ設定の定義モデルのリスト
+     * @param threadNum
+     *                                スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean initializeWithDefinitions(final Path targetPath,
+        final List<JdtsDefinitionModel> jdtsDefinitionModelList, final short threadNum)
+        throws KmgFundMsgException, KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        /* パラメータが空か */
+        if ((jdtsDefinitionModelList == null) || jdtsDefinitionModelList.isEmpty()) {
+
+            return result;
+
+        }
+
+        this.targetPath = targetPath;
+        this.definitionPath = jdtsDefinitionModelList.get(0).getDefinitionPath();
+        this.threadNum = threadNum;
+        this.targetFilePathList = null;
+        this.jdtsDefinitionModelList = List.copyOf(jdtsDefinitionModelList);
+
+        /* ファイルイテレーターロジックの初期化 */
+        this.fileIteratorLogic.initialize(targetPath);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルリストのファイルを指定して初期化する
+     * <p>
+     * 対象のディレクトリを走査せずに、対象ファイルリストに記載されたJavaファイルのみを処理する。<br>
+     * 対象ファイルリストは、1行に1ファイルのパスを記載する。git diff --name-only の出力をそのまま使用できる。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param fileListPath
+     *                          対象ファイルリストのパス
+     * @param baseDirectoryPath
+     *                          相対パスの基準のディレクトリのパス
+     * @param definitionPath
+     *                          定義ファイルのパス
+     * @param threadNum
+     *                          スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean initializeWithFileList(final Path fileListPath, final Path baseDirectoryPath,
+        final Path definitionPath, final short threadNum) throws KmgToolBaseMsgException {
+
+        final boolean result;
+
+        try (final BufferedReader fileListReader = Files.newBufferedReader(fileListPath)) {
+
+            result = this.initializeWithFileList(fileListReader, baseDirectoryPath, definitionPath, threadNum);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13018;
+            final Object[]               genMsgArgs  = {
+                fileListPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルリストを読み込んで初期化する
+     * <p>
+     * 対象のディレクトリを走査せずに、対象ファイルリストに記載されたJavaファイルのみを処理する。<br>
+     * 標準入力から読み込む場合は、標準入力のリーダーを指定する。<br>
+     * 空行、Javaファイル以外のパス、存在しないファイルのパス（削除されたファイルなど）は無視し、重複したパスは1度のみ処理する。
+     * </p>
+     * <p>
+     * 差分処理のマニフェストファイルは、今回処理しなかったファイルを除外して保存するため、対象ファイルリストを指定した場合は差分処理を行わない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param fileListReader
+     *                          対象ファイルリストのリーダー
+     * @param baseDirectoryPath
+     *                          相対パスの基準のディレクトリのパス
+     * @param definitionPath
+     *                          定義ファイルのパス
+     * @param threadNum
+     *                          スレッド数
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public boolean initializeWithFileList(final BufferedReader fileListReader, final Path baseDirectoryPath,
+        final Path definitionPath, final short threadNum) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        this.targetPath = baseDirectoryPath;
+        this.definitionPath = definitionPath;
+        this.threadNum = threadNum;
+        this.targetFilePathList = JdtsServiceImpl.readFileList(fileListReader, baseDirectoryPath);
+        this.jdtsDefinitionModelList = null;
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 処理する
+     *
+     * @since 0.2.4
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    @Override
+    public boolean process() throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+
+        boolean result = false;
+
+        final KmgToolBaseLogMsgTypes startLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13005;
+        this.msgLogger.debug(startLogMsgTypes, () -> new Object[] {});
+
+        /* 準備 */
+
+        // 構成モデルを作成する
+        this.createJdtsConfigsModel();
+
+        // マニフェストモデルを作成する
+        this.createJdtsManifestModel();
+
+        // 書き込みファイル数を初期化する
+        this.writeFileCount.set(0);
+        this.writeSkipFileCount.set(0);
+
+        // 統計モデルを作成する
+        this.jdtsStatisticsModel = new JdtsStatisticsModelImpl();
+
+        // Javaファイルのリストをロードする
+        final List<Path> filePathList = this.loadFilePathList();
+
+        // 試行モードの場合は、レポートファイルを開く
+        this.openReportWriter();
+
+        /* 次のJavaファイルがあるまでJavadocを置換する */
+
+        // 合計置換数
+        long totalReplaceCount = 0;
+
+        try {
+
+            // 並列に処理するか
+            if (this.threadNum > 1) {
+                // 並列に処理する場合
+
+                totalReplaceCount = this.processFilesInParallel(filePathList);
+
+            } else if ((this.targetFilePathList != null) || (this.jdtsDefinitionModelList != null)) {
+                // 対象ファイルリスト、または、複数の定義ファイルを指定して順番に処理する場合
+
+                for (final Path filePath : filePathList) {
+
+                    totalReplaceCount += this.processFileInWorker(filePath);
+
+                }
+
+            } else {
+                // 順番に処理する場合
+
+                do {
+
+                    totalReplaceCount += this.processFile();
+
+                } while (this.fileIteratorLogic.nextFile());
+
+            }
+
+        } finally {
+
+            this.closeReportWriter();
+
+        }
+
+        // 差分処理を行うか
+        if (this.jdtsManifestModel != null) {
+            // 行う場合
+
+            // 今回の処理結果を保存する
+            this.jdtsManifestModel.save();
+
+        }
+
+        final KmgToolBaseLogMsgTypes endLogMsgTypes  = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13006;
+        final long                   endReplaceCount = totalReplaceCount;
+        this.msgLogger.debug(endLogMsgTypes, () -> new Object[] {
+            filePathList.size(), endReplaceCount, this.writeFileCount.get(),
+            this.writeSkipFileCount.get(),
+        });
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 1ファイル分の置換操作と処理時間を統計モデルに加える
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                       対象のファイルのパス
+     * @param replActionList
+     *                       置換操作のリスト
+     * @param skipCountMap
+     *                       タグごとの上書きしなかった件数のマップ
+     * @param parseNanos
+     *                       解析の処理時間（ナノ秒）
+     * @param replaceNanos
+     *                       置換の処理時間（ナノ秒）
+     * @param writeNanos
+     *                       書き込みの処理時間（ナノ秒）
+     */
+    private void addFileStatistics(final Path filePath, final List<JdtsReplActionModel> replActionList,
+        final Map<KmgJavadocTagTypes, Long> skipCountMap, final long parseNanos, final long replaceNanos,
+        final long writeNanos) {
+
+        final JdtsFileTimingModel fileTimingModel
+            = new JdtsFileTimingModelImpl(filePath, parseNanos, replaceNanos, writeNanos);
+        this.jdtsStatisticsModel.addFileResult(fileTimingModel, replActionList, skipCountMap);
+
+    }
+
+    /**
+     * ファイルごとの処理結果を待機して置換数を返す
+     * <p>
+     * 並列処理中に発生した例外は、元の例外の種類のまま呼び出し元に送出する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param future
+     *                 ファイルごとの処理結果
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return 置換数
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    @SuppressWarnings("static-method")
+    private long awaitFileResult(final Future<Long> future, final Path filePath)
+        throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+
+        final long result;
+
+        try {
+
+            result = future.get();
+
+        } catch (final InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13005;
+            throw new KmgToolBaseMsgException(genMsgTypes, e);
+
+        } catch (final ExecutionException e) {
+
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof final KmgToolBaseMsgException toolBaseMsgException) {
+
+                throw toolBaseMsgException;
+
+            }
+
+            if (cause instanceof final KmgToolBaseValException toolBaseValException) {
+
+                throw toolBaseValException;
+
+            }
+
+            if (cause instanceof final KmgFundMsgException fundMsgException) {
+
+                throw fundMsgException;
+
+            }
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13004;
+            final Object[]               genMsgArgs  = {
+                filePath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, cause);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * レポートファイルを閉じる
+     * <p>
+     * 試行モードでない場合は、何もしない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private void closeReportWriter() throws KmgToolBaseMsgException {
+
+        // 試行モードか
+        if (this.reportWriter == null) {
+            // 試行モードでない場合
+
+            return;
+
+        }
+
+        try {
+
+            this.reportWriter.close();
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13011;
+            final Object[]               genMsgArgs  = {
+                this.reportPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        } finally {
+
+            this.reportWriter = null;
+
+        }
+
+    }
+
+    /**
+     * 定義モデルごとのJavadocタグ設定の構成モデルのリストを作成する
+     * <p>
+     * 同じ定義ファイルを複数の定義モデルで指定した場合は、1回だけ読み込んだ構成モデルを共有する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    private void createDefinitionConfigsModelList() throws KmgToolBaseMsgException, KmgToolBaseValException {
+
+        final List<JdtsConfigsModel>      configsModelList = new ArrayList<>(this.jdtsDefinitionModelList.size());
+        final Map<Path, JdtsConfigsModel> loadedConfigsMap = new HashMap<>();
+
+        for (final JdtsDefinitionModel jdtsDefinitionModel : this.jdtsDefinitionModelList) {
+
+            final Path       wkDefinitionPath = jdtsDefinitionModel.getDefinitionPath();
+            JdtsConfigsModel configsModel     = loadedConfigsMap.get(wkDefinitionPath);
+
+            // 読み込んでいない定義ファイルか
+            if (configsModel == null) {
+                // 読み込んでいない場合
+
+                configsModel = JdtsServiceImpl.loadJdtsConfigsModel(wkDefinitionPath);
+                loadedConfigsMap.put(wkDefinitionPath, configsModel);
+
+            }
+
+            configsModelList.add(configsModel);
+
+        }
+
+        this.definitionConfigsModelList = configsModelList;
+        this.jdtsConfigsModel = configsModelList.get(0);
+
+    }
+
+    /**
+     * Javadocタグ設定の構成モデルを作成する。
+     * <p>
+     * YAMLファイルを読み込み、Javadocタグ設定の構成モデルを作成する。<br>
+     * 構成キャッシュが有効な場合は、定義ファイルが前回から変更されていなければ構成キャッシュファイルから復元し、変更されていれば作成した構成モデルを構成キャッシュファイルに保存する。<br>
+     * 常駐している構成モデルがある場合は、定義ファイルを読み込まずにその構成モデルを使用する。<br>
+     * 複数の定義ファイルを指定した場合は、定義モデルごとの構成モデルを作成し、先頭の構成モデルを構成モデルとする。
+     * </p>
+     *
+     * @since 0.2.4
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    private boolean createJdtsConfigsModel() throws KmgToolBaseMsgException, KmgToolBaseValException {
+
+        boolean result = false;
+
+        // 複数の定義ファイルを指定したか
+        if (this.jdtsDefinitionModelList != null) {
+            // 指定した場合
+
+            this.createDefinitionConfigsModelList();
+
+            result = true;
+            return result;
+
+        }
+
+        // 常駐している構成モデルがあるか
+        if (this.residentConfigsModel != null) {
+            // ある場合
+
+            this.jdtsConfigsModel = this.residentConfigsModel;
+
+            result = true;
+            return result;
+
+        }
+
+        /* 構成キャッシュから復元する */
+        JdtsConfigsCacheModel jdtsConfigsCacheModel = null;
+
+        // 構成キャッシュが有効か
+        if (this.configCachePath != null) {
+            // 有効な場合
+
+            jdtsConfigsCacheModel = new JdtsConfigsCacheModelImpl(this.configCachePath);
+
+            // 構成キャッシュファイルから復元したか
+            if (jdtsConfigsCacheModel.load(this.definitionPath)) {
+                // 復元した場合
+
+                this.jdtsConfigsModel = jdtsConfigsCacheModel.getJdtsConfigsModel();
+
+                result = true;
+                return result;
+
+            }
+
+        }
+
+        /* 定義ファイルからJavadocタグ設定の構成モデルを作成する */
+        this.jdtsConfigsModel = JdtsServiceImpl.loadJdtsConfigsModel(this.definitionPath);
+
+        /* 構成キャッシュファイルに保存する */
+        if (jdtsConfigsCacheModel != null) {
+
+            jdtsConfigsCacheModel.save(this.jdtsConfigsModel);
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * Javadocタグ設定のマニフェストモデルを作成する。
+     * <p>
+     * 差分処理が有効な場合のみ作成し、前回の処理結果と定義ファイルのハッシュ値を読み込む。<br>
+     * 試行モードの場合は、全ての対象のファイルを判定し、マニフェストファイルも更新しないため、作成しない。<br>
+     * 対象ファイルリストを指定した場合は、リストにないファイルの処理結果をマニフェストファイルから除外しないように、作成しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private boolean createJdtsManifestModel() throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        // 差分処理が有効か
+        if ((this.manifestPath == null) || (this.reportPath != null) || (this.targetFilePathList != null)
+            || (this.jdtsDefinitionModelList != null)) {
+            // 無効、試行モード、対象ファイルリストを指定した、または、複数の定義ファイルを指定した場合
+
+            this.jdtsManifestModel = null;
+
+            result = true;
+            return result;
+
+        }
+
+        this.jdtsManifestModel = new JdtsManifestModelImpl(this.manifestPath);
+        this.jdtsManifestModel.load(this.definitionPath);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 対象のファイルが前回の処理から変更されていないかを判定する
+     * <p>
+     * 差分処理が無効な場合は、常に変更ありとする。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return true：変更なし、false：変更あり
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private boolean isUnchangedFile(final Path filePath) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        // 差分処理が有効か
+        if (this.jdtsManifestModel == null) {
+            // 無効の場合
+
+            return result;
+
+        }
+
+        result = this.jdtsManifestModel.isUnchanged(filePath);
+        return result;
+
+    }
+
+    /**
+     * 内容を読み込み、コードモデルを作成・解析する
+     * <p>
+     * 並列に処理する場合と同じく、対象のファイルを読み込む処理で内容を読み込む。
+     * </p>
+     *
+     * @since 0.2.4
+     *
+     * @return 解析済みのコードモデル
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    private JdtsCodeModel loadAndCreateCodeModel()
+        throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+
+        JdtsCodeModel result;
+
+        this.currentReadContent = this.readTargetFile(this.fileIteratorLogic.getCurrentFilePath());
+
+        result = this.applicationContext.getBean(JdtsCodeModelImpl.class, this.currentReadContent);
+        result.parse();
+
+        return result;
+
+    }
+
+    /**
+     * 処理対象のファイルのパスのリストをロードする
+     * <p>
+     * 対象ファイルリストを指定した場合は、そのリストを返し、対象のディレクトリは走査しない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 処理対象のファイルのパスのリスト
+     *
+     * @throws KmgFundMsgException
+     *                             KMG基盤メッセージ例外
+     */
+    private List<Path> loadFilePathList() throws KmgFundMsgException {
+
+        final List<Path> result;
+
+        // 対象ファイルリストを指定したか
+        if (this.targetFilePathList != null) {
+            // 指定した場合
+
+            result = this.targetFilePathList;
+            return result;
+
+        }
+
+        this.fileIteratorLogic.load();
+        result = this.fileIteratorLogic.getFilePathList();
+        return result;
+
+    }
+
+    /**
+     * 定義ファイルを読み込み、Javadocタグ設定の構成モデルを作成する
+     *
+     * @since 0.2.8
+     *
+     * @param definitionPath
+     *                       定義ファイルのパス
+     *
+     * @return Javadocタグ設定の構成モデル
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    @SuppressWarnings("hiding")
+    private static JdtsConfigsModel loadJdtsConfigsModel(final Path definitionPath)
+        throws KmgToolBaseMsgException, KmgToolBaseValException {
+
+        /* YAMLファイルを読み込む */
+        Map<String, Object> yamlData;
+
+        try {
+
+            yamlData = KmgYamlUtils.load(definitionPath);
+
+        } catch (final KmgFundMsgException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13003;
+            final Object[]               genMsgArgs  = {
+                definitionPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        /* Javadocタグ設定の構成モデルを作成する */
+        final JdtsConfigsModel result = new JdtsConfigsModelImpl(yamlData);
+        return result;
+
+    }
+
+    /**
+     * ファイル処理終了ログを出力する
+     *
+     * @since 0.2.0
+     */
+    private void logFileEnd() {
+
+        this.logFileEndOf(this.fileIteratorLogic.getCurrentFilePath());
+
+    }
+
+    /**
+     * 指定したファイルの処理終了ログを出力する
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     */
+    private void logFileEndOf(final Path filePath) {
+
+        final KmgToolBaseLogMsgTypes fileEndLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13008;
+        this.msgLogger.debug(fileEndLogMsgTypes, () -> new Object[] {
+            filePath
+        });
+
+    }
+
+    /**
+     * 適用する定義ファイルがないファイルの処理スキップログを出力する
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     */
+    private void logFileNoDefinitionOf(final Path filePath) {
+
+        final KmgToolBaseLogMsgTypes fileSkipLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13014;
+        this.msgLogger.debug(fileSkipLogMsgTypes, () -> new Object[] {
+            filePath
+        });
+
+    }
+
+    /**
+     * ファイル処理スキップログを出力する
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     */
+    private void logFileSkipOf(final Path filePath) {
+
+        final KmgToolBaseLogMsgTypes fileSkipLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13009;
+        this.msgLogger.debug(fileSkipLogMsgTypes, () -> new Object[] {
+            filePath
+        });
+
+    }
+
+    /**
+     * ファイル処理開始ログを出力する
      *
      * @since 0.2.0
      */
     private void logFileStart() {
 
-        final KmgToolBaseLogMsgTypes fileStartLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13007;
-        final Object[]               fileStartLogMsgArgs  = {
-            this.fileIteratorLogic.getCurrentFilePath()
-        };
-        final String                 fileStartLogMsg      = this.messageSource.getLogMessage(fileStartLogMsgTypes,
-            fileStartLogMsgArgs);
-        this.logger.debug(fileStartLogMsg);
+        this.logFileStartOf(this.fileIteratorLogic.getCurrentFilePath());
+
+    }
+
+    /**
+     * 指定したファイルの処理開始ログを出力する
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     */
+    private void logFileStartOf(final Path filePath) {
+
+        final KmgToolBaseLogMsgTypes fileStartLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13007;
+        this.msgLogger.debug(fileStartLogMsgTypes, () -> new Object[] {
+            filePath
+        });
+
+    }
+
+    /**
+     * レポートファイルを開き、ヘッダ行を書き込む
+     * <p>
+     * 試行モードでない場合は、何もしない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private void openReportWriter() throws KmgToolBaseMsgException {
+
+        // 試行モードか
+        if (this.reportPath == null) {
+            // 試行モードでない場合
+
+            this.reportWriter = null;
+            return;
+
+        }
+
+        try {
+
+            final Path parentPath = this.reportPath.toAbsolutePath().getParent();
+
+            if (parentPath != null) {
+
+                Files.createDirectories(parentPath);
+
+            }
+
+            this.reportWriter = Files.newBufferedWriter(this.reportPath);
+            this.reportWriter.write(JdtsServiceImpl.REPORT_HEADER_LINE);
+            this.reportWriter.newLine();
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13011;
+            final Object[]               genMsgArgs  = {
+                this.reportPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+    }
+
+    /**
+     * 置換の結果を出力する
+     * <p>
+     * 試行モードの場合はレポートファイルに置換操作を出力し、それ以外の場合は内容が変更されている場合のみ対象のファイルに書き込む。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                        対象のファイルのパス
+     * @param originalContent
+     *                        元の内容
+     * @param replaceCode
+     *                        置換後のコード
+     * @param replActionList
+     *                        置換操作のリスト
+     *
+     * @return true：変更があり出力した、false：変更がないため出力をスキップした
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private boolean outputReplaceResult(final Path filePath, final String originalContent, final String replaceCode,
+        final List<JdtsReplActionModel> replActionList) throws KmgToolBaseMsgException {
+
+        final boolean result;
+
+        // 試行モードか
+        if (this.reportWriter != null) {
+            // 試行モードの場合
+
+            result = this.reportReplActions(filePath, originalContent, replaceCode, replActionList);
+
+        } else {
+            // 試行モードでない場合
+
+            result = this.writeFileIfChanged(filePath, originalContent, replaceCode);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ファイルを処理する
+     *
+     * @since 0.2.4
+     *
+     * @return 置換数
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    private long processFile() throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+
+        final Path filePath = this.fileIteratorLogic.getCurrentFilePath();
+
+        // 前回の処理から変更されていないか
+        if (this.isUnchangedFile(filePath)) {
+            // 変更されていない場合
+
+            this.logFileSkipOf(filePath);
+            this.writeSkipFileCount.incrementAndGet();
+
+            return 0;
+
+        }
+
+        this.logFileStart();
+        final long          parseStartNanos = System.nanoTime();
+        final JdtsCodeModel jdtsCodeModel   = this.loadAndCreateCodeModel();
+        this.currentParseNanos = System.nanoTime() - parseStartNanos;
+        final long result = this.replaceJavadoc(jdtsCodeModel);
+        this.recordFile(filePath);
+        this.logFileEnd();
+
+        return result;
 
     }
 
     /**
-     * ファイルを処理する
+     * 並列処理用にファイルを処理する
+     * <p>
+     * ファイルイテレーターロジックを使用せずに対象のファイルを読み書きし、置換サービスとブロック置換ロジックはファイルごとに新しく取得する。<br>
+     * 置換後の内容が読み込んだ内容から変更されていない場合は、ファイルに書き込まない。<br>
+     * 試行モードの場合は、ファイルに書き込まずに、置換操作をレポートファイルに出力する。<br>
+     * 構成モデルは全てのファイルで共有し、参照のみを行う。<br>
+     * 複数の定義ファイルを適用する場合は、対象のファイルに一致する定義ファイルの構成モデルを順番にメモリ上の内容に適用し、読み込みと出力は1回だけ行う。
+     * </p>
      *
-     * @since 0.2.4
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
      *
      * @return 置換数
      *
@@ -366,19 +1551,285 @@ public class JdtsServiceImpl implements JdtsService {
      * @throws KmgToolBaseValException
      *                                 KMGツールバリデーション例外
      */
-    private long processFile() throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+    private long processFileInWorker(final Path filePath)
+        throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
 
-        this.logFileStart();
-        final JdtsCodeModel jdtsCodeModel = this.loadAndCreateCodeModel();
-        final long          result        = this.replaceJavadoc(jdtsCodeModel);
-        this.logFileEnd();
+        long result = 0;
+
+        // 前回の処理から変更されていないか
+        if (this.isUnchangedFile(filePath)) {
+            // 変更されていない場合
+
+            this.logFileSkipOf(filePath);
+            this.writeSkipFileCount.incrementAndGet();
+
+            return result;
+
+        }
+
+        final List<JdtsConfigsModel> configsModelList = this.selectConfigsModelList(filePath);
+
+        // 適用する構成モデルがないか
+        if (configsModelList.isEmpty()) {
+            // ない場合
+
+            this.logFileNoDefinitionOf(filePath);
+            this.writeSkipFileCount.incrementAndGet();
+
+            return result;
+
+        }
+
+        this.logFileStartOf(filePath);
+
+        long parseNanos   = 0;
+        long replaceNanos = 0;
+
+        final long                          readStartNanos = System.nanoTime();
+        final String                        readContent    = this.readTargetFile(filePath);
+        final List<JdtsReplActionModel>     replActionList = new ArrayList<>();
+        final Map<KmgJavadocTagTypes, Long> skipCountMap   = new EnumMap<>(KmgJavadocTagTypes.class);
+        String                              replaceCode    = readContent;
+        parseNanos += System.nanoTime() - readStartNanos;
+
+        /* 構成モデルの順番に、前の構成モデルで置換した内容を置換する */
+        for (final JdtsConfigsModel configsModel : configsModelList) {
+
+            // コードモデルを作成する
+            final long          parseStartNanos = System.nanoTime();
+            final JdtsCodeModel jdtsCodeModel   = this.applicationContext.getBean(JdtsCodeModelImpl.class,
+                replaceCode);
+            jdtsCodeModel.parse();
+
+            // ファイル専用の置換サービスでJavadocを置換する
+            final long            replaceStartNanos = System.nanoTime();
+            final JdtsReplService workerReplService = this.applicationContext.getBean(JdtsReplService.class);
+            workerReplService.initialize(configsModel, jdtsCodeModel);
+            workerReplService.replace();
+
+            result += workerReplService.getTotalReplaceCount();
+            replaceCode = workerReplService.getReplaceCode();
+            replActionList.addAll(workerReplService.getReplActionList());
+            workerReplService.getSkipCountMap()
+                .forEach((tag, skipCount) -> skipCountMap.merge(tag, skipCount, Long::sum));
+
+            parseNanos += replaceStartNanos - parseStartNanos;
+            replaceNanos += System.nanoTime() - replaceStartNanos;
+
+        }
+
+        /* 全ての構成モデルで置換した結果を1回だけ出力する */
+        final long writeStartNanos = System.nanoTime();
+        this.outputReplaceResult(filePath, readContent, replaceCode, replActionList);
+        final long writeNanos = System.nanoTime() - writeStartNanos;
+
+        this.addFileStatistics(filePath, replActionList, skipCountMap, parseNanos, replaceNanos, writeNanos);
+        this.recordFile(filePath);
+
+        this.logFileEndOf(filePath);
+
+        return result;
+
+    }
+
+    /**
+     * 対象のファイルを並列に処理する
+     * <p>
+     * 合計置換数は、ファイルの順番に集計する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePathList
+     *                     対象のファイルのパスのリスト
+     *
+     * @return 合計置換数
+     *
+     * @throws KmgFundMsgException
+     *                                 KMG基盤メッセージ例外
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgToolBaseValException
+     *                                 KMGツールバリデーション例外
+     */
+    private long processFilesInParallel(final List<Path> filePathList)
+        throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
+
+        long result = 0;
+
+        final ExecutorService service = Executors.newFixedThreadPool(this.threadNum);
+
+        try {
+
+            /* ファイルごとに処理を登録する */
+            final List<Future<Long>> futureList = new ArrayList<>(filePathList.size());
+
+            for (final Path filePath : filePathList) {
+
+                futureList.add(service.submit(() -> this.processFileInWorker(filePath)));
+
+            }
+
+            /* ファイルの順番に置換数を集計する */
+            for (int i = 0; i < futureList.size(); i++) {
+
+                result += this.awaitFileResult(futureList.get(i), filePathList.get(i));
+
+            }
+
+        } finally {
+
+            service.shutdownNow();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルリストを読み込み、処理対象のJavaファイルのパスのリストを返す
+     * <p>
+     * 相対パスは基準のディレクトリのパスから解決する。<br>
+     * 空行、Javaファイル以外のパス、存在しないファイルのパスは除外し、重複したパスは最初の1件のみを残す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param fileListReader
+     *                          対象ファイルリストのリーダー
+     * @param baseDirectoryPath
+     *                          相対パスの基準のディレクトリのパス
+     *
+     * @return 処理対象のJavaファイルのパスのリスト
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private static List<Path> readFileList(final BufferedReader fileListReader, final Path baseDirectoryPath)
+        throws KmgToolBaseMsgException {
+
+        final Set<Path> filePathSet = new LinkedHashSet<>();
+
+        try {
+
+            String line;
+
+            while ((line = fileListReader.readLine()) != null) {
+
+                final String fileName = line.strip();
+
+                // Javaファイルか
+                if (!fileName.endsWith(JdtsServiceImpl.JAVA_FILE_EXTENSION)) {
+                    // Javaファイルでない場合（空行を含む）
+
+                    continue;
+
+                }
+
+                final Path filePath = baseDirectoryPath.resolve(fileName).normalize();
+
+                // 存在するファイルか
+                if (!Files.isRegularFile(filePath)) {
+                    // 存在しない場合（削除されたファイルなど）
+
+                    continue;
+
+                }
+
+                filePathSet.add(filePath);
+
+            }
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13017;
+            final Object[]               genMsgArgs  = {
+                baseDirectoryPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        final List<Path> result = List.copyOf(filePathSet);
+        return result;
+
+    }
+
+    /**
+     * 対象のファイルを読み込む
+     * <p>
+     * 順番に処理する場合と並列に処理する場合のどちらも、この処理で読み込む。<br>
+     * 処理方法によって内容や読み込みエラーの有無が変わらないように、対象のファイルの文字セットを明示して読み込む。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return 読み込んだ内容
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @SuppressWarnings("static-method")
+    private String readTargetFile(final Path filePath) throws KmgToolBaseMsgException {
+
+        final String result;
+
+        try {
+
+            result = Files.readString(filePath, JdtsServiceImpl.TARGET_FILE_CHARSET);
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13006;
+            final Object[]               genMsgArgs  = {
+                filePath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
 
         return result;
 
     }
 
+    /**
+     * 書き込み後の対象のファイルを今回の処理結果として記録する
+     * <p>
+     * 差分処理が無効な場合は、何もしない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private void recordFile(final Path filePath) throws KmgToolBaseMsgException {
+
+        // 差分処理が有効か
+        if (this.jdtsManifestModel == null) {
+            // 無効の場合
+
+            return;
+
+        }
+
+        this.jdtsManifestModel.record(filePath);
+
+    }
+
     /**
      * Javadocを置換し、結果をファイルに書き込む
+     * <p>
+     * 置換後の内容が読み込んだ内容から変更されていない場合は、ファイルに書き込まない。<br>
+     * 試行モードの場合は、ファイルに書き込まずに、置換操作をレポートファイルに出力する。
+     * </p>
      *
      * @since 0.2.4
      *
@@ -397,14 +1848,200 @@ public class JdtsServiceImpl implements JdtsService {
     private long replaceJavadoc(final JdtsCodeModel jdtsCodeModel)
         throws KmgFundMsgException, KmgToolBaseMsgException, KmgToolBaseValException {
 
+        final Path filePath = this.fileIteratorLogic.getCurrentFilePath();
+
+        final long replaceStartNanos = System.nanoTime();
         this.jdtsReplService.initialize(this.jdtsConfigsModel, jdtsCodeModel);
         this.jdtsReplService.replace();
 
-        final long   result         = this.jdtsReplService.getTotalReplaceCount();
-        final String replaceContent = this.jdtsReplService.getReplaceCode();
+        final long result = this.jdtsReplService.getTotalReplaceCount();
+
+        final long writeStartNanos = System.nanoTime();
+        this.outputReplaceResult(filePath, this.currentReadContent, this.jdtsReplService.getReplaceCode(),
+            this.jdtsReplService.getReplActionList());
+        final long writeEndNanos = System.nanoTime();
+
+        this.addFileStatistics(filePath, this.jdtsReplService.getReplActionList(),
+            this.jdtsReplService.getSkipCountMap(), this.currentParseNanos, writeStartNanos - replaceStartNanos,
+            writeEndNanos - writeStartNanos);
+
+        return result;
+
+    }
+
+    /**
+     * 内容が変更されている場合のみ、置換操作をレポートファイルに出力する
+     * <p>
+     * 1ファイル分の行をまとめてから書き込むため、並列に処理する場合も他のファイルの行と混在しない。<br>
+     * 書き込みファイル数（試行モードでは書き込む予定のファイル数）、または、書き込みスキップファイル数を加算する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                        対象のファイルのパス
+     * @param originalContent
+     *                        元の内容
+     * @param replaceCode
+     *                        置換後のコード
+     * @param replActionList
+     *                        置換操作のリスト
+     *
+     * @return true：出力した、false：変更がないため出力をスキップした
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private boolean reportReplActions(final Path filePath, final String originalContent, final String replaceCode,
+        final List<JdtsReplActionModel> replActionList) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        // 内容が変更されているか
+        if (replaceCode.equals(originalContent)) {
+            // 変更されていない場合
+
+            this.writeSkipFileCount.incrementAndGet();
+            return result;
+
+        }
+
+        /* 1ファイル分の行を作成する */
+        final StringBuilder reportLines = new StringBuilder();
+
+        for (final JdtsReplActionModel replActionModel : replActionList) {
+
+            reportLines.append(filePath).append(JdtsServiceImpl.REPORT_ITEM_DELIMITER);
+            reportLines.append(replActionModel.getClassification().getKey())
+                .append(JdtsServiceImpl.REPORT_ITEM_DELIMITER);
+            reportLines.append(replActionModel.getElementName()).append(JdtsServiceImpl.REPORT_ITEM_DELIMITER);
+            reportLines.append(replActionModel.getTag().getKey()).append(JdtsServiceImpl.REPORT_ITEM_DELIMITER);
+            reportLines.append(replActionModel.getAction().getKey()).append(System.lineSeparator());
+
+        }
+
+        /* 1ファイル分の行をまとめて書き込む */
+        try {
+
+            synchronized (this.reportLock) {
+
+                this.reportWriter.write(reportLines.toString());
+
+            }
+
+        } catch (final IOException e) {
+
+            final KmgToolBaseGenMsgTypes genMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13011;
+            final Object[]               genMsgArgs  = {
+                this.reportPath.toString(),
+            };
+            throw new KmgToolBaseMsgException(genMsgTypes, genMsgArgs, e);
+
+        }
+
+        this.writeFileCount.incrementAndGet();
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 対象のファイルに適用する構成モデルのリストを返す
+     * <p>
+     * 複数の定義ファイルを指定していない場合は、構成モデルのみを返す。<br>
+     * 指定した場合は、対象ファイルパスからの相対パスが対象のパスのパターンに一致する定義モデルの構成モデルを、定義モデルのリストの順番に返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                 対象のファイルのパス
+     *
+     * @return 適用する構成モデルのリスト
+     */
+    private List<JdtsConfigsModel> selectConfigsModelList(final Path filePath) {
+
+        final List<JdtsConfigsModel> result;
+
+        // 複数の定義ファイルを指定していないか
+        if (this.jdtsDefinitionModelList == null) {
+            // 指定していない場合
+
+            result = Collections.singletonList(this.jdtsConfigsModel);
+            return result;
+
+        }
+
+        Path relativePath = this.targetPath.toAbsolutePath().normalize()
+            .relativize(filePath.toAbsolutePath().normalize());
+
+        // 対象ファイルパスがファイルか
+        if (relativePath.toString().isEmpty()) {
+            // ファイルの場合
 
-        this.fileIteratorLogic.setWriteContent(replaceContent);
-        this.fileIteratorLogic.writeContent();
+            // ファイル名で照合する
+            relativePath = filePath.getFileName();
+
+        }
+
+        result = new ArrayList<>();
+
+        for (int i = 0; i < this.jdtsDefinitionModelList.size(); i++) {
+
+            // 対象のパスのパターンに一致しないか
+            if (!this.jdtsDefinitionModelList.get(i).matches(relativePath)) {
+                // 一致しない場合
+
+                continue;
+
+            }
+
+            result.add(this.definitionConfigsModelList.get(i));
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 内容が変更されている場合のみ、対象のファイルに書き込む
+     * <p>
+     * 書き込みファイル数、または、書き込みスキップファイル数を加算する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param filePath
+     *                        対象のファイルのパス
+     * @param originalContent
+     *                        元の内容
+     * @param writeContent
+     *                        書き込む内容
+     *
+     * @return true：書き込んだ、false：変更がないため書き込みをスキップした
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private boolean writeFileIfChanged(final Path filePath, final String originalContent, final String writeContent)
+        throws KmgToolBaseMsgException {
+
+        final boolean result = this.fileWriteLogic.writeIfChanged(filePath, originalContent, writeContent);
+
+        // 書き込んだか
+        if (result) {
+            // 書き込んだ場合
+
+            this.writeFileCount.incrementAndGet();
+
+        } else {
+            // 書き込みをスキップした場合
+
+            this.writeSkipFileCount.incrementAndGet();
+
+        }
 
         return result;
 
@@ -0,0 +1,257 @@
+package kmg.tool.base.jdts.application.types;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import kmg.core.infrastructure.cmn.KmgCmnTypes;
+
+/**
+ * Javadocタグ設定の置換操作の種類<br>
+ * <p>
+ * Jdtsは、JavadocTagSetterの略。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings("nls")
+public enum JdtsReplActionTypes implements KmgCmnTypes<String> {
+
+    /* 定義：開始 */
+
+    /**
+     * 指定無し
+     *
+     * @since 0.2.8
+     */
+    NONE("指定無し", "None", "指定無し"),
+
+    /**
+     * 追加
+     *
+     * @since 0.2.8
+     */
+    ADD("追加", "add", "タグ構成のタグを新しく追加した"),
+
+    /**
+     * 置換
+     *
+     * @since 0.2.8
+     */
+    REPLACE("置換", "replace", "既存のタグをタグ構成の内容に置換した"),
+
+    /**
+     * 削除
+     *
+     * @since 0.2.8
+     */
+    REMOVE("削除", "remove", "誤配置の既存のタグを削除した"),
+
+    /**
+     * 位置変更
+     *
+     * @since 0.2.8
+     */
+    REPOSITION("位置変更", "reposition", "既存のタグをタグ構成の挿入位置に移動した"),
+
+    /* 定義：終了 */
+    ;
+
+    /**
+     * 種類のマップ
+     *
+     * @since 0.2.8
+     */
+    private static final Map<String, JdtsReplActionTypes> VALUES_MAP = new HashMap<>();
+
+    static {
+
+        /* 種類のマップにプット */
+        for (final JdtsReplActionTypes type : JdtsReplActionTypes.values()) {
+
+            JdtsReplActionTypes.VALUES_MAP.put(type.get(), type);
+
+        }
+
+    }
+
+    /**
+     * 表示名
+     *
+     * @since 0.2.8
+     */
+    private final String displayName;
+
+    /**
+     * キー
+     *
+     * @since 0.2.8
+     */
+    private final String key;
+
+    /**
+     * 詳細情報
+     *
+     * @since 0.2.8
+     */
+    private final String detail;
+
+    /**
+     * デフォルトの種類を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return デフォルト値
+     */
+    public static JdtsReplActionTypes getDefault() {
+
+        final JdtsReplActionTypes result = NONE;
+        return result;
+
+    }
+
+    /**
+     * キーに該当する種類を返す<br>
+     * <p>
+     * 但し、キーが存在しない場合は、指定無し（NONE）を返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param key
+     *            キー
+     *
+     * @return 種類。指定無し（NONE）：キーが存在しない場合。
+     */
+    public static JdtsReplActionTypes getEnum(final String key) {
+
+        JdtsReplActionTypes result = JdtsReplActionTypes.VALUES_MAP.get(key);
+
+        if (result == null) {
+
+            result = NONE;
+
+        }
+        return result;
+
+    }
+
+    /**
+     * 初期値の種類を返す<br>
+     *
+     * @since 0.2.8
+     *
+     * @return 初期値
+     */
+    public static JdtsReplActionTypes getInitValue() {
+
+        final JdtsReplActionTypes result = NONE;
+        return result;
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.8
+     *
+     * @param displayName
+     *                    表示名
+     * @param key
+     *                    キー
+     * @param detail
+     *                    詳細情報
+     */
+    JdtsReplActionTypes(final String displayName, final String key, final String detail) {
+
+        this.displayName = displayName;
+        this.key = key;
+        this.detail = detail;
+
+    }
+
+    /**
+     * キーを返す。<br>
+     *
+     * @since 0.2.8
+     *
+     * @return キー
+     *
+     * @see #getKey()
+     */
+    @Override
+    public String get() {
+
+        final String result = this.getKey();
+        return result;
+
+    }
+
+    /**
+     * 詳細情報を返す。<br>
+     *
+     * @since 0.2.8
+     *
+     * @return 詳細情報
+     */
+    @Override
+    public String getDetail() {
+
+        final String result = this.detail;
+        return result;
+
+    }
+
+    /**
+     * 表示名を返す。<br>
+     * <p>
+     * 識別するための表示名を返す。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @return 表示名
+     */
+    @Override
+    public String getDisplayName() {
+
+        final String result = this.displayName;
+        return result;
+
+    }
+
+    /**
+     * キーを返す。<br>
+     *
+     * @since 0.2.8
+     *
+     * @return キー
+     */
+    @Override
+    public String getKey() {
+
+        final String result = this.key;
+        return result;
+
+    }
+
+    /**
+     * キーを返す。<br>
+     *
+     * @since 0.2.8
+     *
+     * @return キー
+     *
+     * @see #getKey()
+     */
+    @Override
+    public String toString() {
+
+        final String result = this.getKey();
+        return result;
+
+    }
+}
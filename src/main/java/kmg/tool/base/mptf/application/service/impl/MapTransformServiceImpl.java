@@ -16,16 +16,20 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
+import kmg.tool.base.io.domain.logic.FileWriteLogic;
 import kmg.tool.base.mptf.application.service.MapTransformService;
 
 /**
  * マッピング変換サービス<br>
+ * <p>
+ * 内容に変更がないファイルには書き込まない。
+ * </p>
  *
  * @author KenichiroArai
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @Service
 public class MapTransformServiceImpl implements MapTransformService {
@@ -53,6 +57,14 @@ public class MapTransformServiceImpl implements MapTransformService {
     @Autowired
     private FileIteratorLogic fileIteratorLogic;
 
+    /**
+     * ファイル書き込みロジック
+     *
+     * @since 0.2.8
+     */
+    @Autowired
+    private FileWriteLogic fileWriteLogic;
+
     /**
      * 対象ファイルパス
      *
@@ -74,6 +86,26 @@ public class MapTransformServiceImpl implements MapTransformService {
      */
     private final Map<String, String> uuidToReplacementValueMapping;
 
+    /**
+     * 書き込みファイル数
+     * <p>
+     * 対象値をUUIDに一時置換する処理と、UUIDを置換値に置換する処理の両方で書き込んだ回数の合計である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private long writeFileCount;
+
+    /**
+     * 書き込みスキップファイル数
+     * <p>
+     * 対象値をUUIDに一時置換する処理と、UUIDを置換値に置換する処理の両方で書き込みをスキップした回数の合計である。
+     * </p>
+     *
+     * @since 0.2.8
+     */
+    private long writeSkipFileCount;
+
     /**
      * 標準ロガーを使用して入出力ツールを初期化するコンストラクタ<br>
      *
@@ -181,6 +213,10 @@ public class MapTransformServiceImpl implements MapTransformService {
         // Javaファイルのリストをロードする
         this.fileIteratorLogic.load();
 
+        // 書き込みファイル数を初期化する
+        this.writeFileCount = 0;
+        this.writeSkipFileCount = 0;
+
         /* 対象値からUUIDに置き換える */
 
         // UUIDの合計置換数
@@ -219,7 +255,8 @@ public class MapTransformServiceImpl implements MapTransformService {
 
         final KmgToolBaseLogMsgTypes endLogMsgTypes = KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG19001;
         final Object[]               endLogMsgArgs  = {
-            this.fileIteratorLogic.getFilePathList().size(), uuidReplaceCount,
+            this.fileIteratorLogic.getFilePathList().size(), uuidReplaceCount, this.writeFileCount,
+            this.writeSkipFileCount,
         };
         final String                 endLogMsg      = this.messageSource.getLogMessage(endLogMsgTypes, endLogMsgArgs);
         this.logger.debug(endLogMsg);
@@ -231,6 +268,10 @@ public class MapTransformServiceImpl implements MapTransformService {
 
     /**
      * 対象値をUUIDに一時置換する
+     * <p>
+     * 対象値が含まれていないファイルには書き込まない。<br>
+     * 書き込みファイル数、または、書き込みスキップファイル数を加算する。
+     * </p>
      *
      * @since 0.2.4
      *
@@ -252,7 +293,8 @@ public class MapTransformServiceImpl implements MapTransformService {
 
         }
 
-        String content = this.fileIteratorLogic.getReadContent();
+        final String readContent = this.fileIteratorLogic.getReadContent();
+        String       content     = readContent;
 
         // 対象値からUUIDに置換する
         for (final Map.Entry<String, String> entry : this.targetValueToReplacementValueMapping.entrySet()) {
@@ -270,11 +312,8 @@ public class MapTransformServiceImpl implements MapTransformService {
 
         }
 
-        // 置換後の内容を設定
-        this.fileIteratorLogic.setWriteContent(content);
-
-        // ファイルに書き込む
-        this.fileIteratorLogic.writeContent();
+        // 内容が変更されている場合のみ、ファイルに書き込む
+        this.writeIfChanged(readContent, content);
 
         return result;
 
@@ -282,6 +321,10 @@ public class MapTransformServiceImpl implements MapTransformService {
 
     /**
      * UUIDを置換値に置換する
+     * <p>
+     * 置換後の内容が読み込んだ内容から変更されていない場合は、ファイルに書き込まない。<br>
+     * 書き込みファイル数、または、書き込みスキップファイル数を加算する。
+     * </p>
      *
      * @since 0.2.4
      *
@@ -303,7 +346,8 @@ public class MapTransformServiceImpl implements MapTransformService {
 
         }
 
-        String content = this.fileIteratorLogic.getReadContent();
+        final String readContent = this.fileIteratorLogic.getReadContent();
+        String       content     = readContent;
 
         // UUIDから置換値に置換する
         for (final Map.Entry<String, String> entry : this.uuidToReplacementValueMapping.entrySet()) {
@@ -324,14 +368,44 @@ public class MapTransformServiceImpl implements MapTransformService {
 
         }
 
-        // 置換後の内容を設定
-        this.fileIteratorLogic.setWriteContent(content);
-
-        // ファイルに書き込む
-        this.fileIteratorLogic.writeContent();
+        // 内容が変更されている場合のみ、ファイルに書き込む
+        this.writeIfChanged(readContent, content);
 
         return result;
 
     }
 
+    /**
+     * 内容が変更されている場合のみ、現在のファイルに書き込む
+     * <p>
+     * 書き込んだ場合は書き込みファイル数を、書き込みをスキップした場合は書き込みスキップファイル数を加算する。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @param readContent
+     *                    読み込んだ内容
+     * @param content
+     *                    書き込む内容
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    private void writeIfChanged(final String readContent, final String content) throws KmgToolBaseMsgException {
+
+        // 内容が変更されているか
+        if (this.fileWriteLogic.writeIfChanged(this.fileIteratorLogic.getCurrentFilePath(), readContent, content)) {
+            // 書き込んだ場合
+
+            this.writeFileCount++;
+            return;
+
+        }
+
+        // 書き込みをスキップした場合
+
+        this.writeSkipFileCount++;
+
+    }
+
 }
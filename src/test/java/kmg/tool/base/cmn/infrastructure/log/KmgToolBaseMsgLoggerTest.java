@@ -0,0 +1,252 @@
+package kmg.tool.base.cmn.infrastructure.log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
+
+/**
+ * KMGツールベースメッセージロガーのテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class KmgToolBaseMsgLoggerTest extends AbstractKmgTest {
+
+    /**
+     * モックロガー
+     *
+     * @since 0.2.8
+     */
+    private Logger mockLogger;
+
+    /**
+     * モックKMGメッセージソース
+     *
+     * @since 0.2.8
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.8
+     */
+    private KmgToolBaseMsgLogger testTarget;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.8
+     */
+    @BeforeEach
+    public void setUp() {
+
+        this.mockLogger = Mockito.mock(Logger.class);
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テスト用のログメッセージ");
+
+        this.testTarget = new KmgToolBaseMsgLogger(this.mockLogger, () -> this.mockMessageSource);
+
+    }
+
+    /**
+     * debug メソッドのテスト - 正常系：デバッグレベルが有効な場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testDebug_normalEnabled() {
+
+        /* 期待値の定義 */
+        final String   expectedLogMsg  = "テスト用のログメッセージ";
+        final Object[] expectedMsgArgs = {
+            "Test.java",
+        };
+
+        /* 準備 */
+        Mockito.when(this.mockLogger.isDebugEnabled()).thenReturn(true);
+
+        /* テスト対象の実行 */
+        this.testTarget.debug(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13007, () -> expectedMsgArgs);
+
+        /* 検証の実施 */
+        Mockito.verify(this.mockMessageSource).getLogMessage(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13007,
+            expectedMsgArgs);
+        Mockito.verify(this.mockLogger).debug(expectedLogMsg);
+
+    }
+
+    /**
+     * debug メソッドのテスト - 準正常系：デバッグレベルが無効な場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testDebug_semiDisabled() {
+
+        /* 期待値の定義 */
+        final int expectedSupplierCallCount = 0;
+
+        /* 準備 */
+        Mockito.when(this.mockLogger.isDebugEnabled()).thenReturn(false);
+        final AtomicInteger supplierCallCount = new AtomicInteger();
+
+        /* テスト対象の実行 */
+        this.testTarget.debug(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13007, () -> {
+
+            supplierCallCount.incrementAndGet();
+            return new Object[] {
+                "Test.java",
+            };
+
+        });
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSupplierCallCount, supplierCallCount.get(), "ログメッセージの引数が作成されないこと");
+        Mockito.verify(this.mockMessageSource, Mockito.never()).getLogMessage(ArgumentMatchers.any(),
+            ArgumentMatchers.any());
+        Mockito.verify(this.mockLogger, Mockito.never()).debug(ArgumentMatchers.anyString());
+
+    }
+
+    /**
+     * info メソッドのテスト - 正常系：情報レベルが有効な場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testInfo_normalEnabled() {
+
+        /* 期待値の定義 */
+        final String expectedLogMsg = "テスト用のログメッセージ";
+
+        /* 準備 */
+        Mockito.when(this.mockLogger.isInfoEnabled()).thenReturn(true);
+
+        /* テスト対象の実行 */
+        this.testTarget.info(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13010, () -> new Object[] {
+            "test.sock",
+        });
+
+        /* 検証の実施 */
+        Mockito.verify(this.mockLogger).info(expectedLogMsg);
+
+    }
+
+    /**
+     * info メソッドのテスト - 準正常系：情報レベルが無効な場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testInfo_semiDisabled() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        Mockito.when(this.mockLogger.isInfoEnabled()).thenReturn(false);
+
+        /* テスト対象の実行 */
+        this.testTarget.info(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13010, () -> new Object[] {
+            "test.sock",
+        });
+
+        /* 検証の実施 */
+        Mockito.verify(this.mockMessageSource, Mockito.never()).getLogMessage(ArgumentMatchers.any(),
+            ArgumentMatchers.any());
+        Mockito.verify(this.mockLogger, Mockito.never()).info(ArgumentMatchers.anyString());
+
+    }
+
+    /**
+     * warn メソッドのテスト - 正常系：警告レベルが有効な場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testWarn_normalEnabled() {
+
+        /* 期待値の定義 */
+        final String expectedLogMsg = "テスト用のログメッセージ";
+
+        /* 準備 */
+        Mockito.when(this.mockLogger.isWarnEnabled()).thenReturn(true);
+
+        /* テスト対象の実行 */
+        this.testTarget.warn(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13000, () -> new Object[] {
+            1, "block",
+        });
+
+        /* 検証の実施 */
+        Mockito.verify(this.mockLogger).warn(expectedLogMsg);
+
+    }
+
+    /**
+     * warn メソッドのテスト - 正常系：警告レベルが有効な場合に例外とともに出力する場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testWarn_normalEnabledWithThrowable() {
+
+        /* 期待値の定義 */
+        final String                expectedLogMsg    = "テスト用のログメッセージ";
+        final IllegalStateException expectedException = new IllegalStateException("テスト用の例外");
+
+        /* 準備 */
+        Mockito.when(this.mockLogger.isWarnEnabled()).thenReturn(true);
+
+        /* テスト対象の実行 */
+        this.testTarget.warn(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13013, () -> new Object[] {
+            "test.sock",
+        }, expectedException);
+
+        /* 検証の実施 */
+        Mockito.verify(this.mockLogger).warn(expectedLogMsg, expectedException);
+
+    }
+
+    /**
+     * warn メソッドのテスト - 準正常系：警告レベルが無効な場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testWarn_semiDisabled() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        Mockito.when(this.mockLogger.isWarnEnabled()).thenReturn(false);
+
+        /* テスト対象の実行 */
+        this.testTarget.warn(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13013, () -> new Object[] {
+            "test.sock",
+        }, new IllegalStateException("テスト用の例外"));
+
+        /* 検証の実施 */
+        Mockito.verify(this.mockMessageSource, Mockito.never()).getLogMessage(ArgumentMatchers.any(),
+            ArgumentMatchers.any());
+        Mockito.verify(this.mockLogger, Mockito.never()).warn(ArgumentMatchers.anyString(),
+            ArgumentMatchers.any(Throwable.class));
+
+    }
+
+}
@@ -0,0 +1,74 @@
+package kmg.tool.base.cmn.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * KmgToolBaseHashUtilsのテストクラス
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls", "static-method",
+})
+public class KmgToolBaseHashUtilsTest extends AbstractKmgTest {
+
+    /**
+     * hash メソッドのテスト - 正常系：内容のハッシュ値を算出する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testHash_normalContent() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedHash = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+        /* 準備 */
+        final byte[] content = "abc".getBytes(StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final String actualHash = KmgToolBaseHashUtils.hash(content);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedHash, actualHash, "SHA-256の16進数文字列が返されること");
+
+    }
+
+    /**
+     * hash メソッドのテスト - 準正常系：内容が空の場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testHash_semiEmptyContent() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedHash = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+        /* 準備 */
+        final byte[] content = new byte[0];
+
+        /* テスト対象の実行 */
+        final String actualHash = KmgToolBaseHashUtils.hash(content);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedHash, actualHash, "空の内容のハッシュ値が返されること");
+
+    }
+
+}
@@ -33,6 +33,9 @@ import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.dtc.domain.model.DtcConversionModel;
+import kmg.tool.base.dtc.domain.model.DtcDerivedPlaceholderModel;
+import kmg.tool.base.dtc.domain.model.DtcTemplateModel;
 import kmg.tool.base.dtc.domain.model.impl.DtcDerivedPlaceholderModelImpl;
 import kmg.tool.base.dtc.domain.types.DtcKeyTypes;
 import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
@@ -44,7 +47,7 @@ import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -185,6 +188,7 @@ public class DtcLogicImplTest extends AbstractKmgTest {
         placeholderMap.clear();
         placeholderMap.put("B", "${B}");
         placeholderMap.put("D", "${D}");
+        this.reflectionModel.getMethod("compileTemplate");
 
         /* テスト対象の実行 */
         this.testTarget.applyTemplateToInputFile();
@@ -197,6 +201,199 @@ public class DtcLogicImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * applyTemplateToInputFile メソッドのテスト - 正常系：中間行の列が定義された順序の中間プレースホルダーに対応する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testApplyTemplateToInputFile_normalDeclarationOrder() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedResult = "type=1, name=2, comment=3";
+
+        /* 準備 */
+        this.reflectionModel.set("templateContent", "type=${T}, name=${N}, comment=${C}");
+        this.reflectionModel.set("convertedLine", "1,2,3");
+        this.reflectionModel.set("intermediateDelimiter", KmgDelimiterTypes.COMMA);
+        final Map<String, Object>       yamlData                 = new HashMap<>();
+        final List<Map<String, String>> intermediatePlaceholders = new ArrayList<>();
+
+        // ハッシュの順序とは異なる順序で定義する
+        for (final String[] definition : new String[][] {
+            {
+                "type", "${T}",
+            }, {
+                "name", "${N}",
+            }, {
+                "comment", "${C}",
+            },
+        }) {
+
+            final Map<String, String> placeholder = new HashMap<>();
+            placeholder.put(DtcKeyTypes.DISPLAY_NAME.getKey(), definition[0]);
+            placeholder.put(DtcKeyTypes.REPLACEMENT_PATTERN.getKey(), definition[1]);
+            intermediatePlaceholders.add(placeholder);
+
+        }
+        yamlData.put(DtcKeyTypes.INTERMEDIATE_PLACEHOLDERS.getKey(), intermediatePlaceholders);
+        this.reflectionModel.getMethod("loadIntermediatePlaceholderDefinitions", yamlData);
+        this.reflectionModel.getMethod("compileTemplate");
+
+        /* テスト対象の実行 */
+        this.testTarget.applyTemplateToInputFile();
+
+        /* 検証の準備 */
+        final String actual = this.testTarget.getContentsOfOneItem();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actual, "定義された順序で中間行の列が対応すること");
+
+    }
+
+    /**
+     * applyTemplateToInputFile メソッドのテスト - 正常系：複数行に中間プレースホルダーと派生プレースホルダーを適用する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testApplyTemplateToInputFile_normalMultipleLinesWithDerived() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedFirstResult  = "class Abc { String abc; } // ABC ${X}";
+        final String expectedSecondResult = "class Def { String def; } // DEF ${X}";
+
+        /* 準備 */
+        this.reflectionModel.set("templateContent", "class ${N} { String ${L}; } // ${U} ${X}");
+        this.reflectionModel.set("intermediateDelimiter", KmgDelimiterTypes.COMMA);
+        @SuppressWarnings("unchecked")
+        final Map<String, String> placeholderMap
+            = (Map<String, String>) this.reflectionModel.get("intermediatePlaceholderMap");
+        placeholderMap.clear();
+        placeholderMap.put("name", "${N}");
+        @SuppressWarnings("unchecked")
+        final List<Object> derivedPlaceholders = (List<Object>) this.reflectionModel.get("derivedPlaceholders");
+        derivedPlaceholders.clear();
+        derivedPlaceholders.add(new DtcDerivedPlaceholderModelImpl("lower", "${L}", "name",
+            DtcTransformTypes.TO_LOWER_CASE));
+        derivedPlaceholders.add(new DtcDerivedPlaceholderModelImpl("upper", "${U}", "name",
+            DtcTransformTypes.TO_UPPER_CASE));
+        derivedPlaceholders.add(
+            new DtcDerivedPlaceholderModelImpl("none", "${X}", "noSourceKey", DtcTransformTypes.TO_UPPER_CASE));
+        this.reflectionModel.getMethod("compileTemplate");
+
+        /* テスト対象の実行 */
+        this.reflectionModel.set("convertedLine", "Abc");
+        this.testTarget.applyTemplateToInputFile();
+        final String actualFirstResult = this.testTarget.getContentsOfOneItem();
+
+        this.reflectionModel.set("convertedLine", "Def");
+        this.testTarget.applyTemplateToInputFile();
+        final String actualSecondResult = this.testTarget.getContentsOfOneItem();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedFirstResult, actualFirstResult, "1行目のテンプレート適用結果が正しいこと");
+        Assertions.assertEquals(expectedSecondResult, actualSecondResult, "2行目のテンプレート適用結果が正しいこと");
+
+    }
+
+    /**
+     * applyTemplateToOutputBuffer メソッドのテスト - 正常系：書き込みバッファサイズに達した場合に出力ファイルに書き込む場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testApplyTemplateToOutputBuffer_normalFlushAtWriteBufferSize() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "A1C2" + System.lineSeparator() + "A3C4" + System.lineSeparator();
+
+        /* 準備 */
+        final Path testInputFile    = this.tempDir.resolve("test_input.txt");
+        final Path testTemplateFile = this.tempDir.resolve("test_template.txt");
+        final Path testOutputFile   = this.tempDir.resolve("test_output.tmp");
+        Files.write(testInputFile, "test content".getBytes());
+        this.testTarget.initialize(testInputFile, testTemplateFile, testOutputFile);
+        this.testTarget.setWriteBufferSize(1);
+        this.reflectionModel.set("templateContent", "A${B}C${D}");
+        @SuppressWarnings("unchecked")
+        final Map<String, String> placeholderMap
+            = (Map<String, String>) this.reflectionModel.get("intermediatePlaceholderMap");
+        placeholderMap.put("B", "${B}");
+        placeholderMap.put("D", "${D}");
+        this.reflectionModel.getMethod("compileTemplate");
+
+        /* テスト対象の実行 */
+        this.reflectionModel.set("convertedLine", "1,2");
+        final boolean firstResult = this.testTarget.applyTemplateToOutputBuffer();
+        this.reflectionModel.set("convertedLine", "3,4");
+        final boolean secondResult = this.testTarget.applyTemplateToOutputBuffer();
+
+        /* 検証の準備 */
+        this.testTarget.close();
+        final String actualContent = Files.readString(testOutputFile);
+        final String actualBuffer  = this.reflectionModel.get("outputBufferContent").toString();
+
+        /* 検証の実施 */
+        Assertions.assertTrue(firstResult, "1行目の変換が成功すること");
+        Assertions.assertTrue(secondResult, "2行目の変換が成功すること");
+        Assertions.assertEquals(expectedContent, actualContent, "1件ごとに出力ファイルに書き込まれること");
+        Assertions.assertEquals(KmgString.EMPTY, actualBuffer, "書き込み後に出力バッファがクリアされること");
+
+    }
+
+    /**
+     * applyTemplateToOutputBuffer メソッドのテスト - 正常系：書き込みバッファサイズに達しない場合に出力バッファに蓄積する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testApplyTemplateToOutputBuffer_normalKeepBelowWriteBufferSize() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedBuffer       = "A1C2" + System.lineSeparator() + "A3C4" + System.lineSeparator();
+        final String expectedContentsItem = "before";
+
+        /* 準備 */
+        this.reflectionModel.set("templateContent", "A${B}C${D}");
+        this.reflectionModel.set("intermediateDelimiter", KmgDelimiterTypes.COMMA);
+        this.reflectionModel.set("contentsOfOneItem", expectedContentsItem);
+        @SuppressWarnings("unchecked")
+        final Map<String, String> placeholderMap
+            = (Map<String, String>) this.reflectionModel.get("intermediatePlaceholderMap");
+        placeholderMap.clear();
+        placeholderMap.put("B", "${B}");
+        placeholderMap.put("D", "${D}");
+        this.reflectionModel.getMethod("compileTemplate");
+
+        /* テスト対象の実行 */
+        this.reflectionModel.set("convertedLine", "1,2");
+        this.testTarget.applyTemplateToOutputBuffer();
+        this.reflectionModel.set("convertedLine", "3,4");
+        this.testTarget.applyTemplateToOutputBuffer();
+
+        /* 検証の準備 */
+        final String actualBuffer       = this.reflectionModel.get("outputBufferContent").toString();
+        final String actualContentsItem = this.testTarget.getContentsOfOneItem();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedBuffer, actualBuffer, "出力バッファに1件ごとに改行付きで蓄積されること");
+        Assertions.assertEquals(expectedContentsItem, actualContentsItem, "1件分の内容は更新されないこと");
+
+    }
+
     /**
      * clearOutputBufferContent メソッドのテスト - 正常系：バッファクリア
      *
@@ -428,6 +625,105 @@ public class DtcLogicImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * flushOutputBuffer メソッドのテスト - 異常系：IOExceptionが発生した場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFlushOutputBuffer_errorIOException() throws Exception {
+
+        /* 期待値の定義 */
+        final Path                   testInputFile         = this.tempDir.resolve("test_input.txt");
+        final Path                   testTemplateFile      = this.tempDir.resolve("test_template.txt");
+        final Path                   testOutputFile        = this.tempDir.resolve("test_output.tmp");
+        final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN03002] ";
+        final KmgToolBaseGenMsgTypes expectedMessageTypes  = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03002;
+        final Class<?>               expectedCauseClass    = IOException.class;
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(this.mockMessageSource);
+
+            // モックメッセージソースの設定
+            Mockito.when(this.mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedDomainMessage);
+
+            /* 準備 */
+            this.reflectionModel.set("outputBufferContent", new StringBuilder("test content"));
+
+            // IOExceptionを発生させるモックライターを作成
+            try (final BufferedWriter mockWriter = Mockito.mock(BufferedWriter.class);) {
+
+                Mockito.doThrow(new IOException("Test IOException")).when(mockWriter)
+                    .append(ArgumentMatchers.any(CharSequence.class));
+                this.reflectionModel.set("writer", mockWriter);
+
+            }
+            this.reflectionModel.set("inputPath", testInputFile);
+            this.reflectionModel.set("templatePath", testTemplateFile);
+            this.reflectionModel.set("outputPath", testOutputFile);
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException actualException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> {
+
+                    this.testTarget.flushOutputBuffer();
+
+                }, "IOExceptionが発生した場合は例外が発生すること");
+
+            /* 検証の実施 */
+            this.verifyKmgMsgException(actualException, expectedCauseClass, expectedDomainMessage,
+                expectedMessageTypes);
+
+        }
+
+    }
+
+    /**
+     * flushOutputBuffer メソッドのテスト - 正常系：改行を追加せずに書き込み、出力バッファをクリアする場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFlushOutputBuffer_normalWrite() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "line1" + System.lineSeparator() + "line2";
+
+        /* 準備 */
+        final Path testInputFile    = this.tempDir.resolve("test_input.txt");
+        final Path testTemplateFile = this.tempDir.resolve("test_template.txt");
+        final Path testOutputFile   = this.tempDir.resolve("test_output.tmp");
+        Files.write(testInputFile, "test content".getBytes());
+        this.testTarget.initialize(testInputFile, testTemplateFile, testOutputFile);
+        this.reflectionModel.set("outputBufferContent", new StringBuilder(expectedContent));
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.flushOutputBuffer();
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+        final String  actualBuffer = this.reflectionModel.get("outputBufferContent").toString();
+        this.testTarget.close();
+        final String actualContent = Files.readString(testOutputFile);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "書き込みが成功すること");
+        Assertions.assertEquals(expectedContent, actualContent, "改行が追加されずに書き込まれること");
+        Assertions.assertEquals(KmgString.EMPTY, actualBuffer, "出力バッファがクリアされること");
+
+    }
+
     /**
      * getContentsOfOneItem メソッドのテスト - 正常系：内容取得
      *
@@ -456,6 +752,63 @@ public class DtcLogicImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * getDtcConversionModel メソッドのテスト - 正常系：テンプレートの読み込み後に変換モデルを返す場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testGetDtcConversionModel_normalAfterCompile() throws Exception {
+
+        /* 期待値の定義 */
+        final int expectedPlaceholderCount = 2;
+
+        /* 準備 */
+        this.reflectionModel.set("templateContent", "${A}-${B}");
+        @SuppressWarnings("unchecked")
+        final Map<String, String> placeholderMap
+            = (Map<String, String>) this.reflectionModel.get("intermediatePlaceholderMap");
+        placeholderMap.put("a", "${A}");
+        placeholderMap.put("b", "${B}");
+        this.reflectionModel.getMethod("compileTemplate");
+
+        /* テスト対象の実行 */
+        final DtcConversionModel testResult = this.testTarget.getDtcConversionModel();
+
+        /* 検証の準備 */
+        final int actualPlaceholderCount = testResult.getPlaceholderCount();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedPlaceholderCount, actualPlaceholderCount, "プレースホルダーの数が正しいこと");
+
+    }
+
+    /**
+     * getDtcConversionModel メソッドのテスト - 準正常系：テンプレートの読み込み前の場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetDtcConversionModel_semiBeforeCompile() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final DtcConversionModel testResult = this.testTarget.getDtcConversionModel();
+
+        /* 検証の準備 */
+        final DtcConversionModel actualResult = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertNull(actualResult, "テンプレートの読み込み前はnullであること");
+
+    }
+
     /**
      * getInputPath メソッドのテスト - 正常系：パス取得
      *
@@ -540,6 +893,27 @@ public class DtcLogicImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * getWriteBufferSize メソッドのテスト - 正常系：デフォルトの書き込みバッファサイズを返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetWriteBufferSize_normalDefault() {
+
+        /* 期待値の定義 */
+        final int expectedWriteBufferSize = DtcLogicImpl.DEFAULT_WRITE_BUFFER_SIZE;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final int actualWriteBufferSize = this.testTarget.getWriteBufferSize();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedWriteBufferSize, actualWriteBufferSize, "デフォルトの書き込みバッファサイズであること");
+
+    }
+
     /**
      * initialize メソッドのテスト - 正常系：初期化が成功する場合
      *
@@ -648,6 +1022,53 @@ public class DtcLogicImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * loadDerivedPlaceholderDefinitions メソッドのテスト - 正常系：変換処理をリストで定義した場合（プライベートメソッド）
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoadDerivedPlaceholderDefinitions_normalTransformationList() throws Exception {
+
+        /* 期待値の定義 */
+        final List<DtcTransformTypes> expectedTransformTypesList = List.of(DtcTransformTypes.TO_SNAKE_CASE,
+            DtcTransformTypes.NONE, DtcTransformTypes.TO_UPPER_CASE);
+        final DtcTransformTypes       expectedTransformTypes     = DtcTransformTypes.TO_SNAKE_CASE;
+
+        /* 準備 */
+        final Map<String, Object>       yamlData            = new HashMap<>();
+        final List<Map<String, Object>> derivedPlaceholders = new ArrayList<>();
+        final Map<String, Object>       placeholder         = new HashMap<>();
+        placeholder.put(DtcKeyTypes.DISPLAY_NAME.getKey(), "testName");
+        placeholder.put(DtcKeyTypes.REPLACEMENT_PATTERN.getKey(), "${TEST}");
+        placeholder.put(DtcKeyTypes.SOURCE_KEY.getKey(), "sourceKey");
+        placeholder.put(DtcKeyTypes.TRANSFORMATION.getKey(), List.of("toSnakeCase", "INVALID", "toUpperCase"));
+        derivedPlaceholders.add(placeholder);
+        yamlData.put(DtcKeyTypes.DERIVED_PLACEHOLDERS.getKey(), derivedPlaceholders);
+
+        /* テスト対象の実行 */
+        final boolean testResult
+            = (Boolean) this.reflectionModel.getMethod("loadDerivedPlaceholderDefinitions", yamlData);
+
+        /* 検証の準備 */
+        final boolean                    actualResult      = testResult;
+        final DtcDerivedPlaceholderModel actualPlaceholder
+            = (DtcDerivedPlaceholderModel) ((List<?>) this.reflectionModel.get("derivedPlaceholders")).get(0);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "戻り値が正しいこと");
+        Assertions.assertEquals(expectedTransformTypesList,
+            actualPlaceholder.getTransformPipelineModel().getTransformTypesList(), "リストの順に変換処理の種類が並ぶこと");
+        Assertions.assertEquals(expectedTransformTypes, actualPlaceholder.getTransformationTypes(),
+            "最初に適用する変換処理の種類が取得されること");
+        Assertions.assertEquals("USER_NAME", actualPlaceholder.getTransformPipelineModel().transform("userName"),
+            "変換処理が連結されること");
+
+    }
+
     /**
      * loadDerivedPlaceholderDefinitions メソッドのテスト - 準正常系：派生プレースホルダー定義がない場合（プライベートメソッド）
      *
@@ -824,12 +1245,16 @@ public class DtcLogicImplTest extends AbstractKmgTest {
         final boolean testResult = this.testTarget.loadTemplate();
 
         /* 検証の準備 */
-        final boolean actualResult          = testResult;
-        final String  actualTemplateContent = (String) this.reflectionModel.get("templateContent");
+        final boolean          actualResult           = testResult;
+        final String           actualTemplateContent  = (String) this.reflectionModel.get("templateContent");
+        final DtcTemplateModel actualDtcTemplateModel
+            = this.testTarget.getDtcConversionModel().getDtcTemplateModel();
 
         /* 検証の実施 */
         Assertions.assertTrue(actualResult, "テンプレート読み込みが成功すること");
         Assertions.assertEquals(expectedTemplateContent, actualTemplateContent, "テンプレート内容が正しいこと");
+        Assertions.assertEquals(expectedTemplateContent, actualDtcTemplateModel.getTemplateContent(),
+            "テンプレートがコンパイルされていること");
 
     }
 
@@ -1028,12 +1453,15 @@ public class DtcLogicImplTest extends AbstractKmgTest {
     public void testProcessDerivedPlaceholders_normalProcess() throws Exception {
 
         /* 期待値の定義 */
-        final String expectedResult = "ATESTC";
+        final String expectedResult = "TEST";
 
         /* 準備 */
-        this.reflectionModel.set("contentsOfOneItem", "A${B}C");
-        final Map<String, String> intermediateValues = new HashMap<>();
-        intermediateValues.put("sourceKey", "test");
+        this.reflectionModel.set("templateContent", "A${B}C");
+        @SuppressWarnings("unchecked")
+        final Map<String, String> placeholderMap
+            = (Map<String, String>) this.reflectionModel.get("intermediatePlaceholderMap");
+        placeholderMap.clear();
+        placeholderMap.put("sourceKey", "${S}");
         @SuppressWarnings("unchecked")
         final List<Object> derivedPlaceholders = (List<Object>) this.reflectionModel.get("derivedPlaceholders");
         derivedPlaceholders.clear();
@@ -1041,12 +1469,15 @@ public class DtcLogicImplTest extends AbstractKmgTest {
         final Object placeholder = new DtcDerivedPlaceholderModelImpl("testName", "${B}", "sourceKey",
             kmg.tool.base.dtc.domain.types.DtcTransformTypes.TO_UPPER_CASE);
         derivedPlaceholders.add(placeholder);
+        this.reflectionModel.getMethod("compileTemplate");
+        final String[] placeholderValues = (String[]) this.reflectionModel.get("placeholderValues");
+        placeholderValues[0] = "test";
 
         /* テスト対象の実行 */
-        this.reflectionModel.getMethod("processDerivedPlaceholders", intermediateValues);
+        this.reflectionModel.getMethod("processDerivedPlaceholders");
 
         /* 検証の準備 */
-        final String actual = (String) this.reflectionModel.get("contentsOfOneItem");
+        final String actual = placeholderValues[1];
 
         /* 検証の実施 */
         Assertions.assertEquals(expectedResult, actual, "派生プレースホルダーが正しく処理されること");
@@ -1068,9 +1499,12 @@ public class DtcLogicImplTest extends AbstractKmgTest {
         final String expectedResult = "A${B}C"; // 置換されない
 
         /* 準備 */
-        this.reflectionModel.set("contentsOfOneItem", "A${B}C");
-        final Map<String, String> intermediateValues = new HashMap<>();
-        // sourceValueがnullになるように、sourceKeyに対応する値を設定しない
+        this.reflectionModel.set("templateContent", "A${B}C");
+        // sourceValueがnullになるように、sourceKeyに対応する中間プレースホルダーを設定しない
+        @SuppressWarnings("unchecked")
+        final Map<String, String> placeholderMap
+            = (Map<String, String>) this.reflectionModel.get("intermediatePlaceholderMap");
+        placeholderMap.clear();
         @SuppressWarnings("unchecked")
         final List<Object> derivedPlaceholders = (List<Object>) this.reflectionModel.get("derivedPlaceholders");
         derivedPlaceholders.clear();
@@ -1078,14 +1512,20 @@ public class DtcLogicImplTest extends AbstractKmgTest {
         final Object placeholder
             = new DtcDerivedPlaceholderModelImpl("testName", "${B}", "sourceKey", DtcTransformTypes.TO_UPPER_CASE);
         derivedPlaceholders.add(placeholder);
+        this.reflectionModel.getMethod("compileTemplate");
 
         /* テスト対象の実行 */
-        this.reflectionModel.getMethod("processDerivedPlaceholders", intermediateValues);
+        this.reflectionModel.getMethod("processDerivedPlaceholders");
 
         /* 検証の準備 */
-        final String actual = (String) this.reflectionModel.get("contentsOfOneItem");
+        final String[]         placeholderValues = (String[]) this.reflectionModel.get("placeholderValues");
+        final DtcTemplateModel dtcTemplateModel  = this.testTarget.getDtcConversionModel().getDtcTemplateModel();
+        final StringBuilder    actualBuilder     = new StringBuilder();
+        dtcTemplateModel.render(actualBuilder, placeholderValues);
+        final String actual = actualBuilder.toString();
 
         /* 検証の実施 */
+        Assertions.assertNull(placeholderValues[0], "sourceValueがnullの場合は値がnullであること");
         Assertions.assertEquals(expectedResult, actual, "sourceValueがnullの場合は置換されないこと");
 
     }
@@ -1118,7 +1558,7 @@ public class DtcLogicImplTest extends AbstractKmgTest {
                 .thenReturn(expectedDomainMessage);
 
             /* 準備 */
-            this.reflectionModel.set("contentsOfOneItem", "A${B}C${D}");
+            this.reflectionModel.set("templateContent", "A${B}C${D}");
             this.reflectionModel.set("convertedLine", "1"); // 1列のみ
             this.reflectionModel.set("intermediateDelimiter", KmgDelimiterTypes.COMMA);
             this.reflectionModel.set("inputPath", this.tempDir.resolve("input.txt"));
@@ -1128,13 +1568,13 @@ public class DtcLogicImplTest extends AbstractKmgTest {
             placeholderMap.clear();
             placeholderMap.put("B", "${B}");
             placeholderMap.put("D", "${D}"); // 2列目が必要だが1列しかない
-            final Map<String, String> intermediateValues = new HashMap<>();
+            this.reflectionModel.getMethod("compileTemplate");
 
             /* テスト対象の実行 */
             final KmgToolBaseMsgException actualException
                 = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> {
 
-                    this.reflectionModel.getMethod("processPlaceholders", intermediateValues);
+                    this.reflectionModel.getMethod("processPlaceholders");
 
                 }, "中間行の列数が不足している場合は例外が発生すること");
 
@@ -1158,10 +1598,12 @@ public class DtcLogicImplTest extends AbstractKmgTest {
     public void testProcessPlaceholders_normalProcess() throws Exception {
 
         /* 期待値の定義 */
-        final String expectedResult = "A1C2";
+        final String[] expectedResult = {
+            "1", "2",
+        };
 
         /* 準備 */
-        this.reflectionModel.set("contentsOfOneItem", "A${B}C${D}");
+        this.reflectionModel.set("templateContent", "A${B}C${D}");
         this.reflectionModel.set("convertedLine", "1,2");
         this.reflectionModel.set("intermediateDelimiter", KmgDelimiterTypes.COMMA);
         @SuppressWarnings("unchecked")
@@ -1170,16 +1612,108 @@ public class DtcLogicImplTest extends AbstractKmgTest {
         placeholderMap.clear();
         placeholderMap.put("B", "${B}");
         placeholderMap.put("D", "${D}");
-        final Map<String, String> intermediateValues = new HashMap<>();
+        this.reflectionModel.getMethod("compileTemplate");
 
         /* テスト対象の実行 */
-        this.reflectionModel.getMethod("processPlaceholders", intermediateValues);
+        this.reflectionModel.getMethod("processPlaceholders");
 
         /* 検証の準備 */
-        final String actual = (String) this.reflectionModel.get("contentsOfOneItem");
+        final String[] actual = (String[]) this.reflectionModel.get("placeholderValues");
+
+        /* 検証の実施 */
+        Assertions.assertArrayEquals(expectedResult, actual, "中間プレースホルダーが正しく処理されること");
+
+    }
+
+    /**
+     * readLinesOfData メソッドのテスト - 異常系：IOExceptionが発生した場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadLinesOfData_errorIOException() throws Exception {
+
+        /* 期待値の定義 */
+        final Path                   testInputFile         = this.tempDir.resolve("test_input.txt");
+        final Path                   testTemplateFile      = this.tempDir.resolve("test_template.txt");
+        final Path                   testOutputFile        = this.tempDir.resolve("test_output.tmp");
+        final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN03001] ";
+        final KmgToolBaseGenMsgTypes expectedMessageTypes  = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03001;
+        final Class<?>               expectedCauseClass    = IOException.class;
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(this.mockMessageSource);
+
+            // モックメッセージソースの設定
+            Mockito.when(this.mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedDomainMessage);
+
+            /* 準備 */
+            Files.write(testInputFile, "test content".getBytes());
+            this.testTarget.initialize(testInputFile, testTemplateFile, testOutputFile);
+
+            // IOExceptionを発生させるモックリーダーを作成
+            try (final BufferedReader mockReader = Mockito.mock(BufferedReader.class);) {
+
+                Mockito.when(mockReader.readLine()).thenThrow(new IOException("Test IOException"));
+                this.reflectionModel.set("reader", mockReader);
+
+            }
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException actualException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> {
+
+                    this.testTarget.readLinesOfData(10);
+
+                }, "IOExceptionが発生した場合は例外が発生すること");
+
+            /* 検証の実施 */
+            this.verifyKmgMsgException(actualException, expectedCauseClass, expectedDomainMessage,
+                expectedMessageTypes);
+
+        }
+
+    }
+
+    /**
+     * readLinesOfData メソッドのテスト - 正常系：最大行数ごとに読み込む場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadLinesOfData_normalReadByMaxLineCount() throws Exception {
+
+        /* 期待値の定義 */
+        final List<String> expectedFirstLines  = List.of("line1", "line2");
+        final List<String> expectedSecondLines = List.of("line3");
+
+        /* 準備 */
+        final Path testInputFile    = this.tempDir.resolve("test_input.txt");
+        final Path testTemplateFile = this.tempDir.resolve("test_template.txt");
+        final Path testOutputFile   = this.tempDir.resolve("test_output.tmp");
+        Files.write(testInputFile, "line1\nline2\nline3\n".getBytes());
+        this.testTarget.initialize(testInputFile, testTemplateFile, testOutputFile);
+
+        /* テスト対象の実行 */
+        final List<String> actualFirstLines  = this.testTarget.readLinesOfData(2);
+        final List<String> actualSecondLines = this.testTarget.readLinesOfData(2);
+        final List<String> actualThirdLines  = this.testTarget.readLinesOfData(2);
 
         /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actual, "中間プレースホルダーが正しく処理されること");
+        Assertions.assertEquals(expectedFirstLines, actualFirstLines, "最大行数まで読み込まれること");
+        Assertions.assertEquals(expectedSecondLines, actualSecondLines, "残りの行が読み込まれること");
+        Assertions.assertTrue(actualThirdLines.isEmpty(), "ファイル終端では空のリストであること");
 
     }
 
@@ -1324,6 +1858,30 @@ public class DtcLogicImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * setWriteBufferSize メソッドのテスト - 正常系：書き込みバッファサイズを設定する場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testSetWriteBufferSize_normalSet() {
+
+        /* 期待値の定義 */
+        final int expectedWriteBufferSize = 8192;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        this.testTarget.setWriteBufferSize(expectedWriteBufferSize);
+
+        /* 検証の準備 */
+        final int actualWriteBufferSize = this.testTarget.getWriteBufferSize();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedWriteBufferSize, actualWriteBufferSize, "書き込みバッファサイズが設定されること");
+
+    }
+
     /**
      * writeOutputBuffer メソッドのテスト - 異常系：IOExceptionが発生した場合
      *
@@ -1424,4 +1982,103 @@ public class DtcLogicImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * writeOutputContent メソッドのテスト - 異常系：IOExceptionが発生した場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testWriteOutputContent_errorIOException() throws Exception {
+
+        /* 期待値の定義 */
+        final Path                   testInputFile         = this.tempDir.resolve("test_input.txt");
+        final Path                   testTemplateFile      = this.tempDir.resolve("test_template.txt");
+        final Path                   testOutputFile        = this.tempDir.resolve("test_output.tmp");
+        final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN03002] ";
+        final KmgToolBaseGenMsgTypes expectedMessageTypes  = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03002;
+        final Class<?>               expectedCauseClass    = IOException.class;
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(this.mockMessageSource);
+
+            // モックメッセージソースの設定
+            Mockito.when(this.mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedDomainMessage);
+
+            /* 準備 */
+
+            // IOExceptionを発生させるモックライターを作成
+            try (final BufferedWriter mockWriter = Mockito.mock(BufferedWriter.class);) {
+
+                Mockito.doThrow(new IOException("Test IOException")).when(mockWriter)
+                    .append(ArgumentMatchers.any(CharSequence.class));
+                this.reflectionModel.set("writer", mockWriter);
+
+            }
+            this.reflectionModel.set("inputPath", testInputFile);
+            this.reflectionModel.set("templatePath", testTemplateFile);
+            this.reflectionModel.set("outputPath", testOutputFile);
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException actualException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> {
+
+                    this.testTarget.writeOutputContent("test content");
+
+                }, "IOExceptionが発生した場合は例外が発生すること");
+
+            /* 検証の実施 */
+            this.verifyKmgMsgException(actualException, expectedCauseClass, expectedDomainMessage,
+                expectedMessageTypes);
+
+        }
+
+    }
+
+    /**
+     * writeOutputContent メソッドのテスト - 正常系：出力バッファを使用せずに書き込む場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testWriteOutputContent_normalWrite() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "line1" + System.lineSeparator() + "line2";
+        final String expectedBuffer  = "buffered";
+
+        /* 準備 */
+        final Path testInputFile    = this.tempDir.resolve("test_input.txt");
+        final Path testTemplateFile = this.tempDir.resolve("test_template.txt");
+        final Path testOutputFile   = this.tempDir.resolve("test_output.tmp");
+        Files.write(testInputFile, "test content".getBytes());
+        this.testTarget.initialize(testInputFile, testTemplateFile, testOutputFile);
+        this.reflectionModel.set("outputBufferContent", new StringBuilder(expectedBuffer));
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.writeOutputContent(new StringBuilder(expectedContent));
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+        final String  actualBuffer = this.reflectionModel.get("outputBufferContent").toString();
+        this.testTarget.close();
+        final String actualContent = Files.readString(testOutputFile);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "書き込みが成功すること");
+        Assertions.assertEquals(expectedContent, actualContent, "改行が追加されずに書き込まれること");
+        Assertions.assertEquals(expectedBuffer, actualBuffer, "出力バッファは変更されないこと");
+
+    }
+
 }
@@ -0,0 +1,444 @@
+package kmg.tool.base.dtc.domain.model.impl;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.core.infrastructure.type.KmgString;
+import kmg.core.infrastructure.types.KmgDelimiterTypes;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.dtc.domain.model.DtcDerivedPlaceholderModel;
+import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
+
+/**
+ * DtcConversionModelImplのテストクラス
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@SuppressWarnings({
+    "nls",
+})
+public class DtcConversionModelImplTest extends AbstractKmgTest {
+
+    /**
+     * テンポラリディレクトリ
+     *
+     * @since 0.2.8
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.8
+     */
+    private DtcConversionModelImpl testTarget;
+
+    /**
+     * 中間プレースホルダーの定義マップ
+     *
+     * @since 0.2.8
+     */
+    private Map<String, String> intermediatePlaceholderMap;
+
+    /**
+     * 派生プレースホルダーの定義リスト
+     *
+     * @since 0.2.8
+     */
+    private List<DtcDerivedPlaceholderModel> derivedPlaceholders;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.8
+     */
+    @BeforeEach
+    public void setUp() {
+
+        this.intermediatePlaceholderMap = new LinkedHashMap<>();
+        this.intermediatePlaceholderMap.put("type", "${Type}");
+        this.intermediatePlaceholderMap.put("name", "${Name}");
+
+        this.derivedPlaceholders = new ArrayList<>();
+        this.derivedPlaceholders.add(
+            new DtcDerivedPlaceholderModelImpl("upperName", "${UpperName}", "name", DtcTransformTypes.TO_UPPER_CASE));
+
+    }
+
+    /**
+     * convertLines メソッドのテスト - 正常系：複数の中間行を変換する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testConvertLines_normalMultipleLines() throws Exception {
+
+        /* 期待値の定義 */
+        final String lineSeparator  = System.lineSeparator();
+        final String expectedResult = "String name NAME" + lineSeparator + "int id ID" + lineSeparator;
+
+        /* 準備 */
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            "${Type} ${Name} ${UpperName}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+
+        /* テスト対象の実行 */
+        final StringBuilder testResult = this.testTarget.convertLines(List.of("String,name", "int,id"));
+
+        /* 検証の準備 */
+        final String actualResult = testResult.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "中間行ごとに改行を追加して変換されること");
+
+    }
+
+    /**
+     * convertLines メソッドのテスト - 正常系：複数のスレッドから同時に変換する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testConvertLines_normalMultipleThreads() throws Exception {
+
+        /* 期待値の定義 */
+        final int          chunkCount    = 16;
+        final int          lineCount     = 1_000;
+        final List<String> expectedList  = new ArrayList<>(chunkCount);
+        final String       lineSeparator = System.lineSeparator();
+
+        /* 準備 */
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            "${Type} ${Name} ${UpperName}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+
+        final List<List<String>> chunkList = new ArrayList<>(chunkCount);
+
+        for (int i = 0; i < chunkCount; i++) {
+
+            final List<String>  lines    = new ArrayList<>(lineCount);
+            final StringBuilder expected = new StringBuilder();
+
+            for (int j = 0; j < lineCount; j++) {
+
+                lines.add("t" + i + ",n" + j);
+                expected.append("t").append(i).append(" n").append(j).append(" N").append(j).append(lineSeparator);
+
+            }
+
+            chunkList.add(lines);
+            expectedList.add(expected.toString());
+
+        }
+
+        /* テスト対象の実行 */
+        final List<String>    actualList = new ArrayList<>(chunkCount);
+        final ExecutorService service    = Executors.newFixedThreadPool(4);
+
+        try {
+
+            final List<Future<StringBuilder>> futureList = new ArrayList<>(chunkCount);
+
+            for (final List<String> lines : chunkList) {
+
+                futureList.add(service.submit(() -> this.testTarget.convertLines(lines)));
+
+            }
+
+            for (final Future<StringBuilder> future : futureList) {
+
+                actualList.add(future.get().toString());
+
+            }
+
+        } finally {
+
+            service.shutdownNow();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedList, actualList, "スレッドごとの変換結果が混ざらないこと");
+
+    }
+
+    /**
+     * convertLines メソッドのテスト - 準正常系：中間行がない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testConvertLines_semiEmpty() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedResult = KmgString.EMPTY;
+
+        /* 準備 */
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            "${Type} ${Name}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+
+        /* テスト対象の実行 */
+        final StringBuilder testResult = this.testTarget.convertLines(List.of());
+
+        /* 検証の準備 */
+        final String actualResult = testResult.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "空の内容であること");
+
+    }
+
+    /**
+     * getDtcTemplateModel メソッドのテスト - 正常系：コンパイル済みテンプレートモデルを返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetDtcTemplateModel_normal() {
+
+        /* 期待値の定義 */
+        final String expectedTemplateContent = "${Type} ${Name} ${UpperName}";
+
+        /* 準備 */
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            expectedTemplateContent, this.intermediatePlaceholderMap, this.derivedPlaceholders);
+
+        /* テスト対象の実行 */
+        final String actualTemplateContent = this.testTarget.getDtcTemplateModel().getTemplateContent();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTemplateContent, actualTemplateContent, "テンプレートの内容が正しいこと");
+
+    }
+
+    /**
+     * getPlaceholderCount メソッドのテスト - 正常系：中間プレースホルダーと派生プレースホルダーの合計を返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetPlaceholderCount_normal() {
+
+        /* 期待値の定義 */
+        final int expectedCount = 3;
+
+        /* 準備 */
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            "${Type}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+
+        /* テスト対象の実行 */
+        final int actualCount = this.testTarget.getPlaceholderCount();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, actualCount, "プレースホルダーの数が正しいこと");
+
+    }
+
+    /**
+     * setDerivedValues メソッドのテスト - 正常系：派生プレースホルダーの値を設定する場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testSetDerivedValues_normal() {
+
+        /* 期待値の定義 */
+        final String expectedValue = "NAME";
+
+        /* 準備 */
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            "${UpperName}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+        final String[] values = {
+            "String", "name", null,
+        };
+
+        /* テスト対象の実行 */
+        this.testTarget.setDerivedValues(values);
+
+        /* 検証の準備 */
+        final String actualValue = values[2];
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedValue, actualValue, "ソースキーの値が変換されて設定されること");
+
+    }
+
+    /**
+     * setDerivedValues メソッドのテスト - 正常系：変換処理を連結した場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testSetDerivedValues_normalTransformChain() {
+
+        /* 期待値の定義 */
+        final String expectedValue = "USER_NAME";
+
+        /* 準備 */
+        this.derivedPlaceholders.clear();
+        this.derivedPlaceholders.add(new DtcDerivedPlaceholderModelImpl("constantName", "${ConstantName}", "name",
+            List.of(DtcTransformTypes.TO_SNAKE_CASE, DtcTransformTypes.TO_UPPER_CASE)));
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            "${ConstantName}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+        final String[] values = {
+            "String", "userName", null,
+        };
+
+        /* テスト対象の実行 */
+        this.testTarget.setDerivedValues(values);
+
+        /* 検証の準備 */
+        final String actualValue = values[2];
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedValue, actualValue, "定義された順序で変換処理が適用されて設定されること");
+
+    }
+
+    /**
+     * setDerivedValues メソッドのテスト - 準正常系：ソースキーに対応する中間プレースホルダーがない場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testSetDerivedValues_semiSourceKeyNotFound() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.derivedPlaceholders.clear();
+        this.derivedPlaceholders
+            .add(new DtcDerivedPlaceholderModelImpl("other", "${Other}", "notExist", DtcTransformTypes.TO_UPPER_CASE));
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            "${Other}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+        final String[] values = {
+            "String", "name", "前回の値",
+        };
+
+        /* テスト対象の実行 */
+        this.testTarget.setDerivedValues(values);
+
+        /* 検証の準備 */
+        final String actualValue = values[2];
+
+        /* 検証の実施 */
+        Assertions.assertNull(actualValue, "ソースキーがない場合はnullが設定されること");
+
+    }
+
+    /**
+     * setIntermediateValues メソッドのテスト - 異常系：中間行の列数が不足している場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testSetIntermediateValues_errorInsufficientColumns() {
+
+        /* 期待値の定義 */
+        final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN03005] ";
+        final KmgToolBaseGenMsgTypes expectedMessageTypes  = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03005;
+        final Class<?>               expectedCauseClass    = ArrayIndexOutOfBoundsException.class;
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+
+            // モックメッセージソースの設定
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedDomainMessage);
+
+            /* 準備 */
+            this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+                "${Type} ${Name}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+            final String[] values = new String[this.testTarget.getPlaceholderCount()];
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException actualException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> {
+
+                    this.testTarget.setIntermediateValues("String", values);
+
+                }, "中間行の列数が不足している場合は例外が発生すること");
+
+            /* 検証の実施 */
+            this.verifyKmgMsgException(actualException, expectedCauseClass, expectedDomainMessage,
+                expectedMessageTypes);
+
+        }
+
+    }
+
+    /**
+     * setIntermediateValues メソッドのテスト - 正常系：列の順に中間プレースホルダーの値を設定する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testSetIntermediateValues_normal() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedType = "String";
+        final String expectedName = "name";
+
+        /* 準備 */
+        this.testTarget = new DtcConversionModelImpl(this.tempDir.resolve("input.txt"), KmgDelimiterTypes.COMMA,
+            "${Type} ${Name}", this.intermediatePlaceholderMap, this.derivedPlaceholders);
+        final String[] values = new String[this.testTarget.getPlaceholderCount()];
+
+        /* テスト対象の実行 */
+        this.testTarget.setIntermediateValues("String,name", values);
+
+        /* 検証の準備 */
+        final String actualType = values[0];
+        final String actualName = values[1];
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedType, actualType, "1列目が1番目の中間プレースホルダーの値であること");
+        Assertions.assertEquals(expectedName, actualName, "2列目が2番目の中間プレースホルダーの値であること");
+
+    }
+
+}
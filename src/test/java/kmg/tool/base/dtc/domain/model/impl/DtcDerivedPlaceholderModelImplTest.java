@@ -1,9 +1,12 @@
 package kmg.tool.base.dtc.domain.model.impl;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.base.dtc.domain.model.DtcTransformPipelineModel;
 import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
 
 /**
@@ -13,7 +16,7 @@ import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 @SuppressWarnings({
     "nls",
@@ -56,6 +59,36 @@ public class DtcDerivedPlaceholderModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * コンストラクタ メソッドのテスト - 正常系：変換処理の種類のリストでインスタンスが作成される場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testConstructor_normalTransformTypesList() {
+
+        /* 期待値の定義 */
+        final List<DtcTransformTypes> expectedTransformTypesList
+            = List.of(DtcTransformTypes.TO_SNAKE_CASE, DtcTransformTypes.TO_UPPER_CASE);
+        final String                  expectedTransformedValue   = "USER_NAME";
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        this.testTarget = new DtcDerivedPlaceholderModelImpl("テスト表示名", "${TEST}", "testKey",
+            expectedTransformTypesList);
+
+        /* 検証の準備 */
+        final DtcTransformPipelineModel actualPipelineModel = this.testTarget.getTransformPipelineModel();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTransformTypesList, actualPipelineModel.getTransformTypesList(),
+            "変換処理の種類のリストが正しく設定されること");
+        Assertions.assertEquals(expectedTransformedValue, actualPipelineModel.transform("userName"),
+            "変換処理の種類が連結されること");
+
+    }
+
     /**
      * getDisplayName メソッドのテスト - 正常系：空文字の表示名が正しく取得される場合
      *
@@ -346,6 +379,32 @@ public class DtcDerivedPlaceholderModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * getTransformationTypes メソッドのテスト - 正常系：連結した変換処理の種類の最初が取得される場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetTransformationTypes_normalChainTransformationTypes() {
+
+        /* 期待値の定義 */
+        final DtcTransformTypes expectedTransformTypes = DtcTransformTypes.TO_SNAKE_CASE;
+
+        /* 準備 */
+        this.testTarget = new DtcDerivedPlaceholderModelImpl("テスト表示名", "${TEST}", "testKey",
+            List.of(expectedTransformTypes, DtcTransformTypes.TO_UPPER_CASE));
+
+        /* テスト対象の実行 */
+        final DtcTransformTypes testResult = this.testTarget.getTransformationTypes();
+
+        /* 検証の準備 */
+        final DtcTransformTypes actualTransformTypes = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTransformTypes, actualTransformTypes, "最初に適用する変換処理の種類が取得されること");
+
+    }
+
     /**
      * getTransformationTypes メソッドのテスト - 正常系：変換処理の種類が正しく取得される場合
      *
@@ -433,4 +492,58 @@ public class DtcDerivedPlaceholderModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * getTransformationTypes メソッドのテスト - 準正常系：変換処理の種類のリストが空の場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetTransformationTypes_semiEmptyTransformTypesList() {
+
+        /* 期待値の定義 */
+        final DtcTransformTypes expectedTransformTypes = DtcTransformTypes.NONE;
+
+        /* 準備 */
+        this.testTarget = new DtcDerivedPlaceholderModelImpl("テスト表示名", "${TEST}", "testKey", List.of());
+
+        /* テスト対象の実行 */
+        final DtcTransformTypes testResult = this.testTarget.getTransformationTypes();
+
+        /* 検証の準備 */
+        final DtcTransformTypes actualTransformTypes = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTransformTypes, actualTransformTypes, "指定無しが取得されること");
+
+    }
+
+    /**
+     * getTransformPipelineModel メソッドのテスト - 正常系：単一の変換処理の種類の変換パイプラインモデルが取得される場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetTransformPipelineModel_normalSingleTransformTypes() {
+
+        /* 期待値の定義 */
+        final List<DtcTransformTypes> expectedTransformTypesList = List.of(DtcTransformTypes.CAPITALIZE);
+        final String                  expectedTransformedValue   = "Test";
+
+        /* 準備 */
+        this.testTarget = new DtcDerivedPlaceholderModelImpl("テスト表示名", "${TEST}", "testKey",
+            DtcTransformTypes.CAPITALIZE);
+
+        /* テスト対象の実行 */
+        final DtcTransformPipelineModel testResult = this.testTarget.getTransformPipelineModel();
+
+        /* 検証の準備 */
+        final List<DtcTransformTypes> actualTransformTypesList = testResult.getTransformTypesList();
+        final String                  actualTransformedValue   = testResult.transform("test");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTransformTypesList, actualTransformTypesList, "1件の変換処理の種類のリストであること");
+        Assertions.assertEquals(expectedTransformedValue, actualTransformedValue, "変換処理が適用されること");
+
+    }
+
 }
@@ -0,0 +1,270 @@
+package kmg.tool.base.dtc.domain.model.impl;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.core.infrastructure.type.KmgString;
+
+/**
+ * DtcTemplateModelImplのテストクラス
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class DtcTemplateModelImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.8
+     */
+    private DtcTemplateModelImpl testTarget;
+
+    /**
+     * getReplacementPatternCount メソッドのテスト - 正常系：置換パターンの数を返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetReplacementPatternCount_normal() {
+
+        /* 期待値の定義 */
+        final int expectedCount = 3;
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl("A${B}C", List.of("${B}", "${D}", KmgString.EMPTY));
+
+        /* テスト対象の実行 */
+        final int actualCount = this.testTarget.getReplacementPatternCount();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, actualCount, "空の置換パターンを含めた置換パターンの数であること");
+
+    }
+
+    /**
+     * getTemplateContent メソッドのテスト - 正常系：テンプレートの内容を返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetTemplateContent_normal() {
+
+        /* 期待値の定義 */
+        final String expectedTemplateContent = "A${B}C";
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl(expectedTemplateContent, List.of("${B}"));
+
+        /* テスト対象の実行 */
+        final String actualTemplateContent = this.testTarget.getTemplateContent();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTemplateContent, actualTemplateContent, "テンプレートの内容が正しいこと");
+
+    }
+
+    /**
+     * getTemplateContent メソッドのテスト - 準正常系：テンプレートの内容がnullの場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetTemplateContent_semiNull() {
+
+        /* 期待値の定義 */
+        final String expectedTemplateContent = KmgString.EMPTY;
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl(null, List.of("${B}"));
+
+        /* テスト対象の実行 */
+        final String actualTemplateContent = this.testTarget.getTemplateContent();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTemplateContent, actualTemplateContent, "空文字として扱われること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 正常系：既存の内容に追加する場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testRender_normalAppend() {
+
+        /* 期待値の定義 */
+        final String expectedResult = "prefix:A1C";
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl("A${B}C", List.of("${B}"));
+        final StringBuilder sb = new StringBuilder("prefix:");
+
+        /* テスト対象の実行 */
+        this.testTarget.render(sb, new String[] {
+            "1",
+        });
+
+        /* 検証の準備 */
+        final String actualResult = sb.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "既存の内容の後に追加されること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 正常系：置換パターンが複数回現れる場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testRender_normalMultipleOccurrences() {
+
+        /* 期待値の定義 */
+        final String expectedResult = "1-2-1-2-1";
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl("${B}-${D}-${B}-${D}-${B}", List.of("${B}", "${D}"));
+        final StringBuilder sb = new StringBuilder();
+
+        /* テスト対象の実行 */
+        this.testTarget.render(sb, new String[] {
+            "1", "2",
+        });
+
+        /* 検証の準備 */
+        final String actualResult = sb.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "全ての置換パターンが置換されること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 正常系：置換パターンの順に置換した場合と同じ結果になる場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testRender_normalSameAsSequentialReplace() {
+
+        /* 期待値の定義 */
+        final String       templateContent     = "x${AB}y${A}zaaa";
+        final List<String> replacementPatterns = List.of("${AB}", "${A}", "aa");
+        final String[]     values              = {
+            "1", "2", "3",
+        };
+        final String       expectedResult      = templateContent.replace("${AB}", "1").replace("${A}", "2")
+            .replace("aa", "3");
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl(templateContent, replacementPatterns);
+        final StringBuilder sb = new StringBuilder();
+
+        /* テスト対象の実行 */
+        this.testTarget.render(sb, values);
+
+        /* 検証の準備 */
+        final String actualResult = sb.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "置換パターンの順にString#replaceで置換した結果と同じであること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 準正常系：置換パターンが空の場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testRender_semiEmptyPattern() {
+
+        /* 期待値の定義 */
+        final String expectedResult = "A1C";
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl("A${B}C", List.of(KmgString.EMPTY, "${B}"));
+        final StringBuilder sb = new StringBuilder();
+
+        /* テスト対象の実行 */
+        this.testTarget.render(sb, new String[] {
+            "X", "1",
+        });
+
+        /* 検証の準備 */
+        final String actualResult = sb.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "空の置換パターンは無視されること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 準正常系：値がnullの場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testRender_semiNullValue() {
+
+        /* 期待値の定義 */
+        final String expectedResult = "A${B}C2";
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl("A${B}C${D}", List.of("${B}", "${D}"));
+        final StringBuilder sb = new StringBuilder();
+
+        /* テスト対象の実行 */
+        this.testTarget.render(sb, new String[] {
+            null, "2",
+        });
+
+        /* 検証の準備 */
+        final String actualResult = sb.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "値がnullの場合は置換パターンのままであること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 準正常系：値に置換パターンが含まれる場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testRender_semiValueContainsPattern() {
+
+        /* 期待値の定義 */
+        final String expectedResult = "A${D}C2";
+
+        /* 準備 */
+        this.testTarget = new DtcTemplateModelImpl("A${B}C${D}", List.of("${B}", "${D}"));
+        final StringBuilder sb = new StringBuilder();
+
+        /* テスト対象の実行 */
+        this.testTarget.render(sb, new String[] {
+            "${D}", "2",
+        });
+
+        /* 検証の準備 */
+        final String actualResult = sb.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "値に含まれる置換パターンは置換されないこと");
+
+    }
+
+}
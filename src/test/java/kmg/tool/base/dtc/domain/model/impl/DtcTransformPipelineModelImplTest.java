@@ -0,0 +1,363 @@
+package kmg.tool.base.dtc.domain.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.core.infrastructure.type.KmgString;
+import kmg.tool.base.dtc.domain.types.DtcTransformTypes;
+
+/**
+ * DtcTransformPipelineModelImplのテストクラス
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class DtcTransformPipelineModelImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.8
+     */
+    private DtcTransformPipelineModelImpl testTarget;
+
+    /**
+     * コンストラクタ のテスト - 正常系：キャッシュの最大件数が0の場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testConstructor_normalCacheSizeZero() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedResult = "USER_NAME";
+
+        /* 準備 */
+        this.testTarget = new DtcTransformPipelineModelImpl(
+            List.of(DtcTransformTypes.TO_SNAKE_CASE, DtcTransformTypes.TO_UPPER_CASE), 0);
+
+        /* テスト対象の実行 */
+        final String actualResult = this.testTarget.transform("userName");
+
+        /* 検証の準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        final Object                 actualCache     = reflectionModel.get("cache");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "キャッシュせずに変換されること");
+        Assertions.assertNull(actualCache, "キャッシュが作成されないこと");
+
+    }
+
+    /**
+     * コンストラクタ のテスト - 正常系：指定無しのみの場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testConstructor_normalNoneOnly() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        this.testTarget = new DtcTransformPipelineModelImpl(List.of(DtcTransformTypes.NONE, DtcTransformTypes.NONE));
+
+        /* 検証の準備 */
+        final KmgReflectionModelImpl reflectionModel         = new KmgReflectionModelImpl(this.testTarget);
+        final Object                 actualTransformFunction = reflectionModel.get("transformFunction");
+        final Object                 actualCache             = reflectionModel.get("cache");
+
+        /* 検証の実施 */
+        Assertions.assertNull(actualTransformFunction, "変換処理が連結されないこと");
+        Assertions.assertNull(actualCache, "キャッシュが作成されないこと");
+
+    }
+
+    /**
+     * コンストラクタ のテスト - 正常系：キャッシュの要素数を最大件数の2倍以上の2のべき乗とする場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testConstructor_normalRoundUpCacheSize() throws Exception {
+
+        /* 期待値の定義 */
+        final int expectedLength = 8;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        this.testTarget = new DtcTransformPipelineModelImpl(List.of(DtcTransformTypes.TO_SNAKE_CASE), 3);
+
+        /* 検証の準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        final Object[]               actualCache     = (Object[]) reflectionModel.get("cache");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedLength, actualCache.length, "最大件数の2倍以上の最小の2のべき乗の要素数であること");
+
+    }
+
+    /**
+     * コンストラクタ のテスト - 正常系：1つだけの軽い変換処理の場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testConstructor_normalSingleCaseTransform() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        this.testTarget
+            = new DtcTransformPipelineModelImpl(List.of(DtcTransformTypes.NONE, DtcTransformTypes.TO_UPPER_CASE));
+
+        /* 検証の準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        final Object                 actualCache     = reflectionModel.get("cache");
+
+        /* 検証の実施 */
+        Assertions.assertNull(actualCache, "キャッシュが作成されないこと");
+
+    }
+
+    /**
+     * getTransformTypesList メソッドのテスト - 正常系：定義された順序で返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetTransformTypesList_normal() {
+
+        /* 期待値の定義 */
+        final List<DtcTransformTypes> expectedList = List.of(DtcTransformTypes.TO_SNAKE_CASE, DtcTransformTypes.NONE,
+            DtcTransformTypes.TO_UPPER_CASE);
+
+        /* 準備 */
+        this.testTarget = new DtcTransformPipelineModelImpl(new ArrayList<>(expectedList));
+
+        /* テスト対象の実行 */
+        final List<DtcTransformTypes> actualList = this.testTarget.getTransformTypesList();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedList, actualList, "指定無しを含めて定義された順序で返されること");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：キャッシュの変換結果を返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testTransform_normalCacheHit() {
+
+        /* 期待値の定義 */
+        final String expectedResult = "user_name";
+
+        /* 準備 */
+        this.testTarget = new DtcTransformPipelineModelImpl(List.of(DtcTransformTypes.TO_SNAKE_CASE));
+        final String firstResult = this.testTarget.transform(new StringBuilder("userName").toString());
+
+        /* テスト対象の実行 */
+        final String actualResult = this.testTarget.transform(new StringBuilder("userName").toString());
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "変換結果が正しいこと");
+        Assertions.assertSame(firstResult, actualResult, "変換処理を適用せずにキャッシュの変換結果が返されること");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：キャッシュの最大件数を超えた場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalCacheOverflow() throws Exception {
+
+        /* 期待値の定義 */
+        final List<String> expectedList   = List.of("aB", "cD", "eF", "gH", "aB");
+        final int          expectedLength = 4;
+
+        /* 準備 */
+        this.testTarget = new DtcTransformPipelineModelImpl(List.of(DtcTransformTypes.TO_CAMEL_CASE), 2);
+
+        /* テスト対象の実行 */
+        final List<String> actualList = List.of("a_b", "c_d", "e_f", "g_h", "a_b").stream()
+            .map(this.testTarget::transform).toList();
+
+        /* 検証の準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        final Object[]               actualCache     = (Object[]) reflectionModel.get("cache");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedList, actualList, "同じ格納位置の変換結果を上書きしても変換結果が正しいこと");
+        Assertions.assertEquals(expectedLength, actualCache.length, "キャッシュの要素数が増えないこと");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：変換処理を連結した場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testTransform_normalChain() {
+
+        /* 期待値の定義 */
+        final String expectedResult = "USER_NAME_ID";
+
+        /* 準備 */
+        this.testTarget = new DtcTransformPipelineModelImpl(List.of(DtcTransformTypes.TO_LOWER_CASE,
+            DtcTransformTypes.TO_CAMEL_CASE, DtcTransformTypes.TO_SNAKE_CASE, DtcTransformTypes.TO_UPPER_CASE));
+
+        /* テスト対象の実行 */
+        final String actualResult = this.testTarget.transform("User_Name_Id");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "定義された順序で変換処理が適用されること");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：複数のスレッドから同時に変換する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalMultiThread() throws Exception {
+
+        /* 期待値の定義 */
+        final int          threadCount   = 4;
+        final int          valueCount    = 1_000;
+        final List<String> expectedList  = new ArrayList<>(valueCount);
+        final List<String> testValueList = new ArrayList<>(valueCount);
+
+        for (int i = 0; i < valueCount; i++) {
+
+            testValueList.add("userName" + (i % 100));
+            expectedList.add("USER_NAME" + (i % 100));
+
+        }
+
+        /* 準備 */
+        this.testTarget = new DtcTransformPipelineModelImpl(
+            List.of(DtcTransformTypes.TO_SNAKE_CASE, DtcTransformTypes.TO_UPPER_CASE), 16);
+
+        /* テスト対象の実行 */
+        final List<List<String>> actualLists = new ArrayList<>(threadCount);
+        final ExecutorService    service     = Executors.newFixedThreadPool(threadCount);
+
+        try {
+
+            final List<Future<List<String>>> futureList = new ArrayList<>(threadCount);
+
+            for (int i = 0; i < threadCount; i++) {
+
+                futureList.add(service.submit(() -> testValueList.stream().map(this.testTarget::transform).toList()));
+
+            }
+
+            for (final Future<List<String>> future : futureList) {
+
+                actualLists.add(future.get());
+
+            }
+
+        } finally {
+
+            service.shutdownNow();
+
+        }
+
+        /* 検証の実施 */
+        for (final List<String> actualList : actualLists) {
+
+            Assertions.assertEquals(expectedList, actualList, "スレッドごとの変換結果が正しいこと");
+
+        }
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：変換処理がない場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testTransform_normalNoTransform() {
+
+        /* 期待値の定義 */
+        final String expectedResult = "userName";
+
+        /* 準備 */
+        this.testTarget = new DtcTransformPipelineModelImpl(List.of(DtcTransformTypes.NONE));
+
+        /* テスト対象の実行 */
+        final String actualResult = this.testTarget.transform(expectedResult);
+
+        /* 検証の実施 */
+        Assertions.assertSame(expectedResult, actualResult, "変換対象の文字列がそのまま返されること");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 準正常系：変換対象の文字列がnullの場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testTransform_semiNull() {
+
+        /* 期待値の定義 */
+        final String expectedResult = KmgString.EMPTY;
+
+        /* 準備 */
+        this.testTarget = new DtcTransformPipelineModelImpl(List.of(DtcTransformTypes.TO_UPPER_CASE));
+
+        /* テスト対象の実行 */
+        final String actualResult = this.testTarget.transform(null);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "空文字列が返されること");
+
+    }
+
+}
@@ -2,6 +2,11 @@ package kmg.tool.base.dtc.domain.service.impl;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -9,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -27,6 +33,8 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
 import kmg.tool.base.dtc.domain.logic.DtcLogic;
+import kmg.tool.base.dtc.domain.model.DtcConversionModel;
+import kmg.tool.base.dtc.domain.model.impl.DtcConversionModelImpl;
 
 /**
  * DtcServiceImplのテストクラス
@@ -124,6 +132,137 @@ public class DtcServiceImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * awaitChunkResult メソッドのテスト - 異常系：変換中にKMGツールメッセージ例外以外の例外が発生した場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testAwaitChunkResult_errorExecutionException() throws Exception {
+
+        /* 期待値の定義 */
+        final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN03007] テストメッセージ";
+        final KmgToolBaseGenMsgTypes expectedMessageTypes  = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03007;
+        final Class<?>               expectedCauseClass    = IllegalStateException.class;
+
+        /* 準備 */
+        this.testTarget.initialize(this.tempDir.resolve("input.txt"), this.tempDir.resolve("template.yml"),
+            this.tempDir.resolve("output.txt"));
+        final Future<StringBuilder> future = CompletableFuture.failedFuture(new IllegalStateException("テスト用例外"));
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSourceTestMethod = Mockito.mock(KmgMessageSource.class);
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceTestMethod);
+
+            // モックメッセージソースの設定
+            Mockito.when(mockMessageSourceTestMethod.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedDomainMessage);
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException actualException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> {
+
+                    this.reflectionModel.getMethod("awaitChunkResult", future);
+
+                });
+
+            /* 検証の実施 */
+            this.verifyKmgMsgException(actualException, expectedCauseClass, expectedDomainMessage,
+                expectedMessageTypes);
+
+        }
+
+    }
+
+    /**
+     * awaitChunkResult メソッドのテスト - 異常系：待機中に割り込まれた場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testAwaitChunkResult_errorInterrupted() throws Exception {
+
+        /* 期待値の定義 */
+        final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN03008] テストメッセージ";
+        final KmgToolBaseGenMsgTypes expectedMessageTypes  = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03008;
+        final Class<?>               expectedCauseClass    = InterruptedException.class;
+
+        /* 準備 */
+        @SuppressWarnings("unchecked")
+        final Future<StringBuilder> mockFuture = Mockito.mock(Future.class);
+        Mockito.when(mockFuture.get()).thenThrow(new InterruptedException("テスト用InterruptedException"));
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSourceTestMethod = Mockito.mock(KmgMessageSource.class);
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceTestMethod);
+
+            // モックメッセージソースの設定
+            Mockito.when(mockMessageSourceTestMethod.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedDomainMessage);
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException actualException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> {
+
+                    this.reflectionModel.getMethod("awaitChunkResult", mockFuture);
+
+                });
+
+            /* 検証の準備 */
+            // 割り込み状態を確認し、後続のテストに影響しないように解除する
+            final boolean actualInterrupted = Thread.interrupted();
+
+            /* 検証の実施 */
+            this.verifyKmgMsgException(actualException, expectedCauseClass, expectedDomainMessage,
+                expectedMessageTypes);
+            Assertions.assertTrue(actualInterrupted, "割り込み状態が復元されること");
+
+        }
+
+    }
+
+    /**
+     * awaitChunkResult メソッドのテスト - 正常系：変換結果を返す場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testAwaitChunkResult_normal() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "変換後の内容";
+
+        /* 準備 */
+        final Future<StringBuilder> future = CompletableFuture.completedFuture(new StringBuilder(expectedContent));
+
+        /* テスト対象の実行 */
+        final StringBuilder testResult = (StringBuilder) this.reflectionModel.getMethod("awaitChunkResult", future);
+
+        /* 検証の準備 */
+        final String actualContent = testResult.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedContent, actualContent, "変換結果が返されること");
+
+    }
+
     /**
      * closeDtcLogic メソッドのテスト - 異常系：IOException発生
      *
@@ -505,6 +644,46 @@ public class DtcServiceImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * initialize メソッドのテスト - 正常系：スレッド数を指定して正常な初期化
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgReflectionException
+     *                                 リフレクション例外
+     */
+    @Test
+    public void testInitialize_normalInitializationWithThreadNum()
+        throws KmgToolBaseMsgException, KmgReflectionException {
+
+        /* 期待値の定義 */
+        final KmgDelimiterTypes expectedIntermediateDelimiter = KmgDelimiterTypes.COMMA;
+        final short             expectedThreadNum             = 4;
+
+        /* 準備 */
+        final Path inputPath    = this.tempDir.resolve("input.txt");
+        final Path templatePath = this.tempDir.resolve("template.yml");
+        final Path outputPath   = this.tempDir.resolve("output.txt");
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.initialize(inputPath, templatePath, outputPath,
+            expectedIntermediateDelimiter, expectedThreadNum);
+
+        /* 検証の準備 */
+        final boolean           actualResult                = testResult;
+        final KmgDelimiterTypes actualIntermediateDelimiter = (KmgDelimiterTypes) this.reflectionModel
+            .get("intermediateDelimiter");
+        final short             actualThreadNum             = (Short) this.reflectionModel.get("threadNum");
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "初期化が成功すること");
+        Assertions.assertEquals(expectedIntermediateDelimiter, actualIntermediateDelimiter, "中間ファイルの区切り文字が正しく設定されること");
+        Assertions.assertEquals(expectedThreadNum, actualThreadNum, "スレッド数が正しく設定されること");
+
+    }
+
     /**
      * process メソッドのテスト - 異常系：DtcLogicのcloseでIOException発生
      *
@@ -576,6 +755,124 @@ public class DtcServiceImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * process メソッドのテスト - 異常系：並列の変換中にKMGツールメッセージ例外が発生した場合
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Test
+    public void testProcess_errorParallelConversion() throws KmgToolBaseMsgException {
+
+        /* 期待値の定義 */
+        final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN03005] テストメッセージ";
+        final KmgToolBaseGenMsgTypes expectedMessageTypes  = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN03005;
+        final Class<?>               expectedCauseClass    = ArrayIndexOutOfBoundsException.class;
+
+        /* 準備 */
+        final Path inputPath    = this.tempDir.resolve("input.txt");
+        final Path templatePath = this.tempDir.resolve("template.yml");
+        final Path outputPath   = this.tempDir.resolve("output.txt");
+
+        this.testTarget.initialize(inputPath, templatePath, outputPath, KmgDelimiterTypes.COMMA, (short) 2);
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSourceTestMethod = Mockito.mock(KmgMessageSource.class);
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceTestMethod);
+
+            // モックメッセージソースの設定
+            Mockito.when(mockMessageSourceTestMethod.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedDomainMessage);
+
+            // 静的メソッドのモックは作成したスレッドのみで有効なため、変換で発生させる例外はこのスレッドで作成する
+            final KmgToolBaseMsgException conversionException    = new KmgToolBaseMsgException(expectedMessageTypes,
+                new Object[] {}, new ArrayIndexOutOfBoundsException("テスト用例外"));
+            final DtcConversionModel      mockDtcConversionModel = Mockito.mock(DtcConversionModel.class);
+            Mockito.when(mockDtcConversionModel.convertLines(ArgumentMatchers.anyList()))
+                .thenThrow(conversionException);
+
+            Mockito.when(this.mockDtcLogic.getDtcConversionModel()).thenReturn(mockDtcConversionModel);
+            Mockito.when(this.mockDtcLogic.readLinesOfData(ArgumentMatchers.anyInt()))
+                .thenReturn(List.of("1,2"), List.of("3,4"), List.of());
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException actualException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> {
+
+                    this.testTarget.process();
+
+                });
+
+            /* 検証の実施 */
+            Assertions.assertSame(conversionException, actualException, "変換で発生した例外がそのまま送出されること");
+            this.verifyKmgMsgException(actualException, expectedCauseClass, expectedDomainMessage,
+                expectedMessageTypes);
+            Mockito.verify(this.mockDtcLogic, Mockito.never()).writeOutputContent(ArgumentMatchers.any());
+
+        }
+
+    }
+
+    /**
+     * process メソッドのテスト - 正常系：並列に変換し、読み込んだ順番に書き込む場合
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Test
+    public void testProcess_normalParallel() throws KmgToolBaseMsgException {
+
+        /* 期待値の定義 */
+        final boolean      expectedResult   = true;
+        final String       lineSeparator    = System.lineSeparator();
+        final List<String> expectedContents = List.of("1-A" + lineSeparator + "2-B" + lineSeparator,
+            "3-C" + lineSeparator, "4-D" + lineSeparator, "5-E" + lineSeparator, "6-F" + lineSeparator);
+
+        /* 準備 */
+        final Path inputPath    = this.tempDir.resolve("input.txt");
+        final Path templatePath = this.tempDir.resolve("template.yml");
+        final Path outputPath   = this.tempDir.resolve("output.txt");
+
+        this.testTarget.initialize(inputPath, templatePath, outputPath, KmgDelimiterTypes.COMMA, (short) 2);
+
+        final Map<String, String> intermediatePlaceholderMap = new LinkedHashMap<>();
+        intermediatePlaceholderMap.put("a", "${A}");
+        intermediatePlaceholderMap.put("b", "${B}");
+        final DtcConversionModel dtcConversionModel = new DtcConversionModelImpl(inputPath, KmgDelimiterTypes.COMMA,
+            "${A}-${B}", intermediatePlaceholderMap, List.of());
+
+        // スレッド数の2倍を超えるチャンクを読み込み、書き込み待ちのチャンクの上限に達するようにする
+        Mockito.when(this.mockDtcLogic.getDtcConversionModel()).thenReturn(dtcConversionModel);
+        Mockito.when(this.mockDtcLogic.readLinesOfData(ArgumentMatchers.anyInt())).thenReturn(
+            List.of("1,A", "2,B"), List.of("3,C"), List.of("4,D"), List.of("5,E"), List.of("6,F"), List.of());
+        Mockito.when(this.mockDtcLogic.writeOutputContent(ArgumentMatchers.any())).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.process();
+
+        /* 検証の準備 */
+        final boolean                      actualResult  = testResult;
+        final ArgumentCaptor<CharSequence> contentCaptor = ArgumentCaptor.forClass(CharSequence.class);
+        Mockito.verify(this.mockDtcLogic, Mockito.times(expectedContents.size()))
+            .writeOutputContent(contentCaptor.capture());
+        final List<String> actualContents = contentCaptor.getAllValues().stream().map(CharSequence::toString).toList();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "処理が成功すること");
+        Assertions.assertEquals(expectedContents, actualContents, "チャンクが読み込んだ順番に書き込まれること");
+        Mockito.verify(this.mockDtcLogic, Mockito.never()).readOneLineOfData();
+        Mockito.verify(this.mockDtcLogic, Mockito.never()).flushOutputBuffer();
+
+    }
+
     /**
      * process メソッドのテスト - 正常系：正常な処理実行
      *
@@ -606,10 +903,8 @@ public class DtcServiceImplTest extends AbstractKmgTest {
             .thenReturn(expectedEndLogMsg);
 
         Mockito.when(this.mockDtcLogic.readOneLineOfData()).thenReturn(true, true, false);
-        Mockito.doNothing().when(this.mockDtcLogic).applyTemplateToInputFile();
-        Mockito.when(this.mockDtcLogic.addOutputBufferContent()).thenReturn(true);
-        Mockito.when(this.mockDtcLogic.writeOutputBuffer()).thenReturn(true);
-        Mockito.doNothing().when(this.mockDtcLogic).clearOutputBufferContent();
+        Mockito.when(this.mockDtcLogic.applyTemplateToOutputBuffer()).thenReturn(true);
+        Mockito.when(this.mockDtcLogic.flushOutputBuffer()).thenReturn(true);
 
         /* テスト対象の実行 */
         final boolean testResult = this.testTarget.process();
@@ -619,6 +914,10 @@ public class DtcServiceImplTest extends AbstractKmgTest {
 
         /* 検証の実施 */
         Assertions.assertEquals(expectedResult, actualResult, "処理が成功すること");
+        // 1行ごとに出力バッファに追加され、最後に1回だけ書き込まれることを検証
+        Mockito.verify(this.mockDtcLogic, Mockito.times(2)).applyTemplateToOutputBuffer();
+        Mockito.verify(this.mockDtcLogic, Mockito.times(1)).flushOutputBuffer();
+        Mockito.verify(this.mockDtcLogic, Mockito.never()).writeOutputBuffer();
 
     }
 
@@ -16,7 +16,7 @@ import kmg.core.infrastructure.type.KmgString;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 @SuppressWarnings({
     "nls", "static-method"
@@ -464,6 +464,28 @@ public class DtcTransformTypesTest {
 
     }
 
+    /**
+     * getEnum メソッドのテスト - 正常系:TO_CAMEL_CASEの値の取得
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetEnum_normalToCamelCaseValue() {
+
+        /* 期待値の定義 */
+        final DtcTransformTypes expected = DtcTransformTypes.TO_CAMEL_CASE;
+
+        /* 準備 */
+        final String testValue = "toCamelCase";
+
+        /* テスト対象の実行 */
+        final DtcTransformTypes actual = DtcTransformTypes.getEnum(testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "TO_CAMEL_CASEの値が一致しません");
+
+    }
+
     /**
      * getEnum メソッドのテスト - 正常系:TO_LOWER_CASEの値の取得
      *
@@ -486,6 +508,28 @@ public class DtcTransformTypesTest {
 
     }
 
+    /**
+     * getEnum メソッドのテスト - 正常系:TO_SNAKE_CASEの値の取得
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetEnum_normalToSnakeCaseValue() {
+
+        /* 期待値の定義 */
+        final DtcTransformTypes expected = DtcTransformTypes.TO_SNAKE_CASE;
+
+        /* 準備 */
+        final String testValue = "toSnakeCase";
+
+        /* テスト対象の実行 */
+        final DtcTransformTypes actual = DtcTransformTypes.getEnum(testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "TO_SNAKE_CASEの値が一致しません");
+
+    }
+
     /**
      * getEnum メソッドのテスト - 正常系:TO_UPPER_CASEの値の取得
      *
@@ -659,6 +703,136 @@ public class DtcTransformTypesTest {
 
     }
 
+    /**
+     * toCamelCase メソッドのテスト - 正常系:先頭と連続するアンダースコアを含む変換
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   リフレクション例外
+     */
+    @Test
+    public void testToCamelCase_normalLeadingUnderscore() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "userName";
+
+        /* 準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(DtcTransformTypes.class);
+        final String                 testValue       = "_user__name";
+
+        /* テスト対象の実行 */
+        final String actual = (String) reflectionModel.getMethod("toCamelCase", testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "toCamelCaseメソッドで先頭のアンダースコアは削除され、次の文字が大文字に変換されないこと");
+
+    }
+
+    /**
+     * toCamelCase メソッドのテスト - 正常系:スネークケースの変換
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   リフレクション例外
+     */
+    @Test
+    public void testToCamelCase_normalSnakeCase() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "userNameId";
+
+        /* 準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(DtcTransformTypes.class);
+        final String                 testValue       = "user_name_id";
+
+        /* テスト対象の実行 */
+        final String actual = (String) reflectionModel.getMethod("toCamelCase", testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "toCamelCaseメソッドでアンダースコアの次の文字が大文字に変換されること");
+
+    }
+
+    /**
+     * toCamelCase メソッドのテスト - 正常系:大文字のスネークケースの変換
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   リフレクション例外
+     */
+    @Test
+    public void testToCamelCase_normalUpperSnakeCase() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "fooBar";
+
+        /* 準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(DtcTransformTypes.class);
+        final String                 testValue       = "FOO_BAR";
+
+        /* テスト対象の実行 */
+        final String actual = (String) reflectionModel.getMethod("toCamelCase", testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "toCamelCaseメソッドで小文字に変換してからアンダースコアの次の文字が大文字に変換されること");
+
+    }
+
+    /**
+     * toSnakeCase メソッドのテスト - 正常系:連続する大文字を含む変換
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   リフレクション例外
+     */
+    @Test
+    public void testToSnakeCase_normalAcronym() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "http_server_id";
+
+        /* 準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(DtcTransformTypes.class);
+        final String                 testValue       = "HTTPServerID";
+
+        /* テスト対象の実行 */
+        final String actual = (String) reflectionModel.getMethod("toSnakeCase", testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "toSnakeCaseメソッドで連続する大文字が1つの単語として変換されること");
+
+    }
+
+    /**
+     * toSnakeCase メソッドのテスト - 正常系:キャメルケースの変換
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   リフレクション例外
+     */
+    @Test
+    public void testToSnakeCase_normalCamelCase() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "user_name1_id";
+
+        /* 準備 */
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(DtcTransformTypes.class);
+        final String                 testValue       = "userName1Id";
+
+        /* テスト対象の実行 */
+        final String actual = (String) reflectionModel.getMethod("toSnakeCase", testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "toSnakeCaseメソッドで大文字の前にアンダースコアが挿入され、小文字に変換されること");
+
+    }
+
     /**
      * toString メソッドのテスト - 正常系:CAPITALIZEの文字列表現
      *
@@ -862,6 +1036,29 @@ public class DtcTransformTypesTest {
 
     }
 
+    /**
+     * transform メソッドのテスト - 正常系:TO_CAMEL_CASEの変換
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testTransform_normalToCamelCase() {
+
+        /* 期待値の定義 */
+        final String expected = "userName";
+
+        /* 準備 */
+        final DtcTransformTypes testType  = DtcTransformTypes.TO_CAMEL_CASE;
+        final String            testValue = "user_name";
+
+        /* テスト対象の実行 */
+        final String actual = testType.transform(testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "TO_CAMEL_CASEの場合、キャメルケースに変換されること");
+
+    }
+
     /**
      * transform メソッドのテスト - 正常系:TO_LOWER_CASEの変換
      *
@@ -908,6 +1105,29 @@ public class DtcTransformTypesTest {
 
     }
 
+    /**
+     * transform メソッドのテスト - 正常系:TO_SNAKE_CASEの変換
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testTransform_normalToSnakeCase() {
+
+        /* 期待値の定義 */
+        final String expected = "user_name";
+
+        /* 準備 */
+        final DtcTransformTypes testType  = DtcTransformTypes.TO_SNAKE_CASE;
+        final String            testValue = "userName";
+
+        /* テスト対象の実行 */
+        final String actual = testType.transform(testValue);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "TO_SNAKE_CASEの場合、スネークケースに変換されること");
+
+    }
+
     /**
      * transform メソッドのテスト - 正常系:TO_UPPER_CASEの変換
      *
@@ -0,0 +1,245 @@
+package kmg.tool.base.io.domain.logic.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+
+/**
+ * ファイル書き込みロジック実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class FileWriteLogicImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト用の一時ディレクトリ
+     *
+     * @since 0.2.8
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.8
+     */
+    private FileWriteLogicImpl testTarget;
+
+    /**
+     * テスト前処理<br>
+     *
+     * @since 0.2.8
+     */
+    @BeforeEach
+    public void setUp() {
+
+        this.testTarget = new FileWriteLogicImpl();
+
+    }
+
+    /**
+     * writeIfChanged メソッドのテスト - 異常系：書き込み先のディレクトリが存在しない場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testWriteIfChanged_errorDirectoryNotFound() {
+
+        /* 期待値の定義 */
+        final KmgToolBaseGenMsgTypes expectedMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN09000;
+
+        /* 準備 */
+        final Path filePath = this.tempDir.resolve("notFound").resolve("Test.java");
+
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException = Assertions.assertThrows(KmgToolBaseMsgException.class,
+                () -> this.testTarget.writeIfChanged(filePath, "original", "changed"));
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "ファイルの書き込み失敗のメッセージタイプであること");
+
+        }
+
+    }
+
+    /**
+     * writeIfChanged メソッドのテスト - 正常系：内容が変更されている場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testWriteIfChanged_normalChanged() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent   = "public class Test {\n    // 変更\n}";
+        final long   expectedFileCount = 1L;
+
+        /* 準備 */
+        final Path   filePath        = this.tempDir.resolve("Test.java");
+        final String originalContent = "public class Test {\n}";
+        Files.writeString(filePath, originalContent);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.writeIfChanged(filePath, originalContent, expectedContent);
+
+        /* 検証の準備 */
+        final String actualContent = Files.readString(filePath);
+        final long   actualFileCount;
+
+        try (final Stream<Path> stream = Files.list(this.tempDir)) {
+
+            actualFileCount = stream.count();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "書き込んだことを返すこと");
+        Assertions.assertEquals(expectedContent, actualContent, "変更後の内容が書き込まれること");
+        Assertions.assertEquals(expectedFileCount, actualFileCount, "一時ファイルが残らないこと");
+
+    }
+
+    /**
+     * writeIfChanged メソッドのテスト - 正常系：対象のファイルの属性を引き継ぐ場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testWriteIfChanged_normalKeepAttributes() throws Exception {
+
+        /* 期待値の定義 */
+        final Set<PosixFilePermission> expectedPermissions = PosixFilePermissions.fromString("rw-r-----");
+
+        /* 準備 */
+        final Path   filePath        = this.tempDir.resolve("Test.java");
+        final String originalContent = "public class Test {\n}";
+        Files.writeString(filePath, originalContent);
+        Files.setPosixFilePermissions(filePath, expectedPermissions);
+        final PosixFileAttributes expectedAttributes
+            = Files.readAttributes(filePath, PosixFileAttributes.class);
+
+        /* テスト対象の実行 */
+        this.testTarget.writeIfChanged(filePath, originalContent, "changed");
+
+        /* 検証の準備 */
+        final PosixFileAttributes actualAttributes = Files.readAttributes(filePath, PosixFileAttributes.class);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedPermissions, actualAttributes.permissions(), "権限が引き継がれること");
+        Assertions.assertEquals(expectedAttributes.owner(), actualAttributes.owner(), "所有者が引き継がれること");
+        Assertions.assertEquals(expectedAttributes.group(), actualAttributes.group(), "グループが引き継がれること");
+
+    }
+
+    /**
+     * writeIfChanged メソッドのテスト - 正常系：対象のファイルがシンボリックリンクの場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testWriteIfChanged_normalSymbolicLink() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "public class Test {\n    // 変更\n}";
+
+        /* 準備 */
+        final Path   realFilePath    = this.tempDir.resolve("Real.java");
+        final Path   linkFilePath    = this.tempDir.resolve("Link.java");
+        final String originalContent = "public class Test {\n}";
+        Files.writeString(realFilePath, originalContent);
+        Files.createSymbolicLink(linkFilePath, realFilePath);
+
+        /* テスト対象の実行 */
+        this.testTarget.writeIfChanged(linkFilePath, originalContent, expectedContent);
+
+        /* 検証の準備 */
+        final boolean actualSymbolicLink = Files.isSymbolicLink(linkFilePath);
+        final String  actualContent      = Files.readString(realFilePath);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualSymbolicLink, "シンボリックリンクが置き換えられないこと");
+        Assertions.assertEquals(expectedContent, actualContent, "リンク先のファイルに書き込まれること");
+
+    }
+
+    /**
+     * writeIfChanged メソッドのテスト - 準正常系：内容が変更されていない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testWriteIfChanged_semiUnchanged() throws Exception {
+
+        /* 期待値の定義 */
+        final FileTime expectedLastModifiedTime = FileTime.fromMillis(0L);
+
+        /* 準備 */
+        final Path   filePath = this.tempDir.resolve("Test.java");
+        final String content  = "public class Test {\n}";
+        Files.writeString(filePath, content);
+        Files.setLastModifiedTime(filePath, expectedLastModifiedTime);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.writeIfChanged(filePath, content, content);
+
+        /* 検証の準備 */
+        final FileTime actualLastModifiedTime = Files.getLastModifiedTime(filePath);
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "書き込みをスキップしたことを返すこと");
+        Assertions.assertEquals(expectedLastModifiedTime, actualLastModifiedTime, "最終更新日時が変わらないこと");
+
+    }
+
+}
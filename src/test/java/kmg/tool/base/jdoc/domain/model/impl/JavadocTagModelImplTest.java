@@ -14,7 +14,7 @@ import kmg.core.infrastructure.types.KmgJavadocTagTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 @SuppressWarnings({
     "nls",
@@ -414,6 +414,33 @@ public class JavadocTagModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * getTargetStr メソッドのテスト - 正常系:Javadocの範囲から対象文字列を作成する場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetTargetStr_normalSourceJavadocRange() {
+
+        /* 期待値の定義 */
+        final String expectedTargetStr = "* @since 0.2.0";
+
+        /* 準備 */
+        final String testSourceJavadoc = "/**\n * @since 0.2.0\n *\n */";
+        this.testTarget = new JavadocTagModelImpl(testSourceJavadoc, 3, 22, KmgJavadocTagTypes.SINCE, "0.2.0", "");
+
+        /* テスト対象の実行 */
+        final String testResult = this.testTarget.getTargetStr();
+
+        /* 検証の準備 */
+        final String actualTargetStr = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTargetStr, actualTargetStr, "空白とアスタリスクのみの行を除いた対象文字列が作成されること");
+        Assertions.assertSame(actualTargetStr, this.testTarget.getTargetStr(), "2回目以降は作成済みの対象文字列が返されること");
+
+    }
+
     /**
      * getTargetStr メソッドのテスト - 正常系:通常の対象文字列での対象文字列取得
      *
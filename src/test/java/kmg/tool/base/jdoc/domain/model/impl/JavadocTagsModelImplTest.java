@@ -18,7 +18,7 @@ import kmg.tool.base.jdoc.domain.model.JavadocTagModel;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @SuppressWarnings({
     "nls",
@@ -45,6 +45,39 @@ public class JavadocTagsModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * constructor メソッドのテスト - 正常系:CRLFの改行とアスタリスクのみの行を含むJavadocでのコンストラクタ
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testConstructor_normalCrLfAsteriskOnlyLineJavadoc() {
+
+        /* 期待値の定義 */
+        final int    expectedTagCount    = 2;
+        final String expectedTargetStr   = "* @since 0.2.0";
+        final String expectedValue       = "0.2.0";
+        final String expectedDescription = "";
+
+        /* 準備 */
+        final String testSourceJavadoc = "/**\r\n * @since 0.2.0\r\n *\r\n * @author KenichiroArai\r\n */";
+
+        /* テスト対象の実行 */
+        this.testTarget = new JavadocTagsModelImpl(testSourceJavadoc);
+
+        /* 検証の準備 */
+        final List<JavadocTagModel> actualTagList = this.testTarget.getJavadocTagModelList();
+        final JavadocTagModel       actualTag     = this.testTarget.findByTag(KmgJavadocTagTypes.SINCE);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTagCount, actualTagList.size(), "アスタリスクのみの行で区切られたタグが全て解析されること");
+        Assertions.assertEquals(expectedTargetStr, actualTag.getTargetStr(), "改行とアスタリスクのみの行を除いた対象文字列であること");
+        Assertions.assertEquals(expectedValue, actualTag.getValue(), "指定値が正しく設定されること");
+        Assertions.assertEquals(expectedDescription, actualTag.getDescription(), "アスタリスクのみの行は説明に含まれないこと");
+        Assertions.assertEquals(KmgJavadocTagTypes.AUTHOR, actualTagList.get(1).getTag(), "2つ目のタグが正しく設定されること");
+
+    }
+
     /**
      * constructor メソッドのテスト - 正常系:デフォルトコンストラクタでの初期化
      *
@@ -358,6 +391,90 @@ public class JavadocTagsModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * findAllByTag メソッドのテスト - 正常系:同じタグが複数ある場合の検索
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testFindAllByTag_normalMultipleSameTags() {
+
+        /* 期待値の定義 */
+        final int    expectedTagCount    = 2;
+        final String expectedFirstValue  = "KenichiroArai";
+        final String expectedSecondValue = "TestAuthor";
+
+        /* 準備 */
+        final String testSourceJavadoc
+            = "/**\n * テストクラス\n * @author KenichiroArai 主担当\n * @author TestAuthor 副担当\n */";
+        this.testTarget = new JavadocTagsModelImpl(testSourceJavadoc);
+
+        /* テスト対象の実行 */
+        final List<JavadocTagModel> testResult = this.testTarget.findAllByTag(KmgJavadocTagTypes.AUTHOR);
+
+        /* 検証の準備 */
+        final List<JavadocTagModel> actualTagList = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTagCount, actualTagList.size(), "同じタグが全て検索されること");
+        Assertions.assertEquals(expectedFirstValue, actualTagList.get(0).getValue(), "1番目のタグが記述順であること");
+        Assertions.assertEquals(expectedSecondValue, actualTagList.get(1).getValue(), "2番目のタグが記述順であること");
+        Assertions.assertSame(actualTagList.get(0), this.testTarget.findByTag(KmgJavadocTagTypes.AUTHOR),
+            "findByTagは最初のタグを返すこと");
+
+    }
+
+    /**
+     * findAllByTag メソッドのテスト - 正常系:存在しないタグでの検索
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testFindAllByTag_normalNonExistingTag() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String testSourceJavadoc = "/**\n * テストクラス\n * @author KenichiroArai\n */";
+        this.testTarget = new JavadocTagsModelImpl(testSourceJavadoc);
+
+        /* テスト対象の実行 */
+        final List<JavadocTagModel> testResult = this.testTarget.findAllByTag(KmgJavadocTagTypes.VERSION);
+
+        /* 検証の準備 */
+        final List<JavadocTagModel> actualTagList = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertNotNull(actualTagList, "nullでないこと");
+        Assertions.assertTrue(actualTagList.isEmpty(), "存在しないタグで空のリストが返されること");
+
+    }
+
+    /**
+     * findAllByTag メソッドのテスト - 準正常系:nullのタグでの検索
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testFindAllByTag_semiNullTag() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String testSourceJavadoc = "/**\n * テストクラス\n * @author KenichiroArai\n */";
+        this.testTarget = new JavadocTagsModelImpl(testSourceJavadoc);
+
+        /* テスト対象の実行 */
+        final List<JavadocTagModel> testResult = this.testTarget.findAllByTag(null);
+
+        /* 検証の準備 */
+        final List<JavadocTagModel> actualTagList = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualTagList.isEmpty(), "nullのタグで空のリストが返されること");
+
+    }
+
     /**
      * findByTag メソッドのテスト - 正常系:空のタグリストでの検索
      *
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import kmg.tool.base.jdts.application.model.JdtsBlockModel;
 import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
 import kmg.tool.base.jdts.application.model.JdtsLocationConfigModel;
 import kmg.tool.base.jdts.application.model.JdtsTagConfigModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsVersionCacheModelImpl;
 import kmg.tool.base.jdts.application.types.JdtsInsertPositionTypes;
 import kmg.tool.base.jdts.application.types.JdtsOverwriteTypes;
 
@@ -35,7 +37,7 @@ import kmg.tool.base.jdts.application.types.JdtsOverwriteTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.0
+ * @version 0.2.8
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -118,12 +120,16 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
      * テスト前処理<br>
      *
      * @since 0.2.0
+     *
+     * @throws Exception
+     *                   リフレクション操作で発生する可能性のある例外
      */
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws Exception {
 
         this.testTarget = new JdtsBlockReplLogicImpl();
         this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        this.reflectionModel.set("jdtsVersionCacheModel", new JdtsVersionCacheModelImpl());
 
     }
 
@@ -148,6 +154,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.RETURN);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("戻り値");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @return 戻り値");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -192,6 +199,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.PARAM);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("param");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("パラメータ");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @param param パラメータ");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -234,6 +242,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.SINCE);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("1.0.0");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @since 1.0.0");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.BEGINNING);
 
         // リフレクションでフィールドを設定
@@ -274,6 +283,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.THROWS);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("Exception");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("例外");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @throws Exception 例外");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.BEGINNING);
 
         // リフレクションでフィールドを設定
@@ -314,6 +324,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.SINCE);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("1.0.0");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @since 1.0.0");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.BEGINNING);
 
         // リフレクションでフィールドを設定
@@ -356,6 +367,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.AUTHOR);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("Test Author");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @author Test Author");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -400,6 +412,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.PARAM);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("testParam");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("テストパラメータ");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @param testParam テストパラメータ");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -444,6 +457,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.SINCE);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("2.0.0");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @since 2.0.0");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -487,6 +501,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.VERSION);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("2.0.0");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @version 2.0.0");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -527,6 +542,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.VERSION);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("3.0.0");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @version 3.0.0");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -566,6 +582,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.SINCE);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("1.0.0");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @since 1.0.0");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.END);
 
         // リフレクションでフィールドを設定
@@ -606,6 +623,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.THROWS);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("Exception");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("例外");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @throws Exception 例外");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.END);
 
         // リフレクションでフィールドを設定
@@ -647,6 +665,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.PARAM);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("testParam");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("テストパラメータ");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @param testParam テストパラメータ");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -687,6 +706,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.PARAM);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("param");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("パラメータ");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @param param パラメータ");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -726,6 +746,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.SINCE);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("1.0.0");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @since 1.0.0");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.NONE);
 
         // リフレクションでフィールドを設定
@@ -766,6 +787,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.THROWS);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("Exception");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("例外");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @throws Exception 例外");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.NONE);
 
         // リフレクションでフィールドを設定
@@ -807,6 +829,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.RETURN);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("戻り値");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @return 戻り値");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -847,6 +870,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.RETURN);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("戻り値の説明");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @return 戻り値の説明");
 
         // リフレクションでフィールドを設定
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -886,6 +910,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.SINCE);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("1.0.0");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @since 1.0.0");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.PRESERVE);
 
         // リフレクションでフィールドを設定
@@ -926,6 +951,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.THROWS);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("Exception");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("例外");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @throws Exception 例外");
         Mockito.when(this.mockTagConfigModel.getInsertPosition()).thenReturn(JdtsInsertPositionTypes.PRESERVE);
 
         // リフレクションでフィールドを設定
@@ -965,6 +991,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.AUTHOR);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("TestAuthor");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("TestDescription");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @author TestAuthor TestDescription");
 
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
 
@@ -1474,6 +1501,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.AUTHOR);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("NewAuthor");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("Description");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @author NewAuthor Description");
 
         this.reflectionModel.set("currentSrcJavadocTag", this.mockJavadocTagModel);
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -1545,6 +1573,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.AUTHOR);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("TestAuthor");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @author TestAuthor");
         Mockito.when(this.mockJavadocTagModel.getTargetStr()).thenReturn(testTargetStr);
 
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -1582,6 +1611,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.AUTHOR);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("TestAuthor");
         Mockito.when(this.mockTagConfigModel.getTagDescription()).thenReturn("");
+        Mockito.when(this.mockTagConfigModel.getTagContent()).thenReturn("* @author TestAuthor");
         Mockito.when(this.mockJavadocTagModel.getTargetStr()).thenReturn(testTargetStr);
 
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
@@ -1791,6 +1821,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getOverwrite()).thenReturn(JdtsOverwriteTypes.IF_LOWER);
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.VERSION);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("1.0.0");
+        Mockito.when(this.mockTagConfigModel.getTagVersion()).thenReturn(new ComparableVersion("1.0.0"));
         Mockito.when(this.mockJavadocTagModel.getValue()).thenReturn("2.0.0");
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
         this.reflectionModel.set("currentSrcJavadocTag", this.mockJavadocTagModel);
@@ -1823,6 +1854,7 @@ public class JdtsBlockReplLogicImplTest extends AbstractKmgTest {
         Mockito.when(this.mockTagConfigModel.getOverwrite()).thenReturn(JdtsOverwriteTypes.IF_LOWER);
         Mockito.when(this.mockTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.VERSION);
         Mockito.when(this.mockTagConfigModel.getTagValue()).thenReturn("2.0.0");
+        Mockito.when(this.mockTagConfigModel.getTagVersion()).thenReturn(new ComparableVersion("2.0.0"));
         Mockito.when(this.mockJavadocTagModel.getValue()).thenReturn("1.0.0");
         this.reflectionModel.set("currentTagConfigModel", this.mockTagConfigModel);
         this.reflectionModel.set("currentSrcJavadocTag", this.mockJavadocTagModel);
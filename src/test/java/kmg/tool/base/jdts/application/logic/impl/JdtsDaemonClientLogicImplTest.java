@@ -0,0 +1,105 @@
+package kmg.tool.base.jdts.application.logic.impl;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsDaemonRequestModelImpl;
+
+/**
+ * Javadocタグ設定の常駐プロセスのクライアントロジック実装のテスト<br>
+ * <p>
+ * 常駐プロセスとの要求と応答は、常駐プロセスサービス実装のテストで検証する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class JdtsDaemonClientLogicImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト用の一時ディレクトリ
+     *
+     * @since 0.2.8
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.8
+     */
+    private JdtsDaemonClientLogicImpl testTarget;
+
+    /**
+     * テスト前処理<br>
+     *
+     * @since 0.2.8
+     */
+    @BeforeEach
+    public void setUp() {
+
+        this.testTarget = new JdtsDaemonClientLogicImpl();
+
+    }
+
+    /**
+     * request メソッドのテスト - 異常系：常駐プロセスが開始していない場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testRequest_errorDaemonNotStarted() {
+
+        /* 期待値の定義 */
+        final KmgToolBaseGenMsgTypes expectedMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13014;
+
+        /* 準備 */
+        final Path                   socketPath = this.tempDir.resolve("jdts.sock");
+        final JdtsDaemonRequestModel request    = new JdtsDaemonRequestModelImpl(
+            this.tempDir.resolve("definition.yml"), List.of(this.tempDir.resolve("TestClass.java")), (short) 1);
+
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException = Assertions.assertThrows(KmgToolBaseMsgException.class,
+                () -> this.testTarget.request(socketPath, request));
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "常駐プロセスとの通信失敗のメッセージタイプであること");
+
+        }
+
+    }
+
+}
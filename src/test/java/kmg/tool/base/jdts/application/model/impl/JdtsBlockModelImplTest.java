@@ -1,7 +1,7 @@
 package kmg.tool.base.jdts.application.model.impl;
 
+import java.nio.CharBuffer;
 import java.util.List;
-import java.util.UUID;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +19,7 @@ import kmg.tool.base.jdoc.domain.model.JavadocModel;
  *
  * @since 0.2.0
  *
- * @version 0.2.2
+ * @version 0.2.8
  */
 @SuppressWarnings({
     "nls",
@@ -131,480 +131,157 @@ public class JdtsBlockModelImplTest extends AbstractKmgTest {
     }
 
     /**
-     * getId メソッドのテスト - 正常系:一意な識別子取得
+     * getId メソッドのテスト - 正常系:識別子を指定しない場合
      *
-     * @since 0.2.0
-     */
-    @Test
-    public void testGetId_normalUniqueId() {
-
-        /* 期待値の定義 */
-        // UUIDは動的に生成されるため、nullでないことと他のインスタンスと異なることを検証
-
-        /* 準備 */
-        final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
-        this.testTarget = new JdtsBlockModelImpl(testBlock);
-        final JdtsBlockModelImpl testTarget2 = new JdtsBlockModelImpl(testBlock);
-
-        /* テスト対象の実行 */
-        final UUID testResult  = this.testTarget.getId();
-        final UUID testResult2 = testTarget2.getId();
-
-        /* 検証の準備 */
-        final UUID actualId  = testResult;
-        final UUID actualId2 = testResult2;
-
-        /* 検証の実施 */
-        Assertions.assertNotNull(actualId, "識別子がnullでないこと");
-        Assertions.assertNotEquals(actualId, actualId2, "異なるインスタンスでは異なる識別子が生成されること");
-
-    }
-
-    /**
-     * getJavadocModel メソッドのテスト - 正常系:初期状態でのnull取得
-     *
-     * @since 0.2.0
-     */
-    @Test
-    public void testGetJavadocModel_normalInitialNull() {
-
-        /* 期待値の定義 */
-
-        /* 準備 */
-        final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
-        this.testTarget = new JdtsBlockModelImpl(testBlock);
-
-        /* テスト対象の実行 */
-        final JavadocModel testResult = this.testTarget.getJavadocModel();
-
-        /* 検証の準備 */
-        final JavadocModel actualJavadocModel = testResult;
-
-        /* 検証の実施 */
-        Assertions.assertNull(actualJavadocModel, "初期状態ではJavadocモデルがnullであること");
-
-    }
-
-    /**
-     * getOrgBlock メソッドのテスト - 正常系:オリジナルブロック取得
-     *
-     * @since 0.2.0
+     * @since 0.2.8
      */
     @Test
-    public void testGetOrgBlock_normalReturnOriginalBlock() {
+    public void testGetId_normalDefault() {
 
         /* 期待値の定義 */
-        final String expectedOrgBlock = "/** テストJavadoc */\npublic class TestClass {";
+        final int expectedId = 0;
 
         /* 準備 */
         final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
         this.testTarget = new JdtsBlockModelImpl(testBlock);
 
         /* テスト対象の実行 */
-        final String testResult = this.testTarget.getOrgBlock();
+        final int testResult = this.testTarget.getId();
 
         /* 検証の準備 */
-        final String actualOrgBlock = testResult;
+        final int actualId = testResult;
 
         /* 検証の実施 */
-        Assertions.assertEquals(expectedOrgBlock, actualOrgBlock, "オリジナルブロックが正しく返されること");
+        Assertions.assertEquals(expectedId, actualId, "識別子が0であること");
 
     }
 
     /**
-     * isJavadocInString メソッドのテスト - 正常系:ダブルクォートがあるがすべてのチェックがfalseの場合
+     * getId メソッドのテスト - 正常系:識別子を指定した場合
      *
-     * @since 0.2.0
-     *
-     * @throws Exception
-     *                   リフレクション操作で発生する可能性のある例外
+     * @since 0.2.8
      */
     @Test
-    public void testIsJavadocInString_normalAllChecksFalse() throws Exception {
+    public void testGetId_normalSpecified() {
 
         /* 期待値の定義 */
-        final boolean expectedResult = false;
+        final int expectedId = 3;
 
         /* 準備 */
         final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
-        this.testTarget = new JdtsBlockModelImpl(testBlock);
-        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
-
-        // モック用のサブクラスを作成
-        final JdtsBlockModelImpl mockTarget = new JdtsBlockModelImpl(testBlock) {
-
-            /**
-             * 通常の文字列が終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false
-             */
-            @Override
-            protected boolean isNormalStringEnd(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-
-            /**
-             * テキストブロックが終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false
-             */
-            @Override
-            protected boolean isTextBlockEnd(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-
-            /**
-             * セミコロン後にテキストブロックが終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false
-             */
-            @Override
-            protected boolean isTextBlockEndWithSemicolon(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-        };
-
-        final KmgReflectionModelImpl mockReflectionModel = new KmgReflectionModelImpl(mockTarget);
+        this.testTarget = new JdtsBlockModelImpl(testBlock, 0, expectedId);
 
         /* テスト対象の実行 */
-        final boolean testResult = (Boolean) mockReflectionModel.getMethod("isJavadocInString", "\"test\"");
+        final int testResult = this.testTarget.getId();
 
         /* 検証の準備 */
-        final boolean actualResult = testResult;
+        final int actualId = testResult;
 
         /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "すべてのチェックがfalseの場合はfalseが返されること");
+        Assertions.assertEquals(expectedId, actualId, "指定した識別子が返されること");
 
     }
 
     /**
-     * isJavadocInString メソッドのテスト - 正常系:isNormalStringEndがtrueを返す場合
-     *
-     * @since 0.2.0
-     *
-     * @throws Exception
-     *                   リフレクション操作で発生する可能性のある例外
-     */
-    @Test
-    public void testIsJavadocInString_normalIsNormalStringEndTrue() throws Exception {
-
-        /* 期待値の定義 */
-        final boolean expectedResult = true;
-
-        /* 準備 */
-        final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
-        this.testTarget = new JdtsBlockModelImpl(testBlock);
-        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
-
-        // モック用のサブクラスを作成
-        final JdtsBlockModelImpl mockTarget = new JdtsBlockModelImpl(testBlock) {
-
-            /**
-             * 通常の文字列が終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return true
-             */
-            @Override
-            protected boolean isNormalStringEnd(final String currentPart) {
-
-                final boolean result = true;
-                return result;
-
-            }
-
-            /**
-             * テキストブロックが終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false
-             */
-            @Override
-            protected boolean isTextBlockEnd(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-
-            /**
-             * セミコロン後にテキストブロックが終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false
-             */
-            @Override
-            protected boolean isTextBlockEndWithSemicolon(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-        };
-
-        final KmgReflectionModelImpl mockReflectionModel = new KmgReflectionModelImpl(mockTarget);
-
-        /* テスト対象の実行 */
-        final boolean testResult = (Boolean) mockReflectionModel.getMethod("isJavadocInString", "\"test\"");
-
-        /* 検証の準備 */
-        final boolean actualResult = testResult;
-
-        /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "isNormalStringEndがtrueの場合はtrueが返されること");
-
-    }
-
-    /**
-     * isJavadocInString メソッドのテスト - 正常系:isTextBlockEndがtrueを返す場合
+     * getJavadocModel メソッドのテスト - 正常系:初期状態でのnull取得
      *
      * @since 0.2.0
-     *
-     * @throws Exception
-     *                   リフレクション操作で発生する可能性のある例外
      */
     @Test
-    public void testIsJavadocInString_normalIsTextBlockEndTrue() throws Exception {
+    public void testGetJavadocModel_normalInitialNull() {
 
         /* 期待値の定義 */
-        final boolean expectedResult = true;
 
         /* 準備 */
         final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
         this.testTarget = new JdtsBlockModelImpl(testBlock);
-        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
-
-        // モック用のサブクラスを作成
-        final JdtsBlockModelImpl mockTarget = new JdtsBlockModelImpl(testBlock) {
-
-            /**
-             * 通常の文字列が終了しているかを判定する。
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false 常にfalseを返す
-             */
-            @Override
-            protected boolean isNormalStringEnd(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-
-            /**
-             * テキストブロックが終了しているかを判定する。
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return true 常にtrueを返す
-             */
-            @Override
-            protected boolean isTextBlockEnd(final String currentPart) {
-
-                final boolean result = true;
-                return result;
-
-            }
-
-            /**
-             * セミコロンでテキストブロックが終了しているかを判定する。
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false 常にfalseを返す
-             */
-            @Override
-            protected boolean isTextBlockEndWithSemicolon(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-        };
-
-        final KmgReflectionModelImpl mockReflectionModel = new KmgReflectionModelImpl(mockTarget);
 
         /* テスト対象の実行 */
-        final boolean testResult = (Boolean) mockReflectionModel.getMethod("isJavadocInString", "\"test\"");
+        final JavadocModel testResult = this.testTarget.getJavadocModel();
 
         /* 検証の準備 */
-        final boolean actualResult = testResult;
+        final JavadocModel actualJavadocModel = testResult;
 
         /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "isTextBlockEndがtrueの場合はtrueが返されること");
+        Assertions.assertNull(actualJavadocModel, "初期状態ではJavadocモデルがnullであること");
 
     }
 
     /**
-     * isJavadocInString メソッドのテスト - 正常系:isTextBlockEndWithSemicolonがtrueを返す場合
+     * getOrgBlock メソッドのテスト - 正常系:オリジナルブロック取得
      *
      * @since 0.2.0
-     *
-     * @throws Exception
-     *                   リフレクション操作で発生する可能性のある例外
      */
     @Test
-    public void testIsJavadocInString_normalIsTextBlockEndWithSemicolonTrue() throws Exception {
+    public void testGetOrgBlock_normalReturnOriginalBlock() {
 
         /* 期待値の定義 */
-        final boolean expectedResult = true;
+        final String expectedOrgBlock = "/** テストJavadoc */\npublic class TestClass {";
 
         /* 準備 */
         final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
         this.testTarget = new JdtsBlockModelImpl(testBlock);
-        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
-
-        // モック用のサブクラスを作成
-        final JdtsBlockModelImpl mockTarget = new JdtsBlockModelImpl(testBlock) {
-
-            /**
-             * 通常の文字列が終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false 常にfalseを返す
-             */
-            @Override
-            protected boolean isNormalStringEnd(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-
-            /**
-             * テキストブロックが終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return false 常にfalseを返す
-             */
-            @Override
-            protected boolean isTextBlockEnd(final String currentPart) {
-
-                final boolean result = false;
-                return result;
-
-            }
-
-            /**
-             * セミコロン後にテキストブロックが終了しているかをチェックする
-             *
-             * @param currentPart
-             *                    現在の部分文字列
-             *
-             * @return true 常にtrueを返す
-             */
-            @Override
-            protected boolean isTextBlockEndWithSemicolon(final String currentPart) {
-
-                final boolean result = true;
-                return result;
-
-            }
-        };
-
-        final KmgReflectionModelImpl mockReflectionModel = new KmgReflectionModelImpl(mockTarget);
 
         /* テスト対象の実行 */
-        final boolean testResult = (Boolean) mockReflectionModel.getMethod("isJavadocInString", "\"test\"");
+        final String testResult = this.testTarget.getOrgBlock();
 
         /* 検証の準備 */
-        final boolean actualResult = testResult;
+        final String actualOrgBlock = testResult;
 
         /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "isTextBlockEndWithSemicolonがtrueの場合はtrueが返されること");
+        Assertions.assertEquals(expectedOrgBlock, actualOrgBlock, "オリジナルブロックが正しく返されること");
 
     }
 
     /**
-     * isJavadocInString メソッドのテスト - 正常系:ダブルクォートがない場合
-     *
-     * @since 0.2.0
+     * getOrgBlockStartIdx メソッドのテスト - 正常系:開始位置を指定しない場合
      *
-     * @throws Exception
-     *                   リフレクション操作で発生する可能性のある例外
+     * @since 0.2.8
      */
     @Test
-    public void testIsJavadocInString_normalNoDoubleQuote() throws Exception {
+    public void testGetOrgBlockStartIdx_normalDefault() {
 
         /* 期待値の定義 */
-        final boolean expectedResult = false;
+        final int expectedOrgBlockStartIdx = 0;
 
         /* 準備 */
-        final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
+        final String testBlock = "テストJavadoc */\npublic class TestClass {";
         this.testTarget = new JdtsBlockModelImpl(testBlock);
-        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
 
         /* テスト対象の実行 */
-        final boolean testResult
-            = (Boolean) this.reflectionModel.getMethod("isJavadocInString", "public class TestClass {");
+        final int testResult = this.testTarget.getOrgBlockStartIdx();
 
         /* 検証の準備 */
-        final boolean actualResult = testResult;
+        final int actualOrgBlockStartIdx = testResult;
 
         /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "ダブルクォートがない場合はfalseが返されること");
+        Assertions.assertEquals(expectedOrgBlockStartIdx, actualOrgBlockStartIdx, "開始位置が0であること");
 
     }
 
     /**
-     * isTextBlockEndWithSemicolon メソッドのテスト - 正常系:セミコロンがない場合
+     * getOrgBlockStartIdx メソッドのテスト - 正常系:開始位置を指定した場合
      *
-     * @since 0.2.2
-     *
-     * @throws Exception
-     *                   リフレクション操作で発生する可能性のある例外
+     * @since 0.2.8
      */
     @Test
-    public void testIsTextBlockEndWithSemicolon_normalNoSemicolon() throws Exception {
+    public void testGetOrgBlockStartIdx_normalSpecified() {
 
         /* 期待値の定義 */
-        final boolean expectedResult = false;
+        final int expectedOrgBlockStartIdx = 12;
 
         /* 準備 */
-        final String testBlock = "/** テストJavadoc */\npublic class TestClass {";
-        this.testTarget = new JdtsBlockModelImpl(testBlock);
-        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        final String testBlock = "テストJavadoc */\npublic class TestClass {";
+        this.testTarget = new JdtsBlockModelImpl(testBlock, expectedOrgBlockStartIdx);
 
         /* テスト対象の実行 */
-        final boolean testResult = (Boolean) this.reflectionModel.getMethod("isTextBlockEndWithSemicolon", "test");
+        final int testResult = this.testTarget.getOrgBlockStartIdx();
 
         /* 検証の準備 */
-        final boolean actualResult = testResult;
+        final int actualOrgBlockStartIdx = testResult;
 
         /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "セミコロンがない場合はfalseが返されること");
+        Assertions.assertEquals(expectedOrgBlockStartIdx, actualOrgBlockStartIdx, "指定した開始位置が返されること");
 
     }
 
@@ -861,24 +538,20 @@ public class JdtsBlockModelImplTest extends AbstractKmgTest {
     }
 
     /**
-     * parse メソッドのテスト - 異常系:Javadocが文字列中にある場合（isNormalStringEndがtrue）
+     * parse メソッドのテスト - 異常系:Javadoc終了記号の直後に空白文字がないブロック
      *
-     * @since 0.2.2
+     * @since 0.2.8
      *
      * @throws Exception
      *                   テスト実行時に発生する可能性のある例外
      */
     @Test
-    public void testParse_abnormalJavadocInStringNormalStringEnd() throws Exception {
+    public void testParse_abnormalJavadocEndWithoutWhitespace() throws Exception {
 
         /* 期待値の定義 */
-        final boolean expectedResult = false;
 
         /* 準備 */
-        // 文字列内にJavadoc終了記号があるケース
-        // コードブロックが「";」で始まるようにする（ダブルクォートで分割した後の部分が「;」で始まる）
-        // JAVADOC_BLOCK_SPLIT_REGEXは「*/\\s+」なので、*/の後に空白が必要
-        final String testBlock = "/** テストJavadoc */ \"; public class TestClass {";
+        final String testBlock = "テストJavadoc */public class TestClass {";
         this.testTarget = new JdtsBlockModelImpl(testBlock);
 
         /* テスト対象の実行 */
@@ -888,69 +561,7 @@ public class JdtsBlockModelImplTest extends AbstractKmgTest {
         final boolean actualResult = testResult;
 
         /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "Javadocが文字列中にある場合は解析が失敗すること");
-
-    }
-
-    /**
-     * parse メソッドのテスト - 異常系:Javadocが文字列中にある場合（isTextBlockEndがtrue）
-     *
-     * @since 0.2.2
-     *
-     * @throws Exception
-     *                   テスト実行時に発生する可能性のある例外
-     */
-    @Test
-    public void testParse_abnormalJavadocInStringTextBlockEnd() throws Exception {
-
-        /* 期待値の定義 */
-        final boolean expectedResult = false;
-
-        /* 準備 */
-        // テキストブロック内にJavadoc終了記号があるケース（複数のダブルクォートの後にセミコロン）
-        // コードブロックが「""";」で始まるようにする
-        final String testBlock = "/** テストJavadoc */ \"\"\"; public class TestClass {";
-        this.testTarget = new JdtsBlockModelImpl(testBlock);
-
-        /* テスト対象の実行 */
-        final boolean testResult = this.testTarget.parse();
-
-        /* 検証の準備 */
-        final boolean actualResult = testResult;
-
-        /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "Javadocがテキストブロック中にある場合は解析が失敗すること");
-
-    }
-
-    /**
-     * parse メソッドのテスト - 異常系:Javadocが文字列中にある場合（isTextBlockEndWithSemicolonがtrue）
-     *
-     * @since 0.2.2
-     *
-     * @throws Exception
-     *                   テスト実行時に発生する可能性のある例外
-     */
-    @Test
-    public void testParse_abnormalJavadocInStringTextBlockEndWithSemicolon() throws Exception {
-
-        /* 期待値の定義 */
-        final boolean expectedResult = false;
-
-        /* 準備 */
-        // セミコロン後にテキストブロックが終了しているケース
-        // コードブロックが「"";」で始まり、セミコロンで分割した最初の部分が「""」で終わる
-        final String testBlock = "/** テストJavadoc */ \"\"; public class TestClass {";
-        this.testTarget = new JdtsBlockModelImpl(testBlock);
-
-        /* テスト対象の実行 */
-        final boolean testResult = this.testTarget.parse();
-
-        /* 検証の準備 */
-        final boolean actualResult = testResult;
-
-        /* 検証の実施 */
-        Assertions.assertEquals(expectedResult, actualResult, "Javadocがセミコロン後のテキストブロック中にある場合は解析が失敗すること");
+        Assertions.assertFalse(actualResult, "Javadoc終了記号の直後に空白文字がないブロックでは解析が失敗すること");
 
     }
 
@@ -1184,6 +795,45 @@ public class JdtsBlockModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * parse メソッドのテスト - 正常系:オリジナルコードの部分列の参照をブロックとする場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   テスト実行時に発生する可能性のある例外
+     */
+    @Test
+    public void testParse_normalCharSequenceView() throws Exception {
+
+        /* 期待値の定義 */
+        final JavaClassificationTypes expectedClassification = JavaClassificationTypes.CLASS;
+        final String                  expectedElementName    = "TestClass";
+        final String                  expectedOrgBlock       = "テストJavadoc */\npublic class TestClass {";
+
+        /* 準備 */
+        final String orgCode  = "package test;\n\n/** " + expectedOrgBlock + "\n}\n";
+        final int    startIdx = orgCode.indexOf(expectedOrgBlock);
+        this.testTarget = new JdtsBlockModelImpl(
+            CharBuffer.wrap(orgCode, startIdx, startIdx + expectedOrgBlock.length()), startIdx);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.parse();
+
+        /* 検証の準備 */
+        final boolean                 actualResult         = testResult;
+        final JavaClassificationTypes actualClassification = this.testTarget.getClassification();
+        final String                  actualElementName    = this.testTarget.getElementName();
+        final String                  actualOrgBlock       = this.testTarget.getOrgBlock();
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "解析が成功すること");
+        Assertions.assertEquals(expectedClassification, actualClassification, "区分がCLASSであること");
+        Assertions.assertEquals(expectedElementName, actualElementName, "要素名が正しく取得されること");
+        Assertions.assertEquals(expectedOrgBlock, actualOrgBlock, "部分列の範囲のみがオリジナルブロックとして返されること");
+
+    }
+
     /**
      * parse メソッドのテスト - 正常系:クラス定義の解析
      *
@@ -1338,6 +988,81 @@ public class JdtsBlockModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * parse メソッドのテスト - 正常系:リテラルと行コメント中の終了文字を宣言部の終了としない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   テスト実行時に発生する可能性のある例外
+     */
+    @Test
+    public void testParse_normalDeclarationHeaderLiteralAndComment() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedCodeBlock
+            = "VALUE(\"{;=\", ')'), // コメント{" + System.lineSeparator() + "OTHER;" + System.lineSeparator();
+
+        /* 準備 */
+        final String testBlock = "/** テストJavadoc */\nVALUE(\"{;=\", ')'), // コメント{\n\nOTHER;\n\nprivate int field = 0;";
+        this.testTarget = new JdtsBlockModelImpl(testBlock);
+        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.parse();
+
+        /* 検証の準備 */
+        final boolean actualResult    = testResult;
+        final String  actualCodeBlock = (String) this.reflectionModel.get("codeBlock");
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "解析が成功すること");
+        Assertions.assertEquals(expectedCodeBlock, actualCodeBlock, "リテラルと行コメントの外の最初の終了文字までが宣言部となること");
+
+    }
+
+    /**
+     * parse メソッドのテスト - 正常系:複数行の引数を持つメソッドの宣言部のみで区分を特定する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   テスト実行時に発生する可能性のある例外
+     */
+    @Test
+    public void testParse_normalDeclarationHeaderMultilineParameters() throws Exception {
+
+        /* 期待値の定義 */
+        final JavaClassificationTypes expectedClassification = JavaClassificationTypes.METHOD;
+        final String                  expectedElementName    = "testMethod";
+        final String                  expectedCodeBlock      = "public String testMethod(" + System.lineSeparator()
+            + "@SuppressWarnings(value = \"nls\") final String value) {" + System.lineSeparator();
+
+        /* 準備 */
+        final String testBlock = "/** テストメソッドのJavadoc */\n    @Override\n    public String testMethod(\r\n"
+            + "        @SuppressWarnings(value = \"nls\") final String value) {\r\n\r\n"
+            + "        final String result = value;\r\n        return result;\r\n\r\n    }\r\n";
+        this.testTarget = new JdtsBlockModelImpl(testBlock);
+        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.parse();
+
+        /* 検証の準備 */
+        final boolean                 actualResult         = testResult;
+        final JavaClassificationTypes actualClassification = this.testTarget.getClassification();
+        final String                  actualElementName    = this.testTarget.getElementName();
+        final String                  actualCodeBlock      = (String) this.reflectionModel.get("codeBlock");
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "解析が成功すること");
+        Assertions.assertEquals(expectedClassification, actualClassification, "区分がMETHODであること");
+        Assertions.assertEquals(expectedElementName, actualElementName, "要素名が正しく取得されること");
+        Assertions.assertEquals(expectedCodeBlock, actualCodeBlock, "括弧の外の最初の「{」までが宣言部となり、メソッドの本体を含まないこと");
+        Assertions.assertEquals(List.of("@Override"), this.testTarget.getAnnotations(), "アノテーションは宣言部に含まれないこと");
+
+    }
+
     /**
      * parse メソッドのテスト - 正常系:無効なクラス定義でもJavadoc対象外として正常処理される
      *
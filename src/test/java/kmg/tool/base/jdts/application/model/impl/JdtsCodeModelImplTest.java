@@ -23,7 +23,7 @@ import kmg.tool.base.jdts.application.model.JdtsBlockModel;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @SuppressWarnings({
     "nls", "static-method",
@@ -394,9 +394,9 @@ public class JdtsCodeModelImplTest extends AbstractKmgTest {
 
         /* 準備 */
         // 「*/」が含まれていないブロックを含むコード
-        // 最初のブロックは対象外（Javadoc終了記号なし）、2番目のブロックは正常
+        // 最初のブロックは正常、2番目のブロックは対象外（Javadoc終了記号なし）
         final String testCode
-            = "/** テストJavadoc1\npublic class Test1 {\n\n/**\n * テストクラス\n */\npublic class TestClass {}";
+            = "/**\n * テストクラス\n */\npublic class TestClass {\n\n/** テストJavadoc2\npublic class Test2 {";
         this.testTarget = new JdtsCodeModelImpl(testCode);
         this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
 
@@ -484,6 +484,126 @@ public class JdtsCodeModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * parse メソッドのテスト - 正常系:コメント中にJavadoc開始記号がある場合
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Test
+    public void testParse_normalJavadocStartInComment() throws KmgToolBaseMsgException {
+
+        /* 期待値の定義 */
+        final int expectedJdtsBlockModelsSize = 1;
+
+        /* 準備 */
+        final String testCode
+            = "/**\n * テストクラス\n */\npublic class TestClass {\n    // /** 行コメント */\n    /* /** ブロックコメント */\n}";
+        this.testTarget = new JdtsCodeModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        this.testTarget.parse();
+
+        /* 検証の準備 */
+        final List<JdtsBlockModel> actualJdtsBlockModels = this.testTarget.getJdtsBlockModels();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedJdtsBlockModelsSize, actualJdtsBlockModels.size(),
+            "コメント中のJavadoc開始記号はJavadocとして扱わないこと");
+
+    }
+
+    /**
+     * parse メソッドのテスト - 正常系:Javadoc中にJavadoc開始記号がある場合
+     * <p>
+     * Javadocは最初の「*&#47;」で終了するため、Javadoc中の「/**」は新しいJavadocとして扱わない。
+     * </p>
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Test
+    public void testParse_normalJavadocStartInJavadoc() throws KmgToolBaseMsgException {
+
+        /* 期待値の定義 */
+        final int    expectedJdtsBlockModelsSize = 1;
+        final String expectedElementName         = "TestClass";
+
+        /* 準備 */
+        final String testCode
+            = "/** テストJavadoc1\npublic class Test1 {\n\n/**\n * テストクラス\n */\npublic class TestClass {}";
+        this.testTarget = new JdtsCodeModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        this.testTarget.parse();
+
+        /* 検証の準備 */
+        final List<JdtsBlockModel> actualJdtsBlockModels = this.testTarget.getJdtsBlockModels();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedJdtsBlockModelsSize, actualJdtsBlockModels.size(), "1つのJavadocブロックとして解析されること");
+        Assertions.assertEquals(expectedElementName, actualJdtsBlockModels.get(0).getElementName(),
+            "Javadocの後に続くコードの要素名が特定されること");
+
+    }
+
+    /**
+     * parse メソッドのテスト - 正常系:文字列リテラルとテキストブロック中にJavadoc開始記号がある場合
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Test
+    public void testParse_normalJavadocStartInString() throws KmgToolBaseMsgException {
+
+        /* 期待値の定義 */
+        final int    expectedJdtsBlockModelsSize = 2;
+        final String expectedElementName         = "testMethod";
+
+        /* 準備 */
+        final String testCode = """
+            /**
+             * テストクラス
+             */
+            public class TestClass {
+
+                private static final String STR = " /** 文字列 */ ";
+
+                private static final char CHR = '"';
+
+                private static final String TEXT = \"""
+                     /** テキストブロック */
+                    \""";
+
+                /**
+                 * テストメソッド
+                 */
+                public void testMethod() {
+                }
+            }
+            """;
+        this.testTarget = new JdtsCodeModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        this.testTarget.parse();
+
+        /* 検証の準備 */
+        final List<JdtsBlockModel> actualJdtsBlockModels = this.testTarget.getJdtsBlockModels();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedJdtsBlockModelsSize, actualJdtsBlockModels.size(),
+            "文字列リテラルとテキストブロック中のJavadoc開始記号はJavadocとして扱わないこと");
+        Assertions.assertEquals(expectedElementName, actualJdtsBlockModels.get(1).getElementName(),
+            "文字列の後のJavadocが解析されること");
+
+    }
+
     /**
      * parse メソッドのテスト - 正常系:Javadocブロック開始記号のみの解析
      *
@@ -576,6 +696,77 @@ public class JdtsCodeModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * parse メソッドのテスト - 正常系:Javadocブロックの開始位置の記録
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Test
+    public void testParse_normalMultipleJavadocBlocksStartIdx() throws KmgToolBaseMsgException {
+
+        /* 期待値の定義 */
+        final String testCode
+            = "/**\n * テストクラス\n */\npublic class TestClass {\n\n    /**\n     * テストメソッド\n     */\n    public void testMethod() {\n    }\n}";
+        final int    expectedFirstStartIdx  = testCode.indexOf("* テストクラス");
+        final int    expectedSecondStartIdx = testCode.indexOf("* テストメソッド");
+
+        /* 準備 */
+        this.testTarget = new JdtsCodeModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        this.testTarget.parse();
+
+        /* 検証の準備 */
+        final List<JdtsBlockModel> actualJdtsBlockModels = this.testTarget.getJdtsBlockModels();
+        final int                  actualFirstStartIdx   = actualJdtsBlockModels.get(0).getOrgBlockStartIdx();
+        final int                  actualSecondStartIdx  = actualJdtsBlockModels.get(1).getOrgBlockStartIdx();
+        final String               actualFirstJavadoc    = actualJdtsBlockModels.get(0).getJavadocModel().getSrcJavadoc();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedFirstStartIdx, actualFirstStartIdx, "1つ目のブロックの開始位置が記録されること");
+        Assertions.assertEquals(expectedSecondStartIdx, actualSecondStartIdx, "2つ目のブロックの開始位置が記録されること");
+        Assertions.assertTrue(testCode.startsWith(actualFirstJavadoc, actualFirstStartIdx),
+            "開始位置からJavadocが始まること");
+
+    }
+
+    /**
+     * parse メソッドのテスト - 正常系:Javadocブロックの識別子をブロックの順番とする
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     */
+    @Test
+    public void testParse_normalMultipleJavadocBlocksSequentialId() throws KmgToolBaseMsgException {
+
+        /* 期待値の定義 */
+        final int expectedFirstId  = 0;
+        final int expectedSecondId = 1;
+
+        /* 準備 */
+        final String testCode
+            = "/**\n * テストクラス\n */\npublic class TestClass {\n\n    /**\n     * テストメソッド\n     */\n    public void testMethod() {\n    }\n}";
+        this.testTarget = new JdtsCodeModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        this.testTarget.parse();
+
+        /* 検証の準備 */
+        final List<JdtsBlockModel> actualJdtsBlockModels = this.testTarget.getJdtsBlockModels();
+        final int                  actualFirstId         = actualJdtsBlockModels.get(0).getId();
+        final int                  actualSecondId        = actualJdtsBlockModels.get(1).getId();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedFirstId, actualFirstId, "1つ目のブロックの識別子が0であること");
+        Assertions.assertEquals(expectedSecondId, actualSecondId, "2つ目のブロックの識別子が1であること");
+
+    }
+
     /**
      * parse メソッドのテスト - 正常系:Javadocブロックなしの解析
      *
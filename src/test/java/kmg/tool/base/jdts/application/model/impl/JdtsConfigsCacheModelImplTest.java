@@ -0,0 +1,425 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsTagConfigModel;
+import kmg.tool.base.jdts.application.types.JdtsConfigKeyTypes;
+import kmg.tool.base.jdts.application.types.JdtsInsertPositionTypes;
+import kmg.tool.base.jdts.application.types.JdtsLocationModeTypes;
+import kmg.tool.base.jdts.application.types.JdtsOverwriteTypes;
+
+/**
+ * Javadocタグ設定の構成キャッシュモデル実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class JdtsConfigsCacheModelImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト用の一時ディレクトリ
+     *
+     * @since 0.2.8
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト用の定義ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path definitionPath;
+
+    /**
+     * テスト用の構成キャッシュファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path cachePath;
+
+    /**
+     * テスト前処理<br>
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.definitionPath = this.tempDir.resolve("definition.yml");
+        Files.writeString(this.definitionPath, "JdtsConfigs: []");
+
+        this.cachePath = this.tempDir.resolve("cache").resolve(".jdts-configs-cache");
+
+    }
+
+    /**
+     * load メソッドのテスト - 異常系：定義ファイルが存在しない場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testLoad_errorDefinitionNotFound() {
+
+        /* 期待値の定義 */
+        final KmgToolBaseGenMsgTypes expectedMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13003;
+
+        /* 準備 */
+        final JdtsConfigsCacheModelImpl testTarget = new JdtsConfigsCacheModelImpl(this.cachePath);
+        final Path                      notFound   = this.tempDir.resolve("notFound.yml");
+
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> testTarget.load(notFound));
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "定義ファイルの読み込み失敗のメッセージタイプであること");
+
+        }
+
+    }
+
+    /**
+     * load メソッドのテスト - 正常系：構成キャッシュファイルから復元する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_normalRestoreFromCache() throws Exception {
+
+        /* 期待値の定義 */
+        final JdtsConfigsModel expectedConfigsModel = JdtsConfigsCacheModelImplTest.createConfigsModel();
+
+        /* 準備 */
+        final JdtsConfigsCacheModelImpl saveModel = new JdtsConfigsCacheModelImpl(this.cachePath);
+        saveModel.load(this.definitionPath);
+        saveModel.save(expectedConfigsModel);
+
+        final JdtsConfigsCacheModelImpl testTarget = new JdtsConfigsCacheModelImpl(this.cachePath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.load(this.definitionPath);
+
+        /* 検証の準備 */
+        final List<JdtsTagConfigModel> expectedTagConfigModels = expectedConfigsModel.getJdaTagConfigModels();
+        final List<JdtsTagConfigModel> actualTagConfigModels
+            = testTarget.getJdtsConfigsModel().getJdaTagConfigModels();
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "構成キャッシュファイルから復元したことを返すこと");
+        Assertions.assertEquals(expectedTagConfigModels.size(), actualTagConfigModels.size(), "タグ構成数が一致すること");
+
+        for (int i = 0; i < expectedTagConfigModels.size(); i++) {
+
+            final JdtsTagConfigModel expected = expectedTagConfigModels.get(i);
+            final JdtsTagConfigModel actual   = actualTagConfigModels.get(i);
+
+            Assertions.assertEquals(expected.getTag(), actual.getTag(), "タグが一致すること");
+            Assertions.assertEquals(expected.getTagValue(), actual.getTagValue(), "タグの指定値が一致すること");
+            Assertions.assertEquals(expected.getTagContent(), actual.getTagContent(), "タグの内容が一致すること");
+            Assertions.assertEquals(expected.getInsertPosition(), actual.getInsertPosition(), "挿入位置が一致すること");
+            Assertions.assertEquals(expected.getOverwrite(), actual.getOverwrite(), "上書き設定が一致すること");
+            Assertions.assertEquals(expected.getLocation().getMode(), actual.getLocation().getMode(), "配置方法が一致すること");
+            Assertions.assertEquals(expected.getLocation().isRemoveIfMisplaced(),
+                actual.getLocation().isRemoveIfMisplaced(), "誤配置時に削除するかどうかが一致すること");
+
+        }
+
+    }
+
+    /**
+     * load メソッドのテスト - 準正常系：定義ファイルが変更された場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_semiDefinitionChanged() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsConfigsCacheModelImpl saveModel = new JdtsConfigsCacheModelImpl(this.cachePath);
+        saveModel.load(this.definitionPath);
+        saveModel.save(JdtsConfigsCacheModelImplTest.createConfigsModel());
+
+        Files.writeString(this.definitionPath, "JdtsConfigs: [] # 変更");
+
+        final JdtsConfigsCacheModelImpl testTarget = new JdtsConfigsCacheModelImpl(this.cachePath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.load(this.definitionPath);
+
+        /* 検証の準備 */
+        final JdtsConfigsModel actualConfigsModel = testTarget.getJdtsConfigsModel();
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "定義ファイルが変更された場合は復元しないこと");
+        Assertions.assertNull(actualConfigsModel, "構成モデルが返されないこと");
+
+    }
+
+    /**
+     * load メソッドのテスト - 準正常系：構成キャッシュファイルの形式が正しくない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_semiInvalidCache() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        Files.createDirectories(this.cachePath.getParent());
+        Files.writeString(this.cachePath, "not-a-cache");
+
+        final JdtsConfigsCacheModelImpl testTarget = new JdtsConfigsCacheModelImpl(this.cachePath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.load(this.definitionPath);
+
+        /* 検証の準備 */
+        final JdtsConfigsModel actualConfigsModel = testTarget.getJdtsConfigsModel();
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "形式が正しくない場合はエラーとせずに復元しないこと");
+        Assertions.assertNull(actualConfigsModel, "構成モデルが返されないこと");
+
+    }
+
+    /**
+     * load メソッドのテスト - 準正常系：構成キャッシュファイルが存在しない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_semiNoCache() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsConfigsCacheModelImpl testTarget = new JdtsConfigsCacheModelImpl(this.cachePath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.load(this.definitionPath);
+
+        /* 検証の準備 */
+        final String actualDefinitionHash = testTarget.getDefinitionHash();
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "構成キャッシュファイルがない場合は復元しないこと");
+        Assertions.assertNotNull(actualDefinitionHash, "定義ファイルのハッシュ値が算出されること");
+
+    }
+
+    /**
+     * load メソッドのテスト - 準正常系：タグ構成数が上限を超える場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_semiTooManyTagConfigs() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsConfigsCacheModelImpl testTarget = new JdtsConfigsCacheModelImpl(this.cachePath);
+        testTarget.load(this.definitionPath);
+        Files.createDirectories(this.cachePath.getParent());
+
+        // 識別子、形式のバージョン、定義ファイルのハッシュ値が正しく、タグ構成数が壊れた構成キャッシュファイル
+        try (final DataOutputStream output = new DataOutputStream(Files.newOutputStream(this.cachePath))) {
+
+            output.writeUTF("#jdts-configs-cache");
+            output.writeInt(1);
+            output.writeUTF(testTarget.getDefinitionHash());
+            output.writeInt(Integer.MAX_VALUE);
+
+        }
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.load(this.definitionPath);
+
+        /* 検証の準備 */
+        final JdtsConfigsModel actualConfigsModel = testTarget.getJdtsConfigsModel();
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "タグ構成数が上限を超える場合はエラーとせずに復元しないこと");
+        Assertions.assertNull(actualConfigsModel, "構成モデルが返されないこと");
+
+    }
+
+    /**
+     * save メソッドのテスト - 正常系：既存の構成キャッシュファイルを置き換える場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testSave_normalReplaceCache() throws Exception {
+
+        /* 期待値の定義 */
+        final long expectedFileCount = 1L;
+
+        /* 準備 */
+        Files.createDirectories(this.cachePath.getParent());
+        Files.writeString(this.cachePath, "old-cache");
+
+        final JdtsConfigsCacheModelImpl testTarget = new JdtsConfigsCacheModelImpl(this.cachePath);
+        testTarget.load(this.definitionPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.save(JdtsConfigsCacheModelImplTest.createConfigsModel());
+
+        /* 検証の準備 */
+        final boolean actualRestored = new JdtsConfigsCacheModelImpl(this.cachePath).load(this.definitionPath);
+        final long    actualFileCount;
+
+        try (final Stream<Path> stream = Files.list(this.cachePath.getParent())) {
+
+            actualFileCount = stream.count();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "保存したことを返すこと");
+        Assertions.assertTrue(actualRestored, "置き換えた構成キャッシュファイルから復元できること");
+        Assertions.assertEquals(expectedFileCount, actualFileCount, "一時ファイルが残らないこと");
+
+    }
+
+    /**
+     * save メソッドのテスト - 準正常系：定義ファイルを読み込んでいない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testSave_semiNotLoaded() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsConfigsCacheModelImpl testTarget = new JdtsConfigsCacheModelImpl(this.cachePath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.save(JdtsConfigsCacheModelImplTest.createConfigsModel());
+
+        /* 検証の準備 */
+        final boolean actualExists = Files.exists(this.cachePath);
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "定義ファイルを読み込んでいない場合は保存しないこと");
+        Assertions.assertFalse(actualExists, "構成キャッシュファイルが作成されないこと");
+
+    }
+
+    /**
+     * テスト用のJavadocタグ設定の構成モデルを作成する
+     *
+     * @since 0.2.8
+     *
+     * @return Javadocタグ設定の構成モデル
+     *
+     * @throws Exception
+     *                   例外
+     */
+    private static JdtsConfigsModel createConfigsModel() throws Exception {
+
+        final List<Map<String, Object>> configs = new ArrayList<>();
+
+        final Map<String, Object> tagConfig1 = new HashMap<>();
+        tagConfig1.put(JdtsConfigKeyTypes.TAG_NAME.get(), "@author");
+        tagConfig1.put(JdtsConfigKeyTypes.TAG_VALUE.get(), "KenichiroArai");
+        tagConfig1.put(JdtsConfigKeyTypes.INSERT_POSITION.get(), JdtsInsertPositionTypes.BEGINNING.get());
+        tagConfig1.put(JdtsConfigKeyTypes.OVERWRITE.get(), JdtsOverwriteTypes.ALWAYS.get());
+
+        final Map<String, Object> locationMap1 = new HashMap<>();
+        locationMap1.put(JdtsConfigKeyTypes.MODE.get(), JdtsLocationModeTypes.COMPLIANT.get());
+        locationMap1.put(JdtsConfigKeyTypes.REMOVE_IF_MISPLACED.get(), "true");
+        tagConfig1.put(JdtsConfigKeyTypes.LOCATION.get(), locationMap1);
+
+        final Map<String, Object> tagConfig2 = new HashMap<>();
+        tagConfig2.put(JdtsConfigKeyTypes.TAG_NAME.get(), "@since");
+        tagConfig2.put(JdtsConfigKeyTypes.TAG_VALUE.get(), "0.2.8");
+        tagConfig2.put(JdtsConfigKeyTypes.TAG_DESCRIPTION.get(), "説明");
+        tagConfig2.put(JdtsConfigKeyTypes.INSERT_POSITION.get(), JdtsInsertPositionTypes.END.get());
+        tagConfig2.put(JdtsConfigKeyTypes.OVERWRITE.get(), JdtsOverwriteTypes.IF_LOWER.get());
+
+        final Map<String, Object> locationMap2 = new HashMap<>();
+        locationMap2.put(JdtsConfigKeyTypes.MODE.get(), JdtsLocationModeTypes.COMPLIANT.get());
+        locationMap2.put(JdtsConfigKeyTypes.REMOVE_IF_MISPLACED.get(), "false");
+        tagConfig2.put(JdtsConfigKeyTypes.LOCATION.get(), locationMap2);
+
+        configs.add(tagConfig1);
+        configs.add(tagConfig2);
+
+        final Map<String, Object> yamlData = new HashMap<>();
+        yamlData.put(JdtsConfigKeyTypes.JDTS_CONFIGS.get(), configs);
+
+        final JdtsConfigsModel result = new JdtsConfigsModelImpl(yamlData);
+        return result;
+
+    }
+
+}
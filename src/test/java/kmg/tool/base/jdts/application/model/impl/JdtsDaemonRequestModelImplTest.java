@@ -0,0 +1,244 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+
+/**
+ * Javadocタグ設定の常駐プロセスへの要求モデル実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls", "static-method",
+})
+public class JdtsDaemonRequestModelImplTest extends AbstractKmgTest {
+
+    /**
+     * read メソッドのテスト - 正常系：書き込んだ要求を読み込む場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRead_normalWrittenRequest() throws Exception {
+
+        /* 期待値の定義 */
+        final Path       expectedDefinitionPath = Path.of("definition.yml").toAbsolutePath();
+        final List<Path> expectedTargetPaths    = List.of(Path.of("src", "A.java").toAbsolutePath(),
+            Path.of("src", "B.java").toAbsolutePath());
+        final short      expectedThreadNum      = 4;
+
+        /* 準備 */
+        final JdtsDaemonRequestModel request      = new JdtsDaemonRequestModelImpl(Path.of("definition.yml"),
+            List.of(Path.of("src", "A.java"), Path.of("src", "B.java")), expectedThreadNum);
+        final StringWriter           stringWriter = new StringWriter();
+
+        try (final BufferedWriter writer = new BufferedWriter(stringWriter)) {
+
+            request.write(writer);
+
+        }
+
+        /* テスト対象の実行 */
+        final JdtsDaemonRequestModel testResult
+            = JdtsDaemonRequestModelImpl.read(new BufferedReader(new StringReader(stringWriter.toString())));
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertNotNull(testResult, "要求が読み込まれること");
+        Assertions.assertEquals(expectedDefinitionPath, testResult.getDefinitionPath(), "定義ファイルの絶対パスが読み込まれること");
+        Assertions.assertEquals(expectedTargetPaths, testResult.getTargetPaths(), "対象ファイルの絶対パスが順番に読み込まれること");
+        Assertions.assertEquals(expectedThreadNum, testResult.getThreadNum(), "スレッド数が読み込まれること");
+
+    }
+
+    /**
+     * read メソッドのテスト - 準正常系：ヘッダ行が一致しない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRead_semiHeaderMismatch() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String input = "#jdts-daemon\t0\ndefinition\t/definition.yml\ntarget\t/A.java\nend\n";
+
+        /* テスト対象の実行 */
+        final JdtsDaemonRequestModel testResult
+            = JdtsDaemonRequestModelImpl.read(new BufferedReader(new StringReader(input)));
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertNull(testResult, "形式のバージョンが異なる要求は受け付けないこと");
+
+    }
+
+    /**
+     * read メソッドのテスト - 準正常系：スレッド数が数値でない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRead_semiInvalidThreadNum() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String input = "#jdts-daemon\t1\ndefinition\t/definition.yml\nthreadNum\tmany\ntarget\t/A.java\nend\n";
+
+        /* テスト対象の実行 */
+        final JdtsDaemonRequestModel testResult
+            = JdtsDaemonRequestModelImpl.read(new BufferedReader(new StringReader(input)));
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertNull(testResult, "値が正しくない要求は受け付けないこと");
+
+    }
+
+    /**
+     * read メソッドのテスト - 準正常系：1行の長さが上限を超える場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRead_semiLineTooLong() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String input = "#jdts-daemon\t1\ndefinition\t/definition.yml\ntarget\t/" + "A".repeat(10_000)
+            + ".java\nend\n";
+
+        /* テスト対象の実行 */
+        final JdtsDaemonRequestModel testResult
+            = JdtsDaemonRequestModelImpl.read(new BufferedReader(new StringReader(input)));
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertNull(testResult, "1行の長さが上限を超える要求は受け付けないこと");
+
+    }
+
+    /**
+     * read メソッドのテスト - 準正常系：終了行の前に入力が終わった場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRead_semiNoEndLine() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String input = "#jdts-daemon\t1\ndefinition\t/definition.yml\ntarget\t/A.java\n";
+
+        /* テスト対象の実行 */
+        final JdtsDaemonRequestModel testResult
+            = JdtsDaemonRequestModelImpl.read(new BufferedReader(new StringReader(input)));
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertNull(testResult, "途中で終わった要求は受け付けないこと");
+
+    }
+
+    /**
+     * read メソッドのテスト - 準正常系：対象ファイルパスがない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRead_semiNoTarget() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String input = "#jdts-daemon\t1\ndefinition\t/definition.yml\nend\n";
+
+        /* テスト対象の実行 */
+        final JdtsDaemonRequestModel testResult
+            = JdtsDaemonRequestModelImpl.read(new BufferedReader(new StringReader(input)));
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertNull(testResult, "対象ファイルパスがない要求は受け付けないこと");
+
+    }
+
+    /**
+     * read メソッドのテスト - 準正常系：要求全体の長さが上限を超える場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRead_semiRequestTooLong() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String        targetLine   = "target\t/" + "A".repeat(4_000) + ".java\n";
+        final StringBuilder inputBuilder = new StringBuilder("#jdts-daemon\t1\ndefinition\t/definition.yml\n");
+
+        for (int i = 0; i < 2_000; i++) {
+
+            inputBuilder.append(targetLine);
+
+        }
+
+        inputBuilder.append("end\n");
+
+        /* テスト対象の実行 */
+        final JdtsDaemonRequestModel testResult
+            = JdtsDaemonRequestModelImpl.read(new BufferedReader(new StringReader(inputBuilder.toString())));
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertNull(testResult, "要求全体の長さが上限を超える要求は受け付けないこと");
+
+    }
+
+}
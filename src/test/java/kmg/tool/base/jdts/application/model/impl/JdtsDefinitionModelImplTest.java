@@ -0,0 +1,152 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+
+/**
+ * Javadocタグ設定の定義モデル実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class JdtsDefinitionModelImplTest extends AbstractKmgTest {
+
+    /**
+     * コンストラクタのテスト - 異常系：対象のパスのパターンが不正な場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testConstructor_errorInvalidPattern() {
+
+        /* 期待値の定義 */
+        final KmgToolBaseGenMsgTypes expectedMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13019;
+
+        /* 準備 */
+        final Path definitionPath = Paths.get("definition.yml");
+
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException = Assertions.assertThrows(KmgToolBaseMsgException.class,
+                () -> new JdtsDefinitionModelImpl(definitionPath, "main/[abc"));
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "対象のパスのパターンが不正のメッセージタイプであること");
+
+        }
+
+    }
+
+    /**
+     * コンストラクタのテスト - 正常系：定義ファイルのパスと対象のパスのパターンを保持する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testConstructor_normalHoldDefinition() throws Exception {
+
+        /* 期待値の定義 */
+        final Path   expectedDefinitionPath = Paths.get("definition.yml");
+        final String expectedPathPattern    = "main/**";
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final JdtsDefinitionModelImpl testTarget
+            = new JdtsDefinitionModelImpl(expectedDefinitionPath, expectedPathPattern);
+
+        /* 検証の準備 */
+        final Path   actualDefinitionPath = testTarget.getDefinitionPath();
+        final String actualPathPattern    = testTarget.getPathPattern();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedDefinitionPath, actualDefinitionPath, "定義ファイルのパスが保持されること");
+        Assertions.assertEquals(expectedPathPattern, actualPathPattern, "対象のパスのパターンが保持されること");
+
+    }
+
+    /**
+     * matches メソッドのテスト - 正常系：対象のパスのパターンに一致する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testMatches_normalMatch() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsDefinitionModelImpl testTarget
+            = new JdtsDefinitionModelImpl(Paths.get("definition.yml"), "src/{main,test}/**");
+
+        /* テスト対象の実行 */
+        final boolean mainResult = testTarget.matches(Paths.get("src", "main", "java", "Sample.java"));
+        final boolean testResult = testTarget.matches(Paths.get("src", "test", "java", "SampleTest.java"));
+
+        /* 検証の実施 */
+        Assertions.assertTrue(mainResult, "パターンに一致するパスの場合はtrueが返されること");
+        Assertions.assertTrue(testResult, "パターンに一致するパスの場合はtrueが返されること");
+
+    }
+
+    /**
+     * matches メソッドのテスト - 準正常系：対象のパスのパターンに一致しない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testMatches_semiNotMatch() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsDefinitionModelImpl testTarget
+            = new JdtsDefinitionModelImpl(Paths.get("definition.yml"), "src/main/**");
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.matches(Paths.get("target", "generated-sources", "Generated.java"));
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "パターンに一致しないパスの場合はfalseが返されること");
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * Javadocタグ設定のファイルごとの処理時間モデル実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class JdtsFileTimingModelImplTest extends AbstractKmgTest {
+
+    /**
+     * コンストラクタのテスト - 正常系：指定した処理時間を保持する場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testConstructor_normalHoldTimings() {
+
+        /* 期待値の定義 */
+        final Path expectedFilePath     = Paths.get("test/Target.java");
+        final long expectedParseNanos   = 100L;
+        final long expectedReplaceNanos = 200L;
+        final long expectedWriteNanos   = 300L;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final JdtsFileTimingModelImpl testTarget = new JdtsFileTimingModelImpl(expectedFilePath, expectedParseNanos,
+            expectedReplaceNanos, expectedWriteNanos);
+
+        /* 検証の準備 */
+        final Path actualFilePath     = testTarget.getFilePath();
+        final long actualParseNanos   = testTarget.getParseNanos();
+        final long actualReplaceNanos = testTarget.getReplaceNanos();
+        final long actualWriteNanos   = testTarget.getWriteNanos();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedFilePath, actualFilePath, "対象のファイルのパスが保持されること");
+        Assertions.assertEquals(expectedParseNanos, actualParseNanos, "解析の処理時間が保持されること");
+        Assertions.assertEquals(expectedReplaceNanos, actualReplaceNanos, "置換の処理時間が保持されること");
+        Assertions.assertEquals(expectedWriteNanos, actualWriteNanos, "書き込みの処理時間が保持されること");
+
+    }
+
+    /**
+     * getTotalNanos メソッドのテスト - 正常系：解析、置換、書き込みの処理時間の合計を返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetTotalNanos_normalSumTimings() {
+
+        /* 期待値の定義 */
+        final long expectedTotalNanos = 600L;
+
+        /* 準備 */
+        final JdtsFileTimingModelImpl testTarget
+            = new JdtsFileTimingModelImpl(Paths.get("test/Target.java"), 100L, 200L, 300L);
+
+        /* テスト対象の実行 */
+        final long testResult = testTarget.getTotalNanos();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTotalNanos, testResult, "処理時間の合計が返されること");
+
+    }
+
+}
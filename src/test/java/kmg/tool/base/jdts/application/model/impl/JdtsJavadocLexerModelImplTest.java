@@ -0,0 +1,408 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * Javadocタグ設定のJavadoc字句解析モデル実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls", "static-method",
+})
+public class JdtsJavadocLexerModelImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.8
+     */
+    private JdtsJavadocLexerModelImpl testTarget;
+
+    /**
+     * テスト前処理<br>
+     *
+     * @since 0.2.8
+     */
+    @BeforeEach
+    public void setUp() {
+
+        /* テスト対象のクリア */
+        this.testTarget = null;
+
+    }
+
+    /**
+     * constructor メソッドのテスト - 正常系:初期状態
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testConstructor_normalInitialState() {
+
+        /* 期待値の定義 */
+        final int expectedIdx = -1;
+
+        /* 準備 */
+        final String testCode = "/** テスト */\nclass Test {}";
+
+        /* テスト対象の実行 */
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* 検証の準備 */
+        final int actualJavadocStartIdx = this.testTarget.getJavadocStartIdx();
+        final int actualBlockStartIdx   = this.testTarget.getBlockStartIdx();
+        final int actualJavadocEndIdx   = this.testTarget.getJavadocEndIdx();
+        final int actualCodeEndIdx      = this.testTarget.getCodeEndIdx();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedIdx, actualJavadocStartIdx, "Javadocの開始位置が未設定であること");
+        Assertions.assertEquals(expectedIdx, actualBlockStartIdx, "ブロックの開始位置が未設定であること");
+        Assertions.assertEquals(expectedIdx, actualJavadocEndIdx, "Javadocの終了位置が未設定であること");
+        Assertions.assertEquals(expectedIdx, actualCodeEndIdx, "コードの終了位置が未設定であること");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:複数のJavadoc
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalMultipleJavadocs() {
+
+        /* 期待値の定義 */
+        final String testCode                 = "/** テスト1 */\nclass Test1 {}\n\n/** テスト2 */\nclass Test2 {}";
+        final int    expectedFirstCodeEndIdx  = testCode.indexOf("\n\n");
+        final int    expectedSecondStartIdx   = testCode.indexOf("/** テスト2");
+        final int    expectedSecondCodeEndIdx = testCode.length();
+
+        /* 準備 */
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean firstResult            = this.testTarget.nextJavadoc();
+        final int     actualFirstCodeEndIdx  = this.testTarget.getCodeEndIdx();
+        final boolean secondResult           = this.testTarget.nextJavadoc();
+        final int     actualSecondStartIdx   = this.testTarget.getJavadocStartIdx();
+        final int     actualSecondCodeEndIdx = this.testTarget.getCodeEndIdx();
+        final boolean thirdResult            = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertTrue(firstResult, "1つ目のJavadocが見つかること");
+        Assertions.assertEquals(expectedFirstCodeEndIdx, actualFirstCodeEndIdx,
+            "1つ目のコードは次のJavadocの直前の空白文字の前で終了すること");
+        Assertions.assertTrue(secondResult, "2つ目のJavadocが見つかること");
+        Assertions.assertEquals(expectedSecondStartIdx, actualSecondStartIdx, "2つ目のJavadocの開始位置が正しいこと");
+        Assertions.assertEquals(expectedSecondCodeEndIdx, actualSecondCodeEndIdx, "2つ目のコードはコードの終端で終了すること");
+        Assertions.assertFalse(thirdResult, "3つ目のJavadocは見つからないこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:Javadocがない
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalNoJavadoc() {
+
+        /* 期待値の定義 */
+        final boolean expectedResult = false;
+
+        /* 準備 */
+        final String testCode = "public class Test {}";
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "Javadocがない場合はfalseを返すこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:「/**」の直後に空白文字がない
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalNoWhitespaceAfterStart() {
+
+        /* 期待値の定義 */
+        final boolean expectedResult = false;
+
+        /* 準備 */
+        final String testCode = "/**テスト */\nclass Test {}";
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "「/**」の直後に空白文字がない場合はJavadocとして扱わないこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:「/**」の直前に空白文字がない
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalNotPrecededByWhitespace() {
+
+        /* 期待値の定義 */
+        final boolean expectedResult = false;
+
+        /* 準備 */
+        final String testCode = "int a;/** テスト */\nclass Test {}";
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "「/**」の直前に空白文字がない場合はJavadocとして扱わないこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:単一のJavadoc
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalSingleJavadoc() {
+
+        /* 期待値の定義 */
+        final String  testCode                = "/** テスト */\nclass Test {}";
+        final boolean expectedResult          = true;
+        final int     expectedJavadocStartIdx = 0;
+        final int     expectedBlockStartIdx   = 4;
+        final int     expectedJavadocEndIdx   = 8;
+        final int     expectedCodeEndIdx      = testCode.length();
+
+        /* 準備 */
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult          = testResult;
+        final int     actualJavadocStartIdx = this.testTarget.getJavadocStartIdx();
+        final int     actualBlockStartIdx   = this.testTarget.getBlockStartIdx();
+        final int     actualJavadocEndIdx   = this.testTarget.getJavadocEndIdx();
+        final int     actualCodeEndIdx      = this.testTarget.getCodeEndIdx();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "Javadocが見つかること");
+        Assertions.assertEquals(expectedJavadocStartIdx, actualJavadocStartIdx, "Javadocの開始位置が正しいこと");
+        Assertions.assertEquals(expectedBlockStartIdx, actualBlockStartIdx, "ブロックの開始位置が正しいこと");
+        Assertions.assertEquals(expectedJavadocEndIdx, actualJavadocEndIdx, "Javadocの終了位置が正しいこと");
+        Assertions.assertEquals(expectedCodeEndIdx, actualCodeEndIdx, "コードの終了位置が正しいこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:ブロックコメント中の「/**」
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalSkipBlockComment() {
+
+        /* 期待値の定義 */
+        final boolean expectedResult = false;
+
+        /* 準備 */
+        final String testCode = "/* /** テスト */\nclass Test {}";
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "ブロックコメント中の「/**」はJavadocとして扱わないこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:文字リテラル中のダブルクォート
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalSkipCharLiteral() {
+
+        /* 期待値の定義 */
+        final String  testCode                = "char c = '\"';\n/** テスト */\nclass Test {}";
+        final boolean expectedResult          = true;
+        final int     expectedJavadocStartIdx = testCode.indexOf("/**");
+        final int     expectedBlockStartIdx   = testCode.indexOf("テスト");
+        final int     expectedJavadocEndIdx   = testCode.indexOf("*/");
+        final int     expectedCodeEndIdx      = testCode.length();
+
+        /* 準備 */
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult          = testResult;
+        final int     actualJavadocStartIdx = this.testTarget.getJavadocStartIdx();
+        final int     actualBlockStartIdx   = this.testTarget.getBlockStartIdx();
+        final int     actualJavadocEndIdx   = this.testTarget.getJavadocEndIdx();
+        final int     actualCodeEndIdx      = this.testTarget.getCodeEndIdx();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "文字リテラル中のダブルクォートを文字列の開始として扱わないこと");
+        Assertions.assertEquals(expectedJavadocStartIdx, actualJavadocStartIdx, "Javadocの開始位置が正しいこと");
+        Assertions.assertEquals(expectedBlockStartIdx, actualBlockStartIdx, "ブロックの開始位置が正しいこと");
+        Assertions.assertEquals(expectedJavadocEndIdx, actualJavadocEndIdx, "Javadocの終了位置が正しいこと");
+        Assertions.assertEquals(expectedCodeEndIdx, actualCodeEndIdx, "コードの終了位置が正しいこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:行コメント中の「/**」
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalSkipLineComment() {
+
+        /* 期待値の定義 */
+        final boolean expectedResult = false;
+
+        /* 準備 */
+        final String testCode = "// /** テスト */\nclass Test {}";
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "行コメント中の「/**」はJavadocとして扱わないこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:文字列リテラル中の「/**」
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalSkipStringLiteral() {
+
+        /* 期待値の定義 */
+        final boolean expectedResult = false;
+
+        /* 準備 */
+        final String testCode = "String s = \"\\\" /** テスト */\";\nclass Test {}";
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "文字列リテラル中の「/**」はJavadocとして扱わないこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:テキストブロック中の「/**」
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalSkipTextBlock() {
+
+        /* 期待値の定義 */
+        final boolean expectedResult = false;
+
+        /* 準備 */
+        final String testCode = "String s = \"\"\"\n /** テスト */\n\"\"\";\nclass Test {}";
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "テキストブロック中の「/**」はJavadocとして扱わないこと");
+
+    }
+
+    /**
+     * nextJavadoc メソッドのテスト - 正常系:閉じられていないJavadoc
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testNextJavadoc_normalUnterminatedJavadoc() {
+
+        /* 期待値の定義 */
+        final String  testCode                = "/** テスト\nclass Test {}";
+        final boolean expectedResult          = true;
+        final int     expectedJavadocStartIdx = 0;
+        final int     expectedBlockStartIdx   = 4;
+        final int     expectedJavadocEndIdx   = -1;
+        final int     expectedCodeEndIdx      = testCode.length();
+
+        /* 準備 */
+        this.testTarget = new JdtsJavadocLexerModelImpl(testCode);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.nextJavadoc();
+
+        /* 検証の準備 */
+        final boolean actualResult          = testResult;
+        final int     actualJavadocStartIdx = this.testTarget.getJavadocStartIdx();
+        final int     actualBlockStartIdx   = this.testTarget.getBlockStartIdx();
+        final int     actualJavadocEndIdx   = this.testTarget.getJavadocEndIdx();
+        final int     actualCodeEndIdx      = this.testTarget.getCodeEndIdx();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "閉じられていないJavadocも見つかること");
+        Assertions.assertEquals(expectedJavadocStartIdx, actualJavadocStartIdx, "Javadocの開始位置が正しいこと");
+        Assertions.assertEquals(expectedBlockStartIdx, actualBlockStartIdx, "ブロックの開始位置が正しいこと");
+        Assertions.assertEquals(expectedJavadocEndIdx, actualJavadocEndIdx, "Javadocの終了位置が正しいこと");
+        Assertions.assertEquals(expectedCodeEndIdx, actualCodeEndIdx, "コードの終了位置が正しいこと");
+
+    }
+
+}
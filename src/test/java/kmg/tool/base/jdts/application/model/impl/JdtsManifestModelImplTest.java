@@ -0,0 +1,430 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+
+/**
+ * Javadocタグ設定のマニフェストモデル実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class JdtsManifestModelImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト用の一時ディレクトリ
+     *
+     * @since 0.2.8
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト用の定義ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path definitionPath;
+
+    /**
+     * テスト用のマニフェストファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path manifestPath;
+
+    /**
+     * テスト用の対象のファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path targetFilePath;
+
+    /**
+     * テスト前処理<br>
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.definitionPath = this.tempDir.resolve("definition.yml");
+        Files.writeString(this.definitionPath, "JdtsConfigurations: []");
+
+        this.manifestPath = this.tempDir.resolve("cache").resolve(".jdts-manifest");
+
+        this.targetFilePath = this.tempDir.resolve("TestClass.java");
+        Files.writeString(this.targetFilePath, "public class TestClass {\n}");
+
+    }
+
+    /**
+     * isUnchanged メソッドのテスト - 正常系：内容が変更された場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testIsUnchanged_normalContentChanged() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.saveManifestOfTargetFile();
+        Files.writeString(this.targetFilePath, "public class TestClass {\n    // 変更\n}");
+
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+        testTarget.load(this.definitionPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.isUnchanged(this.targetFilePath);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "内容が変更された場合は変更ありと判定されること");
+
+    }
+
+    /**
+     * isUnchanged メソッドのテスト - 正常系：最終更新日時のみが変更された場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testIsUnchanged_normalOnlyLastModifiedTimeChanged() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.saveManifestOfTargetFile();
+        final FileTime lastModifiedTime = Files.getLastModifiedTime(this.targetFilePath);
+        Files.setLastModifiedTime(this.targetFilePath, FileTime.fromMillis(lastModifiedTime.toMillis() + 60_000L));
+
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+        testTarget.load(this.definitionPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.isUnchanged(this.targetFilePath);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "内容のハッシュ値が同じ場合は変更なしと判定されること");
+
+    }
+
+    /**
+     * isUnchanged メソッドのテスト - 正常系：前回から変更されていない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testIsUnchanged_normalUnchanged() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.saveManifestOfTargetFile();
+
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+        testTarget.load(this.definitionPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.isUnchanged(this.targetFilePath);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "前回から変更されていない場合は変更なしと判定されること");
+
+    }
+
+    /**
+     * isUnchanged メソッドのテスト - 準正常系：定義ファイルが変更された場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testIsUnchanged_semiDefinitionChanged() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.saveManifestOfTargetFile();
+        Files.writeString(this.definitionPath, "JdtsConfigurations: [] # 変更");
+
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+        testTarget.load(this.definitionPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.isUnchanged(this.targetFilePath);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "定義ファイルが変更された場合は変更ありと判定されること");
+
+    }
+
+    /**
+     * isUnchanged メソッドのテスト - 準正常系：マニフェストファイルが存在しない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testIsUnchanged_semiNoManifest() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+        testTarget.load(this.definitionPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.isUnchanged(this.targetFilePath);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "前回の処理結果がない場合は変更ありと判定されること");
+
+    }
+
+    /**
+     * load メソッドのテスト - 異常系：定義ファイルが存在しない場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testLoad_errorDefinitionNotFound() {
+
+        /* 期待値の定義 */
+        final KmgToolBaseGenMsgTypes expectedMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13003;
+
+        /* 準備 */
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+        final Path                  notFound   = this.tempDir.resolve("notFound.yml");
+
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> testTarget.load(notFound));
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "定義ファイルの読み込み失敗のメッセージタイプであること");
+
+        }
+
+    }
+
+    /**
+     * load メソッドのテスト - 準正常系：形式が正しくない行を読み飛ばす場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_semiInvalidLines() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        Files.createDirectories(this.manifestPath.getParent());
+        Files.writeString(this.manifestPath,
+            "#jdts-manifest\t1\nnot-a-number\t0\thash\thash\t" + this.targetFilePath.toAbsolutePath() + "\nshort\n");
+
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.load(this.definitionPath);
+
+        /* 検証の準備 */
+        final boolean actualUnchanged = testTarget.isUnchanged(this.targetFilePath);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "形式が正しくない行があっても読み込みが成功すること");
+        Assertions.assertFalse(actualUnchanged, "形式が正しくない行は前回の処理結果なしとして扱われること");
+
+    }
+
+    /**
+     * save メソッドのテスト - 異常系：書き込みが途中で失敗した場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testSave_errorInterruptedWrite() throws Exception {
+
+        /* 期待値の定義 */
+        final KmgToolBaseGenMsgTypes expectedMsgTypes  = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13009;
+        final long                   expectedFileCount = 1L;
+
+        /* 準備 */
+        this.saveManifestOfTargetFile();
+        final String expectedManifest = Files.readString(this.manifestPath);
+
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+        testTarget.load(this.definitionPath);
+        testTarget.record(this.targetFilePath);
+
+        // UTF-8で書き込めない対の無いサロゲートをパスに含む行を最後に追加し、ヘッダ行と先頭の行を書き込んだ後に失敗させる
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(testTarget);
+        @SuppressWarnings("unchecked")
+        final Map<String, Object>    currentEntryMap = (Map<String, Object>) reflectionModel.get("currentEntryMap");
+        currentEntryMap.put("\uFFFF\uD800", currentEntryMap.values().iterator().next());
+
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException
+                = Assertions.assertThrows(KmgToolBaseMsgException.class, () -> testTarget.save());
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+            final String                 actualManifest = Files.readString(this.manifestPath);
+            final long                   actualFileCount;
+
+            try (final Stream<Path> stream = Files.list(this.manifestPath.getParent())) {
+
+                actualFileCount = stream.count();
+
+            }
+
+            final JdtsManifestModelImpl nextManifestModel = new JdtsManifestModelImpl(this.manifestPath);
+            nextManifestModel.load(this.definitionPath);
+            final boolean actualUnchanged = nextManifestModel.isUnchanged(this.targetFilePath);
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "マニフェストファイルの保存失敗のメッセージタイプであること");
+            Assertions.assertEquals(expectedManifest, actualManifest, "前回のマニフェストファイルが変更されないこと");
+            Assertions.assertEquals(expectedFileCount, actualFileCount, "一時ファイルが残らないこと");
+            Assertions.assertTrue(actualUnchanged, "次回の処理で前回のマニフェストファイルを読み込めること");
+
+        }
+
+    }
+
+    /**
+     * save メソッドのテスト - 正常系：記録されたファイルのみを保存する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testSave_normalOnlyRecordedFiles() throws Exception {
+
+        /* 期待値の定義 */
+        final int expectedLineCount = 2;
+
+        /* 準備 */
+        this.saveManifestOfTargetFile();
+
+        // 2回目の処理では対象のファイルを判定せず、別のファイルのみを記録する
+        final Path otherFilePath = this.tempDir.resolve("OtherClass.java");
+        Files.writeString(otherFilePath, "public class OtherClass {\n}");
+
+        final JdtsManifestModelImpl testTarget = new JdtsManifestModelImpl(this.manifestPath);
+        testTarget.load(this.definitionPath);
+        testTarget.record(otherFilePath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.save();
+
+        /* 検証の準備 */
+        final String actualManifest = Files.readString(this.manifestPath);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "保存が成功すること");
+        Assertions.assertEquals(expectedLineCount, actualManifest.lines().count(), "ヘッダ行と記録したファイルの行のみが保存されること");
+        Assertions.assertTrue(actualManifest.contains(otherFilePath.toAbsolutePath().toString()),
+            "記録したファイルが保存されること");
+        Assertions.assertFalse(actualManifest.contains(this.targetFilePath.toAbsolutePath().toString()),
+            "記録されなかったファイルが除外されること");
+
+    }
+
+    /**
+     * 対象のファイルを記録したマニフェストファイルを保存する
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    private void saveManifestOfTargetFile() throws Exception {
+
+        final JdtsManifestModelImpl manifestModel = new JdtsManifestModelImpl(this.manifestPath);
+        manifestModel.load(this.definitionPath);
+        manifestModel.record(this.targetFilePath);
+        manifestModel.save();
+
+    }
+
+}
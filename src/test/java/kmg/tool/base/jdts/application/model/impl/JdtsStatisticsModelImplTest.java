@@ -0,0 +1,180 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.core.infrastructure.types.JavaClassificationTypes;
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
+import kmg.tool.base.jdts.application.model.JdtsFileTimingModel;
+import kmg.tool.base.jdts.application.model.JdtsReplActionModel;
+import kmg.tool.base.jdts.application.types.JdtsReplActionTypes;
+
+/**
+ * Javadocタグ設定の統計モデル実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class JdtsStatisticsModelImplTest extends AbstractKmgTest {
+
+    /**
+     * addFileResult メソッドのテスト - 正常系：タグと置換操作の種類ごとに件数を集計する場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testAddFileResult_normalCountByTagAndAction() {
+
+        /* 期待値の定義 */
+        final long expectedAddCount        = 2L;
+        final long expectedRepositionCount = 1L;
+        final long expectedSkipCount       = 4L;
+        final long expectedFileCount       = 2L;
+        final long expectedParseNanos      = 30L;
+        final long expectedReplaceNanos    = 300L;
+        final long expectedWriteNanos      = 3000L;
+
+        /* 準備 */
+        final JdtsStatisticsModelImpl testTarget = new JdtsStatisticsModelImpl();
+
+        final List<JdtsReplActionModel> replActionList = new ArrayList<>();
+        replActionList.add(new JdtsReplActionModelImpl(JdtsReplActionTypes.ADD, JavaClassificationTypes.CLASS,
+            "TestClass", KmgJavadocTagTypes.AUTHOR));
+        replActionList.add(new JdtsReplActionModelImpl(JdtsReplActionTypes.REPOSITION, JavaClassificationTypes.CLASS,
+            "TestClass", KmgJavadocTagTypes.SINCE));
+
+        final Map<KmgJavadocTagTypes, Long> skipCountMap = new HashMap<>();
+        skipCountMap.put(KmgJavadocTagTypes.VERSION, 2L);
+
+        /* テスト対象の実行 */
+        testTarget.addFileResult(new JdtsFileTimingModelImpl(Paths.get("test/Target1.java"), 10L, 100L, 1000L),
+            replActionList, skipCountMap);
+        testTarget.addFileResult(new JdtsFileTimingModelImpl(Paths.get("test/Target2.java"), 20L, 200L, 2000L),
+            List.of(replActionList.get(0)), skipCountMap);
+
+        /* 検証の準備 */
+        final long                    actualAddCount        = testTarget.getReplActionCount(KmgJavadocTagTypes.AUTHOR,
+            JdtsReplActionTypes.ADD);
+        final long                    actualRepositionCount = testTarget.getReplActionCount(KmgJavadocTagTypes.SINCE,
+            JdtsReplActionTypes.REPOSITION);
+        final long                    actualSkipCount       = testTarget.getSkipCount(KmgJavadocTagTypes.VERSION);
+        final Set<KmgJavadocTagTypes> actualTagSet          = testTarget.getTagSet();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedAddCount, actualAddCount, "タグと置換操作の種類ごとに追加の件数が集計されること");
+        Assertions.assertEquals(expectedRepositionCount, actualRepositionCount, "タグと置換操作の種類ごとに位置変更の件数が集計されること");
+        Assertions.assertEquals(expectedSkipCount, actualSkipCount, "タグごとに上書きしなかった件数が集計されること");
+        Assertions.assertEquals(
+            Set.of(KmgJavadocTagTypes.AUTHOR, KmgJavadocTagTypes.SINCE, KmgJavadocTagTypes.VERSION), actualTagSet,
+            "置換操作、または、上書きしなかった件数があるタグが返されること");
+        Assertions.assertEquals(expectedFileCount, testTarget.getFileCount(), "処理したファイル数が集計されること");
+        Assertions.assertEquals(expectedParseNanos, testTarget.getTotalParseNanos(), "解析の処理時間が合計されること");
+        Assertions.assertEquals(expectedReplaceNanos, testTarget.getTotalReplaceNanos(), "置換の処理時間が合計されること");
+        Assertions.assertEquals(expectedWriteNanos, testTarget.getTotalWriteNanos(), "書き込みの処理時間が合計されること");
+
+    }
+
+    /**
+     * addFileResult メソッドのテスト - 準正常系：タグがない置換操作の場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testAddFileResult_semiNullTag() {
+
+        /* 期待値の定義 */
+        final long expectedFileCount = 1L;
+
+        /* 準備 */
+        final JdtsStatisticsModelImpl testTarget = new JdtsStatisticsModelImpl();
+
+        final List<JdtsReplActionModel> replActionList = new ArrayList<>();
+        replActionList.add(new JdtsReplActionModelImpl(JdtsReplActionTypes.REMOVE, JavaClassificationTypes.CLASS,
+            "TestClass", null));
+
+        /* テスト対象の実行 */
+        testTarget.addFileResult(new JdtsFileTimingModelImpl(Paths.get("test/Target.java"), 1L, 1L, 1L),
+            replActionList, null);
+
+        /* 検証の準備 */
+        final boolean actualTagSetEmpty = testTarget.getTagSet().isEmpty();
+        final long    actualFileCount   = testTarget.getFileCount();
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualTagSetEmpty, "タグがない置換操作はタグごとの件数に加えられないこと");
+        Assertions.assertEquals(expectedFileCount, actualFileCount, "処理したファイル数は集計されること");
+
+    }
+
+    /**
+     * getReplActionCount メソッドのテスト - 準正常系：集計していないタグの場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetReplActionCount_semiNotCounted() {
+
+        /* 期待値の定義 */
+        final long expectedCount = 0L;
+
+        /* 準備 */
+        final JdtsStatisticsModelImpl testTarget = new JdtsStatisticsModelImpl();
+
+        /* テスト対象の実行 */
+        final long testResult = testTarget.getReplActionCount(KmgJavadocTagTypes.AUTHOR, JdtsReplActionTypes.ADD);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, testResult, "集計していない場合は0件であること");
+        Assertions.assertEquals(expectedCount, testTarget.getSkipCount(KmgJavadocTagTypes.AUTHOR),
+            "集計していない場合は上書きしなかった件数も0件であること");
+
+    }
+
+    /**
+     * getSlowestFileTimingList メソッドのテスト - 正常系：合計の処理時間が長い順に保持するファイル数まで返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetSlowestFileTimingList_normalSlowestOrder() {
+
+        /* 期待値の定義 */
+        final int    expectedSize      = 2;
+        final String expectedFirstPath = "test/Slowest.java";
+        final String expectedLastPath  = "test/Slow.java";
+
+        /* 準備 */
+        final JdtsStatisticsModelImpl testTarget = new JdtsStatisticsModelImpl(expectedSize);
+        testTarget.addFileResult(new JdtsFileTimingModelImpl(Paths.get("test/Fast.java"), 1L, 1L, 1L), null, null);
+        testTarget.addFileResult(new JdtsFileTimingModelImpl(Paths.get(expectedLastPath), 10L, 10L, 10L), null,
+            null);
+        testTarget.addFileResult(new JdtsFileTimingModelImpl(Paths.get(expectedFirstPath), 100L, 100L, 100L), null,
+            null);
+
+        /* テスト対象の実行 */
+        final List<JdtsFileTimingModel> testResult = testTarget.getSlowestFileTimingList();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSize, testResult.size(), "保持するファイル数まで返されること");
+        Assertions.assertEquals(Paths.get(expectedFirstPath), testResult.get(0).getFilePath(),
+            "合計の処理時間が最も長いファイルが先頭であること");
+        Assertions.assertEquals(Paths.get(expectedLastPath), testResult.get(1).getFilePath(),
+            "合計の処理時間が短いファイルは除かれること");
+
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,7 +33,7 @@ import kmg.tool.base.jdts.application.types.JdtsOverwriteTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @SuppressWarnings({
     "nls",
@@ -496,6 +497,79 @@ public class JdtsTagConfigModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * getTagContent メソッドのテスト - 正常系:タグの説明がない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   テスト実行時に発生する可能性のある例外
+     */
+    @Test
+    public void testGetTagContent_normalNoTagDescription() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedTagContent = "* @author testValue";
+
+        /* 準備 */
+        final Map<String, Object> testTagConfig = new HashMap<>();
+        testTagConfig.put(JdtsConfigKeyTypes.TAG_NAME.get(), "@author");
+        testTagConfig.put(JdtsConfigKeyTypes.TAG_VALUE.get(), "testValue");
+        testTagConfig.put(JdtsConfigKeyTypes.INSERT_POSITION.get(), "beginning");
+        testTagConfig.put(JdtsConfigKeyTypes.OVERWRITE.get(), "always");
+
+        final Map<String, Object> locationMap = new HashMap<>();
+        locationMap.put(JdtsConfigKeyTypes.MODE.get(), "compliant");
+        locationMap.put(JdtsConfigKeyTypes.REMOVE_IF_MISPLACED.get(), "true");
+        testTagConfig.put(JdtsConfigKeyTypes.LOCATION.get(), locationMap);
+
+        this.testTarget = new JdtsTagConfigModelImpl(testTagConfig);
+
+        /* テスト対象の実行 */
+        final String testResult = this.testTarget.getTagContent();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTagContent, testResult, "末尾に空白を含まないタグの内容が返されること");
+
+    }
+
+    /**
+     * getTagContent メソッドのテスト - 正常系:タグの内容を返す
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   テスト実行時に発生する可能性のある例外
+     */
+    @Test
+    public void testGetTagContent_normalReturnTagContent() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedTagContent = "* @author testValue testDescription";
+
+        /* 準備 */
+        final Map<String, Object> testTagConfig = new HashMap<>();
+        testTagConfig.put(JdtsConfigKeyTypes.TAG_NAME.get(), "@author");
+        testTagConfig.put(JdtsConfigKeyTypes.TAG_VALUE.get(), "testValue");
+        testTagConfig.put(JdtsConfigKeyTypes.TAG_DESCRIPTION.get(), "testDescription");
+        testTagConfig.put(JdtsConfigKeyTypes.INSERT_POSITION.get(), "beginning");
+        testTagConfig.put(JdtsConfigKeyTypes.OVERWRITE.get(), "always");
+
+        final Map<String, Object> locationMap = new HashMap<>();
+        locationMap.put(JdtsConfigKeyTypes.MODE.get(), "compliant");
+        locationMap.put(JdtsConfigKeyTypes.REMOVE_IF_MISPLACED.get(), "true");
+        testTagConfig.put(JdtsConfigKeyTypes.LOCATION.get(), locationMap);
+
+        this.testTarget = new JdtsTagConfigModelImpl(testTagConfig);
+
+        /* テスト対象の実行 */
+        final String testResult = this.testTarget.getTagContent();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTagContent, testResult, "タグ、タグの指定値、タグの説明を連結したタグの内容が返されること");
+
+    }
+
     /**
      * getTagDescription メソッドのテスト - 正常系:タグの説明を返す
      *
@@ -605,6 +679,42 @@ public class JdtsTagConfigModelImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * getTagVersion メソッドのテスト - 正常系:タグの指定値のバージョンを返す
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   テスト実行時に発生する可能性のある例外
+     */
+    @Test
+    public void testGetTagVersion_normalReturnTagVersion() throws Exception {
+
+        /* 期待値の定義 */
+        final ComparableVersion expectedTagVersion = new ComparableVersion("0.2.8");
+
+        /* 準備 */
+        final Map<String, Object> testTagConfig = new HashMap<>();
+        testTagConfig.put(JdtsConfigKeyTypes.TAG_NAME.get(), "@since");
+        testTagConfig.put(JdtsConfigKeyTypes.TAG_VALUE.get(), "0.2.8");
+        testTagConfig.put(JdtsConfigKeyTypes.INSERT_POSITION.get(), "beginning");
+        testTagConfig.put(JdtsConfigKeyTypes.OVERWRITE.get(), "ifLower");
+
+        final Map<String, Object> locationMap = new HashMap<>();
+        locationMap.put(JdtsConfigKeyTypes.MODE.get(), "compliant");
+        locationMap.put(JdtsConfigKeyTypes.REMOVE_IF_MISPLACED.get(), "true");
+        testTagConfig.put(JdtsConfigKeyTypes.LOCATION.get(), locationMap);
+
+        this.testTarget = new JdtsTagConfigModelImpl(testTagConfig);
+
+        /* テスト対象の実行 */
+        final ComparableVersion testResult = this.testTarget.getTagVersion();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTagVersion, testResult, "タグの指定値を変換したバージョンが返されること");
+
+    }
+
     /**
      * isProperlyPlaced メソッドのテスト - 正常系:COMPLIANTモードで一致する場合
      *
@@ -0,0 +1,119 @@
+package kmg.tool.base.jdts.application.model.impl;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * Javadocタグ設定のバージョンキャッシュモデル実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class JdtsVersionCacheModelImplTest extends AbstractKmgTest {
+
+    /**
+     * get メソッドのテスト - 正常系：同じバージョンの文字列を繰り返し取得する場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGet_normalRepeatedVersion() {
+
+        /* 期待値の定義 */
+        final ComparableVersion expectedVersion   = new ComparableVersion("0.2.8");
+        final long              expectedHitCount  = 2L;
+        final long              expectedMissCount = 1L;
+        final int               expectedSize      = 1;
+
+        /* 準備 */
+        final JdtsVersionCacheModelImpl testTarget = new JdtsVersionCacheModelImpl();
+
+        /* テスト対象の実行 */
+        final ComparableVersion firstResult  = testTarget.get("0.2.8");
+        final ComparableVersion secondResult = testTarget.get("0.2.8");
+        final ComparableVersion thirdResult  = testTarget.get("0.2.8");
+
+        /* 検証の準備 */
+        final long actualHitCount  = testTarget.getHitCount();
+        final long actualMissCount = testTarget.getMissCount();
+        final int  actualSize      = testTarget.getSize();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedVersion, firstResult, "変換したバージョンが返されること");
+        Assertions.assertSame(firstResult, secondResult, "2回目以降は保持しているバージョンが返されること");
+        Assertions.assertSame(firstResult, thirdResult, "2回目以降は保持しているバージョンが返されること");
+        Assertions.assertEquals(expectedHitCount, actualHitCount, "保持しているバージョンを返した回数が数えられること");
+        Assertions.assertEquals(expectedMissCount, actualMissCount, "バージョンの文字列を変換した回数が数えられること");
+        Assertions.assertEquals(expectedSize, actualSize, "保持している件数が1件であること");
+
+    }
+
+    /**
+     * get メソッドのテスト - 準正常系：保持する件数の上限に達した場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGet_semiMaxSizeReached() {
+
+        /* 期待値の定義 */
+        final ComparableVersion expectedVersion   = new ComparableVersion("2.0.0");
+        final long              expectedHitCount  = 1L;
+        final long              expectedMissCount = 3L;
+        final int               expectedSize      = 1;
+
+        /* 準備 */
+        final JdtsVersionCacheModelImpl testTarget = new JdtsVersionCacheModelImpl(1);
+        testTarget.get("1.0.0");
+
+        /* テスト対象の実行 */
+        final ComparableVersion firstResult  = testTarget.get("2.0.0");
+        final ComparableVersion secondResult = testTarget.get("2.0.0");
+        testTarget.get("1.0.0");
+
+        /* 検証の準備 */
+        final long actualHitCount  = testTarget.getHitCount();
+        final long actualMissCount = testTarget.getMissCount();
+        final int  actualSize      = testTarget.getSize();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedVersion, firstResult, "上限に達しても変換したバージョンが返されること");
+        Assertions.assertEquals(expectedVersion, secondResult, "上限に達しても変換したバージョンが返されること");
+        Assertions.assertEquals(expectedHitCount, actualHitCount, "保持しているバージョンのみが保持しているものとして数えられること");
+        Assertions.assertEquals(expectedMissCount, actualMissCount, "上限に達した後のバージョンは毎回変換されること");
+        Assertions.assertEquals(expectedSize, actualSize, "保持している件数が上限を超えないこと");
+
+    }
+
+    /**
+     * getMaxSize メソッドのテスト - 正常系：指定した上限を返す場合
+     *
+     * @since 0.2.8
+     */
+    @Test
+    public void testGetMaxSize_normalReturnMaxSize() {
+
+        /* 期待値の定義 */
+        final int expectedMaxSize = 16;
+
+        /* 準備 */
+        final JdtsVersionCacheModelImpl testTarget = new JdtsVersionCacheModelImpl(expectedMaxSize);
+
+        /* テスト対象の実行 */
+        final int testResult = testTarget.getMaxSize();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedMaxSize, testResult, "指定した上限が返されること");
+
+    }
+
+}
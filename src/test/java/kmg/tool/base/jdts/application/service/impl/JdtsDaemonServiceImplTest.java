@@ -0,0 +1,442 @@
+package kmg.tool.base.jdts.application.service.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.ApplicationContext;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.core.infrastructure.type.KmgString;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.jdts.application.logic.impl.JdtsDaemonClientLogicImpl;
+import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsDaemonRequestModel;
+import kmg.tool.base.jdts.application.model.impl.JdtsDaemonRequestModelImpl;
+
+/**
+ * Javadocタグ設定の常駐プロセスサービス実装のテスト<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.8
+ *
+ * @version 0.2.8
+ */
+@SuppressWarnings({
+    "nls",
+})
+public class JdtsDaemonServiceImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト用の一時ディレクトリ
+     *
+     * @since 0.2.8
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.8
+     */
+    private JdtsDaemonServiceImpl testTarget;
+
+    /**
+     * モックJdtsServiceImpl
+     *
+     * @since 0.2.8
+     */
+    private JdtsServiceImpl mockJdtsService;
+
+    /**
+     * モックJdtsConfigsModel
+     *
+     * @since 0.2.8
+     */
+    private JdtsConfigsModel mockJdtsConfigsModel;
+
+    /**
+     * テスト用の定義ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path definitionPath;
+
+    /**
+     * テスト用の対象ファイルのパス
+     *
+     * @since 0.2.8
+     */
+    private Path targetPath;
+
+    /**
+     * テスト前処理<br>
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new JdtsDaemonServiceImpl();
+
+        /* モックの初期化 */
+        final KmgMessageSource           mockMessageSource      = Mockito.mock(KmgMessageSource.class);
+        final ApplicationContext         mockApplicationContext = Mockito.mock(ApplicationContext.class);
+        final AutowireCapableBeanFactory mockBeanFactory        = Mockito.mock(AutowireCapableBeanFactory.class);
+        this.mockJdtsService = Mockito.mock(JdtsServiceImpl.class);
+        this.mockJdtsConfigsModel = Mockito.mock(JdtsConfigsModel.class);
+
+        /* モックの設定 */
+        Mockito.when(mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(KmgString.EMPTY);
+        Mockito.when(mockApplicationContext.getAutowireCapableBeanFactory()).thenReturn(mockBeanFactory);
+        Mockito.when(mockBeanFactory.createBean(JdtsServiceImpl.class)).thenReturn(this.mockJdtsService);
+        Mockito.when(this.mockJdtsService.getJdtsConfigsModel()).thenReturn(this.mockJdtsConfigsModel);
+
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", mockMessageSource);
+        reflectionModel.set("applicationContext", mockApplicationContext);
+
+        /* テスト用のファイルの作成 */
+        this.definitionPath = this.tempDir.resolve("definition.yml");
+        Files.writeString(this.definitionPath, "JdtsConfigs: []");
+
+        this.targetPath = this.tempDir.resolve("TestClass.java");
+        Files.writeString(this.targetPath, "public class TestClass {\n}");
+
+    }
+
+    /**
+     * テスト後処理<br>
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+
+        this.testTarget.stop();
+
+    }
+
+    /**
+     * handle メソッドのテスト - 異常系：対象ファイルパスの処理に失敗した場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testHandle_errorProcessFailed() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedMessage = "テスト用の例外メッセージ";
+
+        /* 準備 */
+        final Path otherTargetPath = this.tempDir.resolve("OtherClass.java");
+        Mockito.when(this.mockJdtsService.initialize(ArgumentMatchers.eq(this.targetPath), ArgumentMatchers.any(),
+            ArgumentMatchers.anyShort())).thenThrow(new IllegalStateException(expectedMessage));
+
+        final JdtsDaemonRequestModel request = new JdtsDaemonRequestModelImpl(this.definitionPath,
+            List.of(this.targetPath, otherTargetPath), (short) 1);
+
+        /* テスト対象の実行 */
+        final Map<Path, String> testResult = this.testTarget.handle(request);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertEquals(Map.of(this.targetPath, expectedMessage), testResult, "失敗した対象ファイルパスのみがメッセージとともに返されること");
+        Mockito.verify(this.mockJdtsService, Mockito.times(1)).process();
+
+    }
+
+    /**
+     * handle メソッドのテスト - 正常系：2回目の要求で常駐している構成モデルを使用する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testHandle_normalUseResidentConfigs() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsDaemonRequestModel request
+            = new JdtsDaemonRequestModelImpl(this.definitionPath, List.of(this.targetPath), (short) 1);
+        this.testTarget.handle(request);
+
+        /* テスト対象の実行 */
+        final Map<Path, String> testResult = this.testTarget.handle(request);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult.isEmpty(), "全ての対象ファイルパスの処理が成功すること");
+        Mockito.verify(this.mockJdtsService, Mockito.times(1)).enableResidentConfigs(this.mockJdtsConfigsModel);
+        Mockito.verify(this.mockJdtsService, Mockito.times(2)).process();
+
+    }
+
+    /**
+     * handle メソッドのテスト - 準正常系：定義ファイルが変更された場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testHandle_semiDefinitionChanged() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final JdtsDaemonRequestModel request
+            = new JdtsDaemonRequestModelImpl(this.definitionPath, List.of(this.targetPath), (short) 1);
+        this.testTarget.handle(request);
+        Files.writeString(this.definitionPath, "JdtsConfigs: [] # 変更");
+
+        /* テスト対象の実行 */
+        final Map<Path, String> testResult = this.testTarget.handle(request);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult.isEmpty(), "全ての対象ファイルパスの処理が成功すること");
+        Mockito.verify(this.mockJdtsService, Mockito.never()).enableResidentConfigs(ArgumentMatchers.any());
+
+    }
+
+    /**
+     * preload メソッドのテスト - 正常系：試行モードで置換処理を繰り返す場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testPreload_normalRepeatInDryRunMode() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.preload(this.definitionPath);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "準備が成功すること");
+        Mockito.verify(this.mockJdtsService, Mockito.atLeast(2)).process();
+        Mockito.verify(this.mockJdtsService, Mockito.atLeastOnce()).enableDryRunMode(ArgumentMatchers.any());
+        Mockito.verify(this.mockJdtsService, Mockito.atLeastOnce()).enableResidentConfigs(this.mockJdtsConfigsModel);
+
+    }
+
+    /**
+     * start メソッドのテスト - 正常系：クライアントからの要求を処理する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStart_normalRequestFromClient() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final Path                   socketPath = this.tempDir.resolve("jdts.sock");
+        final JdtsDaemonRequestModel request
+            = new JdtsDaemonRequestModelImpl(this.definitionPath, List.of(this.targetPath), (short) 1);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.start(socketPath);
+
+        /* 検証の準備 */
+        final Map<Path, String> actualErrorMap = new JdtsDaemonClientLogicImpl().request(socketPath, request);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "開始が成功すること");
+        Assertions.assertTrue(this.testTarget.isRunning(), "開始していること");
+        Assertions.assertTrue(actualErrorMap.isEmpty(), "クライアントに全ての対象ファイルパスの成功が返されること");
+        Mockito.verify(this.mockJdtsService, Mockito.times(1)).initialize(ArgumentMatchers.eq(this.targetPath),
+            ArgumentMatchers.any(), ArgumentMatchers.eq((short) 1));
+
+    }
+
+    /**
+     * start メソッドのテスト - 正常系：所有者のみが接続できるソケットファイルを作成する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStart_normalSocketPermissions() throws Exception {
+
+        /* 期待値の定義 */
+        final Set<PosixFilePermission> expectedPermissions = PosixFilePermissions.fromString("rw-------");
+        final long                     expectedFileCount   = 3L;
+
+        /* 準備 */
+        final Path socketPath = this.tempDir.resolve("jdts.sock");
+
+        /* テスト対象の実行 */
+        this.testTarget.start(socketPath);
+
+        /* 検証の準備 */
+        final Set<PosixFilePermission> actualPermissions = Files.getPosixFilePermissions(socketPath);
+        final long                     actualFileCount;
+
+        try (final Stream<Path> stream = Files.list(this.tempDir)) {
+
+            actualFileCount = stream.count();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedPermissions, actualPermissions, "所有者のみが接続できる権限であること");
+        Assertions.assertEquals(expectedFileCount, actualFileCount, "ソケットファイルを作成したディレクトリが残らないこと");
+
+    }
+
+    /**
+     * start メソッドのテスト - 準正常系：既に開始している場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStart_semiAlreadyStarted() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final Path socketPath = this.tempDir.resolve("jdts.sock");
+        this.testTarget.start(socketPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.start(socketPath);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "既に開始している場合は開始しないこと");
+
+    }
+
+    /**
+     * start メソッドのテスト - 準正常系：停止した常駐プロセスのソケットファイルが残っている場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStart_semiStaleSocket() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final Path socketPath = this.tempDir.resolve("jdts.sock");
+        Files.writeString(socketPath, "stale");
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.start(socketPath);
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "残っているソケットファイルを削除して開始すること");
+
+    }
+
+    /**
+     * stop メソッドのテスト - 正常系：ソケットファイルを削除する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStop_normalDeleteSocket() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final Path socketPath = this.tempDir.resolve("jdts.sock");
+        this.testTarget.start(socketPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.stop();
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "停止が成功すること");
+        Assertions.assertFalse(this.testTarget.isRunning(), "停止していること");
+        Assertions.assertFalse(Files.exists(socketPath), "ソケットファイルが削除されること");
+
+    }
+
+    /**
+     * stop メソッドのテスト - 準正常系：開始していない場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStop_semiNotStarted() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.stop();
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "開始していない場合は停止しないこと");
+
+    }
+
+}
@@ -2,7 +2,7 @@ package kmg.tool.base.jdts.application.service.impl;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -23,13 +23,16 @@ import kmg.core.infrastructure.types.JavaClassificationTypes;
 import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
 import kmg.tool.base.jdoc.domain.model.JavadocModel;
 import kmg.tool.base.jdoc.domain.model.JavadocTagModel;
 import kmg.tool.base.jdts.application.logic.JdtsBlockReplLogic;
 import kmg.tool.base.jdts.application.model.JdtsBlockModel;
 import kmg.tool.base.jdts.application.model.JdtsCodeModel;
 import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsReplActionModel;
 import kmg.tool.base.jdts.application.model.JdtsTagConfigModel;
+import kmg.tool.base.jdts.application.types.JdtsReplActionTypes;
 
 /**
  * JdtsReplServiceImplのテストクラス
@@ -38,7 +41,7 @@ import kmg.tool.base.jdts.application.model.JdtsTagConfigModel;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -822,7 +825,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock      = "/** replaced javadoc */";
-        final UUID   blockId                   = UUID.randomUUID();
         final long   expectedTotalReplaceCount = 0L;
 
         /* 準備 */
@@ -844,7 +846,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentSrcJavadocTag()).thenReturn(this.mockJavadocTagModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentTagConfigModel()).thenReturn(this.mockJdtsTagConfigModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getTagContentToApply()).thenReturn("test content");
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -897,7 +898,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock      = "/** replaced javadoc */";
-        final UUID   blockId                   = UUID.randomUUID();
         final long   expectedTotalReplaceCount = 0L;
 
         /* 準備 */
@@ -919,7 +919,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentSrcJavadocTag()).thenReturn(this.mockJavadocTagModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentTagConfigModel()).thenReturn(this.mockJdtsTagConfigModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getTagContentToApply()).thenReturn("test content");
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -970,7 +969,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock = "/** replaced javadoc */";
-        final UUID   blockId              = UUID.randomUUID();
 
         /* 準備 */
         final JdtsBlockModel blockModel = Mockito.mock(JdtsBlockModel.class);
@@ -985,7 +983,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.nextTag()).thenReturn(false);
         Mockito.when(this.mockJdtsBlockReplLogic.getReplacedJavadocBlock()).thenReturn(replacedJavadocBlock);
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentTagConfigModel()).thenReturn(this.mockJdtsTagConfigModel);
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -1018,7 +1015,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock      = "/** replaced javadoc */";
-        final UUID   blockId                   = UUID.randomUUID();
         final long   expectedTotalReplaceCount = 1L;
 
         /* 準備 */
@@ -1043,7 +1039,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentSrcJavadocTag()).thenReturn(this.mockJavadocTagModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentTagConfigModel()).thenReturn(this.mockJdtsTagConfigModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getTagContentToApply()).thenReturn("test content");
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -1062,11 +1057,17 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         this.reflectionModel.getMethod("processBlock", blockModel);
 
         /* 検証の準備 */
-        final long actualTotalReplaceCount = (Long) this.reflectionModel.get("totalReplaceCount");
+        final long                      actualTotalReplaceCount = (Long) this.reflectionModel.get("totalReplaceCount");
+        final List<JdtsReplActionModel> actualReplActionList    = this.testTarget.getReplActionList();
 
         /* 検証の実施 */
         Assertions.assertEquals(expectedTotalReplaceCount, actualTotalReplaceCount,
             "既存タグの置換時にtotalReplaceCountが正しくインクリメントされること");
+        Assertions.assertEquals(1, actualReplActionList.size(), "置換操作が1件記録されること");
+        Assertions.assertEquals(JdtsReplActionTypes.REPLACE, actualReplActionList.get(0).getAction(),
+            "置換操作の種類が置換であること");
+        Assertions.assertEquals(mockTagConfigTagType, actualReplActionList.get(0).getTag(), "タグ構成のタグが記録されること");
+        Assertions.assertEquals("TestClass", actualReplActionList.get(0).getElementName(), "要素名が記録されること");
 
         // replaceExistingTag()が呼び出されたことを確認
         Mockito.verify(this.mockJdtsBlockReplLogic, Mockito.times(1)).replaceExistingTag();
@@ -1074,8 +1075,8 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         // logReplaceTagが呼び出されたことを検証（logReplaceTagメソッド内で使用されるメソッドが呼び出されることを確認）
         // logReplaceTagメソッド内でgetCurrentSrcJavadocTag()が5回呼び出される（早期リターンチェック1回 + ログ出力用4回）
         Mockito.verify(this.mockJdtsBlockReplLogic, Mockito.times(5)).getCurrentSrcJavadocTag();
-        // logReplaceTagメソッド内でgetCurrentTagConfigModel()が3回呼び出される（ログ出力用3回）
-        Mockito.verify(this.mockJdtsBlockReplLogic, Mockito.times(3)).getCurrentTagConfigModel();
+        // getCurrentTagConfigModel()が5回呼び出される（ログ出力用3回 + 置換操作の追加用2回）
+        Mockito.verify(this.mockJdtsBlockReplLogic, Mockito.times(5)).getCurrentTagConfigModel();
         // logReplaceTagメソッド内でgetTagContentToApply()が1回呼び出される（ログ出力用1回）
         Mockito.verify(this.mockJdtsBlockReplLogic, Mockito.times(1)).getTagContentToApply();
 
@@ -1102,7 +1103,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock      = "/** replaced javadoc */";
-        final UUID   blockId                   = UUID.randomUUID();
         final long   expectedTotalReplaceCount = 0L;
 
         /* 準備 */
@@ -1127,7 +1127,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentSrcJavadocTag()).thenReturn(this.mockJavadocTagModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentTagConfigModel()).thenReturn(this.mockJdtsTagConfigModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getTagContentToApply()).thenReturn("test content");
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -1182,7 +1181,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock = "/** replaced javadoc */";
-        final UUID   blockId              = UUID.randomUUID();
 
         /* 準備 */
         final JdtsBlockModel blockModel = Mockito.mock(JdtsBlockModel.class);
@@ -1202,7 +1200,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentSrcJavadocTag()).thenReturn(this.mockJavadocTagModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentTagConfigModel()).thenReturn(this.mockJdtsTagConfigModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getTagContentToApply()).thenReturn("test content");
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -1234,7 +1231,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock = "/** replaced javadoc */";
-        final UUID   blockId              = UUID.randomUUID();
 
         /* 準備 */
         final JdtsBlockModel blockModel = Mockito.mock(JdtsBlockModel.class);
@@ -1248,7 +1244,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.shouldAddNewTag()).thenReturn(false);
         Mockito.when(this.mockJdtsBlockReplLogic.nextTag()).thenReturn(false);
         Mockito.when(this.mockJdtsBlockReplLogic.getReplacedJavadocBlock()).thenReturn(replacedJavadocBlock);
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -1280,7 +1275,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock = "/** replaced javadoc */";
-        final UUID   blockId              = UUID.randomUUID();
 
         /* 準備 */
         final JdtsBlockModel blockModel = Mockito.mock(JdtsBlockModel.class);
@@ -1295,7 +1289,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.shouldOverwriteTag()).thenReturn(false);
         Mockito.when(this.mockJdtsBlockReplLogic.nextTag()).thenReturn(false);
         Mockito.when(this.mockJdtsBlockReplLogic.getReplacedJavadocBlock()).thenReturn(replacedJavadocBlock);
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -1310,6 +1303,58 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * processBlock メソッドのテスト - 準正常系：上書きしなかった件数をタグごとに数える場合
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgReflectionException
+     *                                 リフレクション例外
+     * @throws Exception
+     *                                 メソッド実行例外
+     */
+    @Test
+    public void testProcessBlock_semiNoOverwriteCountSkip()
+        throws KmgToolBaseMsgException, KmgReflectionException, Exception {
+
+        /* 期待値の定義 */
+        final Long expectedSkipCount = 2L;
+
+        /* 準備 */
+        final JdtsBlockModel blockModel = Mockito.mock(JdtsBlockModel.class);
+        this.reflectionModel.set("jdtsConfigsModel", this.mockJdtsConfigsModel);
+        this.reflectionModel.set("jdtsCodeModel", this.mockJdtsCodeModel);
+        Mockito.when(this.mockJdtsCodeModel.getOrgCode()).thenReturn("test original code");
+
+        Mockito.when(this.mockJdtsBlockReplLogic.initialize(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(true);
+        Mockito.when(this.mockJdtsBlockReplLogic.hasExistingTag()).thenReturn(true);
+        Mockito.when(this.mockJdtsBlockReplLogic.removeCurrentTagOnError()).thenReturn(false);
+        Mockito.when(this.mockJdtsBlockReplLogic.shouldOverwriteTag()).thenReturn(false);
+        Mockito.when(this.mockJdtsBlockReplLogic.nextTag()).thenReturn(false);
+        Mockito.when(this.mockJdtsBlockReplLogic.getReplacedJavadocBlock()).thenReturn("/** replaced javadoc */");
+        Mockito.when(this.mockJdtsBlockReplLogic.getCurrentTagConfigModel()).thenReturn(this.mockJdtsTagConfigModel);
+        Mockito.when(this.mockJdtsTagConfigModel.getTag()).thenReturn(KmgJavadocTagTypes.SINCE);
+
+        /* テスト対象の実行 */
+        this.reflectionModel.getMethod("processBlock", blockModel);
+        this.reflectionModel.getMethod("processBlock", blockModel);
+
+        /* 検証の準備 */
+        final Map<KmgJavadocTagTypes, Long> actualSkipCountMap = this.testTarget.getSkipCountMap();
+        final Long                          actualSkipCount    = actualSkipCountMap.get(KmgJavadocTagTypes.SINCE);
+
+        this.testTarget.initialize(this.mockJdtsConfigsModel, this.mockJdtsCodeModel);
+        final boolean actualClearedResult = this.testTarget.getSkipCountMap().isEmpty();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSkipCount, actualSkipCount, "上書きしなかった件数がタグごとに数えられること");
+        Assertions.assertTrue(actualClearedResult, "初期化すると上書きしなかった件数がクリアされること");
+
+    }
+
     /**
      * processBlock メソッドのテスト - 準正常系：タグ削除が発生する場合の処理
      *
@@ -1327,7 +1372,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock = "/** replaced javadoc */";
-        final UUID   blockId              = UUID.randomUUID();
 
         /* 準備 */
         final JdtsBlockModel blockModel = Mockito.mock(JdtsBlockModel.class);
@@ -1346,7 +1390,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJavadocTagModel.getTag()).thenReturn(KmgJavadocTagTypes.AUTHOR);
         Mockito.when(this.mockJavadocTagModel.getValue()).thenReturn("test value");
         Mockito.when(this.mockJavadocTagModel.getDescription()).thenReturn("test description");
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -1378,7 +1421,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
 
         /* 期待値の定義 */
         final String replacedJavadocBlock = "/** replaced javadoc */";
-        final UUID   blockId              = UUID.randomUUID();
 
         /* 準備 */
         final JdtsBlockModel blockModel = Mockito.mock(JdtsBlockModel.class);
@@ -1397,7 +1439,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentSrcJavadocTag()).thenReturn(this.mockJavadocTagModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getCurrentTagConfigModel()).thenReturn(this.mockJdtsTagConfigModel);
         Mockito.when(this.mockJdtsBlockReplLogic.getTagContentToApply()).thenReturn("test content");
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
 
@@ -1439,7 +1480,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsCodeModel.getJdtsBlockModels()).thenReturn(blockModels);
         Mockito.when(this.mockJavadocModel.getSrcJavadoc()).thenReturn("/** test javadoc */");
         Mockito.when(blockModel.getJavadocModel()).thenReturn(this.mockJavadocModel);
-        Mockito.when(blockModel.getId()).thenReturn(UUID.randomUUID());
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
         Mockito.when(this.mockJdtsBlockReplLogic.initialize(ArgumentMatchers.any(), ArgumentMatchers.any()))
@@ -1476,8 +1516,8 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         /* 期待値の定義 */
         final String originalCode         = "test original code";
         final String javadocContent       = "/** test javadoc */";
-        final UUID   blockId              = UUID.randomUUID();
         final String replacedJavadocBlock = "/** replaced javadoc */";
+        final String expectedReplaceCode  = originalCode + replacedJavadocBlock;
         // replaceCodeにはjavadocContentが含まれている（見つかる状態）
         final String replaceCodeWithJavadoc = originalCode + javadocContent;
 
@@ -1493,7 +1533,7 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsCodeModel.getJdtsBlockModels()).thenReturn(blockModels);
         Mockito.when(this.mockJavadocModel.getSrcJavadoc()).thenReturn(javadocContent);
         Mockito.when(blockModel.getJavadocModel()).thenReturn(this.mockJavadocModel);
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
+        Mockito.when(blockModel.getOrgBlockStartIdx()).thenReturn(originalCode.length());
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
         Mockito.when(this.mockJdtsBlockReplLogic.initialize(ArgumentMatchers.any(), ArgumentMatchers.any()))
@@ -1504,10 +1544,69 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         final boolean testResult = this.testTarget.replace();
 
         /* 検証の準備 */
-        final boolean actualResult = testResult;
+        final boolean actualResult      = testResult;
+        final String  actualReplaceCode = this.testTarget.getReplaceCode();
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "置換処理が正常に完了すること");
+        Assertions.assertEquals(expectedReplaceCode, actualReplaceCode, "Javadocの位置に置換後のJavadocブロックが連結されること");
+
+    }
+
+    /**
+     * replace メソッドのテスト - 正常系：同一内容のJavadocが複数存在する場合の置換処理
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールメッセージ例外
+     * @throws KmgReflectionException
+     *                                 リフレクション例外
+     */
+    @Test
+    public void testReplace_normalReplaceSameJavadocs() throws KmgToolBaseMsgException, KmgReflectionException {
+
+        /* 期待値の定義 */
+        final String javadocContent      = "test javadoc";
+        final String firstCode           = "/** ";
+        final String secondCode          = " */\nclass A {\n/** ";
+        final String lastCode            = " */\nvoid a() {}\n}";
+        final String expectedReplaceCode = firstCode + "replaced 1" + secondCode + "replaced 2" + lastCode;
+
+        /* 準備 */
+        final String orgCode = firstCode + javadocContent + secondCode + javadocContent + lastCode;
+
+        final List<JdtsBlockModel> blockModels      = new ArrayList<>();
+        final JdtsBlockModel       firstBlockModel  = Mockito.mock(JdtsBlockModel.class);
+        final JdtsBlockModel       secondBlockModel = Mockito.mock(JdtsBlockModel.class);
+        blockModels.add(firstBlockModel);
+        blockModels.add(secondBlockModel);
+
+        this.reflectionModel.set("jdtsCodeModel", this.mockJdtsCodeModel);
+        this.reflectionModel.set("replaceCode", orgCode);
+        this.reflectionModel.set("totalReplaceCount", 0L);
+
+        Mockito.when(this.mockJdtsCodeModel.getJdtsBlockModels()).thenReturn(blockModels);
+        Mockito.when(this.mockJavadocModel.getSrcJavadoc()).thenReturn(javadocContent);
+        Mockito.when(firstBlockModel.getJavadocModel()).thenReturn(this.mockJavadocModel);
+        Mockito.when(firstBlockModel.getOrgBlockStartIdx()).thenReturn(firstCode.length());
+        Mockito.when(secondBlockModel.getJavadocModel()).thenReturn(this.mockJavadocModel);
+        Mockito.when(secondBlockModel.getOrgBlockStartIdx())
+            .thenReturn(firstCode.length() + javadocContent.length() + secondCode.length());
+        Mockito.when(this.mockJdtsBlockReplLogic.initialize(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(true);
+        Mockito.when(this.mockJdtsBlockReplLogic.getReplacedJavadocBlock()).thenReturn("replaced 1", "replaced 2");
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.replace();
+
+        /* 検証の準備 */
+        final boolean actualResult      = testResult;
+        final String  actualReplaceCode = this.testTarget.getReplaceCode();
 
         /* 検証の実施 */
         Assertions.assertTrue(actualResult, "置換処理が正常に完了すること");
+        Assertions.assertEquals(expectedReplaceCode, actualReplaceCode, "同一内容のJavadocがそれぞれの位置で置換されること");
 
     }
 
@@ -1548,7 +1647,7 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
     }
 
     /**
-     * replace メソッドのテスト - 準正常系：Javadocが見つからない場合の処理（replaceIdx == -1）
+     * replace メソッドのテスト - 準正常系：Javadocが見つからない場合の処理（開始位置にJavadocが存在しない）
      *
      * @since 0.2.2
      *
@@ -1563,10 +1662,18 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         /* 期待値の定義 */
         final String originalCode         = "test original code";
         final String javadocContent       = "/** test javadoc */";
-        final UUID   blockId              = UUID.randomUUID();
         final String replacedJavadocBlock = "/** replaced javadoc */";
 
         /* 準備 */
+        final Logger mockLogger = Mockito.mock(Logger.class);
+        Mockito.when(mockLogger.isWarnEnabled()).thenReturn(true);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("test log message");
+        this.testTarget = new JdtsReplServiceImpl(mockLogger);
+        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        this.reflectionModel.set("messageSource", this.mockMessageSource);
+        this.reflectionModel.set("jdtsBlockReplLogic", this.mockJdtsBlockReplLogic);
+
         final List<JdtsBlockModel> blockModels = new ArrayList<>();
         final JdtsBlockModel       blockModel  = Mockito.mock(JdtsBlockModel.class);
         blockModels.add(blockModel);
@@ -1579,7 +1686,6 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockJdtsCodeModel.getJdtsBlockModels()).thenReturn(blockModels);
         Mockito.when(this.mockJavadocModel.getSrcJavadoc()).thenReturn(javadocContent);
         Mockito.when(blockModel.getJavadocModel()).thenReturn(this.mockJavadocModel);
-        Mockito.when(blockModel.getId()).thenReturn(blockId);
         Mockito.when(blockModel.getClassification()).thenReturn(JavaClassificationTypes.CLASS);
         Mockito.when(blockModel.getElementName()).thenReturn("TestClass");
         Mockito.when(this.mockJdtsBlockReplLogic.initialize(ArgumentMatchers.any(), ArgumentMatchers.any()))
@@ -1590,10 +1696,19 @@ public class JdtsReplServiceImplTest extends AbstractKmgTest {
         final boolean testResult = this.testTarget.replace();
 
         /* 検証の準備 */
-        final boolean actualResult = testResult;
+        final boolean actualResult      = testResult;
+        final String  actualReplaceCode = this.testTarget.getReplaceCode();
 
         /* 検証の実施 */
         Assertions.assertTrue(actualResult, "Javadocが見つからない場合でも置換処理が正常に完了すること");
+        Assertions.assertEquals(originalCode, actualReplaceCode, "Javadocが見つからない場合はコードが変更されないこと");
+        Assertions.assertEquals(0L, this.testTarget.getTotalReplaceCount(), "置換しないブロックは置換件数に数えないこと");
+        Assertions.assertTrue(this.testTarget.getReplActionList().isEmpty(), "置換しないブロックは置換操作を記録しないこと");
+        Mockito.verify(this.mockJdtsBlockReplLogic, Mockito.never()).initialize(ArgumentMatchers.any(),
+            ArgumentMatchers.any());
+        Mockito.verify(this.mockMessageSource).getLogMessage(
+            ArgumentMatchers.eq(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13015), ArgumentMatchers.any());
+        Mockito.verify(mockLogger).warn("test log message");
 
     }
 
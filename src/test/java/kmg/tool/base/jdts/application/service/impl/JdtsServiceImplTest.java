@@ -1,17 +1,23 @@
 package kmg.tool.base.jdts.application.service.impl;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentMatchers;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -24,6 +30,8 @@ import org.springframework.context.ApplicationContext;
 import kmg.core.infrastructure.exception.KmgReflectionException;
 import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
 import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.core.infrastructure.types.JavaClassificationTypes;
+import kmg.core.infrastructure.types.KmgJavadocTagTypes;
 import kmg.fund.domain.logic.FileIteratorLogic;
 import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
@@ -33,11 +41,21 @@ import kmg.fund.infrastructure.utils.KmgYamlUtils;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
+import kmg.tool.base.io.domain.logic.FileWriteLogic;
+import kmg.tool.base.io.domain.logic.impl.FileWriteLogicImpl;
 import kmg.tool.base.jdts.application.model.JdtsCodeModel;
 import kmg.tool.base.jdts.application.model.JdtsConfigsModel;
+import kmg.tool.base.jdts.application.model.JdtsDefinitionModel;
+import kmg.tool.base.jdts.application.model.JdtsFileTimingModel;
+import kmg.tool.base.jdts.application.model.JdtsReplActionModel;
+import kmg.tool.base.jdts.application.model.JdtsStatisticsModel;
 import kmg.tool.base.jdts.application.model.impl.JdtsCodeModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsDefinitionModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsReplActionModelImpl;
 import kmg.tool.base.jdts.application.service.JdtsReplService;
 import kmg.tool.base.jdts.application.types.JdtsConfigKeyTypes;
+import kmg.tool.base.jdts.application.types.JdtsReplActionTypes;
 
 /**
  * JdtsServiceImplのテストクラス
@@ -46,7 +64,7 @@ import kmg.tool.base.jdts.application.types.JdtsConfigKeyTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -83,6 +101,13 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
      */
     private FileIteratorLogic mockFileIteratorLogic;
 
+    /**
+     * モックFileWriteLogic
+     *
+     * @since 0.2.8
+     */
+    private FileWriteLogic mockFileWriteLogic;
+
     /**
      * モックJdtsReplService
      *
@@ -125,6 +150,14 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
      */
     private Path testDefinitionPath;
 
+    /**
+     * テスト用の一時ディレクトリ
+     *
+     * @since 0.2.8
+     */
+    @TempDir
+    private Path tempDir;
+
     /**
      * コンストラクタ メソッドのテスト - 正常系：カスタムロガーを使用した初期化
      *
@@ -204,11 +237,11 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
      *
      * @since 0.2.0
      *
-     * @throws KmgReflectionException
-     *                                リフレクション例外
+     * @throws Exception
+     *                   例外
      */
     @BeforeEach
-    public void setUp() throws KmgReflectionException {
+    public void setUp() throws Exception {
 
         final JdtsServiceImpl jdtsServiceImpl = new JdtsServiceImpl();
         this.testTarget = jdtsServiceImpl;
@@ -217,6 +250,7 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
         /* モックの初期化 */
         this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
         this.mockFileIteratorLogic = Mockito.mock(FileIteratorLogic.class);
+        this.mockFileWriteLogic = Mockito.mock(FileWriteLogic.class);
         this.mockJdtsReplService = Mockito.mock(JdtsReplService.class);
         this.mockJdtsCodeModel = Mockito.mock(JdtsCodeModel.class);
         this.mockJdtsConfigsModel = Mockito.mock(JdtsConfigsModel.class);
@@ -225,11 +259,13 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
         /* モックの設定 */
         this.reflectionModel.set("messageSource", this.mockMessageSource);
         this.reflectionModel.set("fileIteratorLogic", this.mockFileIteratorLogic);
+        this.reflectionModel.set("fileWriteLogic", this.mockFileWriteLogic);
         this.reflectionModel.set("jdtsReplService", this.mockJdtsReplService);
         this.reflectionModel.set("applicationContext", this.mockApplicationContext);
 
         /* テスト用パスの設定 */
-        this.testTargetPath = Paths.get("test/target");
+        this.testTargetPath = this.tempDir.resolve("TestClass.java");
+        Files.writeString(this.testTargetPath, "public class TestClass {\n}");
         this.testDefinitionPath = Paths.get("test/definition.yml");
 
     }
@@ -344,6 +380,199 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * createJdtsConfigsModel メソッドのテスト - 正常系：2回目は構成キャッシュファイルから復元する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCreateJdtsConfigsModel_normalRestoreFromConfigCache() throws Exception {
+
+        /* 期待値の定義 */
+        final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
+
+        /* 準備 */
+        final Path definitionPath = this.tempDir.resolve("definition.yml");
+        Files.writeString(definitionPath, "JdtsConfigs: []");
+        final Path configCachePath = this.tempDir.resolve("cache").resolve(".jdts-configs-cache");
+
+        this.reflectionModel.set("definitionPath", definitionPath);
+        this.testTarget.enableConfigCache(configCachePath);
+
+        try (final var mockStatic = Mockito.mockStatic(KmgYamlUtils.class)) {
+
+            mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
+
+            // 1回目は定義ファイルを解析し、構成キャッシュファイルに保存する
+            this.reflectionModel.getMethod("createJdtsConfigsModel");
+            final JdtsConfigsModel firstConfigsModel = (JdtsConfigsModel) this.reflectionModel.get("jdtsConfigsModel");
+
+            /* テスト対象の実行 */
+            final boolean testResult = (Boolean) this.reflectionModel.getMethod("createJdtsConfigsModel");
+
+            /* 検証の準備 */
+            final JdtsConfigsModel actualConfigsModel = (JdtsConfigsModel) this.reflectionModel.get("jdtsConfigsModel");
+
+            /* 検証の実施 */
+            Assertions.assertTrue(testResult, "構成モデル作成が正常に完了すること");
+            Assertions.assertTrue(Files.exists(configCachePath), "構成キャッシュファイルが保存されること");
+            Assertions.assertEquals(firstConfigsModel.getJdaTagConfigModels().size(),
+                actualConfigsModel.getJdaTagConfigModels().size(), "復元した構成モデルのタグ構成数が一致すること");
+            mockStatic.verify(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class)), Mockito.times(1));
+
+        }
+
+    }
+
+    /**
+     * createJdtsConfigsModel メソッドのテスト - 正常系：常駐している構成モデルを使用する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCreateJdtsConfigsModel_normalUseResidentConfigs() throws Exception {
+
+        /* 期待値の定義 */
+        final JdtsConfigsModel expectedConfigsModel = this.mockJdtsConfigsModel;
+
+        /* 準備 */
+        this.testTarget.enableResidentConfigs(expectedConfigsModel);
+
+        try (final var mockStatic = Mockito.mockStatic(KmgYamlUtils.class)) {
+
+            /* テスト対象の実行 */
+            final boolean testResult = (Boolean) this.reflectionModel.getMethod("createJdtsConfigsModel");
+
+            /* 検証の準備 */
+            final JdtsConfigsModel actualConfigsModel = (JdtsConfigsModel) this.reflectionModel.get("jdtsConfigsModel");
+
+            /* 検証の実施 */
+            Assertions.assertTrue(testResult, "構成モデル作成が正常に完了すること");
+            Assertions.assertSame(expectedConfigsModel, actualConfigsModel, "常駐している構成モデルが使用されること");
+            mockStatic.verify(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class)), Mockito.never());
+
+        }
+
+    }
+
+    /**
+     * enableConfigCache メソッドのテスト - 正常系：構成キャッシュの有効化
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgReflectionException
+     *                                リフレクション例外
+     */
+    @Test
+    public void testEnableConfigCache_normalEnable() throws KmgReflectionException {
+
+        /* 期待値の定義 */
+        final Path expectedConfigCachePath = this.tempDir.resolve(".jdts-configs-cache");
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.enableConfigCache(expectedConfigCachePath);
+
+        /* 検証の準備 */
+        final Path actualConfigCachePath = (Path) this.reflectionModel.get("configCachePath");
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "構成キャッシュの有効化が成功すること");
+        Assertions.assertEquals(expectedConfigCachePath, actualConfigCachePath, "構成キャッシュファイルのパスが設定されること");
+
+    }
+
+    /**
+     * enableDryRunMode メソッドのテスト - 正常系：試行モードの有効化
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgReflectionException
+     *                                リフレクション例外
+     */
+    @Test
+    public void testEnableDryRunMode_normalEnable() throws KmgReflectionException {
+
+        /* 期待値の定義 */
+        final Path expectedReportPath = this.tempDir.resolve("jdts-report.tsv");
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.enableDryRunMode(expectedReportPath);
+
+        /* 検証の準備 */
+        final Path actualReportPath = (Path) this.reflectionModel.get("reportPath");
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "試行モードの有効化が成功すること");
+        Assertions.assertEquals(expectedReportPath, actualReportPath, "レポートファイルのパスが設定されること");
+
+    }
+
+    /**
+     * enableIncrementalMode メソッドのテスト - 正常系：差分処理の有効化
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgReflectionException
+     *                                リフレクション例外
+     */
+    @Test
+    public void testEnableIncrementalMode_normalEnable() throws KmgReflectionException {
+
+        /* 期待値の定義 */
+        final Path expectedManifestPath = this.tempDir.resolve(".jdts-manifest");
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.enableIncrementalMode(expectedManifestPath);
+
+        /* 検証の準備 */
+        final Path actualManifestPath = (Path) this.reflectionModel.get("manifestPath");
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "差分処理の有効化が成功すること");
+        Assertions.assertEquals(expectedManifestPath, actualManifestPath, "マニフェストファイルのパスが設定されること");
+
+    }
+
+    /**
+     * enableResidentConfigs メソッドのテスト - 正常系：常駐している構成モデルの使用の有効化
+     *
+     * @since 0.2.8
+     *
+     * @throws KmgReflectionException
+     *                                リフレクション例外
+     */
+    @Test
+    public void testEnableResidentConfigs_normalEnable() throws KmgReflectionException {
+
+        /* 期待値の定義 */
+        final JdtsConfigsModel expectedConfigsModel = this.mockJdtsConfigsModel;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.enableResidentConfigs(expectedConfigsModel);
+
+        /* 検証の準備 */
+        final JdtsConfigsModel actualConfigsModel = (JdtsConfigsModel) this.reflectionModel.get("residentConfigsModel");
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "有効化が成功すること");
+        Assertions.assertSame(expectedConfigsModel, actualConfigsModel, "常駐している構成モデルが設定されること");
+
+    }
+
     /**
      * getDefinitionPath メソッドのテスト - 正常系：定義ファイルパスの取得
      *
@@ -533,161 +762,294 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
     }
 
     /**
-     * loadAndCreateCodeModel メソッドのテスト - 異常系：loadContentで例外が発生する場合
+     * initialize メソッドのテスト - 正常系：スレッド数を指定した初期化
      *
-     * @since 0.2.4
+     * @since 0.2.8
      *
-     * @throws KmgFundMsgException
-     *                                 KMGツールメッセージ例外
-     * @throws KmgToolBaseValException
-     *                                 KMGツールバリデーション例外
-     * @throws KmgReflectionException
-     *                                 リフレクション例外
+     * @throws Exception
+     *                   例外
      */
     @Test
-    public void testLoadAndCreateCodeModel_errorLoadContentException()
-        throws KmgFundMsgException, KmgToolBaseValException, KmgReflectionException {
+    public void testInitialize_normalInitializationWithThreadNum() throws Exception {
 
         /* 期待値の定義 */
+        final short expectedThreadNum = 4;
 
         /* 準備 */
-        // SpringApplicationContextHelperのモック化
-        try (final var mockSpringHelper = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
-
-            final KmgMessageSource mockMessageSourceForException = Mockito.mock(KmgMessageSource.class);
-            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
-                .thenReturn(mockMessageSourceForException);
-
-            // モックメッセージソースの設定
-            Mockito.when(mockMessageSourceForException.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
-                .thenReturn("テスト用の例外メッセージ");
-
-            // 例外を事前に作成
-            final KmgFundMsgException expectedException
-                = new KmgFundMsgException(KmgFundGenMsgTypes.KMGFUND_GEN13001, new Object[] {
-                    "test"
-                });
-
-            Mockito.when(this.mockFileIteratorLogic.loadContent()).thenThrow(expectedException);
-
-            /* テスト対象の実行 */
-            final KmgFundMsgException testException = Assertions.assertThrows(KmgFundMsgException.class, () -> {
-
-                this.reflectionModel.getMethod("loadAndCreateCodeModel");
-
-            });
+        Mockito.when(this.mockFileIteratorLogic.initialize(ArgumentMatchers.any(Path.class))).thenReturn(true);
 
-            /* 検証の準備 */
+        /* テスト対象の実行 */
+        final boolean testResult
+            = this.testTarget.initialize(this.testTargetPath, this.testDefinitionPath, expectedThreadNum);
 
-            /* 検証の実施 */
-            Assertions.assertNotNull(testException, "KmgFundMsgExceptionが正しく発生すること");
+        /* 検証の準備 */
+        final boolean actualResult    = testResult;
+        final short   actualThreadNum = (Short) this.reflectionModel.get("threadNum");
 
-        }
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "初期化が正常に完了すること");
+        Assertions.assertEquals(expectedThreadNum, actualThreadNum, "スレッド数が正しく設定されること");
+        Mockito.verify(this.mockFileIteratorLogic).initialize(this.testTargetPath);
 
     }
 
     /**
-     * loadAndCreateCodeModel メソッドのテスト - 正常系：正常なコードモデル作成
+     * initializeWithDefinitions メソッドのテスト - 準正常系：定義モデルのリストが空の場合
      *
-     * @since 0.2.0
+     * @since 0.2.8
      *
      * @throws Exception
      *                   例外
      */
     @Test
-    public void testLoadAndCreateCodeModel_normalCreateCodeModel() throws Exception {
+    public void testInitializeWithDefinitions_semiEmptyList() throws Exception {
 
         /* 期待値の定義 */
-        final String expectedContent = "public class TestClass {\n}";
 
         /* 準備 */
-        final JdtsCodeModelImpl mockJdtsCodeModelImpl = Mockito.mock(JdtsCodeModelImpl.class);
-        Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn(expectedContent);
-        Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
-            ArgumentMatchers.eq(expectedContent))).thenReturn(mockJdtsCodeModelImpl);
 
         /* テスト対象の実行 */
-        final JdtsCodeModel testResult = (JdtsCodeModel) this.reflectionModel.getMethod("loadAndCreateCodeModel");
+        final boolean testResult = this.testTarget.initializeWithDefinitions(this.testTargetPath, List.of(), (short) 1);
 
         /* 検証の準備 */
+        final boolean actualResult = testResult;
 
         /* 検証の実施 */
-        Assertions.assertNotNull(testResult, "コードモデルが正しく作成されること");
-        Mockito.verify(this.mockFileIteratorLogic).loadContent();
-        Mockito.verify(mockJdtsCodeModelImpl).parse();
+        Assertions.assertFalse(actualResult, "定義モデルのリストが空の場合は初期化に失敗すること");
+        Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).initialize(ArgumentMatchers.any(Path.class));
 
     }
 
     /**
-     * logFileEnd メソッドのテスト - 正常系：正常なファイル処理終了ログ出力
-     *
-     * @since 0.2.0
+     * initializeWithFileList メソッドのテスト - 異常系：対象ファイルリストのファイルが存在しない場合
      *
-     * @throws KmgReflectionException
-     *                                リフレクション例外
-     * @throws Exception
-     *                                メソッド実行例外
+     * @since 0.2.8
      */
     @Test
-    public void testLogFileEnd_normalLogOutput() throws KmgReflectionException, Exception {
+    public void testInitializeWithFileList_errorFileListNotFound() {
 
         /* 期待値の定義 */
-        final String expectedLogMessage = "test log message";
+        final KmgToolBaseGenMsgTypes expectedMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13018;
 
         /* 準備 */
-        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
-        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
-            .thenReturn(expectedLogMessage);
+        final Path fileListPath = this.tempDir.resolve("not-found.txt");
 
-        /* テスト対象の実行 */
-        this.reflectionModel.getMethod("logFileEnd");
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
 
-        /* 検証の準備 */
-        final boolean actualResult = true;
+            final KmgMessageSource mockMessageSourceForSpring = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForSpring);
+            Mockito.when(mockMessageSourceForSpring.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
 
-        /* 検証の実施 */
-        Assertions.assertTrue(actualResult, "ファイル処理終了ログが正常に出力されること");
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException = Assertions.assertThrows(KmgToolBaseMsgException.class,
+                () -> this.testTarget.initializeWithFileList(fileListPath, this.tempDir, this.testDefinitionPath,
+                    (short) 1));
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "対象ファイルリストを開けない場合のメッセージタイプであること");
+
+        }
 
     }
 
     /**
-     * logFileStart メソッドのテスト - 正常系：正常なファイル処理開始ログ出力
+     * initializeWithFileList メソッドのテスト - 正常系：対象ファイルリストからJavaファイルのみを取り出す場合
      *
-     * @since 0.2.0
+     * @since 0.2.8
      *
-     * @throws KmgReflectionException
-     *                                リフレクション例外
      * @throws Exception
-     *                                メソッド実行例外
+     *                   例外
      */
     @Test
-    public void testLogFileStart_normalLogOutput() throws KmgReflectionException, Exception {
+    public void testInitializeWithFileList_normalFilterFileList() throws Exception {
 
         /* 期待値の定義 */
-        final String expectedLogMessage = "test log message";
+        final Path       expectedFilePathA    = this.tempDir.resolve("src/A.java");
+        final Path       expectedFilePathB    = this.tempDir.resolve("B.java");
+        final List<Path> expectedFilePathList = List.of(expectedFilePathA, expectedFilePathB);
+        final short      expectedThreadNum    = 2;
 
         /* 準備 */
-        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
-        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
-            .thenReturn(expectedLogMessage);
+        Files.createDirectories(expectedFilePathA.getParent());
+        Files.writeString(expectedFilePathA, "public class A {\n}");
+        Files.writeString(expectedFilePathB, "public class B {\n}");
+        Files.writeString(this.tempDir.resolve("README.md"), "# README");
+
+        // 空行、Javaファイル以外、削除されたファイル、重複したファイルを含む git diff --name-only の出力
+        final String fileList = "src/A.java\n\nREADME.md\nDeleted.java\n B.java \nsrc/A.java\n";
 
         /* テスト対象の実行 */
-        this.reflectionModel.getMethod("logFileStart");
+        final boolean testResult;
+
+        try (final BufferedReader fileListReader = new BufferedReader(new StringReader(fileList))) {
+
+            testResult = this.testTarget.initializeWithFileList(fileListReader, this.tempDir,
+                this.testDefinitionPath, expectedThreadNum);
+
+        }
 
         /* 検証の準備 */
-        final boolean actualResult = true;
+        final Object actualFilePathList = this.reflectionModel.get("targetFilePathList");
+        final Path   actualTargetPath   = (Path) this.reflectionModel.get("targetPath");
+        final short  actualThreadNum    = (Short) this.reflectionModel.get("threadNum");
 
         /* 検証の実施 */
-        Assertions.assertTrue(actualResult, "ファイル処理開始ログが正常に出力されること");
+        Assertions.assertTrue(testResult, "初期化が正常に完了すること");
+        Assertions.assertEquals(expectedFilePathList, actualFilePathList, "存在するJavaファイルのみが記載順に重複なく設定されること");
+        Assertions.assertEquals(this.tempDir, actualTargetPath, "基準のディレクトリのパスが対象ファイルパスに設定されること");
+        Assertions.assertEquals(expectedThreadNum, actualThreadNum, "スレッド数が正しく設定されること");
+        Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).initialize(ArgumentMatchers.any(Path.class));
 
     }
 
     /**
-     * process メソッドのテスト - 異常系：createJdtsConfigsModelで例外が発生する場合
-     *
-     * @since 0.2.0
+     * loadAndCreateCodeModel メソッドのテスト - 異常系：対象のファイルの読み込みに失敗する場合
      *
-     * @throws Exception
+     * @since 0.2.8
+     */
+    @Test
+    public void testLoadAndCreateCodeModel_errorReadTargetFile() {
+
+        /* 期待値の定義 */
+        final KmgToolBaseGenMsgTypes expectedMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13006;
+
+        /* 準備 */
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.tempDir.resolve("NotFound.java"));
+
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSourceForSpring = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForSpring);
+            Mockito.when(mockMessageSourceForSpring.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException = Assertions.assertThrows(KmgToolBaseMsgException.class,
+                () -> this.reflectionModel.getMethod("loadAndCreateCodeModel"));
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "対象のファイルの読み込みに失敗した場合のメッセージタイプであること");
+            Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).loadContent();
+
+        }
+
+    }
+
+    /**
+     * loadAndCreateCodeModel メソッドのテスト - 正常系：正常なコードモデル作成
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoadAndCreateCodeModel_normalCreateCodeModel() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "public class TestClass {\n}";
+
+        /* 準備 */
+        final JdtsCodeModelImpl mockJdtsCodeModelImpl = Mockito.mock(JdtsCodeModelImpl.class);
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
+        Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
+            ArgumentMatchers.eq(expectedContent))).thenReturn(mockJdtsCodeModelImpl);
+
+        /* テスト対象の実行 */
+        final JdtsCodeModel testResult = (JdtsCodeModel) this.reflectionModel.getMethod("loadAndCreateCodeModel");
+
+        /* 検証の準備 */
+        final String actualReadContent = (String) this.reflectionModel.get("currentReadContent");
+
+        /* 検証の実施 */
+        Assertions.assertNotNull(testResult, "コードモデルが正しく作成されること");
+        Assertions.assertEquals(expectedContent, actualReadContent, "読み込んだ内容が保持されること");
+        Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).loadContent();
+        Mockito.verify(mockJdtsCodeModelImpl).parse();
+
+    }
+
+    /**
+     * logFileEnd メソッドのテスト - 正常系：正常なファイル処理終了ログ出力
+     *
+     * @since 0.2.0
+     *
+     * @throws KmgReflectionException
+     *                                リフレクション例外
+     * @throws Exception
+     *                                メソッド実行例外
+     */
+    @Test
+    public void testLogFileEnd_normalLogOutput() throws KmgReflectionException, Exception {
+
+        /* 期待値の定義 */
+        final String expectedLogMessage = "test log message";
+
+        /* 準備 */
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(expectedLogMessage);
+
+        /* テスト対象の実行 */
+        this.reflectionModel.getMethod("logFileEnd");
+
+        /* 検証の準備 */
+        final boolean actualResult = true;
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "ファイル処理終了ログが正常に出力されること");
+
+    }
+
+    /**
+     * logFileStart メソッドのテスト - 正常系：正常なファイル処理開始ログ出力
+     *
+     * @since 0.2.0
+     *
+     * @throws KmgReflectionException
+     *                                リフレクション例外
+     * @throws Exception
+     *                                メソッド実行例外
+     */
+    @Test
+    public void testLogFileStart_normalLogOutput() throws KmgReflectionException, Exception {
+
+        /* 期待値の定義 */
+        final String expectedLogMessage = "test log message";
+
+        /* 準備 */
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(expectedLogMessage);
+
+        /* テスト対象の実行 */
+        this.reflectionModel.getMethod("logFileStart");
+
+        /* 検証の準備 */
+        final boolean actualResult = true;
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "ファイル処理開始ログが正常に出力されること");
+
+    }
+
+    /**
+     * process メソッドのテスト - 異常系：createJdtsConfigsModelで例外が発生する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
      *                   例外
      */
     @Test
@@ -814,7 +1176,6 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
             .thenReturn("test log message");
         Mockito.when(this.mockFileIteratorLogic.getFilePathList()).thenReturn(filePathList);
         Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
-        Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("public class TestClass {\n}");
         Mockito.when(this.mockJdtsReplService.getTotalReplaceCount()).thenReturn(1L);
         Mockito.when(this.mockJdtsReplService.getReplaceCode()).thenReturn("replaced code");
         Mockito.when(this.mockJdtsReplService.initialize(ArgumentMatchers.any(), ArgumentMatchers.any()))
@@ -843,81 +1204,448 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
                     "test"
                 });
 
-            // nextFile()で例外を発生させる
-            Mockito.when(this.mockFileIteratorLogic.nextFile()).thenThrow(expectedException);
+            // nextFile()で例外を発生させる
+            Mockito.when(this.mockFileIteratorLogic.nextFile()).thenThrow(expectedException);
+
+            final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
+            mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
+
+            /* テスト対象の実行 */
+            final KmgFundMsgException testException = Assertions.assertThrows(KmgFundMsgException.class, () -> {
+
+                this.testTarget.process();
+
+            });
+
+            /* 検証の準備 */
+
+            /* 検証の実施 */
+            Assertions.assertNotNull(testException, "KmgFundMsgExceptionが正しく発生すること");
+
+        }
+
+    }
+
+    /**
+     * process メソッドのテスト - 異常系：processFileで例外が発生する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcess_errorProcessFileException() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.reflectionModel.set("definitionPath", this.testDefinitionPath);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("test log message");
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.tempDir.resolve("NotFound.java"));
+
+        // SpringApplicationContextHelperのモック化
+        try (final var mockStatic = Mockito.mockStatic(KmgYamlUtils.class);
+            final var mockSpringHelper = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSourceForException = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForException);
+
+            // モックメッセージソースの設定
+            Mockito.when(mockMessageSourceForException.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
+            mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException = Assertions.assertThrows(KmgToolBaseMsgException.class,
+                () -> {
+
+                    this.testTarget.process();
+
+                });
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13006, actualMsgTypes,
+                "対象のファイルの読み込みに失敗した場合のメッセージタイプであること");
+
+        }
+
+    }
+
+    /**
+     * process メソッドのテスト - 正常系：試行モードでファイルに書き込まずにレポートファイルに出力する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcess_normalDryRunReport() throws Exception {
+
+        /* 期待値の定義 */
+        final int    expectedFileCount = 3;
+        final String expectedHeader    = "#jdts-report\t1";
+
+        /* 準備 */
+        final List<Path>   filePathList   = new ArrayList<>();
+        final List<String> orgContentList = new ArrayList<>();
+
+        for (int i = 0; i < expectedFileCount; i++) {
+
+            final Path   filePath   = this.tempDir.resolve("TestClass" + i + ".java");
+            final String orgContent = "public class TestClass" + i + " {\n}";
+            Files.writeString(filePath, orgContent);
+            filePathList.add(filePath);
+            orgContentList.add(orgContent);
+
+        }
+
+        final Path definitionPath = this.tempDir.resolve("definition.yml");
+        Files.writeString(definitionPath, "JdtsConfigurations: []");
+        final Path manifestPath = this.tempDir.resolve("cache").resolve(".jdts-manifest");
+        final Path reportPath   = this.tempDir.resolve("report").resolve("jdts-report.tsv");
+
+        this.reflectionModel.set("definitionPath", definitionPath);
+        this.reflectionModel.set("threadNum", (short) 2);
+        this.testTarget.enableIncrementalMode(manifestPath);
+        this.testTarget.enableDryRunMode(reportPath);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("test log message");
+        Mockito.when(this.mockFileIteratorLogic.getFilePathList()).thenReturn(filePathList);
+
+        // ファイルごとに取得される置換サービス
+        final JdtsReplService mockWorkerReplService = Mockito.mock(JdtsReplService.class);
+        Mockito.when(mockWorkerReplService.getTotalReplaceCount()).thenReturn(1L);
+        Mockito.when(mockWorkerReplService.getReplaceCode()).thenReturn("replaced code");
+        Mockito.when(mockWorkerReplService.getReplActionList()).thenReturn(List.of(new JdtsReplActionModelImpl(
+            JdtsReplActionTypes.REPLACE, JavaClassificationTypes.CLASS, "TestClass", KmgJavadocTagTypes.SINCE)));
+        Mockito.when(this.mockApplicationContext.getBean(JdtsReplService.class)).thenReturn(mockWorkerReplService);
+
+        try (final MockedStatic<KmgYamlUtils> mockStatic = Mockito.mockStatic(KmgYamlUtils.class);
+            final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+                = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
+            mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
+
+            // SpringApplicationContextHelperのモック化
+            final KmgMessageSource mockMessageSourceForSpring = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForSpring);
+
+            // ApplicationContextのモック設定
+            final JdtsCodeModelImpl mockJdtsCodeModelImpl = Mockito.mock(JdtsCodeModelImpl.class);
+            Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
+                ArgumentMatchers.any(String.class))).thenReturn(mockJdtsCodeModelImpl);
+
+            /* テスト対象の実行 */
+            final boolean testResult = this.testTarget.process();
+
+            /* 検証の準備 */
+            final List<String> actualReportLines    = Files.readAllLines(reportPath);
+            final long         actualWriteFileCount = ((AtomicLong) this.reflectionModel.get("writeFileCount")).get();
+            final Object       actualReportWriter   = this.reflectionModel.get("reportWriter");
+
+            /* 検証の実施 */
+            Assertions.assertTrue(testResult, "試行モードの処理が正常に完了すること");
+            Assertions.assertEquals(expectedHeader, actualReportLines.get(0), "レポートファイルの先頭がヘッダ行であること");
+            Assertions.assertEquals(expectedFileCount + 1, actualReportLines.size(), "ファイルごとに置換操作の行が出力されること");
+
+            for (int i = 0; i < expectedFileCount; i++) {
+
+                Assertions.assertEquals(orgContentList.get(i), Files.readString(filePathList.get(i)),
+                    "対象のファイルに書き込まれないこと");
+                Assertions.assertTrue(
+                    actualReportLines.contains(filePathList.get(i) + "\t" + JavaClassificationTypes.CLASS.getKey()
+                        + "\tTestClass\t" + KmgJavadocTagTypes.SINCE.getKey() + "\treplace"),
+                    "ファイル、要素、タグ、置換操作の種類が出力されること");
+
+            }
+
+            Assertions.assertEquals(expectedFileCount, actualWriteFileCount, "書き込む予定のファイル数が集計されること");
+            Assertions.assertNull(actualReportWriter, "処理後にレポートファイルが閉じられること");
+            Assertions.assertFalse(Files.exists(manifestPath), "試行モードではマニフェストファイルが作成されないこと");
+            Mockito.verify(this.mockFileWriteLogic, Mockito.never()).writeIfChanged(ArgumentMatchers.any(),
+                ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        }
+
+    }
+
+    /**
+     * process メソッドのテスト - 正常系：対象ファイルリストのファイルのみを順番に処理する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcess_normalFileList() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent   = "replaced code";
+        final int    expectedFileCount = 2;
+
+        /* 準備 */
+        final List<Path> filePathList = new ArrayList<>();
+
+        for (int i = 0; i < expectedFileCount; i++) {
+
+            final Path filePath = this.tempDir.resolve("TestClass" + i + ".java");
+            Files.writeString(filePath, "public class TestClass" + i + " {\n}");
+            filePathList.add(filePath);
+
+        }
+
+        this.reflectionModel.set("definitionPath", this.testDefinitionPath);
+        this.reflectionModel.set("threadNum", (short) 1);
+        this.reflectionModel.set("targetFilePathList", List.copyOf(filePathList));
+        this.reflectionModel.set("manifestPath", this.tempDir.resolve("manifest.tsv"));
+        this.reflectionModel.set("fileWriteLogic", new FileWriteLogicImpl());
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("test log message");
+
+        // ファイルごとに取得される置換サービス
+        final JdtsReplService mockWorkerReplService = Mockito.mock(JdtsReplService.class);
+        Mockito.when(mockWorkerReplService.getTotalReplaceCount()).thenReturn(1L);
+        Mockito.when(mockWorkerReplService.getReplaceCode()).thenReturn(expectedContent);
+        Mockito.when(this.mockApplicationContext.getBean(JdtsReplService.class)).thenReturn(mockWorkerReplService);
+
+        try (final MockedStatic<KmgYamlUtils> mockStatic = Mockito.mockStatic(KmgYamlUtils.class);
+            final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+                = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
+            mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
+
+            // SpringApplicationContextHelperのモック化
+            final KmgMessageSource mockMessageSourceForSpring = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForSpring);
+
+            // ApplicationContextのモック設定
+            final JdtsCodeModelImpl mockJdtsCodeModelImpl = Mockito.mock(JdtsCodeModelImpl.class);
+            Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
+                ArgumentMatchers.any(String.class))).thenReturn(mockJdtsCodeModelImpl);
+
+            /* テスト対象の実行 */
+            final boolean testResult = this.testTarget.process();
+
+            /* 検証の準備 */
+            final boolean actualResult = testResult;
+
+            /* 検証の実施 */
+            Assertions.assertTrue(actualResult, "対象ファイルリストの処理が正常に完了すること");
+
+            for (final Path filePath : filePathList) {
+
+                Assertions.assertEquals(expectedContent, Files.readString(filePath), "各ファイルに置換後のコードが書き込まれること");
+
+            }
+
+            // 対象のディレクトリを走査しないことを確認
+            Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).load();
+            Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).nextFile();
+            // ファイルごとに置換サービスが取得されることを確認
+            Mockito.verify(this.mockApplicationContext, Mockito.times(expectedFileCount))
+                .getBean(JdtsReplService.class);
+            // ファイルごとに開始ログと終了ログが出力されることを確認
+            Mockito.verify(this.mockMessageSource, Mockito.times(expectedFileCount)).getLogMessage(
+                ArgumentMatchers.eq(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13007), ArgumentMatchers.any());
+            Mockito.verify(this.mockMessageSource, Mockito.times(expectedFileCount)).getLogMessage(
+                ArgumentMatchers.eq(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13008), ArgumentMatchers.any());
+            // リストにないファイルの処理結果を除外しないように、マニフェストファイルを保存しないことを確認
+            Assertions.assertFalse(Files.exists(this.tempDir.resolve("manifest.tsv")), "マニフェストファイルが保存されないこと");
+
+        }
+
+    }
+
+    /**
+     * process メソッドのテスト - 正常系：差分処理で2回目の処理では変更のないファイルをスキップする場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcess_normalIncrementalSkipUnchangedFiles() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent   = "replaced code";
+        final int    expectedFileCount = 3;
+
+        /* 準備 */
+        final List<Path> filePathList = new ArrayList<>();
+
+        for (int i = 0; i < expectedFileCount; i++) {
+
+            final Path filePath = this.tempDir.resolve("TestClass" + i + ".java");
+            Files.writeString(filePath, "public class TestClass" + i + " {\n}");
+            filePathList.add(filePath);
+
+        }
+
+        final Path definitionPath = this.tempDir.resolve("definition.yml");
+        Files.writeString(definitionPath, "JdtsConfigurations: []");
+        final Path manifestPath = this.tempDir.resolve("cache").resolve(".jdts-manifest");
+
+        this.reflectionModel.set("definitionPath", definitionPath);
+        this.reflectionModel.set("threadNum", (short) 2);
+        this.reflectionModel.set("fileWriteLogic", new FileWriteLogicImpl());
+        this.testTarget.enableIncrementalMode(manifestPath);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("test log message");
+        Mockito.when(this.mockFileIteratorLogic.getFilePathList()).thenReturn(filePathList);
+
+        // ファイルごとに取得される置換サービス
+        final JdtsReplService mockWorkerReplService = Mockito.mock(JdtsReplService.class);
+        Mockito.when(mockWorkerReplService.getTotalReplaceCount()).thenReturn(2L);
+        Mockito.when(mockWorkerReplService.getReplaceCode()).thenReturn(expectedContent);
+        Mockito.when(this.mockApplicationContext.getBean(JdtsReplService.class)).thenReturn(mockWorkerReplService);
+
+        try (final MockedStatic<KmgYamlUtils> mockStatic = Mockito.mockStatic(KmgYamlUtils.class);
+            final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+                = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
 
             final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
             mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
 
-            /* テスト対象の実行 */
-            final KmgFundMsgException testException = Assertions.assertThrows(KmgFundMsgException.class, () -> {
+            // SpringApplicationContextHelperのモック化
+            final KmgMessageSource mockMessageSourceForSpring = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForSpring);
 
-                this.testTarget.process();
+            // ApplicationContextのモック設定
+            final JdtsCodeModelImpl mockJdtsCodeModelImpl = Mockito.mock(JdtsCodeModelImpl.class);
+            Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
+                ArgumentMatchers.any(String.class))).thenReturn(mockJdtsCodeModelImpl);
 
-            });
+            // 1回目の処理で全てのファイルを処理し、マニフェストファイルを作成する
+            this.testTarget.process();
+
+            /* テスト対象の実行 */
+            final boolean testResult = this.testTarget.process();
 
             /* 検証の準備 */
+            final boolean actualResult = testResult;
 
             /* 検証の実施 */
-            Assertions.assertNotNull(testException, "KmgFundMsgExceptionが正しく発生すること");
+            Assertions.assertTrue(actualResult, "差分処理が正常に完了すること");
+            Assertions.assertTrue(Files.exists(manifestPath), "マニフェストファイルが作成されること");
+
+            for (final Path filePath : filePathList) {
+
+                Assertions.assertEquals(expectedContent, Files.readString(filePath), "各ファイルの内容が維持されること");
+
+            }
+
+            // 置換サービスは1回目の処理でのみ取得されることを確認
+            Mockito.verify(this.mockApplicationContext, Mockito.times(expectedFileCount))
+                .getBean(JdtsReplService.class);
+            // 2回目の処理でファイルごとにスキップログが出力されることを確認
+            Mockito.verify(this.mockMessageSource, Mockito.times(expectedFileCount)).getLogMessage(
+                ArgumentMatchers.eq(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13009), ArgumentMatchers.any());
 
         }
 
     }
 
     /**
-     * process メソッドのテスト - 異常系：processFileで例外が発生する場合
+     * process メソッドのテスト - 正常系：複数の定義ファイルを1回の走査で適用する場合
      *
-     * @since 0.2.0
+     * @since 0.2.8
      *
      * @throws Exception
      *                   例外
      */
     @Test
-    public void testProcess_errorProcessFileException() throws Exception {
+    public void testProcess_normalMultipleDefinitions() throws Exception {
 
         /* 期待値の定義 */
+        final String expectedContent     = "replaced code";
+        final String expectedSkipContent = "public class Generated {\n}";
 
         /* 準備 */
-        this.reflectionModel.set("definitionPath", this.testDefinitionPath);
+        final Path mainFilePath      = this.tempDir.resolve("main").resolve("MainClass.java");
+        final Path testFilePath      = this.tempDir.resolve("test").resolve("TestClass.java");
+        final Path generatedFilePath = this.tempDir.resolve("generated").resolve("Generated.java");
+        Files.createDirectories(mainFilePath.getParent());
+        Files.createDirectories(testFilePath.getParent());
+        Files.createDirectories(generatedFilePath.getParent());
+        Files.writeString(mainFilePath, "public class MainClass {\n}");
+        Files.writeString(testFilePath, "public class TestClass {\n}");
+        Files.writeString(generatedFilePath, expectedSkipContent);
+
+        final List<JdtsDefinitionModel> jdtsDefinitionModelList = new ArrayList<>();
+        jdtsDefinitionModelList.add(new JdtsDefinitionModelImpl(this.tempDir.resolve("main.yml"), "main/**"));
+        jdtsDefinitionModelList.add(new JdtsDefinitionModelImpl(this.tempDir.resolve("all.yml"), "{main,test}/**"));
+
+        this.reflectionModel.set("fileWriteLogic", new FileWriteLogicImpl());
+        Mockito.when(this.mockFileIteratorLogic.initialize(ArgumentMatchers.any(Path.class))).thenReturn(true);
+        Mockito.when(this.mockFileIteratorLogic.getFilePathList())
+            .thenReturn(List.of(mainFilePath, testFilePath, generatedFilePath));
         Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
             .thenReturn("test log message");
-        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
-
-        // SpringApplicationContextHelperのモック化
-        try (final var mockStatic = Mockito.mockStatic(KmgYamlUtils.class);
-            final var mockSpringHelper = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
-
-            final KmgMessageSource mockMessageSourceForException = Mockito.mock(KmgMessageSource.class);
-            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
-                .thenReturn(mockMessageSourceForException);
 
-            // モックメッセージソースの設定
-            Mockito.when(mockMessageSourceForException.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
-                .thenReturn("テスト用の例外メッセージ");
+        // 定義ファイルごとに取得される置換サービス
+        final JdtsReplService mockWorkerReplService = Mockito.mock(JdtsReplService.class);
+        Mockito.when(mockWorkerReplService.getTotalReplaceCount()).thenReturn(1L);
+        Mockito.when(mockWorkerReplService.getReplaceCode()).thenReturn(expectedContent);
+        Mockito.when(this.mockApplicationContext.getBean(JdtsReplService.class)).thenReturn(mockWorkerReplService);
 
-            // 例外を事前に作成
-            final KmgFundMsgException expectedException
-                = new KmgFundMsgException(KmgFundGenMsgTypes.KMGFUND_GEN13001, new Object[] {
-                    "test"
-                });
+        final JdtsCodeModelImpl mockJdtsCodeModelImpl = Mockito.mock(JdtsCodeModelImpl.class);
+        Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
+            ArgumentMatchers.any(String.class))).thenReturn(mockJdtsCodeModelImpl);
 
-            Mockito.when(this.mockFileIteratorLogic.loadContent()).thenThrow(expectedException);
+        try (final MockedStatic<KmgYamlUtils> mockStatic = Mockito.mockStatic(KmgYamlUtils.class);
+            final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+                = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
 
             final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
             mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
 
-            /* テスト対象の実行 */
-            final KmgFundMsgException testException = Assertions.assertThrows(KmgFundMsgException.class, () -> {
-
-                this.testTarget.process();
+            // SpringApplicationContextHelperのモック化
+            final KmgMessageSource mockMessageSourceForSpring = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForSpring);
 
-            });
+            /* テスト対象の実行 */
+            this.testTarget.initializeWithDefinitions(this.tempDir, jdtsDefinitionModelList, (short) 1);
+            final boolean testResult = this.testTarget.process();
 
             /* 検証の準備 */
+            final boolean actualResult = testResult;
 
             /* 検証の実施 */
-            Assertions.assertNotNull(testException, "KmgFundMsgExceptionが正しく発生すること");
+            Assertions.assertTrue(actualResult, "複数の定義ファイルの処理が正常に完了すること");
+            Assertions.assertEquals(expectedContent, Files.readString(mainFilePath), "一致する定義ファイルで置換した内容が書き込まれること");
+            Assertions.assertEquals(expectedContent, Files.readString(testFilePath), "一致する定義ファイルで置換した内容が書き込まれること");
+            Assertions.assertEquals(expectedSkipContent, Files.readString(generatedFilePath),
+                "一致する定義ファイルがないファイルは変更されないこと");
+
+            // 対象のディレクトリを1回だけ走査することを確認
+            Mockito.verify(this.mockFileIteratorLogic, Mockito.times(1)).load();
+            // 定義ファイルごとに1回だけ読み込むことを確認
+            mockStatic.verify(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class)), Mockito.times(2));
+            // 一致する定義ファイルごとに置換サービスが取得されることを確認（main：2回、test：1回）
+            Mockito.verify(this.mockApplicationContext, Mockito.times(3)).getBean(JdtsReplService.class);
+            // 2つ目の定義ファイルは、1つ目の定義ファイルで置換した内容に適用されることを確認
+            Mockito.verify(this.mockApplicationContext, Mockito.times(1)).getBean(JdtsCodeModelImpl.class,
+                expectedContent);
+            // 一致する定義ファイルがないファイルのスキップログが出力されることを確認
+            Mockito.verify(this.mockMessageSource, Mockito.times(1)).getLogMessage(
+                ArgumentMatchers.eq(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13014), ArgumentMatchers.any());
 
         }
 
@@ -947,7 +1675,6 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
             .thenReturn("test log message");
         Mockito.when(this.mockFileIteratorLogic.getFilePathList()).thenReturn(filePathList);
         Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
-        Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("public class TestClass {\n}");
         Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
             ArgumentMatchers.eq("public class TestClass {\n}"))).thenReturn(mockJdtsCodeModelImpl);
         Mockito.when(this.mockJdtsReplService.getTotalReplaceCount()).thenReturn(2L);
@@ -982,7 +1709,96 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
             // nextFile()が3回呼ばれることを確認（3つのファイルを処理するため）
             Mockito.verify(this.mockFileIteratorLogic, Mockito.times(3)).nextFile();
             // processFile()が3回呼ばれることを確認（3つのファイルを処理するため）
-            Mockito.verify(this.mockFileIteratorLogic, Mockito.times(3)).loadContent();
+            Mockito.verify(this.mockApplicationContext, Mockito.times(3)).getBean(
+                ArgumentMatchers.eq(JdtsCodeModelImpl.class), ArgumentMatchers.eq("public class TestClass {\n}"));
+            // ファイルイテレーターロジックで読み込まないことを確認
+            Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).loadContent();
+
+        }
+
+    }
+
+    /**
+     * process メソッドのテスト - 正常系：複数ファイルの並列処理
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcess_normalParallelMultipleFiles() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent   = "replaced code";
+        final int    expectedFileCount = 3;
+
+        /* 準備 */
+        final List<Path> filePathList = new ArrayList<>();
+
+        for (int i = 0; i < expectedFileCount; i++) {
+
+            final Path filePath = this.tempDir.resolve("TestClass" + i + ".java");
+            Files.writeString(filePath, "public class TestClass" + i + " {\n}");
+            filePathList.add(filePath);
+
+        }
+
+        this.reflectionModel.set("definitionPath", this.testDefinitionPath);
+        this.reflectionModel.set("threadNum", (short) 2);
+        this.reflectionModel.set("fileWriteLogic", new FileWriteLogicImpl());
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("test log message");
+        Mockito.when(this.mockFileIteratorLogic.getFilePathList()).thenReturn(filePathList);
+
+        // ファイルごとに取得される置換サービス
+        final JdtsReplService mockWorkerReplService = Mockito.mock(JdtsReplService.class);
+        Mockito.when(mockWorkerReplService.getTotalReplaceCount()).thenReturn(2L);
+        Mockito.when(mockWorkerReplService.getReplaceCode()).thenReturn(expectedContent);
+        Mockito.when(this.mockApplicationContext.getBean(JdtsReplService.class)).thenReturn(mockWorkerReplService);
+
+        try (final MockedStatic<KmgYamlUtils> mockStatic = Mockito.mockStatic(KmgYamlUtils.class);
+            final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+                = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
+            mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
+
+            // SpringApplicationContextHelperのモック化
+            final KmgMessageSource mockMessageSourceForSpring = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForSpring);
+
+            // ApplicationContextのモック設定
+            final JdtsCodeModelImpl mockJdtsCodeModelImpl = Mockito.mock(JdtsCodeModelImpl.class);
+            Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
+                ArgumentMatchers.any(String.class))).thenReturn(mockJdtsCodeModelImpl);
+
+            /* テスト対象の実行 */
+            final boolean testResult = this.testTarget.process();
+
+            /* 検証の準備 */
+            final boolean actualResult = testResult;
+
+            /* 検証の実施 */
+            Assertions.assertTrue(actualResult, "並列処理が正常に完了すること");
+
+            for (final Path filePath : filePathList) {
+
+                Assertions.assertEquals(expectedContent, Files.readString(filePath), "各ファイルに置換後のコードが書き込まれること");
+
+            }
+
+            // ファイルごとに置換サービスが取得されることを確認
+            Mockito.verify(this.mockApplicationContext, Mockito.times(expectedFileCount))
+                .getBean(JdtsReplService.class);
+            // ファイルイテレーターロジックで読み込まないことを確認
+            Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).loadContent();
+            // ファイルごとに開始ログと終了ログが出力されることを確認
+            Mockito.verify(this.mockMessageSource, Mockito.times(expectedFileCount)).getLogMessage(
+                ArgumentMatchers.eq(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13007), ArgumentMatchers.any());
+            Mockito.verify(this.mockMessageSource, Mockito.times(expectedFileCount)).getLogMessage(
+                ArgumentMatchers.eq(KmgToolBaseLogMsgTypes.KMGTOOLBASE_LOG13008), ArgumentMatchers.any());
 
         }
 
@@ -1009,7 +1825,6 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
             .thenReturn("test log message");
         Mockito.when(this.mockFileIteratorLogic.getFilePathList()).thenReturn(filePathList);
         Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
-        Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("public class TestClass {\n}");
         Mockito.when(this.mockJdtsReplService.getTotalReplaceCount()).thenReturn(1L);
         Mockito.when(this.mockJdtsReplService.getReplaceCode()).thenReturn("replaced code");
         Mockito.when(this.mockJdtsReplService.initialize(ArgumentMatchers.any(), ArgumentMatchers.any()))
@@ -1045,7 +1860,86 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
             // nextFile()が1回呼ばれることを確認
             Mockito.verify(this.mockFileIteratorLogic, Mockito.times(1)).nextFile();
             // processFile()が1回呼ばれることを確認
-            Mockito.verify(this.mockFileIteratorLogic, Mockito.times(1)).loadContent();
+            Mockito.verify(this.mockApplicationContext, Mockito.times(1)).getBean(
+                ArgumentMatchers.eq(JdtsCodeModelImpl.class), ArgumentMatchers.eq("public class TestClass {\n}"));
+
+        }
+
+    }
+
+    /**
+     * process メソッドのテスト - 正常系：ファイルごとの置換操作と処理時間を統計モデルに集計する場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcess_normalStatistics() throws Exception {
+
+        /* 期待値の定義 */
+        final long expectedFileCount    = 2L;
+        final long expectedAddCount     = 2L;
+        final long expectedReplaceCount = 2L;
+        final long expectedSkipCount    = 6L;
+
+        /* 準備 */
+        final List<Path> filePathList = new ArrayList<>();
+        filePathList.add(this.testTargetPath);
+        filePathList.add(Paths.get("test/target2"));
+
+        final List<JdtsReplActionModel> replActionList = new ArrayList<>();
+        replActionList.add(new JdtsReplActionModelImpl(JdtsReplActionTypes.ADD, JavaClassificationTypes.CLASS,
+            "TestClass", KmgJavadocTagTypes.AUTHOR));
+        replActionList.add(new JdtsReplActionModelImpl(JdtsReplActionTypes.REPLACE, JavaClassificationTypes.CLASS,
+            "TestClass", KmgJavadocTagTypes.VERSION));
+
+        final Map<KmgJavadocTagTypes, Long> skipCountMap = new HashMap<>();
+        skipCountMap.put(KmgJavadocTagTypes.SINCE, 3L);
+
+        final JdtsCodeModelImpl mockJdtsCodeModelImpl = Mockito.mock(JdtsCodeModelImpl.class);
+        this.reflectionModel.set("definitionPath", this.testDefinitionPath);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("test log message");
+        Mockito.when(this.mockFileIteratorLogic.getFilePathList()).thenReturn(filePathList);
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
+        Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
+            ArgumentMatchers.any(String.class))).thenReturn(mockJdtsCodeModelImpl);
+        Mockito.when(this.mockJdtsReplService.getTotalReplaceCount()).thenReturn(2L);
+        Mockito.when(this.mockJdtsReplService.getReplaceCode()).thenReturn("replaced code");
+        Mockito.when(this.mockJdtsReplService.getReplActionList()).thenReturn(replActionList);
+        Mockito.when(this.mockJdtsReplService.getSkipCountMap()).thenReturn(skipCountMap);
+        Mockito.when(this.mockJdtsReplService.initialize(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(true);
+
+        // nextFile()は1回目でtrue、2回目でfalseを返す（2つのファイルを処理）
+        Mockito.when(this.mockFileIteratorLogic.nextFile()).thenReturn(true, false);
+
+        try (final MockedStatic<KmgYamlUtils> mockStatic = Mockito.mockStatic(KmgYamlUtils.class)) {
+
+            final Map<String, Object> yamlData = JdtsServiceImplTest.createValidYamlData();
+            mockStatic.when(() -> KmgYamlUtils.load(ArgumentMatchers.any(Path.class))).thenReturn(yamlData);
+
+            /* テスト対象の実行 */
+            final boolean testResult = this.testTarget.process();
+
+            /* 検証の準備 */
+            final JdtsStatisticsModel       actualStatisticsModel = this.testTarget.getJdtsStatisticsModel();
+            final List<JdtsFileTimingModel> actualSlowestList     = actualStatisticsModel.getSlowestFileTimingList();
+
+            /* 検証の実施 */
+            Assertions.assertTrue(testResult, "処理が正常に完了すること");
+            Assertions.assertEquals(expectedFileCount, actualStatisticsModel.getFileCount(), "処理したファイル数が集計されること");
+            Assertions.assertEquals(expectedAddCount,
+                actualStatisticsModel.getReplActionCount(KmgJavadocTagTypes.AUTHOR, JdtsReplActionTypes.ADD),
+                "タグと置換操作の種類ごとに追加の件数が集計されること");
+            Assertions.assertEquals(expectedReplaceCount,
+                actualStatisticsModel.getReplActionCount(KmgJavadocTagTypes.VERSION, JdtsReplActionTypes.REPLACE),
+                "タグと置換操作の種類ごとに置換の件数が集計されること");
+            Assertions.assertEquals(expectedSkipCount, actualStatisticsModel.getSkipCount(KmgJavadocTagTypes.SINCE),
+                "タグごとに上書きしなかった件数が集計されること");
+            Assertions.assertEquals((int) expectedFileCount, actualSlowestList.size(), "処理時間が長いファイルとして全てのファイルが保持されること");
 
         }
 
@@ -1071,7 +1965,6 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
             .thenReturn("test log message");
         Mockito.when(this.mockFileIteratorLogic.getFilePathList()).thenReturn(emptyFilePathList);
-        Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("public class TestClass {\n}");
         Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
             ArgumentMatchers.eq("public class TestClass {\n}"))).thenReturn(mockJdtsCodeModelImpl);
 
@@ -1096,22 +1989,14 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
      * processFile メソッドのテスト - 異常系：loadAndCreateCodeModelで例外が発生する場合
      *
      * @since 0.2.4
-     *
-     * @throws KmgFundMsgException
-     *                                 KMGツールメッセージ例外
-     * @throws KmgToolBaseValException
-     *                                 KMGツールバリデーション例外
-     * @throws KmgReflectionException
-     *                                 リフレクション例外
      */
     @Test
-    public void testProcessFile_errorLoadAndCreateCodeModelException()
-        throws KmgFundMsgException, KmgToolBaseValException, KmgReflectionException {
+    public void testProcessFile_errorLoadAndCreateCodeModelException() {
 
         /* 期待値の定義 */
 
         /* 準備 */
-        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.tempDir.resolve("NotFound.java"));
         Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
             .thenReturn("test log message");
 
@@ -1126,25 +2011,20 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
             Mockito.when(mockMessageSourceForException.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
                 .thenReturn("テスト用の例外メッセージ");
 
-            // 例外を事前に作成
-            final KmgFundMsgException expectedException
-                = new KmgFundMsgException(KmgFundGenMsgTypes.KMGFUND_GEN13001, new Object[] {
-                    "test"
-                });
-
-            Mockito.when(this.mockFileIteratorLogic.loadContent()).thenThrow(expectedException);
-
             /* テスト対象の実行 */
-            final KmgFundMsgException testException = Assertions.assertThrows(KmgFundMsgException.class, () -> {
+            final KmgToolBaseMsgException testException = Assertions.assertThrows(KmgToolBaseMsgException.class,
+                () -> {
 
-                this.reflectionModel.getMethod("processFile");
+                    this.reflectionModel.getMethod("processFile");
 
-            });
+                });
 
             /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
 
             /* 検証の実施 */
-            Assertions.assertNotNull(testException, "KmgFundMsgExceptionが正しく発生すること");
+            Assertions.assertEquals(KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13006, actualMsgTypes,
+                "対象のファイルの読み込みに失敗した場合のメッセージタイプであること");
 
         }
 
@@ -1169,7 +2049,6 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
         Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
             .thenReturn("test log message");
-        Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("public class TestClass {\n}");
         Mockito.when(this.mockApplicationContext.getBean(ArgumentMatchers.eq(JdtsCodeModelImpl.class),
             ArgumentMatchers.eq("public class TestClass {\n}"))).thenReturn(mockJdtsCodeModelImpl);
         Mockito.when(this.mockJdtsReplService.getTotalReplaceCount()).thenReturn(expectedResult);
@@ -1188,6 +2067,75 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * readTargetFile メソッドのテスト - 異常系：UTF-8として不正なバイト列を含む場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadTargetFile_errorMalformedInput() throws Exception {
+
+        /* 期待値の定義 */
+        final KmgToolBaseGenMsgTypes expectedMsgTypes = KmgToolBaseGenMsgTypes.KMGTOOLBASE_GEN13006;
+
+        /* 準備 */
+        final Path malformedPath = this.tempDir.resolve("Malformed.java");
+        Files.write(malformedPath, new byte[] {
+            (byte) 0x82, (byte) 0xa0,
+        });
+
+        try (final MockedStatic<SpringApplicationContextHelper> mockSpringHelper
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSourceForSpring = Mockito.mock(KmgMessageSource.class);
+            mockSpringHelper.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSourceForSpring);
+            Mockito.when(mockMessageSourceForSpring.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn("テスト用の例外メッセージ");
+
+            /* テスト対象の実行 */
+            final KmgToolBaseMsgException testException = Assertions.assertThrows(KmgToolBaseMsgException.class,
+                () -> this.reflectionModel.getMethod("readTargetFile", malformedPath));
+
+            /* 検証の準備 */
+            final KmgToolBaseGenMsgTypes actualMsgTypes = (KmgToolBaseGenMsgTypes) testException.getMessageTypes();
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMsgTypes, actualMsgTypes, "UTF-8として読み込めない場合のメッセージタイプであること");
+
+        }
+
+    }
+
+    /**
+     * readTargetFile メソッドのテスト - 正常系：UTF-8の非ASCII文字を含む場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadTargetFile_normalNonAscii() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "/** テスト用のクラス */\npublic class TestClass {\n}";
+
+        /* 準備 */
+        final Path nonAsciiPath = this.tempDir.resolve("NonAscii.java");
+        Files.write(nonAsciiPath, expectedContent.getBytes(StandardCharsets.UTF_8));
+
+        /* テスト対象の実行 */
+        final String actualContent = (String) this.reflectionModel.getMethod("readTargetFile", nonAsciiPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedContent, actualContent, "UTF-8として読み込まれること");
+
+    }
+
     /**
      * replaceJavadoc メソッドのテスト - 異常系：initializeで例外が発生する場合
      *
@@ -1261,21 +2209,67 @@ public class JdtsServiceImplTest extends AbstractKmgTest {
         final String expectedReplaceContent = "replaced javadoc content";
 
         /* 準備 */
+        final String readContent = "original javadoc content";
         this.reflectionModel.set("jdtsConfigsModel", this.mockJdtsConfigsModel);
         Mockito.when(this.mockJdtsReplService.getTotalReplaceCount()).thenReturn(expectedResult);
         Mockito.when(this.mockJdtsReplService.getReplaceCode()).thenReturn(expectedReplaceContent);
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
+        this.reflectionModel.set("currentReadContent", readContent);
+        Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any())).thenReturn(true);
 
         /* テスト対象の実行 */
         final long testResult = (Long) this.reflectionModel.getMethod("replaceJavadoc", this.mockJdtsCodeModel);
 
         /* 検証の準備 */
+        final long actualWriteFileCount = ((AtomicLong) this.reflectionModel.get("writeFileCount")).get();
 
         /* 検証の実施 */
         Assertions.assertEquals(expectedResult, testResult, "Javadoc置換が正常に完了すること");
+        Assertions.assertEquals(1L, actualWriteFileCount, "書き込みファイル数が加算されること");
         Mockito.verify(this.mockJdtsReplService).initialize(this.mockJdtsConfigsModel, this.mockJdtsCodeModel);
         Mockito.verify(this.mockJdtsReplService).replace();
-        Mockito.verify(this.mockFileIteratorLogic).setWriteContent(expectedReplaceContent);
-        Mockito.verify(this.mockFileIteratorLogic).writeContent();
+        Mockito.verify(this.mockFileWriteLogic).writeIfChanged(this.testTargetPath, readContent,
+            expectedReplaceContent);
+        Mockito.verify(this.mockFileIteratorLogic, Mockito.never()).writeContent();
+
+    }
+
+    /**
+     * replaceJavadoc メソッドのテスト - 準正常系：内容に変更がないため書き込みをスキップする場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReplaceJavadoc_semiNoChangeSkipWrite() throws Exception {
+
+        /* 期待値の定義 */
+        final long   expectedResult  = 0L;
+        final String expectedContent = "unchanged javadoc content";
+
+        /* 準備 */
+        this.reflectionModel.set("jdtsConfigsModel", this.mockJdtsConfigsModel);
+        Mockito.when(this.mockJdtsReplService.getTotalReplaceCount()).thenReturn(expectedResult);
+        Mockito.when(this.mockJdtsReplService.getReplaceCode()).thenReturn(expectedContent);
+        Mockito.when(this.mockFileIteratorLogic.getCurrentFilePath()).thenReturn(this.testTargetPath);
+        this.reflectionModel.set("currentReadContent", expectedContent);
+        Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any())).thenReturn(false);
+
+        /* テスト対象の実行 */
+        final long testResult = (Long) this.reflectionModel.getMethod("replaceJavadoc", this.mockJdtsCodeModel);
+
+        /* 検証の準備 */
+        final long actualWriteFileCount     = ((AtomicLong) this.reflectionModel.get("writeFileCount")).get();
+        final long actualWriteSkipFileCount = ((AtomicLong) this.reflectionModel.get("writeSkipFileCount")).get();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, testResult, "置換数が0であること");
+        Assertions.assertEquals(0L, actualWriteFileCount, "書き込みファイル数が加算されないこと");
+        Assertions.assertEquals(1L, actualWriteSkipFileCount, "書き込みスキップファイル数が加算されること");
 
     }
 
@@ -5,8 +5,10 @@ import org.junit.jupiter.api.TestInfo;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import kmg.fund.domain.logic.impl.FileIteratorLogicImpl;
+import kmg.tool.base.io.domain.logic.impl.FileWriteLogicImpl;
 import kmg.tool.base.jdts.application.logic.impl.JdtsBlockReplLogicImpl;
 import kmg.tool.base.jdts.application.model.impl.JdtsCodeModelImpl;
+import kmg.tool.base.jdts.application.model.impl.JdtsVersionCacheModelImpl;
 import kmg.tool.base.jdts.application.service.impl.JdtsReplServiceImpl;
 import kmg.tool.base.jdts.application.service.impl.JdtsServiceImpl;
 
@@ -29,11 +31,11 @@ import kmg.tool.base.jdts.application.service.impl.JdtsServiceImpl;
  *
  * @since 0.2.2
  *
- * @version 0.2.5
+ * @version 0.2.8
  */
 @SpringBootTest(classes = {
     JdtsServiceImpl.class, JdtsReplServiceImpl.class, JdtsBlockReplLogicImpl.class, JdtsCodeModelImpl.class,
-    FileIteratorLogicImpl.class,
+    JdtsVersionCacheModelImpl.class, FileIteratorLogicImpl.class, FileWriteLogicImpl.class,
 })
 public class JavadocTagSetterIt002lTest extends AbstractJavadocTagSetterItTest {
 
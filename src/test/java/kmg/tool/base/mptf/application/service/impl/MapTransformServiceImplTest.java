@@ -29,6 +29,7 @@ import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
+import kmg.tool.base.io.domain.logic.FileWriteLogic;
 
 /**
  * マッピング変換サービス実装テスト
@@ -37,7 +38,7 @@ import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
  *
  * @since 0.2.0
  *
- * @version 0.2.4
+ * @version 0.2.8
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -82,6 +83,13 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
      */
     private FileIteratorLogic mockFileIteratorLogic;
 
+    /**
+     * モックFileWriteLogic
+     *
+     * @since 0.2.8
+     */
+    private FileWriteLogic mockFileWriteLogic;
+
     /**
      * セットアップ
      *
@@ -99,10 +107,12 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
         /* モックの初期化 */
         this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
         this.mockFileIteratorLogic = Mockito.mock(FileIteratorLogic.class);
+        this.mockFileWriteLogic = Mockito.mock(FileWriteLogic.class);
 
         /* モックをテスト対象に設定 */
         this.reflectionModel.set("messageSource", this.mockMessageSource);
         this.reflectionModel.set("fileIteratorLogic", this.mockFileIteratorLogic);
+        this.reflectionModel.set("fileWriteLogic", this.mockFileWriteLogic);
 
         // 初期化処理のモック設定
         Mockito.when(this.mockFileIteratorLogic.initialize(ArgumentMatchers.any())).thenReturn(true);
@@ -543,7 +553,8 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
         Mockito.when(this.mockFileIteratorLogic.nextFile()).thenReturn(false, false);
         Mockito.when(this.mockFileIteratorLogic.loadContent()).thenReturn(true);
         Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("test content");
-        Mockito.when(this.mockFileIteratorLogic.writeContent()).thenReturn(true);
+        Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any())).thenReturn(true);
         Mockito.when(this.mockFileIteratorLogic.resetFileIndex()).thenReturn(true);
 
         // マッピングを設定（置換が発生するように）
@@ -616,8 +627,8 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
             Mockito.when(this.mockFileIteratorLogic.loadContent()).thenReturn(true);
             Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("oldValue test content",
                 "test-uuid-1 test content");
-            Mockito.when(this.mockFileIteratorLogic.writeContent()).thenReturn(true);
-            Mockito.doNothing().when(this.mockFileIteratorLogic).setWriteContent(ArgumentMatchers.anyString());
+            Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+                ArgumentMatchers.any())).thenReturn(true);
             Mockito.when(this.mockFileIteratorLogic.resetFileIndex()).thenReturn(true);
 
             // マッピングを設定
@@ -714,7 +725,7 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
     }
 
     /**
-     * replaceTargetValuesWithUuid メソッドのテスト - 異常系：writeContentで例外が発生する場合
+     * replaceTargetValuesWithUuid メソッドのテスト - 異常系：writeIfChangedで例外が発生する場合
      *
      * @since 0.2.0
      *
@@ -722,7 +733,7 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
      *                   例外
      */
     @Test
-    public void testReplaceTargetValuesWithUuid_errorWriteContentException() throws Exception {
+    public void testReplaceTargetValuesWithUuid_errorWriteIfChangedException() throws Exception {
 
         /* 期待値の定義 */
         final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN19004] ";
@@ -750,7 +761,8 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
 
             Mockito.when(this.mockFileIteratorLogic.loadContent()).thenReturn(true);
             Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("oldValue");
-            Mockito.when(this.mockFileIteratorLogic.writeContent()).thenThrow(testException);
+            Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+                ArgumentMatchers.any())).thenThrow(testException);
 
             // マッピングを設定
             final Map<String, String> mapping = new HashMap<>();
@@ -802,12 +814,14 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
     public void testReplaceTargetValuesWithUuid_normalSuccess() throws Exception {
 
         /* 期待値の定義 */
-        final long expectedResult = 2L;
+        final long expectedResult         = 2L;
+        final long expectedWriteFileCount = 1L;
 
         /* 準備 */
         Mockito.when(this.mockFileIteratorLogic.loadContent()).thenReturn(true);
         Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("oldValue1 oldValue2");
-        Mockito.when(this.mockFileIteratorLogic.writeContent()).thenReturn(true);
+        Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any())).thenReturn(true);
 
         // マッピングを設定
         final Map<String, String> mapping = new HashMap<>();
@@ -819,10 +833,12 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
         final long testResult = (Long) this.reflectionModel.getMethod("replaceTargetValuesWithUuid");
 
         /* 検証の準備 */
-        final long actualResult = testResult;
+        final long actualResult         = testResult;
+        final long actualWriteFileCount = (Long) this.reflectionModel.get("writeFileCount");
 
         /* 検証の実施 */
         Assertions.assertEquals(expectedResult, actualResult, "置換数が正しいこと");
+        Assertions.assertEquals(expectedWriteFileCount, actualWriteFileCount, "書き込みファイル数が加算されること");
 
     }
 
@@ -854,6 +870,47 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * replaceTargetValuesWithUuid メソッドのテスト - 準正常系：対象値が含まれていないため書き込みをスキップする場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReplaceTargetValuesWithUuid_semiNoTargetSkipWrite() throws Exception {
+
+        /* 期待値の定義 */
+        final long   expectedWriteSkipFileCount = 1L;
+        final String expectedContent            = "no target content";
+
+        /* 準備 */
+        Mockito.when(this.mockFileIteratorLogic.loadContent()).thenReturn(true);
+        Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn(expectedContent);
+        Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any())).thenReturn(false);
+
+        // マッピングを設定
+        final Map<String, String> mapping = new HashMap<>();
+        mapping.put("oldValue1", "newValue1");
+        this.reflectionModel.set("targetValueToReplacementValueMapping", mapping);
+
+        /* テスト対象の実行 */
+        this.reflectionModel.getMethod("replaceTargetValuesWithUuid");
+
+        /* 検証の準備 */
+        final long actualWriteSkipFileCount = (Long) this.reflectionModel.get("writeSkipFileCount");
+        final long actualWriteFileCount     = (Long) this.reflectionModel.get("writeFileCount");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedWriteSkipFileCount, actualWriteSkipFileCount, "書き込みスキップファイル数が加算されること");
+        Assertions.assertEquals(0L, actualWriteFileCount, "書き込みファイル数が加算されないこと");
+        Mockito.verify(this.mockFileWriteLogic).writeIfChanged(ArgumentMatchers.any(),
+            ArgumentMatchers.eq(expectedContent), ArgumentMatchers.eq(expectedContent));
+
+    }
+
     /**
      * replaceUuidWithReplacementValues メソッドのテスト - 異常系：loadContentで例外が発生する場合
      *
@@ -925,7 +982,7 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
     }
 
     /**
-     * replaceUuidWithReplacementValues メソッドのテスト - 異常系：writeContentで例外が発生する場合
+     * replaceUuidWithReplacementValues メソッドのテスト - 異常系：writeIfChangedで例外が発生する場合
      *
      * @since 0.2.0
      *
@@ -933,7 +990,7 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
      *                   例外
      */
     @Test
-    public void testReplaceUuidWithReplacementValues_errorWriteContentException() throws Exception {
+    public void testReplaceUuidWithReplacementValues_errorWriteIfChangedException() throws Exception {
 
         /* 期待値の定義 */
         final String                 expectedDomainMessage = "[KMGTOOLBASE_GEN19004] ";
@@ -961,7 +1018,8 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
 
             Mockito.when(this.mockFileIteratorLogic.loadContent()).thenReturn(true);
             Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("uuid1");
-            Mockito.when(this.mockFileIteratorLogic.writeContent()).thenThrow(testException);
+            Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+                ArgumentMatchers.any())).thenThrow(testException);
 
             // UUIDマッピングを設定
             final Map<String, String> uuidMapping = new HashMap<>();
@@ -1018,7 +1076,8 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
         /* 準備 */
         Mockito.when(this.mockFileIteratorLogic.loadContent()).thenReturn(true);
         Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn("uuid1 uuid2");
-        Mockito.when(this.mockFileIteratorLogic.writeContent()).thenReturn(true);
+        Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any())).thenReturn(true);
 
         // UUIDマッピングを設定
         final Map<String, String> uuidMapping = new HashMap<>();
@@ -1065,4 +1124,48 @@ public class MapTransformServiceImplTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * replaceUuidWithReplacementValues メソッドのテスト - 準正常系：内容に変更がないため書き込みをスキップする場合
+     *
+     * @since 0.2.8
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReplaceUuidWithReplacementValues_semiNoChangeSkipWrite() throws Exception {
+
+        /* 期待値の定義 */
+        final long   expectedResult             = 0L;
+        final long   expectedWriteSkipFileCount = 1L;
+        final String expectedContent            = "no uuid content";
+
+        /* 準備 */
+        Mockito.when(this.mockFileIteratorLogic.loadContent()).thenReturn(true);
+        Mockito.when(this.mockFileIteratorLogic.getReadContent()).thenReturn(expectedContent);
+        Mockito.when(this.mockFileWriteLogic.writeIfChanged(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any())).thenReturn(false);
+
+        // UUIDマッピングを設定
+        final Map<String, String> uuidMapping = new HashMap<>();
+        uuidMapping.put("uuid1", "newValue1");
+        this.reflectionModel.set("uuidToReplacementValueMapping", uuidMapping);
+
+        /* テスト対象の実行 */
+        final long testResult = (Long) this.reflectionModel.getMethod("replaceUuidWithReplacementValues");
+
+        /* 検証の準備 */
+        final long actualResult             = testResult;
+        final long actualWriteSkipFileCount = (Long) this.reflectionModel.get("writeSkipFileCount");
+        final long actualWriteFileCount     = (Long) this.reflectionModel.get("writeFileCount");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedResult, actualResult, "置換数が0であること");
+        Assertions.assertEquals(expectedWriteSkipFileCount, actualWriteSkipFileCount, "書き込みスキップファイル数が加算されること");
+        Assertions.assertEquals(0L, actualWriteFileCount, "書き込みファイル数が加算されないこと");
+        Mockito.verify(this.mockFileWriteLogic).writeIfChanged(ArgumentMatchers.any(),
+            ArgumentMatchers.eq(expectedContent), ArgumentMatchers.eq(expectedContent));
+
+    }
+
 }